@@ -0,0 +1,73 @@
+package ai.verta.modeldb.common;
+
+import ai.verta.common.KeyValue;
+import ai.verta.modeldb.utils.ModelDBUtils;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.Value;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of the JSON stored in kv_value and the other text columns, done for every key value
+ * returned by the subtype handlers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommonUtilsBenchmark {
+  @Param({"number", "string", "list", "keyValue"})
+  public String payload;
+
+  private String json;
+  private Message.Builder prototype;
+
+  @Setup
+  public void setup() {
+    switch (payload) {
+      case "number":
+        json = ModelDBUtils.getStringFromProtoObject(Value.newBuilder().setNumberValue(0.987654));
+        prototype = Value.newBuilder();
+        break;
+      case "string":
+        json =
+            ModelDBUtils.getStringFromProtoObject(
+                Value.newBuilder().setStringValue("s3://bucket/some/artifact/path/model.pkl"));
+        prototype = Value.newBuilder();
+        break;
+      case "list":
+        final var list = ListValue.newBuilder();
+        for (var i = 0; i < 100; i++) {
+          list.addValues(Value.newBuilder().setNumberValue(i * 0.5));
+        }
+        json = ModelDBUtils.getStringFromProtoObject(Value.newBuilder().setListValue(list));
+        prototype = Value.newBuilder();
+        break;
+      default:
+        json =
+            ModelDBUtils.getStringFromProtoObject(
+                KeyValue.newBuilder()
+                    .setKey("accuracy")
+                    .setValue(Value.newBuilder().setNumberValue(0.987654)));
+        prototype = KeyValue.newBuilder();
+    }
+  }
+
+  @Benchmark
+  public Message.Builder getProtoObjectFromString() {
+    return CommonUtils.getProtoObjectFromString(json, prototype.clone().clear());
+  }
+}
@@ -0,0 +1,62 @@
+package ai.verta.modeldb.common.futures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Overhead of InternalFuture.sequence, with futures already completed or completed on a pool. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternalFutureBenchmark {
+  @Param({"10", "1000"})
+  public int futureCount;
+
+  private ExecutorService executor;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public List<Integer> sequenceCompleted() {
+    final List<InternalFuture<Integer>> futures = new ArrayList<>(futureCount);
+    for (var i = 0; i < futureCount; i++) {
+      futures.add(InternalFuture.completedInternalFuture(i));
+    }
+    return InternalFuture.sequence(futures, executor).get();
+  }
+
+  @Benchmark
+  public List<Integer> sequenceAsync() {
+    final List<InternalFuture<Integer>> futures = new ArrayList<>(futureCount);
+    for (var i = 0; i < futureCount; i++) {
+      final var value = i;
+      futures.add(InternalFuture.supplyAsync(() -> value, executor));
+    }
+    return InternalFuture.sequence(futures, executor).get();
+  }
+}
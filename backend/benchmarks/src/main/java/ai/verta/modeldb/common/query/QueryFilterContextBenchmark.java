@@ -0,0 +1,54 @@
+package ai.verta.modeldb.common.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Combination of the query contexts of the predicates, sorts and permissions of a find call. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryFilterContextBenchmark {
+  @Param({"4", "64"})
+  public int contextCount;
+
+  @Param({"1", "10"})
+  public int conditionsPerContext;
+
+  private List<QueryFilterContext> contexts;
+
+  @Setup
+  public void setup() {
+    contexts = new ArrayList<>();
+    for (var i = 0; i < contextCount; i++) {
+      final var context = new QueryFilterContext();
+      for (var j = 0; j < conditionsPerContext; j++) {
+        final var bindName = String.format("v_%d_%d", i, j);
+        context
+            .addCondition(String.format("experiment_run.id IN (select ... = :%s)", bindName))
+            .addBind(q -> q.bind(bindName, bindName));
+      }
+      context.addOrderItem(new OrderColumn("experiment_run.date_updated", false));
+      contexts.add(context);
+    }
+  }
+
+  @Benchmark
+  public QueryFilterContext combine() {
+    return QueryFilterContext.combine(contexts);
+  }
+}
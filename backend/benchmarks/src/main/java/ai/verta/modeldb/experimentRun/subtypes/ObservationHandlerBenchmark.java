@@ -0,0 +1,176 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.common.KeyValue;
+import ai.verta.common.ValueTypeEnum;
+import ai.verta.modeldb.Observation;
+import ai.verta.modeldb.common.futures.FutureJdbi;
+import ai.verta.modeldb.config.MDBConfig;
+import ai.verta.modeldb.config.ObservationStoreConfig;
+import ai.verta.modeldb.utils.ModelDBUtils;
+import com.google.protobuf.Value;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.introspector.BeanAccess;
+
+/**
+ * A single logObservations request against an in-memory H2 database: the batched inserts of {@link
+ * ObservationHandler} against the statements the handler ran per observation before, each
+ * observation on its own handle. The observations have no epoch, so both infer them. The tables are
+ * emptied before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObservationHandlerBenchmark {
+  private static final String RUN_ID = "run";
+  private static final int KEY_COUNT = 10;
+
+  @Param({"100", "10000"})
+  public int observationCount;
+
+  private final Executor executor = Runnable::run;
+  private Jdbi jdbi;
+  private ObservationHandler observationHandler;
+  private List<Observation> observations;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    jdbi = Jdbi.create("jdbc:h2:mem:observation_handler;DB_CLOSE_DELAY=-1");
+    jdbi.useHandle(
+        h -> {
+          h.execute(
+              "create table keyvalue (id bigint auto_increment primary key, "
+                  + "entity_name varchar(50), field_type varchar(50), kv_key text, "
+                  + "kv_value text, value_type int)");
+          h.execute(
+              "create table observation (id bigint auto_increment primary key, "
+                  + "entity_name varchar(50), field_type varchar(50), timestamp bigint, "
+                  + "experiment_run_id varchar(255), keyvaluemapping_id bigint, "
+                  + "epoch_number bigint, packed boolean default false not null)");
+          h.execute("create index index_observation_run_id on observation (experiment_run_id)");
+          h.execute(
+              "create table observation_series (id bigint auto_increment primary key, "
+                  + "experiment_run_id varchar(255) not null, kv_key varchar(255) not null, "
+                  + "value_type int, point_count int not null, max_epoch bigint, "
+                  + "data blob not null)");
+        });
+
+    final var yaml = new Yaml(new Constructor(MDBConfig.class));
+    yaml.setBeanAccess(BeanAccess.FIELD);
+    final MDBConfig config =
+        yaml.loadAs(
+            "database: {RdbConfiguration: {RdbDialect: org.hibernate.dialect.H2Dialect}}",
+            MDBConfig.class);
+    observationHandler =
+        new ObservationHandler(
+            executor, new FutureJdbi(jdbi, executor), config, new ObservationStoreConfig());
+
+    observations = new ArrayList<>(observationCount);
+    for (var i = 0; i < observationCount; i++) {
+      observations.add(
+          Observation.newBuilder()
+              .setTimestamp(1600000000000L + i)
+              .setAttribute(
+                  KeyValue.newBuilder()
+                      .setKey("key-" + (i % KEY_COUNT))
+                      .setValue(Value.newBuilder().setNumberValue(i * 0.5))
+                      .setValueType(ValueTypeEnum.ValueType.NUMBER))
+              .build());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbi.useHandle(
+        h -> {
+          h.execute("drop table observation_series");
+          h.execute("drop table observation");
+          h.execute("drop table keyvalue");
+        });
+  }
+
+  @Setup(Level.Invocation)
+  public void clearTables() {
+    jdbi.useHandle(
+        h -> {
+          h.execute("delete from observation");
+          h.execute("delete from keyvalue");
+        });
+  }
+
+  @Benchmark
+  public void logObservations() {
+    observationHandler.logObservations(RUN_ID, observations, 0L).get();
+  }
+
+  @Benchmark
+  public void logObservationsOneByOne() {
+    for (final var observation : observations) {
+      final var attribute = observation.getAttribute();
+      final long epoch =
+          jdbi.withHandle(
+              handle ->
+                  handle
+                      .createQuery(
+                          "select max(o.epoch_number) from "
+                              + "(select keyvaluemapping_id, epoch_number from observation "
+                              + "where experiment_run_id =:run_id and entity_name = :entity_name) o, "
+                              + "(select id from keyvalue where kv_key =:name and entity_name IS NULL) k "
+                              + "where o.keyvaluemapping_id = k.id")
+                      .bind("run_id", RUN_ID)
+                      .bind("entity_name", "ExperimentRunEntity")
+                      .bind("name", attribute.getKey())
+                      .mapTo(Long.class)
+                      .findOne()
+                      .map(x -> x + 1)
+                      .orElse(0L));
+      jdbi.useHandle(
+          handle -> {
+            final var kvId =
+                handle
+                    .createUpdate(
+                        "insert into keyvalue (field_type, kv_key, kv_value, value_type) "
+                            + "values (:field_type, :key, :value, :type)")
+                    .bind("field_type", "attributes")
+                    .bind("key", attribute.getKey())
+                    .bind("value", ModelDBUtils.getStringFromProtoObject(attribute.getValue()))
+                    .bind("type", attribute.getValueTypeValue())
+                    .executeAndReturnGeneratedKeys()
+                    .mapTo(Long.class)
+                    .one();
+            handle
+                .createUpdate(
+                    "insert into observation (entity_name, field_type, timestamp, experiment_run_id, keyvaluemapping_id, epoch_number) "
+                        + "values (:entity_name, :field_type, :timestamp, :run_id, :kvid, :epoch)")
+                .bind("timestamp", observation.getTimestamp())
+                .bind("entity_name", "ExperimentRunEntity")
+                .bind("field_type", "observations")
+                .bind("run_id", RUN_ID)
+                .bind("kvid", kvId)
+                .bind("epoch", epoch)
+                .execute();
+          });
+    }
+  }
+}
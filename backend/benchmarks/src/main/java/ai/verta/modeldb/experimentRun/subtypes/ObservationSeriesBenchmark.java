@@ -0,0 +1,140 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.common.ValueTypeEnum;
+import ai.verta.modeldb.common.CommonUtils;
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesCodec.Series;
+import ai.verta.modeldb.utils.ModelDBUtils;
+import com.google.protobuf.Value;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes of the observations of a run: decoding of the columnar blocks against parsing
+ * the JSON of the row per point storage, downsampling of the read points, and appends of new points
+ * to the blocks of an in-memory H2 database. Each append runs in a transaction rolled back
+ * afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObservationSeriesBenchmark {
+  private static final int BLOCK_SIZE = 4096;
+
+  @Param({"10000", "1000000"})
+  public int pointCount;
+
+  // Points of a single logObservations call
+  @Param({"1", "1000"})
+  public int appendSize;
+
+  private Series series;
+  private byte[] encoded;
+  private List<String> jsonValues;
+  private Series appended;
+  private final ObservationSeriesStore store = new ObservationSeriesStore(BLOCK_SIZE);
+  private Jdbi jdbi;
+  private Handle handle;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    series = new Series(pointCount);
+    jsonValues = new ArrayList<>(pointCount);
+    for (var i = 0; i < pointCount; i++) {
+      final var value = Math.sin(i / 100.0) + (i % 7) * 0.01;
+      series.add(i, 1600000000000L + i * 1000L, value);
+      jsonValues.add(
+          ModelDBUtils.getStringFromProtoObject(Value.newBuilder().setNumberValue(value)));
+    }
+    encoded = ObservationSeriesCodec.encode(series);
+
+    appended = new Series(appendSize);
+    for (var i = 0; i < appendSize; i++) {
+      appended.add(pointCount + i, 1600000000000L + (pointCount + i) * 1000L, i * 0.5);
+    }
+
+    jdbi = Jdbi.create("jdbc:h2:mem:observation_series;DB_CLOSE_DELAY=-1");
+    jdbi.useHandle(
+        h -> {
+          h.execute(
+              "create table observation_series (id bigint auto_increment primary key, "
+                  + "experiment_run_id varchar(255) not null, kv_key varchar(255) not null, "
+                  + "value_type int, point_count int not null, max_epoch bigint, "
+                  + "data blob not null)");
+          h.execute(
+              "create index index_observation_series_run_id "
+                  + "on observation_series (experiment_run_id)");
+          store.append(h, "run", "loss", ValueTypeEnum.ValueType.NUMBER_VALUE, series);
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbi.useHandle(h -> h.execute("drop table observation_series"));
+  }
+
+  @Setup(Level.Invocation)
+  public void openHandle() {
+    handle = jdbi.open();
+    handle.begin();
+  }
+
+  @TearDown(Level.Invocation)
+  public void rollbackHandle() {
+    handle.rollback();
+    handle.close();
+  }
+
+  @Benchmark
+  public byte[] encode() {
+    return ObservationSeriesCodec.encode(series);
+  }
+
+  @Benchmark
+  public Series decode() {
+    return ObservationSeriesCodec.decode(encoded);
+  }
+
+  @Benchmark
+  public double parseJsonValues() {
+    var sum = 0.0;
+    for (final var json : jsonValues) {
+      final var value = CommonUtils.getProtoObjectFromString(json, Value.newBuilder());
+      sum += ((Value.Builder) value).getNumberValue();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public List<Integer> downsample() {
+    final var downsampler =
+        new LttbDownsampler<Integer>(pointCount, 1000, series::getEpoch, series::getValue);
+    for (var i = 0; i < pointCount; i++) {
+      downsampler.add(i);
+    }
+    return downsampler.finish();
+  }
+
+  @Benchmark
+  public void append() {
+    store.append(handle, "run", "loss", ValueTypeEnum.ValueType.NUMBER_VALUE, appended);
+  }
+}
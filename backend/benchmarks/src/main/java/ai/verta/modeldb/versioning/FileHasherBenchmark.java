@@ -0,0 +1,64 @@
+package ai.verta.modeldb.versioning;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Hashing of the blob payloads and of the folders built when a commit is saved. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileHasherBenchmark {
+  @Param({"64", "4096", "1048576"})
+  public int payloadSize;
+
+  @Param({"10", "1000"})
+  public int folderSize;
+
+  private final FileHasher fileHasher = new FileHasher();
+  private String payload;
+  private InternalFolder folder;
+
+  @Setup
+  public void setup() {
+    final var random = new Random(42);
+    final var builder = new StringBuilder(payloadSize);
+    for (var i = 0; i < payloadSize; i++) {
+      builder.append((char) ('a' + random.nextInt(26)));
+    }
+    payload = builder.toString();
+
+    final var folderBuilder = InternalFolder.newBuilder();
+    for (var i = 0; i < folderSize; i++) {
+      folderBuilder.addBlobs(
+          InternalFolderElement.newBuilder()
+              .setElementName("blob-" + i)
+              .setElementSha(Integer.toHexString(random.nextInt())));
+    }
+    folder = folderBuilder.build();
+  }
+
+  @Benchmark
+  public String getShaOfString() throws NoSuchAlgorithmException {
+    return FileHasher.getSha(payload);
+  }
+
+  @Benchmark
+  public String getShaOfFolder() throws NoSuchAlgorithmException {
+    return fileHasher.getSha(folder);
+  }
+}
@@ -0,0 +1,95 @@
+package ai.verta.modeldb.versioning;
+
+import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing and saving of the folders of a commit, against an in-memory H2 database. Each invocation
+ * runs in a transaction rolled back afterwards, so every one of them inserts the same rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeElemBenchmark {
+  @Param({"100", "10000"})
+  public int blobCount;
+
+  // Blobs per folder, the tree being as deep as needed to hold blobCount blobs
+  @Param({"10", "100"})
+  public int fanOut;
+
+  private final FileHasher fileHasher = new FileHasher();
+  private SessionFactory sessionFactory;
+  private TreeElem rootTree;
+  private Session session;
+
+  @Setup(Level.Trial)
+  public void setup() throws NoSuchAlgorithmException {
+    sessionFactory =
+        new Configuration()
+            .setProperty("hibernate.connection.driver_class", "org.h2.Driver")
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:tree_elem;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .addAnnotatedClass(InternalFolderElementEntity.class)
+            .buildSessionFactory();
+
+    rootTree = new TreeElem();
+    for (var i = 0; i < blobCount; i++) {
+      final List<String> location = new ArrayList<>(Arrays.asList(""));
+      for (var folder = i / fanOut; folder > 0; folder /= fanOut) {
+        location.add(1, "folder-" + (folder % fanOut));
+      }
+      location.add("blob-" + i);
+      rootTree.push(location, FileHasher.getSha("blob-" + i), "CONFIG");
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void openSession() {
+    session = sessionFactory.openSession();
+    session.beginTransaction();
+  }
+
+  @TearDown(Level.Invocation)
+  public void rollbackSession() {
+    session.getTransaction().rollback();
+    session.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public String saveFolders() throws NoSuchAlgorithmException {
+    final var folder = rootTree.saveFolders(session, fileHasher, new HashSet<>());
+    session.flush();
+    return folder.getElementSha();
+  }
+}
@@ -0,0 +1,67 @@
+package ai.verta.modeldb.versioning.blob.diff;
+
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenConfigBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenHyperparameterConfigBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenHyperparameterConfigDiff;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenHyperparameterValuesConfigBlob;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Diff of two config blobs, a fraction of whose hyperparameters changed between them. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffComputerBenchmark {
+  @Param({"10", "1000", "10000"})
+  public int hyperparameterCount;
+
+  @Param({"0", "10", "100"})
+  public int changedPercent;
+
+  private AutogenConfigBlob a;
+  private AutogenConfigBlob b;
+
+  @Setup
+  public void setup() {
+    final List<AutogenHyperparameterConfigBlob> hyperparametersA = new ArrayList<>();
+    final List<AutogenHyperparameterConfigBlob> hyperparametersB = new ArrayList<>();
+    for (var i = 0; i < hyperparameterCount; i++) {
+      hyperparametersA.add(hyperparameter("param-" + i, i));
+      final var changed = i * 100L < (long) hyperparameterCount * changedPercent;
+      hyperparametersB.add(hyperparameter("param-" + i, changed ? i + 1 : i));
+    }
+    a = new AutogenConfigBlob().setHyperparameters(hyperparametersA);
+    b = new AutogenConfigBlob().setHyperparameters(hyperparametersB);
+  }
+
+  private static AutogenHyperparameterConfigBlob hyperparameter(String name, long value) {
+    return new AutogenHyperparameterConfigBlob()
+        .setName(name)
+        .setValue(new AutogenHyperparameterValuesConfigBlob().setIntValue(value));
+  }
+
+  @Benchmark
+  public List<AutogenHyperparameterConfigDiff> computeListDiff() {
+    return DiffComputer.computeListDiff(
+        a,
+        b,
+        AutogenConfigBlob::getHyperparameters,
+        AutogenHyperparameterConfigBlob::getName,
+        DiffComputer::computeHyperparameterConfigDiff);
+  }
+}
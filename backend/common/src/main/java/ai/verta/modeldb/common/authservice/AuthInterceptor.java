@@ -9,6 +9,7 @@ import io.grpc.ServerCall.Listener;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.Status;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,7 +28,10 @@ public class AuthInterceptor implements ServerInterceptor {
   @Override
   public <R, S> Listener<R> interceptCall(
       ServerCall<R, S> call, Metadata requestHeaders, ServerCallHandler<R, S> next) {
-    var context = Context.current().withValue(METADATA_INFO, requestHeaders);
+    var context =
+        Context.current()
+            .withValue(METADATA_INFO, requestHeaders)
+            .withValue(CurrentUserCache.CURRENT_USER_INFO, new AtomicReference<>());
     String methodName = call.getMethodDescriptor().getFullMethodName();
 
     if (!(methodName.equals("ai.verta.modeldb.ProjectService/verifyConnection")
@@ -18,6 +18,8 @@ public class AuthServiceChannel extends Connection implements AutoCloseable {
 
   private static final Logger LOGGER = LogManager.getLogger(AuthServiceChannel.class);
   private final ManagedChannel authChannel;
+  // Channels of a ChannelPool are shared and outlive this object, they are shut down with the pool
+  private final boolean ownsChannel;
   private RoleServiceGrpc.RoleServiceBlockingStub roleServiceBlockingStub;
   private RoleServiceGrpc.RoleServiceBlockingStub roleServiceBlockingStubForServiceUser;
   private AuthzServiceGrpc.AuthzServiceBlockingStub authzServiceBlockingStub;
@@ -52,6 +54,21 @@ public class AuthServiceChannel extends Connection implements AutoCloseable {
       throw new UnavailableException(
           "Host OR Port not found for contacting authentication service");
     }
+    this.ownsChannel = true;
+    this.config = config;
+  }
+
+  /**
+   * Stubs on a channel of a {@link ai.verta.modeldb.common.connections.ChannelPool}. The stubs are
+   * created once and reused by every call, the credentials of the caller being attached when each
+   * call starts. {@link #close()} leaves the channel open.
+   */
+  public AuthServiceChannel(Config config, ManagedChannel pooledChannel) {
+    super(config);
+    this.authChannel = pooledChannel;
+    this.serviceUserEmail = config.getService_user().getEmail();
+    this.serviceUserDevKey = config.getService_user().getDevKey();
+    this.ownsChannel = false;
     this.config = config;
   }
 
@@ -133,18 +150,11 @@ public class AuthServiceChannel extends Connection implements AutoCloseable {
     return roleServiceBlockingStubForServiceUser;
   }
 
-  private void initAuthzServiceStubChannel(Metadata requestHeaders) {
-    authzServiceBlockingStub =
-        attachInterceptorsWithRequestHeaders(
-            AuthzServiceGrpc.newBlockingStub(authChannel), requestHeaders);
-  }
-
+  /** The headers are specific to the call, so the stub is created every time. */
   public AuthzServiceGrpc.AuthzServiceBlockingStub getAuthzServiceBlockingStub(
       Metadata requestHeaders) {
-    if (authzServiceBlockingStub == null) {
-      initAuthzServiceStubChannel(requestHeaders);
-    }
-    return authzServiceBlockingStub;
+    return attachInterceptorsWithRequestHeaders(
+        AuthzServiceGrpc.newBlockingStub(authChannel), requestHeaders);
   }
 
   private void initAuthzServiceStubChannel() {
@@ -236,6 +246,9 @@ public class AuthServiceChannel extends Connection implements AutoCloseable {
   @SuppressWarnings({"squid:S1163", "squid:S1143"})
   @Override
   public void close() throws StatusRuntimeException {
+    if (!ownsChannel) {
+      return;
+    }
     try {
       if (authChannel != null) {
         authChannel.shutdown();
@@ -26,7 +26,7 @@ public class AuthServiceUtils implements AuthService {
 
   @Override
   public UserInfo getCurrentLoginUserInfo() {
-    return getCurrentLoginUserInfo(true);
+    return uac.getCurrentUserCache().get(() -> getCurrentLoginUserInfo(true));
   }
 
   private UserInfo getCurrentLoginUserInfo(boolean retry) {
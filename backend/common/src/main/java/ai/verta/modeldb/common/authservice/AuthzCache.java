@@ -0,0 +1,256 @@
+package ai.verta.modeldb.common.authservice;
+
+import ai.verta.common.ModelDBResourceEnum.ModelDBServiceResourceTypes;
+import ai.verta.modeldb.common.config.ServiceConfig;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
+import ai.verta.uac.Resources;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.prometheus.client.Counter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Authorization decisions of the current user, keyed on the credentials of the request as in {@link
+ * CurrentUserCache}. An entry holds the future of the UAC call, so that concurrent lookups of a key
+ * missing from the cache share a single call. Denials are kept for a shorter time than grants, and
+ * the changes of role bindings and resources made by this backend invalidate the cache; the ones
+ * made elsewhere are seen once the entries expire.
+ */
+public class AuthzCache {
+  private static final String IS_SELF_ALLOWED = "is_self_allowed";
+  private static final String SELF_ALLOWED_RESOURCES = "self_allowed_resources";
+
+  private static final String RESULT_LABEL = "result";
+  private static final Counter lookups =
+      Counter.build()
+          .labelNames(RESULT_LABEL)
+          .name("verta_backend_authz_cache_lookups_total")
+          .help("Authorization decision lookups, by result: hit or miss.")
+          .register();
+
+  private static class Entry {
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private final long createdAt = System.nanoTime();
+  }
+
+  // Null when disabled
+  private final Cache<List<Object>, Entry> decisions;
+  private final long negativeTtlNanos;
+  // Incremented by invalidateAll, so that the grants of a call started before aren't cached
+  private final AtomicLong generation = new AtomicLong();
+
+  public AuthzCache(ServiceConfig serviceConfig) {
+    final var ttl = serviceConfig != null ? serviceConfig.getAuthzCacheTtl() : 0;
+    if (ttl > 0) {
+      decisions =
+          CacheBuilder.newBuilder()
+              .maximumSize(serviceConfig.getAuthzCacheSize())
+              .expireAfterWrite(ttl, TimeUnit.SECONDS)
+              .build();
+      negativeTtlNanos =
+          TimeUnit.SECONDS.toNanos(Math.min(ttl, serviceConfig.getAuthzCacheNegativeTtl()));
+    } else {
+      decisions = null;
+      negativeTtlNanos = 0;
+    }
+  }
+
+  /** Drops all the decisions, after a change of the permissions. */
+  public void invalidateAll() {
+    if (decisions != null) {
+      generation.incrementAndGet();
+      decisions.invalidateAll();
+    }
+  }
+
+  /**
+   * Whether the current user is allowed the action on all the resources. The decision of each
+   * resource is cached on its own, so a request on several resources only reuses the grants of the
+   * cache and calls the loader for the whole request if any of them is missing.
+   */
+  public InternalFuture<Boolean> isSelfAllowed(
+      ModelDBServiceActions action,
+      ModelDBServiceResourceTypes resourceType,
+      List<String> resourceIds,
+      Supplier<InternalFuture<Boolean>> loader) {
+    final var userKey = CurrentUserCache.getCacheKey();
+    if (decisions == null || userKey == null || resourceIds.isEmpty()) {
+      return loader.get();
+    }
+    if (resourceIds.size() == 1) {
+      return InternalFuture.from(
+          getOrLoad(
+              Arrays.<Object>asList(
+                  userKey, IS_SELF_ALLOWED, action, resourceType, resourceIds.get(0)),
+              () -> loader.get().toCompletionStage().toCompletableFuture()));
+    }
+
+    final List<List<Object>> keys = new ArrayList<>(resourceIds.size());
+    var allGranted = true;
+    for (final var resourceId : resourceIds) {
+      final var key =
+          Arrays.<Object>asList(userKey, IS_SELF_ALLOWED, action, resourceType, resourceId);
+      keys.add(key);
+      final var entry = getValidEntry(key);
+      final var decision =
+          entry != null && entry.future.isDone() && !entry.future.isCompletedExceptionally()
+              ? entry.future.join()
+              : null;
+      if (Boolean.FALSE.equals(decision)) {
+        lookups.labels("hit").inc();
+        return InternalFuture.completedInternalFuture(false);
+      }
+      allGranted &= Boolean.TRUE.equals(decision);
+    }
+    if (allGranted) {
+      lookups.labels("hit").inc();
+      return InternalFuture.completedInternalFuture(true);
+    }
+    lookups.labels("miss").inc();
+    final var loadGeneration = generation.get();
+    return InternalFuture.from(
+        loader
+            .get()
+            .toCompletionStage()
+            .thenApply(
+                allowed -> {
+                  // A denial doesn't tell which resource is denied, only the grants are cached
+                  if (allowed && generation.get() == loadGeneration) {
+                    for (final var key : keys) {
+                      final var entry = new Entry();
+                      entry.future.complete(true);
+                      decisions.put(key, entry);
+                    }
+                  }
+                  return allowed;
+                }));
+  }
+
+  /** Blocking version of {@link #isSelfAllowed}, for a single resource. */
+  public boolean isSelfAllowedBlocking(
+      ModelDBServiceActions action,
+      ModelDBServiceResourceTypes resourceType,
+      String resourceId,
+      Supplier<Boolean> loader) {
+    final var userKey = CurrentUserCache.getCacheKey();
+    if (decisions == null || userKey == null) {
+      return loader.get();
+    }
+    return join(
+        getOrLoad(
+            Arrays.<Object>asList(userKey, IS_SELF_ALLOWED, action, resourceType, resourceId),
+            () -> supplyNow(loader)));
+  }
+
+  /** Resources of the type the current user is allowed the action on. */
+  public InternalFuture<List<Resources>> getSelfAllowedResources(
+      ModelDBServiceActions action,
+      ModelDBServiceResourceTypes resourceType,
+      Supplier<InternalFuture<List<Resources>>> loader) {
+    final var userKey = CurrentUserCache.getCacheKey();
+    if (decisions == null || userKey == null) {
+      return loader.get();
+    }
+    return InternalFuture.from(
+        getOrLoad(
+            Arrays.<Object>asList(userKey, SELF_ALLOWED_RESOURCES, action, resourceType),
+            () -> loader.get().toCompletionStage().toCompletableFuture()));
+  }
+
+  /** Blocking version of {@link #getSelfAllowedResources}. */
+  public List<Resources> getSelfAllowedResourcesBlocking(
+      ModelDBServiceActions action,
+      ModelDBServiceResourceTypes resourceType,
+      Supplier<List<Resources>> loader) {
+    final var userKey = CurrentUserCache.getCacheKey();
+    if (decisions == null || userKey == null) {
+      return loader.get();
+    }
+    return join(
+        getOrLoad(
+            Arrays.<Object>asList(userKey, SELF_ALLOWED_RESOURCES, action, resourceType),
+            () -> supplyNow(loader)));
+  }
+
+  private Entry getValidEntry(List<Object> key) {
+    final var entry = decisions.getIfPresent(key);
+    if (entry == null) {
+      return null;
+    }
+    final var expiredDenial =
+        entry.future.isDone()
+            && !entry.future.isCompletedExceptionally()
+            && Boolean.FALSE.equals(entry.future.join())
+            && System.nanoTime() - entry.createdAt > negativeTtlNanos;
+    if (expiredDenial) {
+      decisions.asMap().remove(key, entry);
+      return null;
+    }
+    return entry;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> CompletableFuture<T> getOrLoad(
+      List<Object> key, Supplier<CompletableFuture<T>> loader) {
+    final var existing = getValidEntry(key);
+    if (existing != null) {
+      lookups.labels("hit").inc();
+      return (CompletableFuture<T>) existing.future;
+    }
+
+    final var created = new Entry();
+    final var entry = decisions.asMap().merge(key, created, (old, unused) -> old);
+    if (entry != created) {
+      // Another lookup started the call in the meantime
+      lookups.labels("hit").inc();
+      return (CompletableFuture<T>) entry.future;
+    }
+
+    lookups.labels("miss").inc();
+    CompletableFuture<T> loaded;
+    try {
+      loaded = loader.get();
+    } catch (RuntimeException ex) {
+      loaded = CompletableFuture.failedFuture(ex);
+    }
+    loaded.whenComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            // Errors aren't cached, the next lookup calls UAC again
+            decisions.asMap().remove(key, created);
+            created.future.completeExceptionally(throwable);
+          } else {
+            created.future.complete(value);
+          }
+        });
+    return (CompletableFuture<T>) created.future;
+  }
+
+  private static <T> CompletableFuture<T> supplyNow(Supplier<T> supplier) {
+    return CompletableFuture.completedFuture(supplier.get());
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException | CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new CompletionException(ex.getCause());
+    } catch (InterruptedException ex) {
+      // Restore interrupted state...
+      Thread.currentThread().interrupt();
+      throw new CompletionException(ex);
+    }
+  }
+}
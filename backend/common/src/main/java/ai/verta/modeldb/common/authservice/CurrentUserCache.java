@@ -0,0 +1,143 @@
+package ai.verta.modeldb.common.authservice;
+
+import ai.verta.modeldb.common.config.ServiceConfig;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.uac.UserInfo;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.prometheus.client.Counter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Users resolved from the credentials of the callers. A user is memoized in the context of the
+ * request, so that the layers of a request resolving it several times only call UAC once, and kept
+ * for a short time across requests with the same credentials. Requests without credentials in their
+ * context, such as the ones of the cron jobs, always call UAC.
+ */
+public class CurrentUserCache {
+  public static final Context.Key<AtomicReference<UserInfo>> CURRENT_USER_INFO =
+      Context.key("current_user_info");
+
+  private static final String RESULT_LABEL = "result";
+  private static final Counter lookups =
+      Counter.build()
+          .labelNames(RESULT_LABEL)
+          .name("verta_backend_current_user_cache_lookups_total")
+          .help("Current user lookups, by result: request_hit, hit or miss.")
+          .register();
+
+  private static final List<Metadata.Key<String>> CREDENTIAL_HEADERS =
+      Arrays.asList(
+          Metadata.Key.of("source", Metadata.ASCII_STRING_MARSHALLER),
+          Metadata.Key.of("email", Metadata.ASCII_STRING_MARSHALLER),
+          Metadata.Key.of("developer_key", Metadata.ASCII_STRING_MARSHALLER),
+          Metadata.Key.of("developer-key", Metadata.ASCII_STRING_MARSHALLER),
+          Metadata.Key.of("bearer_access_token", Metadata.ASCII_STRING_MARSHALLER));
+
+  // Null when disabled. Keyed on a hash of the credentials so that they aren't kept in memory
+  private final Cache<String, UserInfo> users;
+
+  public CurrentUserCache(ServiceConfig serviceConfig) {
+    final var ttl = serviceConfig != null ? serviceConfig.getCurrentUserCacheTtl() : 0;
+    if (ttl > 0) {
+      users =
+          CacheBuilder.newBuilder()
+              .maximumSize(serviceConfig.getCurrentUserCacheSize())
+              .expireAfterWrite(ttl, TimeUnit.SECONDS)
+              .build();
+    } else {
+      users = null;
+    }
+  }
+
+  /** Returns the user of the current request, calling the loader if it isn't cached. */
+  public UserInfo get(Supplier<UserInfo> loader) {
+    final var requestUser = CURRENT_USER_INFO.get();
+    final var key = getCacheKey();
+    final var cachedUser = getIfPresent(requestUser, key);
+    if (cachedUser != null) {
+      return cachedUser;
+    }
+    final var userInfo = loader.get();
+    put(requestUser, key, userInfo);
+    return userInfo;
+  }
+
+  /** Same as {@link #get(Supplier)}, for a loader calling UAC asynchronously. */
+  public InternalFuture<UserInfo> getAsync(
+      Supplier<InternalFuture<UserInfo>> loader, Executor executor) {
+    // The context is read before the loader runs, as its callbacks may run outside of the request
+    final var requestUser = CURRENT_USER_INFO.get();
+    final var key = getCacheKey();
+    final var cachedUser = getIfPresent(requestUser, key);
+    if (cachedUser != null) {
+      return InternalFuture.completedInternalFuture(cachedUser);
+    }
+    return loader
+        .get()
+        .thenApply(
+            userInfo -> {
+              put(requestUser, key, userInfo);
+              return userInfo;
+            },
+            executor);
+  }
+
+  private UserInfo getIfPresent(AtomicReference<UserInfo> requestUser, String key) {
+    if (requestUser != null && requestUser.get() != null) {
+      lookups.labels("request_hit").inc();
+      return requestUser.get();
+    }
+    if (users != null && key != null) {
+      final var userInfo = users.getIfPresent(key);
+      if (userInfo != null) {
+        lookups.labels("hit").inc();
+        if (requestUser != null) {
+          requestUser.set(userInfo);
+        }
+        return userInfo;
+      }
+    }
+    lookups.labels("miss").inc();
+    return null;
+  }
+
+  private void put(AtomicReference<UserInfo> requestUser, String key, UserInfo userInfo) {
+    if (requestUser != null) {
+      requestUser.set(userInfo);
+    }
+    if (users != null && key != null) {
+      users.put(key, userInfo);
+    }
+  }
+
+  /** Hash of the credentials of the current request, null if it has none. */
+  static String getCacheKey() {
+    final var requestHeaders = AuthInterceptor.METADATA_INFO.get();
+    if (requestHeaders == null) {
+      return null;
+    }
+    final var hasher = Hashing.sha256().newHasher();
+    var hasCredentials = false;
+    for (final var header : CREDENTIAL_HEADERS) {
+      final var value = requestHeaders.get(header);
+      if (value != null) {
+        hasCredentials = true;
+        hasher.putString(header.name(), StandardCharsets.UTF_8);
+        hasher.putString(value, StandardCharsets.UTF_8);
+      }
+      // Separates the headers so that different splits of the same text don't collide
+      hasher.putByte((byte) 0);
+    }
+    return hasCredentials ? hasher.hash().toString() : null;
+  }
+}
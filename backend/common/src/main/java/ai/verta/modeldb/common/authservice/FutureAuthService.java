@@ -0,0 +1,95 @@
+package ai.verta.modeldb.common.authservice;
+
+import ai.verta.modeldb.common.CommonMessages;
+import ai.verta.modeldb.common.connections.UAC;
+import ai.verta.modeldb.common.exceptions.NotFoundException;
+import ai.verta.modeldb.common.futures.FutureGrpc;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.uac.Empty;
+import ai.verta.uac.GetUsers;
+import ai.verta.uac.UserInfo;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Non-blocking counterpart of {@link AuthService}, for the services running on the shared executor.
+ * The users are resolved through the future stubs of UAC, so no thread of the executor waits for
+ * its answers. Without UAC, the public {@link AuthService} is called on the executor.
+ */
+public class FutureAuthService {
+  private static final Logger LOGGER = LogManager.getLogger(FutureAuthService.class);
+
+  private final UAC uac;
+  private final AuthService authService;
+  private final Executor executor;
+
+  public FutureAuthService(UAC uac, AuthService authService, Executor executor) {
+    this.uac = uac;
+    this.authService = authService;
+    this.executor = executor;
+  }
+
+  public AuthService getAuthService() {
+    return authService;
+  }
+
+  public InternalFuture<UserInfo> getCurrentLoginUserInfo() {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(authService::getCurrentLoginUserInfo, executor);
+    }
+    return uac.getCurrentUserCache()
+        .getAsync(
+            () -> {
+              LOGGER.trace(CommonMessages.AUTH_SERVICE_REQ_SENT_MSG);
+              return FutureGrpc.ClientRequest(
+                      uac.getUACService().getCurrentUser(Empty.newBuilder().build()), executor)
+                  .thenCompose(
+                      userInfo -> {
+                        LOGGER.trace(CommonMessages.AUTH_SERVICE_RES_RECEIVED_MSG);
+                        if (userInfo == null || userInfo.getVertaInfo() == null) {
+                          return InternalFuture.failedStage(
+                              new NotFoundException("Current user could not be resolved."));
+                        }
+                        return InternalFuture.completedInternalFuture(userInfo);
+                      },
+                      executor);
+            },
+            executor);
+  }
+
+  /** Users of the ids, emails and usernames, mapped by verta id. */
+  public InternalFuture<Map<String, UserInfo>> getUserInfoFromAuthServer(
+      Set<String> vertaIdList, Set<String> emailIdList, List<String> usernameList) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () ->
+              authService.getUserInfoFromAuthServer(
+                  vertaIdList, emailIdList, usernameList, false),
+          executor);
+    }
+    var getUserRequestBuilder = GetUsers.newBuilder().addAllUserIds(vertaIdList);
+    if (emailIdList != null && !emailIdList.isEmpty()) {
+      getUserRequestBuilder.addAllEmails(emailIdList);
+    }
+    if (usernameList != null && !usernameList.isEmpty()) {
+      getUserRequestBuilder.addAllUsernames(usernameList);
+    }
+    return FutureGrpc.ClientRequest(
+            uac.getUACService().getUsers(getUserRequestBuilder.build()), executor)
+        .thenApply(
+            response -> {
+              LOGGER.trace(CommonMessages.AUTH_SERVICE_RES_RECEIVED_MSG);
+              Map<String, UserInfo> userInfoMap = new HashMap<>();
+              for (UserInfo userInfo : response.getUserInfosList()) {
+                userInfoMap.put(userInfo.getVertaInfo().getUserId(), userInfo);
+              }
+              return userInfoMap;
+            },
+            executor);
+  }
+}
@@ -0,0 +1,257 @@
+package ai.verta.modeldb.common.authservice;
+
+import ai.verta.common.ModelDBResourceEnum.ModelDBServiceResourceTypes;
+import ai.verta.modeldb.common.CommonMessages;
+import ai.verta.modeldb.common.connections.UAC;
+import ai.verta.modeldb.common.exceptions.NotFoundException;
+import ai.verta.modeldb.common.exceptions.PermissionDeniedException;
+import ai.verta.modeldb.common.futures.FutureGrpc;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.uac.Action;
+import ai.verta.uac.Actions;
+import ai.verta.uac.GetResources;
+import ai.verta.uac.GetResourcesResponseItem;
+import ai.verta.uac.GetSelfAllowedActionsBatch;
+import ai.verta.uac.GetSelfAllowedResources;
+import ai.verta.uac.IsSelfAllowed;
+import ai.verta.uac.ListMyOrganizations;
+import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
+import ai.verta.uac.Organization;
+import ai.verta.uac.ResourceType;
+import ai.verta.uac.Resources;
+import ai.verta.uac.ServiceEnum.Service;
+import ai.verta.uac.Workspace;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Non-blocking counterpart of {@link RoleService}, for the services running on the shared executor.
+ * The checks are made through the future stubs of UAC and its {@link AuthzCache}, so no thread of
+ * the executor waits for its answers. Without UAC, the public {@link RoleService} is called on the
+ * executor.
+ */
+public class FutureRoleService {
+  private static final Logger LOGGER = LogManager.getLogger(FutureRoleService.class);
+
+  protected final UAC uac;
+  protected final RoleService roleService;
+  protected final Executor executor;
+
+  public FutureRoleService(UAC uac, RoleService roleService, Executor executor) {
+    this.uac = uac;
+    this.roleService = roleService;
+    this.executor = executor;
+  }
+
+  /** Fails with a {@link PermissionDeniedException} if the current user isn't allowed to act. */
+  public InternalFuture<Void> isSelfAllowed(
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes,
+      ModelDBServiceActions modelDBServiceActions,
+      String resourceId) {
+    if (uac == null) {
+      return InternalFuture.runAsync(
+          () ->
+              roleService.isSelfAllowed(
+                  modelDBServiceResourceTypes, modelDBServiceActions, resourceId),
+          executor);
+    }
+    final List<String> resourceIds =
+        resourceId != null ? Collections.singletonList(resourceId) : Collections.emptyList();
+    return uac.getAuthzCache()
+        .isSelfAllowed(
+            modelDBServiceActions,
+            modelDBServiceResourceTypes,
+            resourceIds,
+            () -> {
+              LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
+              return FutureGrpc.ClientRequest(
+                      uac.getAuthzService()
+                          .isSelfAllowed(
+                              IsSelfAllowed.newBuilder()
+                                  .addResources(
+                                      Resources.newBuilder()
+                                          .setService(Service.MODELDB_SERVICE)
+                                          .setResourceType(
+                                              ResourceType.newBuilder()
+                                                  .setModeldbServiceResourceType(
+                                                      modelDBServiceResourceTypes))
+                                          .addAllResourceIds(resourceIds))
+                                  .addActions(
+                                      Action.newBuilder()
+                                          .setService(Service.MODELDB_SERVICE)
+                                          .setModeldbServiceAction(modelDBServiceActions))
+                                  .build()),
+                      executor)
+                  .thenApply(IsSelfAllowed.Response::getAllowed, executor);
+            })
+        .thenCompose(
+            allowed -> {
+              if (!allowed) {
+                return InternalFuture.failedStage(new PermissionDeniedException("Access Denied"));
+              }
+              return InternalFuture.completedInternalFuture(null);
+            },
+            executor);
+  }
+
+  /** Ids of the resources of the type the current user is allowed the action on. */
+  public InternalFuture<List<String>> getSelfAllowedResources(
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes,
+      ModelDBServiceActions modelDBServiceActions) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () ->
+              roleService.getSelfAllowedResources(
+                  modelDBServiceResourceTypes, modelDBServiceActions),
+          executor);
+    }
+    return uac.getAuthzCache()
+        .getSelfAllowedResources(
+            modelDBServiceActions,
+            modelDBServiceResourceTypes,
+            () -> {
+              LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
+              return FutureGrpc.ClientRequest(
+                      uac.getAuthzService()
+                          .getSelfAllowedResources(
+                              GetSelfAllowedResources.newBuilder()
+                                  .addActions(
+                                      Action.newBuilder()
+                                          .setService(Service.MODELDB_SERVICE)
+                                          .setModeldbServiceAction(modelDBServiceActions))
+                                  .setResourceType(
+                                      ResourceType.newBuilder()
+                                          .setModeldbServiceResourceType(
+                                              modelDBServiceResourceTypes))
+                                  .setService(Service.MODELDB_SERVICE)
+                                  .build()),
+                      executor)
+                  .thenApply(GetSelfAllowedResources.Response::getResourcesList, executor);
+            })
+        .thenApply(
+            allowedResources -> {
+              // The callers modify the returned list
+              List<String> resourcesIds = new ArrayList<>();
+              for (Resources resources : allowedResources) {
+                resourcesIds.addAll(resources.getResourceIdsList());
+              }
+              return resourcesIds;
+            },
+            executor);
+  }
+
+  /** Actions the current user is allowed on each of the resources, mapped by resource id. */
+  public InternalFuture<Map<String, Actions>> getSelfAllowedActionsBatch(
+      List<String> resourceIds, ModelDBServiceResourceTypes type) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () -> roleService.getSelfAllowedActionsBatch(resourceIds, type), executor);
+    }
+    LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
+    return FutureGrpc.ClientRequest(
+            uac.getAuthzService()
+                .getSelfAllowedActionsBatch(
+                    GetSelfAllowedActionsBatch.newBuilder()
+                        .setResources(
+                            Resources.newBuilder()
+                                .setService(Service.MODELDB_SERVICE)
+                                .addAllResourceIds(resourceIds)
+                                .setResourceType(
+                                    ResourceType.newBuilder().setModeldbServiceResourceType(type)))
+                        .build()),
+            executor)
+        .thenApply(GetSelfAllowedActionsBatch.Response::getActionsMap, executor);
+  }
+
+  /** Resources of UAC with the ids, all the ones of the type visible to the user if none. */
+  public InternalFuture<List<GetResourcesResponseItem>> getResourceItems(
+      Set<String> resourceIds, ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
+    return getResourceItems(null, resourceIds, modelDBServiceResourceTypes);
+  }
+
+  /**
+   * Resources of UAC with the ids, all the ones of the type visible to the user if none, restricted
+   * to the workspace if there is one.
+   */
+  public InternalFuture<List<GetResourcesResponseItem>> getResourceItems(
+      Workspace workspace,
+      Set<String> resourceIds,
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () ->
+              roleService.getResourceItems(
+                  workspace, resourceIds, modelDBServiceResourceTypes, false),
+          executor);
+    }
+    var resources =
+        Resources.newBuilder()
+            .setResourceType(
+                ResourceType.newBuilder()
+                    .setModeldbServiceResourceType(modelDBServiceResourceTypes))
+            .setService(Service.MODELDB_SERVICE);
+    if (resourceIds != null && !resourceIds.isEmpty()) {
+      resources.addAllResourceIds(resourceIds);
+    }
+    var request = GetResources.newBuilder().setResources(resources);
+    if (workspace != null) {
+      request.setWorkspaceId(workspace.getId());
+    }
+    return FutureGrpc.ClientRequest(
+            uac.getCollaboratorService().getResources(request.build()), executor)
+        .thenApply(GetResources.Response::getItemList, executor);
+  }
+
+  /** Organizations the current user is a member of. */
+  public InternalFuture<List<Organization>> listMyOrganizations() {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(roleService::listMyOrganizations, executor);
+    }
+    return FutureGrpc.ClientRequest(
+            uac.getOrganizationService()
+                .listMyOrganizations(ListMyOrganizations.newBuilder().build()),
+            executor)
+        .thenApply(ListMyOrganizations.Response::getOrganizationsList, executor);
+  }
+
+  /** Resource of UAC with the id, failing with a {@link NotFoundException} if there is none. */
+  public InternalFuture<GetResourcesResponseItem> getEntityResource(
+      String entityId, ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () -> roleService.getEntityResource(entityId, modelDBServiceResourceTypes), executor);
+    }
+    return getResourceItems(Collections.singleton(entityId), modelDBServiceResourceTypes)
+        .thenCompose(
+            responseItems -> {
+              if (responseItems.size() > 1) {
+                LOGGER.warn(
+                    "Role service returned {} resource response items fetching {} resource,"
+                        + " but only expected 1. ID: {}",
+                    responseItems.size(),
+                    modelDBServiceResourceTypes.name(),
+                    entityId);
+              }
+              Optional<GetResourcesResponseItem> responseItem = responseItems.stream().findFirst();
+              if (responseItem.isEmpty()) {
+                return InternalFuture.failedStage(
+                    new NotFoundException(
+                        "Failed to locate "
+                            + modelDBServiceResourceTypes.name()
+                            + " resources in UAC for "
+                            + modelDBServiceResourceTypes.name()
+                            + " ID "
+                            + entityId));
+              }
+              return InternalFuture.completedInternalFuture(responseItem.get());
+            },
+            executor);
+  }
+}
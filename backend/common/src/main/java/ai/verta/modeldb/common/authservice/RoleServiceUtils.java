@@ -87,6 +87,7 @@ public class RoleServiceUtils implements RoleService {
               ? authServiceChannel.getCollaboratorServiceBlockingStubForServiceUser()
               : authServiceChannel.getCollaboratorServiceBlockingStub();
       var setResourcesResponse = blockingStub.setResource(setResourcesBuilder.build());
+      uac.getAuthzCache().invalidateAll();
 
       LOGGER.trace("SetResources message sent.  Response: {}", setResourcesResponse);
       return true;
@@ -105,6 +106,7 @@ public class RoleServiceUtils implements RoleService {
           authServiceChannel
               .getCollaboratorServiceBlockingStubForServiceUser()
               .deleteResources(deleteResources);
+      uac.getAuthzCache().invalidateAll();
       LOGGER.trace("DeleteResources message sent.  Response: {}", response);
       return true;
     } catch (StatusRuntimeException ex) {
@@ -569,18 +571,31 @@ public class RoleServiceUtils implements RoleService {
                     .setModeldbServiceResourceType(modelDBServiceResourceTypes))
             .setService(Service.MODELDB_SERVICE)
             .build();
-    try (var authServiceChannel = uac.getBlockingAuthServiceChannel()) {
-      LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
-      var getAllowedResourcesResponse =
-          authServiceChannel
-              .getAuthzServiceBlockingStub()
-              .getSelfAllowedResources(getAllowedResourcesRequest);
-      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
-      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG, getAllowedResourcesResponse);
-
-      if (!getAllowedResourcesResponse.getResourcesList().isEmpty()) {
+    try {
+      final var allowedResources =
+          uac.getAuthzCache()
+              .getSelfAllowedResourcesBlocking(
+                  modelDBServiceActions,
+                  modelDBServiceResourceTypes,
+                  () -> {
+                    try (var authServiceChannel = uac.getBlockingAuthServiceChannel()) {
+                      LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
+                      var getAllowedResourcesResponse =
+                          authServiceChannel
+                              .getAuthzServiceBlockingStub()
+                              .getSelfAllowedResources(getAllowedResourcesRequest);
+                      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
+                      LOGGER.trace(
+                          CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG,
+                          getAllowedResourcesResponse);
+                      return getAllowedResourcesResponse.getResourcesList();
+                    }
+                  });
+
+      if (!allowedResources.isEmpty()) {
+        // The callers modify the returned list
         List<String> resourcesIds = new ArrayList<>();
-        for (Resources resources : getAllowedResourcesResponse.getResourcesList()) {
+        for (Resources resources : allowedResources) {
           resourcesIds.addAll(resources.getResourceIdsList());
         }
         return resourcesIds;
@@ -669,33 +684,47 @@ public class RoleServiceUtils implements RoleService {
       ModelDBServiceResourceTypes modelDBServiceResourceTypes,
       ModelDBActionEnum.ModelDBServiceActions modelDBServiceActions,
       String resourceId) {
-    try (var authServiceChannel = uac.getBlockingAuthServiceChannel()) {
-      LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
-      var resourceBuilder =
-          Resources.newBuilder()
-              .setService(Service.MODELDB_SERVICE)
-              .setResourceType(
-                  ResourceType.newBuilder()
-                      .setModeldbServiceResourceType(modelDBServiceResourceTypes));
-      if (resourceId != null) {
-        resourceBuilder.addResourceIds(resourceId);
-      }
-      var isSelfAllowedRequest =
-          IsSelfAllowed.newBuilder()
-              .addResources(resourceBuilder.build())
-              .addActions(
-                  Action.newBuilder()
-                      .setService(Service.MODELDB_SERVICE)
-                      .setModeldbServiceAction(modelDBServiceActions)
-                      .build())
-              .build();
-
-      var isSelfAllowedResponse =
-          authServiceChannel.getAuthzServiceBlockingStub().isSelfAllowed(isSelfAllowedRequest);
-      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
-      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG, isSelfAllowedResponse);
-
-      if (!isSelfAllowedResponse.getAllowed()) {
+    var resourceBuilder =
+        Resources.newBuilder()
+            .setService(Service.MODELDB_SERVICE)
+            .setResourceType(
+                ResourceType.newBuilder()
+                    .setModeldbServiceResourceType(modelDBServiceResourceTypes));
+    if (resourceId != null) {
+      resourceBuilder.addResourceIds(resourceId);
+    }
+    var isSelfAllowedRequest =
+        IsSelfAllowed.newBuilder()
+            .addResources(resourceBuilder.build())
+            .addActions(
+                Action.newBuilder()
+                    .setService(Service.MODELDB_SERVICE)
+                    .setModeldbServiceAction(modelDBServiceActions)
+                    .build())
+            .build();
+    try {
+      final var allowed =
+          uac.getAuthzCache()
+              .isSelfAllowedBlocking(
+                  modelDBServiceActions,
+                  modelDBServiceResourceTypes,
+                  resourceId,
+                  () -> {
+                    try (var authServiceChannel = uac.getBlockingAuthServiceChannel()) {
+                      LOGGER.trace(CommonMessages.CALL_TO_ROLE_SERVICE_MSG);
+                      var isSelfAllowedResponse =
+                          authServiceChannel
+                              .getAuthzServiceBlockingStub()
+                              .isSelfAllowed(isSelfAllowedRequest);
+                      LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
+                      LOGGER.trace(
+                          CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG,
+                          isSelfAllowedResponse);
+                      return isSelfAllowedResponse.getAllowed();
+                    }
+                  });
+
+      if (!allowed) {
         throw new PermissionDeniedException("Access Denied");
       }
     } catch (StatusRuntimeException ex) {
@@ -806,6 +835,7 @@ public class RoleServiceUtils implements RoleService {
           authServiceChannel
               .getRoleServiceBlockingStubForServiceUser()
               .setRoleBinding(SetRoleBinding.newBuilder().setRoleBinding(roleBinding).build());
+      uac.getAuthzCache().invalidateAll();
       LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
       LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG, setRoleBindingResponse);
     } catch (StatusRuntimeException ex) {
@@ -837,6 +867,7 @@ public class RoleServiceUtils implements RoleService {
           authServiceChannel
               .getRoleServiceBlockingStubForServiceUser()
               .deleteRoleBindings(deleteRoleBindingRequest);
+      uac.getAuthzCache().invalidateAll();
       LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_MSG);
       LOGGER.trace(CommonMessages.ROLE_SERVICE_RES_RECEIVED_TRACE_MSG, deleteRoleBindingResponse);
 
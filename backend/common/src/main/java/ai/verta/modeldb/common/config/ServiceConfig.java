@@ -4,11 +4,21 @@ package ai.verta.modeldb.common.config;
 public class ServiceConfig {
   private int port;
   private String host;
+  private int channelPoolSize = 4;
+  private int keepAliveTime = 300; // Time in seconds
+  private int keepAliveTimeout = 20; // Time in seconds
+  private int currentUserCacheTtl = 10; // Time in seconds, 0 to only cache within a request
+  private int currentUserCacheSize = 1000;
+  private int authzCacheTtl = 10; // Time in seconds, 0 to disable
+  private int authzCacheNegativeTtl = 2; // Time in seconds
+  private int authzCacheSize = 10000;
 
   public void Validate(String base) throws InvalidConfigException {
     if (port == 0) throw new InvalidConfigException(base + ".port", Config.MISSING_REQUIRED);
     if (host == null || host.isEmpty())
       throw new InvalidConfigException(base + ".host", Config.MISSING_REQUIRED);
+    if (channelPoolSize < 1)
+      throw new InvalidConfigException(base + ".channelPoolSize", "should be at least 1");
   }
 
   public int getPort() {
@@ -18,4 +28,36 @@ public class ServiceConfig {
   public String getHost() {
     return host;
   }
+
+  public int getChannelPoolSize() {
+    return channelPoolSize;
+  }
+
+  public int getKeepAliveTime() {
+    return keepAliveTime;
+  }
+
+  public int getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  public int getCurrentUserCacheTtl() {
+    return currentUserCacheTtl;
+  }
+
+  public int getCurrentUserCacheSize() {
+    return currentUserCacheSize;
+  }
+
+  public int getAuthzCacheTtl() {
+    return authzCacheTtl;
+  }
+
+  public int getAuthzCacheNegativeTtl() {
+    return authzCacheNegativeTtl;
+  }
+
+  public int getAuthzCacheSize() {
+    return authzCacheSize;
+  }
 }
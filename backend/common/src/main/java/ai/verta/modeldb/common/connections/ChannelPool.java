@@ -0,0 +1,65 @@
+package ai.verta.modeldb.common.connections;
+
+import ai.verta.modeldb.common.CommonConstants;
+import ai.verta.modeldb.common.config.ServiceConfig;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Long-lived channels to a service, created once and shared by all the calls to it. A channel
+ * multiplexes concurrent calls over a single HTTP/2 connection, so the pool only holds a few of them
+ * to spread the load over several connections. Keepalive pings detect the connections dropped while
+ * idle before a call is sent on them.
+ */
+public class ChannelPool implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(ChannelPool.class);
+  private static final long TERMINATION_TIMEOUT = 30; // Time in seconds
+
+  private final List<ManagedChannel> channels;
+
+  public ChannelPool(String host, int port, ServiceConfig serviceConfig) {
+    final var poolSize = serviceConfig != null ? serviceConfig.getChannelPoolSize() : 1;
+    final List<ManagedChannel> pooledChannels = new ArrayList<>(poolSize);
+    for (var i = 0; i < poolSize; i++) {
+      var builder =
+          ManagedChannelBuilder.forTarget(host + CommonConstants.STRING_COLON + port)
+              .usePlaintext();
+      if (serviceConfig != null) {
+        builder =
+            builder
+                .keepAliveTime(serviceConfig.getKeepAliveTime(), TimeUnit.SECONDS)
+                .keepAliveTimeout(serviceConfig.getKeepAliveTimeout(), TimeUnit.SECONDS);
+      }
+      pooledChannels.add(builder.build());
+    }
+    this.channels = Collections.unmodifiableList(pooledChannels);
+  }
+
+  public List<ManagedChannel> getChannels() {
+    return channels;
+  }
+
+  /** Shuts down the channels, waiting for the calls in progress to complete. */
+  @Override
+  public void close() {
+    channels.forEach(ManagedChannel::shutdown);
+    try {
+      for (final var channel : channels) {
+        if (!channel.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS)) {
+          channel.shutdownNow();
+        }
+      }
+    } catch (InterruptedException ex) {
+      LOGGER.warn(ex.getMessage(), ex);
+      channels.forEach(ManagedChannel::shutdownNow);
+      // Restore interrupted state...
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,22 +1,30 @@
 package ai.verta.modeldb.common.connections;
 
-import ai.verta.modeldb.common.CommonConstants;
 import ai.verta.modeldb.common.CommonMessages;
 import ai.verta.modeldb.common.authservice.AuthServiceChannel;
+import ai.verta.modeldb.common.authservice.AuthzCache;
+import ai.verta.modeldb.common.authservice.CurrentUserCache;
 import ai.verta.modeldb.common.config.Config;
 import ai.verta.modeldb.common.exceptions.UnavailableException;
 import ai.verta.uac.*;
 import io.grpc.*;
 import io.grpc.stub.MetadataUtils;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 @SuppressWarnings({"squid:S100"})
-public class UAC extends Connection {
+public class UAC extends Connection implements AutoCloseable {
   private static final Logger LOGGER = LogManager.getLogger(UAC.class);
 
-  private final Config config;
+  private final ChannelPool channelPool;
   private final ManagedChannel authServiceChannel;
+  private final List<AuthServiceChannel> blockingAuthServiceChannels;
+  private final AtomicInteger nextBlockingAuthServiceChannel = new AtomicInteger();
+  private final CurrentUserCache currentUserCache;
+  private final AuthzCache authzCache;
 
   private final CollaboratorServiceGrpc.CollaboratorServiceFutureStub collaboratorServiceFutureStub;
   private final UACServiceGrpc.UACServiceFutureStub uacServiceFutureStub;
@@ -37,18 +45,21 @@ public class UAC extends Connection {
 
   public UAC(String host, Integer port, Config config) {
     super(config);
-    this.config = config;
     LOGGER.trace(CommonMessages.HOST_PORT_INFO_STR, host, port);
     if (host != null && port != null) { // AuthService not available.
-      authServiceChannel =
-          ManagedChannelBuilder.forTarget(host + CommonConstants.STRING_COLON + port)
-              .usePlaintext()
-              .build();
+      channelPool = new ChannelPool(host, port, config.getAuthService());
+      authServiceChannel = channelPool.getChannels().get(0);
+      blockingAuthServiceChannels =
+          channelPool.getChannels().stream()
+              .map(channel -> new AuthServiceChannel(config, channel))
+              .collect(Collectors.toList());
     } else {
       throw new UnavailableException(
           "Host OR Port not found for contacting authentication service");
     }
 
+    currentUserCache = new CurrentUserCache(config.getAuthService());
+    authzCache = new AuthzCache(config.getAuthService());
     collaboratorServiceFutureStub = CollaboratorServiceGrpc.newFutureStub(authServiceChannel);
     uacServiceFutureStub = UACServiceGrpc.newFutureStub(authServiceChannel);
     workspaceServiceFutureStub = WorkspaceServiceGrpc.newFutureStub(authServiceChannel);
@@ -61,8 +72,28 @@ public class UAC extends Connection {
     organizationServiceFutureStub = OrganizationServiceGrpc.newFutureStub(authServiceChannel);
   }
 
+  /**
+   * Blocking stubs on the pooled channels, picked in turn. Closing the returned channel is harmless
+   * but not required: the pooled channels are only shut down by {@link #close()}.
+   */
   public AuthServiceChannel getBlockingAuthServiceChannel() {
-    return new AuthServiceChannel(config);
+    final var index =
+        Math.floorMod(
+            nextBlockingAuthServiceChannel.getAndIncrement(), blockingAuthServiceChannels.size());
+    return blockingAuthServiceChannels.get(index);
+  }
+
+  public CurrentUserCache getCurrentUserCache() {
+    return currentUserCache;
+  }
+
+  public AuthzCache getAuthzCache() {
+    return authzCache;
+  }
+
+  @Override
+  public void close() {
+    channelPool.close();
   }
 
   private Metadata getServiceUserMetadata(Config config) {
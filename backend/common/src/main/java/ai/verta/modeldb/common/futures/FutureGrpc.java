@@ -3,12 +3,14 @@ package ai.verta.modeldb.common.futures;
 import ai.verta.modeldb.common.CommonUtils;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.GeneratedMessageV3;
 import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import io.opentracing.util.GlobalTracer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
 @SuppressWarnings({"squid:S100"})
@@ -52,6 +54,15 @@ public class FutureGrpc {
             true));
   }
 
+  // Bounded executor for the blocking calls (legacy DAOs, blocking UAC stubs) made from futures,
+  // so that they can't starve the handler executor
+  public static Executor initializeBlockingExecutor(Integer threadCount) {
+    return FutureGrpc.makeCompatibleExecutor(
+        Executors.newFixedThreadPool(
+            threadCount,
+            new ThreadFactoryBuilder().setNameFormat("blocking-calls-%d").setDaemon(true).build()));
+  }
+
   // Callback for a ListenableFuture to satisfy a promise
   private static class Callback<T> implements com.google.common.util.concurrent.FutureCallback<T> {
     final CompletableFuture<T> promise;
@@ -6,6 +6,22 @@ import io.grpc.stub.MetadataUtils;
 public class MetadataForwarder implements ServerInterceptor {
   public static final Context.Key<Metadata> METADATA_INFO = Context.key("metadata");
 
+  // The headers are read from the context of each call, so stubs using it can be shared by calls
+  // made on behalf of different users
+  private static final ClientInterceptor CLIENT_INTERCEPTOR =
+      new ClientInterceptor() {
+        @Override
+        public <R, S> ClientCall<R, S> interceptCall(
+            MethodDescriptor<R, S> method, CallOptions callOptions, Channel next) {
+          final var requestHeaders = METADATA_INFO.get();
+          if (requestHeaders == null) {
+            return next.newCall(method, callOptions);
+          }
+          return MetadataUtils.newAttachHeadersInterceptor(requestHeaders)
+              .interceptCall(method, callOptions, next);
+        }
+      };
+
   @Override
   public <R, S> ServerCall.Listener<R> interceptCall(
       ServerCall<R, S> call, Metadata requestHeaders, ServerCallHandler<R, S> next) {
@@ -15,6 +31,6 @@ public class MetadataForwarder implements ServerInterceptor {
   }
 
   public static ClientInterceptor clientInterceptor() {
-    return MetadataUtils.newAttachHeadersInterceptor(METADATA_INFO.get());
+    return CLIENT_INTERCEPTOR;
   }
 }
@@ -31,6 +31,7 @@ import ai.verta.modeldb.telemetry.TelemetryCron;
 import ai.verta.modeldb.utils.ModelDBHibernateUtil;
 import ai.verta.modeldb.utils.ModelDBUtils;
 import ai.verta.modeldb.versioning.FileHasher;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import ai.verta.modeldb.versioning.VersioningServiceImpl;
 import io.grpc.BindableService;
 import io.grpc.ServerBuilder;
@@ -152,7 +153,10 @@ public class App implements ApplicationContextAware {
     return app;
   }
 
-  public static boolean migrate(DatabaseConfig databaseConfig, List<MigrationConfig> migrations)
+  public static boolean migrate(
+      DatabaseConfig databaseConfig,
+      List<MigrationConfig> migrations,
+      VersioningContentCache versioningContentCache)
       throws SQLException, LiquibaseException, InterruptedException {
     var liquibaseMigration =
         Boolean.parseBoolean(
@@ -168,7 +172,7 @@ public class App implements ApplicationContextAware {
       modelDBHibernateUtil.createOrGetSessionFactory(databaseConfig);
 
       LOGGER.info("Code migration starting");
-      modelDBHibernateUtil.runMigration(databaseConfig, migrations);
+      modelDBHibernateUtil.runMigration(databaseConfig, migrations, versioningContentCache);
       LOGGER.info("Code migration done");
 
       var runLiquibaseSeparate =
@@ -204,7 +208,7 @@ public class App implements ApplicationContextAware {
       var services = ServiceSet.fromConfig(config, config.artifactStoreConfig);
 
       // Initialize database configuration and maybe run migration
-      if (migrate(config.getDatabase(), config.migrations)) {
+      if (migrate(config.getDatabase(), config.migrations, services.versioningContentCache)) {
         LOGGER.info("Migrations have completed.  System exiting.");
         initiateShutdown(0);
         return;
@@ -224,7 +228,7 @@ public class App implements ApplicationContextAware {
 
       // Initialize cron jobs
       CronJobUtils.initializeCronJobs(config, services);
-      ReconcilerInitializer.initialize(config, services, config.getJdbi(), handleExecutor);
+      ReconcilerInitializer.initialize(config, services, daos, config.getJdbi(), handleExecutor);
 
       // Initialize grpc server
       ServerBuilder<?> serverBuilder =
@@ -247,7 +251,9 @@ public class App implements ApplicationContextAware {
 
       // Add APIs
       LOGGER.info("Initializing backend services.");
-      initializeBackendServices(serverBuilder, services, daos, handleExecutor);
+      final var blockingExecutor =
+          FutureGrpc.initializeBlockingExecutor(config.getGrpcServer().getThreadCount());
+      initializeBackendServices(serverBuilder, services, daos, handleExecutor, blockingExecutor);
 
       // Create the server
       var server = serverBuilder.build();
@@ -274,6 +280,9 @@ public class App implements ApplicationContextAware {
                       LOGGER.info("*** Shutting down gRPC server since JVM is shutting down ***");
                       server.shutdown();
                       server.awaitTermination();
+                      if (services.uac != null) {
+                        services.uac.close();
+                      }
                       LOGGER.info("*** Server Shutdown ***");
                     } catch (InterruptedException e) {
                       LOGGER.error("Getting error while graceful shutdown", e);
@@ -295,7 +304,11 @@ public class App implements ApplicationContextAware {
   }
 
   public static void initializeBackendServices(
-      ServerBuilder<?> serverBuilder, ServiceSet services, DAOSet daos, Executor executor) {
+      ServerBuilder<?> serverBuilder,
+      ServiceSet services,
+      DAOSet daos,
+      Executor executor,
+      Executor blockingExecutor) {
     wrapService(serverBuilder, new FutureProjectServiceImpl(services, daos, executor));
     LOGGER.trace("Project serviceImpl initialized");
     wrapService(serverBuilder, new ExperimentServiceImpl(services, daos));
@@ -304,11 +317,11 @@ public class App implements ApplicationContextAware {
     LOGGER.trace("ExperimentRun serviceImpl initialized");
     wrapService(serverBuilder, new CommentServiceImpl(services, daos));
     LOGGER.trace("Comment serviceImpl initialized");
-    wrapService(serverBuilder, new DatasetServiceImpl(services, daos));
+    wrapService(serverBuilder, new DatasetServiceImpl(services, daos, executor));
     LOGGER.trace("Dataset serviceImpl initialized");
     wrapService(serverBuilder, new DatasetVersionServiceImpl(services, daos));
     LOGGER.trace("Dataset Version serviceImpl initialized");
-    wrapService(serverBuilder, new AdvancedServiceImpl(services, daos, executor));
+    wrapService(serverBuilder, new AdvancedServiceImpl(services, daos, executor, blockingExecutor));
     LOGGER.trace("Hydrated serviceImpl initialized");
     wrapService(serverBuilder, new LineageServiceImpl(daos));
     LOGGER.trace("Lineage serviceImpl initialized");
@@ -17,6 +17,7 @@ import ai.verta.modeldb.experiment.ExperimentDAORdbImpl;
 import ai.verta.modeldb.experimentRun.ExperimentRunDAO;
 import ai.verta.modeldb.experimentRun.ExperimentRunDAORdbImpl;
 import ai.verta.modeldb.experimentRun.FutureExperimentRunDAO;
+import ai.verta.modeldb.experimentRun.subtypes.RunProjectIndex;
 import ai.verta.modeldb.lineage.LineageDAO;
 import ai.verta.modeldb.lineage.LineageDAORdbImpl;
 import ai.verta.modeldb.metadata.MetadataDAO;
@@ -42,6 +43,7 @@ public class DAOSet {
   public MetadataDAO metadataDAO;
   public ProjectDAO projectDAO;
   public RepositoryDAO repositoryDAO;
+  public RunProjectIndex runProjectIndex;
 
   public static DAOSet fromServices(
       ServiceSet services,
@@ -56,7 +58,9 @@ public class DAOSet {
     set.repositoryDAO =
         new RepositoryDAORdbImpl(
             services.authService, services.mdbRoleService, set.commitDAO, set.metadataDAO);
-    set.blobDAO = new BlobDAORdbImpl(services.authService, services.mdbRoleService);
+    set.blobDAO =
+        new BlobDAORdbImpl(
+            services.authService, services.mdbRoleService, services.versioningContentCache);
 
     set.experimentDAO = new ExperimentDAORdbImpl(services.authService, services.mdbRoleService);
     set.experimentRunDAO =
@@ -84,18 +88,21 @@ public class DAOSet {
     set.datasetVersionDAO =
         new DatasetVersionDAORdbImpl(services.authService, services.mdbRoleService);
 
+    set.runProjectIndex = new RunProjectIndex(executor, jdbi, mdbConfig.runProjectIndexSize);
     set.futureExperimentRunDAO =
         new FutureExperimentRunDAO(
             executor,
             jdbi,
             mdbConfig,
             trialConfig,
+            mdbConfig.observationStore,
             services.uac,
             set.artifactStoreDAO,
             set.datasetVersionDAO,
             set.repositoryDAO,
             set.commitDAO,
-            set.blobDAO);
+            set.blobDAO,
+            set.runProjectIndex);
 
     return set;
   }
@@ -147,6 +147,9 @@ public abstract class ModelDBConstants {
       "Can't add new versioning entry, because an existing one has different repository or commit";
   public static final String REPOSITORY_ENTITY = "repositoryEntity";
   public static final String POPULATE_VERSION_MIGRATION = "POPULATE_VERSION_MIGRATION";
+  public static final String OBSERVATION_SERIES_MIGRATION = "OBSERVATION_SERIES_MIGRATION";
+  public static final String COMMIT_GENERATION_MIGRATION = "COMMIT_GENERATION_MIGRATION";
+  public static final String KEY_VALUE_NUMBER_VALUE_MIGRATION = "KEY_VALUE_NUMBER_VALUE_MIGRATION";
 
   // Role name
   public static final String ROLE_DATASET_CREATE = "DATASET_CREATE";
@@ -11,6 +11,7 @@ import ai.verta.modeldb.common.connections.UAC;
 import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.config.MDBArtifactStoreConfig;
 import ai.verta.modeldb.config.MDBConfig;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,6 +25,7 @@ public class ServiceSet {
   public AuthService authService;
   public UAC uac;
   public MDBRoleService mdbRoleService;
+  public VersioningContentCache versioningContentCache;
   public App app;
 
   public static ServiceSet fromConfig(
@@ -31,7 +33,10 @@ public class ServiceSet {
     var set = new ServiceSet();
     set.uac = UAC.FromConfig(mdbConfig);
     set.authService = MDBAuthServiceUtils.FromConfig(mdbConfig, set.uac);
-    set.mdbRoleService = MDBRoleServiceUtils.FromConfig(mdbConfig, set.authService, set.uac);
+    set.versioningContentCache = new VersioningContentCache(mdbConfig.versioningContentCacheSize);
+    set.mdbRoleService =
+        MDBRoleServiceUtils.FromConfig(
+            mdbConfig, set.authService, set.uac, set.versioningContentCache);
 
     // Initialize App.java singleton instance
     set.app = App.getInstance();
@@ -7,12 +7,14 @@ import ai.verta.common.OperatorEnum;
 import ai.verta.common.ValueTypeEnum;
 import ai.verta.modeldb.*;
 import ai.verta.modeldb.HydratedServiceGrpc.HydratedServiceImplBase;
+import ai.verta.modeldb.authservice.FutureMDBRoleService;
 import ai.verta.modeldb.authservice.MDBRoleService;
 import ai.verta.modeldb.comment.CommentDAO;
 import ai.verta.modeldb.common.CommonConstants;
 import ai.verta.modeldb.common.CommonUtils;
 import ai.verta.modeldb.common.authservice.AuthInterceptor;
 import ai.verta.modeldb.common.authservice.AuthService;
+import ai.verta.modeldb.common.authservice.FutureAuthService;
 import ai.verta.modeldb.common.collaborator.CollaboratorBase;
 import ai.verta.modeldb.common.collaborator.CollaboratorOrg;
 import ai.verta.modeldb.common.collaborator.CollaboratorTeam;
@@ -38,7 +40,6 @@ import com.google.protobuf.Value;
 import io.grpc.Metadata;
 import io.grpc.stub.StreamObserver;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -55,11 +56,20 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
   private final ExperimentDAO experimentDAO;
   private final DatasetDAO datasetDAO;
   private final DatasetVersionDAO datasetVersionDAO;
+  private final FutureAuthService futureAuthService;
+  private final FutureMDBRoleService futureRoleService;
   private final Executor executor;
+  // Runs the legacy DAO and the blocking UAC calls, off the handler executor
+  private final Executor blockingExecutor;
 
-  public AdvancedServiceImpl(ServiceSet serviceSet, DAOSet daoSet, Executor executor) {
+  public AdvancedServiceImpl(
+      ServiceSet serviceSet, DAOSet daoSet, Executor executor, Executor blockingExecutor) {
     this.authService = serviceSet.authService;
     this.mdbRoleService = serviceSet.mdbRoleService;
+    this.futureAuthService =
+        new FutureAuthService(serviceSet.uac, serviceSet.authService, executor);
+    this.futureRoleService =
+        new FutureMDBRoleService(serviceSet.uac, serviceSet.mdbRoleService, executor);
     this.projectDAO = daoSet.projectDAO;
     this.experimentRunDAO = daoSet.experimentRunDAO;
     this.commentDAO = daoSet.commentDAO;
@@ -68,88 +78,144 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
     this.datasetVersionDAO = daoSet.datasetVersionDAO;
     this.futureExperimentRunDAO = daoSet.futureExperimentRunDAO;
     this.executor = executor;
+    this.blockingExecutor = blockingExecutor;
   }
 
-  private List<HydratedProject> getHydratedProjects(List<Project> projects) {
-
-    LOGGER.trace("Hydrating {} projects.", projects.size());
-    if (projects.isEmpty()) {
-      return Collections.emptyList();
+  /**
+   * Checks that the current user can read the project, or the project of the experiment if only the
+   * experiment is given. Nothing is checked if neither is given.
+   */
+  private InternalFuture<Void> validateProjectReadAccess(String projectId, String experimentId) {
+    if (!projectId.isEmpty()) {
+      return futureRoleService.validateEntityUserWithUserInfo(
+          ModelDBServiceResourceTypes.PROJECT, projectId, ModelDBServiceActions.READ);
+    } else if (!experimentId.isEmpty()) {
+      return InternalFuture.supplyAsync(
+              () -> experimentDAO.getExperiment(experimentId), blockingExecutor)
+          .thenCompose(
+              experiment ->
+                  futureRoleService.validateEntityUserWithUserInfo(
+                      ModelDBServiceResourceTypes.PROJECT,
+                      experiment.getProjectId(),
+                      ModelDBServiceActions.READ),
+              executor);
     }
+    return InternalFuture.completedInternalFuture(null);
+  }
 
-    List<HydratedProject> hydratedProjects = new ArrayList<>();
-    // Map from project id to list of users (owners + collaborators) which need to be resolved
-    Map<String, List<GetCollaboratorResponseItem>> projectCollaboratorMap =
-        new ConcurrentHashMap<String, List<GetCollaboratorResponseItem>>();
-    Set<String> vertaIds = new HashSet<>();
-    Set<String> emailIds = new HashSet<>();
-    LOGGER.trace("projects {}", projects);
-    List<String> resourceIds = new LinkedList<>();
+  /**
+   * Collaborators of each of the resources, mapped by resource id. The resources are looked up
+   * concurrently.
+   */
+  private InternalFuture<Map<String, List<GetCollaboratorResponseItem>>> getResourceCollaborators(
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes, Map<String, String> resourceOwners) {
     Metadata requestHeaders = AuthInterceptor.METADATA_INFO.get();
+    List<InternalFuture<AbstractMap.SimpleEntry<String, List<GetCollaboratorResponseItem>>>>
+        futureCollaborators = new ArrayList<>();
+    resourceOwners.forEach(
+        (resourceId, ownerId) ->
+            futureCollaborators.add(
+                InternalFuture.supplyAsync(
+                    () ->
+                        new AbstractMap.SimpleEntry<>(
+                            resourceId,
+                            mdbRoleService.getResourceCollaborators(
+                                modelDBServiceResourceTypes, resourceId, ownerId, requestHeaders)),
+                    blockingExecutor)));
+    return InternalFuture.sequence(futureCollaborators, executor)
+        .thenApply(
+            collaborators -> {
+              Map<String, List<GetCollaboratorResponseItem>> collaboratorMap = new HashMap<>();
+              for (var collaborator : collaborators) {
+                collaboratorMap.put(collaborator.getKey(), collaborator.getValue());
+              }
+              return collaboratorMap;
+            },
+            executor);
+  }
 
-    projects
-        .parallelStream()
-        .forEach(
-            (project) -> {
-              vertaIds.add(project.getOwner());
-              resourceIds.add(project.getId());
-              List<GetCollaboratorResponseItem> projectCollaboratorList =
-                  mdbRoleService.getResourceCollaborators(
-                      ModelDBServiceResourceTypes.PROJECT,
-                      project.getId(),
-                      project.getOwner(),
-                      requestHeaders);
-              projectCollaboratorMap.put(project.getId(), projectCollaboratorList);
-            });
-
-    projectCollaboratorMap.forEach(
-        (k, projectCollaboratorList) -> {
+  /** Users of the owners and of the collaborators of the resources, mapped by verta id. */
+  private InternalFuture<Map<String, UserInfo>> getOwnerAndCollaboratorUserInfos(
+      Collection<String> ownerIds, Map<String, List<GetCollaboratorResponseItem>> collaboratorMap) {
+    Set<String> vertaIds = new HashSet<>(ownerIds);
+    Set<String> emailIds = new HashSet<>();
+    collaboratorMap.forEach(
+        (k, collaboratorList) -> {
           Map<String, List<String>> vertaIdAndEmailIdMap =
-              ModelDBUtils.getVertaIdOrEmailIdMapFromCollaborator(projectCollaboratorList);
+              ModelDBUtils.getVertaIdOrEmailIdMapFromCollaborator(collaboratorList);
           vertaIds.addAll(vertaIdAndEmailIdMap.get(ModelDBConstants.VERTA_ID));
           emailIds.addAll(vertaIdAndEmailIdMap.get(ModelDBConstants.EMAILID));
         });
 
-    LOGGER.trace("getHydratedProjects vertaIds : {}", vertaIds);
-    LOGGER.trace("getHydratedProjects emailIds : {}", emailIds);
+    LOGGER.trace("vertaIds : {}", vertaIds);
+    LOGGER.trace("emailIds : {}", emailIds);
+    return futureAuthService.getUserInfoFromAuthServer(vertaIds, emailIds, null);
+  }
 
-    Map<String, UserInfo> userInfoMap =
-        authService.getUserInfoFromAuthServer(vertaIds, emailIds, null, false);
+  private InternalFuture<List<HydratedProject>> getHydratedProjects(List<Project> projects) {
 
-    Map<String, Actions> selfAllowedActions =
-        mdbRoleService.getSelfAllowedActionsBatch(resourceIds, ModelDBServiceResourceTypes.PROJECT);
+    LOGGER.trace("Hydrating {} projects.", projects.size());
+    if (projects.isEmpty()) {
+      return InternalFuture.completedInternalFuture(Collections.emptyList());
+    }
+
+    LOGGER.trace("projects {}", projects);
+    Map<String, String> projectOwners = new LinkedHashMap<>();
     for (Project project : projects) {
-      // Use the map for vertaId  to UserInfo generated for this batch request to populate the
-      // userInfo for individual projects.
-      LOGGER.trace("Owner : {}", project.getOwner());
-      List<CollaboratorUserInfo> collaboratorUserInfos =
-          ModelDBUtils.getHydratedCollaboratorUserInfo(
-              authService,
-              mdbRoleService,
-              projectCollaboratorMap.get(project.getId()),
-              userInfoMap);
-
-      var hydratedProjectBuilder =
-          HydratedProject.newBuilder()
-              .setProject(project)
-              .addAllCollaboratorUserInfos(collaboratorUserInfos);
-      if (project.getOwner() != null && userInfoMap.get(project.getOwner()) != null) {
-        hydratedProjectBuilder.setOwnerUserInfo(userInfoMap.get(project.getOwner()));
-
-        if (selfAllowedActions != null
-            && selfAllowedActions.size() > 0
-            && selfAllowedActions.containsKey(project.getId())
-            && selfAllowedActions.get(project.getId()).getActionsList().size() > 0) {
-          hydratedProjectBuilder.addAllAllowedActions(
-              selfAllowedActions.get(project.getId()).getActionsList());
-        }
-      } else {
-        LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, project.getOwner());
-      }
-      hydratedProjects.add(hydratedProjectBuilder.build());
+      projectOwners.put(project.getId(), project.getOwner());
     }
-    LOGGER.trace("Hydrated {} projects.", projects.size());
-    return hydratedProjects;
+
+    // The allowed actions don't depend on the collaborators, they are fetched meanwhile
+    final var futureSelfAllowedActions =
+        futureRoleService.getSelfAllowedActionsBatch(
+            new ArrayList<>(projectOwners.keySet()), ModelDBServiceResourceTypes.PROJECT);
+    return getResourceCollaborators(ModelDBServiceResourceTypes.PROJECT, projectOwners)
+        .thenCompose(
+            projectCollaboratorMap ->
+                getOwnerAndCollaboratorUserInfos(projectOwners.values(), projectCollaboratorMap)
+                    .thenCombine(
+                        futureSelfAllowedActions,
+                        (userInfoMap, selfAllowedActions) -> {
+                          List<HydratedProject> hydratedProjects = new ArrayList<>();
+                          for (Project project : projects) {
+                            // Use the map for vertaId  to UserInfo generated for this batch
+                            // request to populate the userInfo for individual projects.
+                            LOGGER.trace("Owner : {}", project.getOwner());
+                            List<CollaboratorUserInfo> collaboratorUserInfos =
+                                ModelDBUtils.getHydratedCollaboratorUserInfo(
+                                    authService,
+                                    mdbRoleService,
+                                    projectCollaboratorMap.get(project.getId()),
+                                    userInfoMap);
+
+                            var hydratedProjectBuilder =
+                                HydratedProject.newBuilder()
+                                    .setProject(project)
+                                    .addAllCollaboratorUserInfos(collaboratorUserInfos);
+                            if (project.getOwner() != null
+                                && userInfoMap.get(project.getOwner()) != null) {
+                              hydratedProjectBuilder.setOwnerUserInfo(
+                                  userInfoMap.get(project.getOwner()));
+
+                              if (selfAllowedActions != null
+                                  && selfAllowedActions.size() > 0
+                                  && selfAllowedActions.containsKey(project.getId())
+                                  && selfAllowedActions.get(project.getId()).getActionsList().size()
+                                      > 0) {
+                                hydratedProjectBuilder.addAllAllowedActions(
+                                    selfAllowedActions.get(project.getId()).getActionsList());
+                              }
+                            } else {
+                              LOGGER.info(
+                                  ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, project.getOwner());
+                            }
+                            hydratedProjects.add(hydratedProjectBuilder.build());
+                          }
+                          LOGGER.trace("Hydrated {} projects.", projects.size());
+                          return hydratedProjects;
+                        },
+                        blockingExecutor),
+            executor);
   }
 
   @Override
@@ -157,35 +223,45 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
       GetHydratedProjects request, StreamObserver<GetHydratedProjects.Response> responseObserver) {
     try {
       // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-      ProjectPaginationDTO projectPaginationDTO;
-      List<String> allowedProjectIds =
-          mdbRoleService.getSelfAllowedResources(
-              ModelDBServiceResourceTypes.PROJECT, ModelDBServiceActions.READ);
-      var findProjects =
-          FindProjects.newBuilder()
-              .addAllProjectIds(allowedProjectIds)
-              .setPageNumber(request.getPageNumber())
-              .setPageLimit(request.getPageLimit())
-              .setAscending(request.getAscending())
-              .setSortKey(request.getSortKey())
-              .setWorkspaceName(request.getWorkspaceName())
-              .build();
-      projectPaginationDTO =
-          projectDAO.findProjects(findProjects, null, userInfo, ResourceVisibility.PRIVATE);
-      List<Project> projects = projectPaginationDTO.getProjects();
-
-      List<HydratedProject> hydratedProjects = new ArrayList<>();
-      if (projects != null && !projects.isEmpty()) {
-        hydratedProjects = getHydratedProjects(projects);
-      }
-
-      responseObserver.onNext(
-          GetHydratedProjects.Response.newBuilder()
-              .addAllHydratedProjects(hydratedProjects)
-              .setTotalRecords(projectPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(
+                  userInfo ->
+                      futureRoleService
+                          .getSelfAllowedResources(
+                              ModelDBServiceResourceTypes.PROJECT, ModelDBServiceActions.READ)
+                          .thenApply(
+                              allowedProjectIds -> {
+                                var findProjects =
+                                    FindProjects.newBuilder()
+                                        .addAllProjectIds(allowedProjectIds)
+                                        .setPageNumber(request.getPageNumber())
+                                        .setPageLimit(request.getPageLimit())
+                                        .setAscending(request.getAscending())
+                                        .setSortKey(request.getSortKey())
+                                        .setWorkspaceName(request.getWorkspaceName())
+                                        .build();
+                                return projectDAO.findProjects(
+                                    findProjects, null, userInfo, ResourceVisibility.PRIVATE);
+                              },
+                              blockingExecutor),
+                  executor)
+              .thenCompose(
+                  projectPaginationDTO -> {
+                    List<Project> projects = projectPaginationDTO.getProjects();
+                    return getHydratedProjects(
+                            projects != null ? projects : Collections.emptyList())
+                        .thenApply(
+                            hydratedProjects ->
+                                GetHydratedProjects.Response.newBuilder()
+                                    .addAllHydratedProjects(hydratedProjects)
+                                    .setTotalRecords(projectPaginationDTO.getTotalRecords())
+                                    .build(),
+                            executor);
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -202,16 +278,20 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         var errorMessage = "Project ID not found in GetHydratedProjectById request";
         throw new InvalidArgumentException(errorMessage);
       }
-      // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.PROJECT, request.getId(), ModelDBServiceActions.READ);
-
-      var project = projectDAO.getProjectByID(request.getId());
-      responseObserver.onNext(
-          GetHydratedProjectById.Response.newBuilder()
-              .setHydratedProject(getHydratedProjects(Collections.singletonList(project)).get(0))
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.PROJECT, request.getId(), ModelDBServiceActions.READ)
+              .thenApply(unused -> projectDAO.getProjectByID(request.getId()), blockingExecutor)
+              .thenCompose(
+                  project -> getHydratedProjects(Collections.singletonList(project)), executor)
+              .thenApply(
+                  hydratedProjects ->
+                      GetHydratedProjectById.Response.newBuilder()
+                          .setHydratedProject(hydratedProjects.get(0))
+                          .build(),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -228,32 +308,35 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         var errorMessage = "Project ID not found in GetHydratedExperimentsByProjectId request";
         throw new InvalidArgumentException(errorMessage);
       }
-      // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.PROJECT, request.getProjectId(), ModelDBServiceActions.READ);
-
-      var experimentPaginationDTO =
-          experimentDAO.getExperimentsInProject(
-              projectDAO,
-              request.getProjectId(),
-              request.getPageNumber(),
-              request.getPageLimit(),
-              request.getAscending(),
-              request.getSortKey());
-
-      List<Experiment> experiments = experimentPaginationDTO.getExperiments();
-
-      List<HydratedExperiment> hydratedExperiments = new ArrayList<>();
-      if (!experiments.isEmpty()) {
-        hydratedExperiments = getHydratedExperiments(request.getProjectId(), experiments);
-      }
-
-      responseObserver.onNext(
-          GetHydratedExperimentsByProjectId.Response.newBuilder()
-              .addAllHydratedExperiments(hydratedExperiments)
-              .setTotalRecords(experimentPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.PROJECT,
+                  request.getProjectId(),
+                  ModelDBServiceActions.READ)
+              .thenApply(
+                  unused ->
+                      experimentDAO.getExperimentsInProject(
+                          projectDAO,
+                          request.getProjectId(),
+                          request.getPageNumber(),
+                          request.getPageLimit(),
+                          request.getAscending(),
+                          request.getSortKey()),
+                  blockingExecutor)
+              .thenCompose(
+                  experimentPaginationDTO ->
+                      getHydratedExperiments(
+                              request.getProjectId(), experimentPaginationDTO.getExperiments())
+                          .thenApply(
+                              hydratedExperiments ->
+                                  GetHydratedExperimentsByProjectId.Response.newBuilder()
+                                      .addAllHydratedExperiments(hydratedExperiments)
+                                      .setTotalRecords(experimentPaginationDTO.getTotalRecords())
+                                      .build(),
+                              executor),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -270,34 +353,39 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         var errorMessage = "Project ID not found in GetHydratedExperimentRunsByProjectId request";
         throw new InvalidArgumentException(errorMessage);
       }
-      // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.PROJECT, request.getProjectId(), ModelDBServiceActions.READ);
-
-      var experimentRunPaginationDTO =
-          experimentRunDAO.getExperimentRunsFromEntity(
-              projectDAO,
-              ModelDBConstants.PROJECT_ID,
-              request.getProjectId(),
-              request.getPageNumber(),
-              request.getPageLimit(),
-              request.getAscending(),
-              request.getSortKey());
-
-      LOGGER.debug(
-          ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG, experimentRunPaginationDTO.getTotalRecords());
-      List<ExperimentRun> experimentRuns = experimentRunPaginationDTO.getExperimentRuns();
-      List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
-      if (!experimentRuns.isEmpty()) {
-        hydratedExperimentRuns = getHydratedExperimentRuns(experimentRuns);
-      }
-
-      responseObserver.onNext(
-          GetHydratedExperimentRunsByProjectId.Response.newBuilder()
-              .addAllHydratedExperimentRuns(hydratedExperimentRuns)
-              .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.PROJECT,
+                  request.getProjectId(),
+                  ModelDBServiceActions.READ)
+              .thenApply(
+                  unused ->
+                      experimentRunDAO.getExperimentRunsFromEntity(
+                          projectDAO,
+                          ModelDBConstants.PROJECT_ID,
+                          request.getProjectId(),
+                          request.getPageNumber(),
+                          request.getPageLimit(),
+                          request.getAscending(),
+                          request.getSortKey()),
+                  blockingExecutor)
+              .thenCompose(
+                  experimentRunPaginationDTO -> {
+                    LOGGER.debug(
+                        ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG,
+                        experimentRunPaginationDTO.getTotalRecords());
+                    return getHydratedExperimentRuns(experimentRunPaginationDTO.getExperimentRuns())
+                        .thenApply(
+                            hydratedExperimentRuns ->
+                                GetHydratedExperimentRunsByProjectId.Response.newBuilder()
+                                    .addAllHydratedExperimentRuns(hydratedExperimentRuns)
+                                    .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
+                                    .build(),
+                            executor);
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -305,107 +393,157 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
     }
   }
 
-  private List<HydratedExperimentRun> getHydratedExperimentRuns(
+  /**
+   * The experiments, owners, comments and allowed actions of the runs are fetched concurrently and
+   * added to the runs as they come.
+   */
+  private InternalFuture<List<HydratedExperimentRun>> getHydratedExperimentRuns(
       List<ExperimentRun> experimentRuns) {
     LOGGER.debug(
         "experimentRuns count in getHydratedExperimentRuns method : {}", experimentRuns.size());
+    if (experimentRuns.isEmpty()) {
+      return InternalFuture.completedInternalFuture(Collections.emptyList());
+    }
     Set<String> experimentIdSet = new HashSet<>();
     Set<String> vertaIdList = new HashSet<>();
     Set<String> projectIdSet = new HashSet<>();
+    List<String> experimentRunIds = new ArrayList<>();
     for (ExperimentRun experimentRun : experimentRuns) {
       vertaIdList.add(experimentRun.getOwner());
       experimentIdSet.add(experimentRun.getExperimentId());
       projectIdSet.add(experimentRun.getProjectId());
+      experimentRunIds.add(experimentRun.getId());
     }
-
-    Map<String, Actions> actions = new HashMap<>();
-    if (projectIdSet.size() > 0) {
-      actions =
-          mdbRoleService.getSelfAllowedActionsBatch(
-              new ArrayList<>(projectIdSet), ModelDBServiceResourceTypes.PROJECT);
-    }
-
     LOGGER.trace("vertaIdList {}", vertaIdList);
     LOGGER.trace("experimentIdSet {}", experimentIdSet);
-    // Fetch the experiment list
-    List<String> experimentIds = new ArrayList<>(experimentIdSet);
-    LOGGER.trace("experimentIds {}", experimentIds);
-    List<Experiment> experimentList = new ArrayList<>();
-    if (!experimentIds.isEmpty()) {
-      experimentList = experimentDAO.getExperimentsByBatchIds(experimentIds);
-    }
-    LOGGER.trace("experimentList {}", experimentList);
-    // key: experiment.id, value: experiment
-    Map<String, Experiment> experimentMap = new HashMap<>();
-    for (Experiment experiment : experimentList) {
-      experimentMap.put(experiment.getId(), experiment);
-    }
 
+    // Fetch the experiment list
+    final var futureExperimentMap =
+        InternalFuture.supplyAsync(
+            () -> {
+              // key: experiment.id, value: experiment
+              Map<String, Experiment> experimentMap = new HashMap<>();
+              for (Experiment experiment :
+                  experimentDAO.getExperimentsByBatchIds(new ArrayList<>(experimentIdSet))) {
+                experimentMap.put(experiment.getId(), experiment);
+              }
+              return experimentMap;
+            },
+            blockingExecutor);
     // Fetch the experimentRun owners userInfo
-    Map<String, UserInfo> userInfoMap =
-        authService.getUserInfoFromAuthServer(vertaIdList, null, null, false);
-
-    List<HydratedExperimentRun> hydratedExperimentRuns = new LinkedList<>();
-    LOGGER.trace("hydrating experiments");
-    String currentUserVertaID =
-        authService.getVertaIdFromUserInfo(authService.getCurrentLoginUserInfo());
+    final var futureUserInfoMap =
+        futureAuthService.getUserInfoFromAuthServer(vertaIdList, null, null);
+    final var futureCommentsMap =
+        InternalFuture.supplyAsync(
+            () ->
+                commentDAO.getCommentsMap(
+                    ExperimentRunEntity.class.getSimpleName(), experimentRunIds),
+            blockingExecutor);
+    final var futureActionsAndCurrentUser =
+        futureRoleService
+            .getSelfAllowedActionsBatch(
+                new ArrayList<>(projectIdSet), ModelDBServiceResourceTypes.PROJECT)
+            .thenCombine(
+                futureAuthService.getCurrentLoginUserInfo(),
+                AbstractMap.SimpleEntry::new,
+                executor);
+
+    List<HydratedExperimentRun.Builder> builders = new ArrayList<>();
     for (ExperimentRun experimentRun : experimentRuns) {
-
-      var hydratedExperimentRunBuilder = HydratedExperimentRun.newBuilder();
-
-      var userInfoValue = userInfoMap.get(experimentRun.getOwner());
-      LOGGER.trace("owner {}", experimentRun.getOwner());
-      if (userInfoValue != null) {
-        hydratedExperimentRunBuilder.setOwnerUserInfo(userInfoValue);
-        // Add Comments in hydrated data
-        List<Comment> comments =
-            commentDAO.getComments(
-                ExperimentRunEntity.class.getSimpleName(), experimentRun.getId());
-        LOGGER.trace("comments {}", comments);
-        hydratedExperimentRunBuilder.addAllComments(comments);
-
-        List<Action> actionList =
-            ModelDBUtils.getActionsList(new ArrayList<>(projectIdSet), actions);
-        LOGGER.info("actionList {}", actionList);
-        var deleteAction =
-            Action.newBuilder()
-                .setModeldbServiceAction(ModelDBServiceActions.DELETE)
-                .setService(Service.MODELDB_SERVICE)
-                .build();
-        var updateAction =
-            Action.newBuilder()
-                .setModeldbServiceAction(ModelDBServiceActions.UPDATE)
-                .setService(Service.MODELDB_SERVICE)
-                .build();
-        LOGGER.info(
-            "roleService.isCurrentUser(experimentRun.getOwner() {}",
-            authService.isCurrentUser(experimentRun.getOwner()));
-        if (currentUserVertaID.equalsIgnoreCase(experimentRun.getOwner())
-            && !actionList.contains(deleteAction)
-            && actionList.contains(updateAction)) {
-          actionList.add(deleteAction);
-        }
-        LOGGER.info("actionList {}", actionList);
-        // Add user specific actions
-        hydratedExperimentRunBuilder.addAllAllowedActions(actionList);
-      } else {
-        LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, experimentRun.getOwner());
-      }
-      // Prepare experiment for hydratedExperimentRun
-      var hydratedExperiment =
-          Experiment.newBuilder()
-              .setName(experimentMap.get(experimentRun.getExperimentId()).getName())
-              .build();
-      LOGGER.trace("hydratedExperiment {}", hydratedExperiment);
-      hydratedExperimentRunBuilder.setExperimentRun(experimentRun);
-      hydratedExperimentRunBuilder.setExperiment(hydratedExperiment);
-      var hydratedExperimentRun = hydratedExperimentRunBuilder.build();
-      LOGGER.trace("hydratedExperimentRun {}", hydratedExperimentRun);
-      hydratedExperimentRuns.add(hydratedExperimentRun);
+      builders.add(HydratedExperimentRun.newBuilder().setExperimentRun(experimentRun));
     }
-    LOGGER.trace("done hydrating experiments");
-
-    return hydratedExperimentRuns;
+    var futureBuilders = InternalFuture.completedInternalFuture(builders);
+    futureBuilders =
+        futureBuilders.thenCombine(
+            futureUserInfoMap,
+            (hydratedBuilders, userInfoMap) -> {
+              for (var builder : hydratedBuilders) {
+                var owner = builder.getExperimentRun().getOwner();
+                var userInfoValue = userInfoMap.get(owner);
+                LOGGER.trace("owner {}", owner);
+                if (userInfoValue != null) {
+                  builder.setOwnerUserInfo(userInfoValue);
+                } else {
+                  LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, owner);
+                }
+              }
+              return hydratedBuilders;
+            },
+            executor);
+    // The comments and the actions are only added to the runs of known owners
+    futureBuilders =
+        futureBuilders.thenCombine(
+            futureCommentsMap,
+            (hydratedBuilders, commentsMap) -> {
+              for (var builder : hydratedBuilders) {
+                if (builder.hasOwnerUserInfo()) {
+                  // Add Comments in hydrated data
+                  List<Comment> comments =
+                      commentsMap.getOrDefault(
+                          builder.getExperimentRun().getId(), Collections.emptyList());
+                  LOGGER.trace("comments {}", comments);
+                  builder.addAllComments(comments);
+                }
+              }
+              return hydratedBuilders;
+            },
+            executor);
+    futureBuilders =
+        futureBuilders.thenCombine(
+            futureActionsAndCurrentUser,
+            (hydratedBuilders, actionsAndCurrentUser) -> {
+              var actions = actionsAndCurrentUser.getKey();
+              String currentUserVertaID =
+                  authService.getVertaIdFromUserInfo(actionsAndCurrentUser.getValue());
+              var deleteAction =
+                  Action.newBuilder()
+                      .setModeldbServiceAction(ModelDBServiceActions.DELETE)
+                      .setService(Service.MODELDB_SERVICE)
+                      .build();
+              var updateAction =
+                  Action.newBuilder()
+                      .setModeldbServiceAction(ModelDBServiceActions.UPDATE)
+                      .setService(Service.MODELDB_SERVICE)
+                      .build();
+              for (var builder : hydratedBuilders) {
+                if (builder.hasOwnerUserInfo()) {
+                  List<Action> actionList =
+                      ModelDBUtils.getActionsList(new ArrayList<>(projectIdSet), actions);
+                  if (currentUserVertaID.equalsIgnoreCase(builder.getExperimentRun().getOwner())
+                      && !actionList.contains(deleteAction)
+                      && actionList.contains(updateAction)) {
+                    actionList.add(deleteAction);
+                  }
+                  LOGGER.trace("actionList {}", actionList);
+                  // Add user specific actions
+                  builder.addAllAllowedActions(actionList);
+                }
+              }
+              return hydratedBuilders;
+            },
+            executor);
+    return futureBuilders.thenCombine(
+        futureExperimentMap,
+        (hydratedBuilders, experimentMap) -> {
+          LOGGER.trace("hydrating experiments");
+          List<HydratedExperimentRun> hydratedExperimentRuns = new LinkedList<>();
+          for (var builder : hydratedBuilders) {
+            // Prepare experiment for hydratedExperimentRun
+            var hydratedExperiment =
+                Experiment.newBuilder()
+                    .setName(
+                        experimentMap.get(builder.getExperimentRun().getExperimentId()).getName())
+                    .build();
+            LOGGER.trace("hydratedExperiment {}", hydratedExperiment);
+            builder.setExperiment(hydratedExperiment);
+            var hydratedExperimentRun = builder.build();
+            LOGGER.trace("hydratedExperimentRun {}", hydratedExperimentRun);
+            hydratedExperimentRuns.add(hydratedExperimentRun);
+          }
+          LOGGER.trace("done hydrating experiments");
+          return hydratedExperimentRuns;
+        },
+        executor);
   }
 
   @Override
@@ -419,44 +557,48 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
       }
       String projectId = experimentRunDAO.getProjectIdByExperimentRunId(request.getId());
 
-      // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.PROJECT, projectId, ModelDBServiceActions.READ);
-
-      var currentLoginUserInfo = authService.getCurrentLoginUserInfo();
-
-      var findExperimentRuns =
-          FindExperimentRuns.newBuilder()
-              .addExperimentRunIds(request.getId())
-              .setPageLimit(1)
-              .setPageNumber(1)
-              .build();
-      final var experimentRunPaginationDTO =
-          futureExperimentRunDAO.findExperimentRuns(findExperimentRuns).get();
-      //      ExperimentRunPaginationDTO experimentRunPaginationDTO =
-      //          experimentRunDAO.findExperimentRuns(projectDAO, currentLoginUserInfo,
-      // findExperimentRuns);
-      LOGGER.debug(
-          ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG, experimentRunPaginationDTO.getTotalRecords());
-
-      List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
-      if (!experimentRunPaginationDTO.getExperimentRunsList().isEmpty()) {
-        hydratedExperimentRuns =
-            getHydratedExperimentRuns(experimentRunPaginationDTO.getExperimentRunsList());
-      }
-
-      var response = GetHydratedExperimentRunById.Response.newBuilder();
-      if (!hydratedExperimentRuns.isEmpty()) {
-        if (hydratedExperimentRuns.size() > 1) {
-          LOGGER.warn(
-              "Multiple ({}) ExperimentRun found for given ID : {}",
-              hydratedExperimentRuns.size(),
-              request.getId());
-        }
-        response.setHydratedExperimentRun(hydratedExperimentRuns.get(0));
-      }
-      responseObserver.onNext(response.build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.PROJECT, projectId, ModelDBServiceActions.READ)
+              .thenCompose(
+                  unused -> {
+                    var findExperimentRuns =
+                        FindExperimentRuns.newBuilder()
+                            .addExperimentRunIds(request.getId())
+                            .setPageLimit(1)
+                            .setPageNumber(1)
+                            .setObservationsMaxPoints(request.getObservationsMaxPoints())
+                            .setFieldMask(request.getFieldMask())
+                            .build();
+                    return futureExperimentRunDAO.findExperimentRuns(findExperimentRuns);
+                  },
+                  executor)
+              .thenCompose(
+                  experimentRunPaginationDTO -> {
+                    LOGGER.debug(
+                        ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG,
+                        experimentRunPaginationDTO.getTotalRecords());
+                    return getHydratedExperimentRuns(
+                        experimentRunPaginationDTO.getExperimentRunsList());
+                  },
+                  executor)
+              .thenApply(
+                  hydratedExperimentRuns -> {
+                    var response = GetHydratedExperimentRunById.Response.newBuilder();
+                    if (!hydratedExperimentRuns.isEmpty()) {
+                      if (hydratedExperimentRuns.size() > 1) {
+                        LOGGER.warn(
+                            "Multiple ({}) ExperimentRun found for given ID : {}",
+                            hydratedExperimentRuns.size(),
+                            request.getId());
+                      }
+                      response.setHydratedExperimentRun(hydratedExperimentRuns.get(0));
+                    }
+                    return response.build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -469,27 +611,9 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
       FindExperimentRuns request,
       StreamObserver<AdvancedQueryExperimentRunsResponse> responseObserver) {
     try {
-      LOGGER.trace("got current logged in user info");
-      if (!request.getProjectId().isEmpty()) {
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.PROJECT,
-            request.getProjectId(),
-            ModelDBServiceActions.READ);
-
-        LOGGER.trace("Validated project accessibility");
-      } else if (!request.getExperimentId().isEmpty()) {
-        var experiment = experimentDAO.getExperiment(request.getExperimentId());
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.PROJECT,
-            experiment.getProjectId(),
-            ModelDBServiceActions.READ);
-        LOGGER.trace("Validated experiment accessibility");
-      }
-
       final var experimentRunPaginationDTOFuture =
-          futureExperimentRunDAO.findExperimentRuns(request);
+          validateProjectReadAccess(request.getProjectId(), request.getExperimentId())
+              .thenCompose(unused -> futureExperimentRunDAO.findExperimentRuns(request), executor);
       //      ExperimentRunPaginationDTO experimentRunPaginationDTO =
       //          experimentRunDAO.findExperimentRuns(projectDAO, currentLoginUserInfo, request);
       var futureResponse =
@@ -499,24 +623,30 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
                     ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG,
                     experimentRunPaginationDTO.getTotalRecords());
 
-                List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
+                InternalFuture<List<HydratedExperimentRun>> futureHydratedExperimentRuns;
                 if (request.getIdsOnly()) {
+                  List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
                   for (ExperimentRun experimentRun :
                       experimentRunPaginationDTO.getExperimentRunsList()) {
                     hydratedExperimentRuns.add(
                         HydratedExperimentRun.newBuilder().setExperimentRun(experimentRun).build());
                   }
-                } else if (!experimentRunPaginationDTO.getExperimentRunsList().isEmpty()) {
-                  hydratedExperimentRuns =
+                  futureHydratedExperimentRuns =
+                      InternalFuture.completedInternalFuture(hydratedExperimentRuns);
+                } else {
+                  futureHydratedExperimentRuns =
                       getHydratedExperimentRuns(experimentRunPaginationDTO.getExperimentRunsList());
                 }
 
-                LOGGER.debug("hydratedExperimentRuns size {}", hydratedExperimentRuns.size());
-                return InternalFuture.completedInternalFuture(
-                    AdvancedQueryExperimentRunsResponse.newBuilder()
-                        .addAllHydratedExperimentRuns(hydratedExperimentRuns)
-                        .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
-                        .build());
+                return futureHydratedExperimentRuns.thenApply(
+                    hydratedExperimentRuns -> {
+                      LOGGER.debug("hydratedExperimentRuns size {}", hydratedExperimentRuns.size());
+                      return AdvancedQueryExperimentRunsResponse.newBuilder()
+                          .addAllHydratedExperimentRuns(hydratedExperimentRuns)
+                          .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
+                          .build();
+                    },
+                    executor);
               },
               executor);
       FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
@@ -544,22 +674,25 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         throw new InvalidArgumentException(errorMessage);
       }
 
-      var experimentRunPaginationDTO = experimentRunDAO.sortExperimentRuns(projectDAO, request);
-      LOGGER.debug(
-          ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG, experimentRunPaginationDTO.getTotalRecords());
-
-      List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
-      if (!experimentRunPaginationDTO.getExperimentRuns().isEmpty()) {
-        hydratedExperimentRuns =
-            getHydratedExperimentRuns(experimentRunPaginationDTO.getExperimentRuns());
-      }
-
-      responseObserver.onNext(
-          AdvancedQueryExperimentRunsResponse.newBuilder()
-              .addAllHydratedExperimentRuns(hydratedExperimentRuns)
-              .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          InternalFuture.supplyAsync(
+                  () -> experimentRunDAO.sortExperimentRuns(projectDAO, request), blockingExecutor)
+              .thenCompose(
+                  experimentRunPaginationDTO -> {
+                    LOGGER.debug(
+                        ModelDBMessages.EXP_RUN_RECORD_COUNT_MSG,
+                        experimentRunPaginationDTO.getTotalRecords());
+                    return getHydratedExperimentRuns(experimentRunPaginationDTO.getExperimentRuns())
+                        .thenApply(
+                            hydratedExperimentRuns ->
+                                AdvancedQueryExperimentRunsResponse.newBuilder()
+                                    .addAllHydratedExperimentRuns(hydratedExperimentRuns)
+                                    .setTotalRecords(experimentRunPaginationDTO.getTotalRecords())
+                                    .build(),
+                            executor);
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -572,36 +705,23 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
       TopExperimentRunsSelector request,
       StreamObserver<AdvancedQueryExperimentRunsResponse> responseObserver) {
     try {
-      if (!request.getProjectId().isEmpty()) {
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.PROJECT,
-            request.getProjectId(),
-            ModelDBServiceActions.READ);
-      } else if (!request.getExperimentId().isEmpty()) {
-        var experiment = experimentDAO.getExperiment(request.getExperimentId());
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.PROJECT,
-            experiment.getProjectId(),
-            ModelDBServiceActions.READ);
-      }
-
-      List<ExperimentRun> experimentRuns =
-          experimentRunDAO.getTopExperimentRuns(projectDAO, request);
-      List<HydratedExperimentRun> hydratedExperimentRuns = new ArrayList<>();
-      if (!experimentRuns.isEmpty()) {
-        hydratedExperimentRuns = getHydratedExperimentRuns(experimentRuns);
-      }
-
-      responseObserver.onNext(
-          AdvancedQueryExperimentRunsResponse.newBuilder()
-              .addAllHydratedExperimentRuns(hydratedExperimentRuns)
-              // for get top experimentRun list, total_record count always 1. there is no
-              // need to get count.
-              .setTotalRecords(1)
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          validateProjectReadAccess(request.getProjectId(), request.getExperimentId())
+              .thenApply(
+                  unused -> experimentRunDAO.getTopExperimentRuns(projectDAO, request),
+                  blockingExecutor)
+              .thenCompose(this::getHydratedExperimentRuns, executor)
+              .thenApply(
+                  hydratedExperimentRuns -> {
+                    return AdvancedQueryExperimentRunsResponse.newBuilder()
+                        .addAllHydratedExperimentRuns(hydratedExperimentRuns)
+                        // for get top experimentRun list, total_record count always 1. there is no
+                        // need to get count.
+                        .setTotalRecords(1)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -609,94 +729,115 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
     }
   }
 
-  private List<HydratedExperiment> getHydratedExperiments(
+  private InternalFuture<List<HydratedExperiment>> getHydratedExperiments(
       String projectId, List<Experiment> experiments) {
-    Map<String, Actions> actions =
-        mdbRoleService.getSelfAllowedActionsBatch(
-            Collections.singletonList(projectId), ModelDBServiceResourceTypes.PROJECT);
     LOGGER.debug("experiments count in getHydratedExperiments method : {}", experiments.size());
+    if (experiments.isEmpty()) {
+      return InternalFuture.completedInternalFuture(Collections.emptyList());
+    }
     Set<String> vertaIdList = new HashSet<>();
     for (Experiment experiment : experiments) {
       vertaIdList.add(experiment.getOwner());
     }
 
+    final var futureActionsAndCurrentUser =
+        futureRoleService
+            .getSelfAllowedActionsBatch(
+                Collections.singletonList(projectId), ModelDBServiceResourceTypes.PROJECT)
+            .thenCombine(
+                futureAuthService.getCurrentLoginUserInfo(),
+                AbstractMap.SimpleEntry::new,
+                executor);
     // Fetch the experiment owners userInfo
-    Map<String, UserInfo> userInfoMap =
-        authService.getUserInfoFromAuthServer(vertaIdList, null, null, false);
-
-    String currentUserVertaID =
-        authService.getVertaIdFromUserInfo(authService.getCurrentLoginUserInfo());
-    List<HydratedExperiment> hydratedExperiments = new LinkedList<>();
-    for (Experiment experiment : experiments) {
-      var hydratedExperimentBuilder = HydratedExperiment.newBuilder().setExperiment(experiment);
-
-      var userInfoValue = userInfoMap.get(experiment.getOwner());
-      if (userInfoValue != null) {
-        hydratedExperimentBuilder.setOwnerUserInfo(userInfoValue);
-        List<Action> actionList = new LinkedList<>();
-        if (actions != null && actions.size() > 0) {
-          actionList = ModelDBUtils.getActionsList(Collections.singletonList(projectId), actions);
-        }
-        var deleteAction =
-            Action.newBuilder()
-                .setModeldbServiceAction(ModelDBServiceActions.DELETE)
-                .setService(Service.MODELDB_SERVICE)
-                .build();
-        var updateAction =
-            Action.newBuilder()
-                .setModeldbServiceAction(ModelDBServiceActions.UPDATE)
-                .setService(Service.MODELDB_SERVICE)
-                .build();
-        if (currentUserVertaID.equalsIgnoreCase(experiment.getOwner())
-            && !actionList.contains(deleteAction)
-            && actionList.contains(updateAction)) {
-          actionList.add(deleteAction);
-        }
-        hydratedExperimentBuilder.addAllAllowedActions(actionList);
-      } else {
-        LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, experiment.getOwner());
-      }
-      hydratedExperiments.add(hydratedExperimentBuilder.build());
-    }
-
-    return hydratedExperiments;
+    return futureAuthService
+        .getUserInfoFromAuthServer(vertaIdList, null, null)
+        .thenCombine(
+            futureActionsAndCurrentUser,
+            (userInfoMap, actionsAndCurrentUser) -> {
+              var actions = actionsAndCurrentUser.getKey();
+              String currentUserVertaID =
+                  authService.getVertaIdFromUserInfo(actionsAndCurrentUser.getValue());
+              List<HydratedExperiment> hydratedExperiments = new LinkedList<>();
+              for (Experiment experiment : experiments) {
+                var hydratedExperimentBuilder =
+                    HydratedExperiment.newBuilder().setExperiment(experiment);
+
+                var userInfoValue = userInfoMap.get(experiment.getOwner());
+                if (userInfoValue != null) {
+                  hydratedExperimentBuilder.setOwnerUserInfo(userInfoValue);
+                  List<Action> actionList = new LinkedList<>();
+                  if (actions != null && actions.size() > 0) {
+                    actionList =
+                        ModelDBUtils.getActionsList(Collections.singletonList(projectId), actions);
+                  }
+                  var deleteAction =
+                      Action.newBuilder()
+                          .setModeldbServiceAction(ModelDBServiceActions.DELETE)
+                          .setService(Service.MODELDB_SERVICE)
+                          .build();
+                  var updateAction =
+                      Action.newBuilder()
+                          .setModeldbServiceAction(ModelDBServiceActions.UPDATE)
+                          .setService(Service.MODELDB_SERVICE)
+                          .build();
+                  if (currentUserVertaID.equalsIgnoreCase(experiment.getOwner())
+                      && !actionList.contains(deleteAction)
+                      && actionList.contains(updateAction)) {
+                    actionList.add(deleteAction);
+                  }
+                  hydratedExperimentBuilder.addAllAllowedActions(actionList);
+                } else {
+                  LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, experiment.getOwner());
+                }
+                hydratedExperiments.add(hydratedExperimentBuilder.build());
+              }
+              return hydratedExperiments;
+            },
+            executor);
   }
 
   @Override
   public void findHydratedExperiments(
       FindExperiments request, StreamObserver<AdvancedQueryExperimentsResponse> responseObserver) {
     try {
-      if (!request.getProjectId().isEmpty()) {
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.PROJECT,
-            request.getProjectId(),
-            ModelDBServiceActions.READ);
-      }
-
-      var userInfo = authService.getCurrentLoginUserInfo();
-      var experimentPaginationDTO = experimentDAO.findExperiments(projectDAO, userInfo, request);
-      LOGGER.debug(
-          "ExperimentPaginationDTO record count : {}", experimentPaginationDTO.getTotalRecords());
-
-      List<HydratedExperiment> hydratedExperiments = new ArrayList<>();
-      if (request.getIdsOnly()) {
-        for (Experiment experiment : experimentPaginationDTO.getExperiments()) {
-          hydratedExperiments.add(
-              HydratedExperiment.newBuilder().setExperiment(experiment).build());
-        }
-      } else if (!experimentPaginationDTO.getExperiments().isEmpty()) {
-        hydratedExperiments =
-            getHydratedExperiments(
-                request.getProjectId(), experimentPaginationDTO.getExperiments());
-      }
-
-      responseObserver.onNext(
-          AdvancedQueryExperimentsResponse.newBuilder()
-              .addAllHydratedExperiments(hydratedExperiments)
-              .setTotalRecords(experimentPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          validateProjectReadAccess(request.getProjectId(), "")
+              // Get the user info from the Context
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> experimentDAO.findExperiments(projectDAO, userInfo, request),
+                  blockingExecutor)
+              .thenCompose(
+                  experimentPaginationDTO -> {
+                    LOGGER.debug(
+                        "ExperimentPaginationDTO record count : {}",
+                        experimentPaginationDTO.getTotalRecords());
+
+                    InternalFuture<List<HydratedExperiment>> futureHydratedExperiments;
+                    if (request.getIdsOnly()) {
+                      List<HydratedExperiment> hydratedExperiments = new ArrayList<>();
+                      for (Experiment experiment : experimentPaginationDTO.getExperiments()) {
+                        hydratedExperiments.add(
+                            HydratedExperiment.newBuilder().setExperiment(experiment).build());
+                      }
+                      futureHydratedExperiments =
+                          InternalFuture.completedInternalFuture(hydratedExperiments);
+                    } else {
+                      futureHydratedExperiments =
+                          getHydratedExperiments(
+                              request.getProjectId(), experimentPaginationDTO.getExperiments());
+                    }
+
+                    return futureHydratedExperiments.thenApply(
+                        hydratedExperiments ->
+                            AdvancedQueryExperimentsResponse.newBuilder()
+                                .addAllHydratedExperiments(hydratedExperiments)
+                                .setTotalRecords(experimentPaginationDTO.getTotalRecords())
+                                .build(),
+                        executor);
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -708,29 +849,15 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
   public void findHydratedProjects(
       FindProjects request, StreamObserver<AdvancedQueryProjectsResponse> responseObserver) {
     try {
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-
-      var projectPaginationDTO =
-          projectDAO.findProjects(request, null, userInfo, ResourceVisibility.PRIVATE);
-      LOGGER.debug(
-          ModelDBMessages.PROJECT_RECORD_COUNT_MSG, projectPaginationDTO.getTotalRecords());
-
-      List<HydratedProject> hydratedProjects = new ArrayList<>();
-      if (request.getIdsOnly()) {
-        for (Project project : projectPaginationDTO.getProjects()) {
-          hydratedProjects.add(HydratedProject.newBuilder().setProject(project).build());
-        }
-      } else if (!projectPaginationDTO.getProjects().isEmpty()) {
-        hydratedProjects = getHydratedProjects(projectPaginationDTO.getProjects());
-      }
-
-      responseObserver.onNext(
-          AdvancedQueryProjectsResponse.newBuilder()
-              .addAllHydratedProjects(hydratedProjects)
-              .setTotalRecords(projectPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(
+                  userInfo ->
+                      createQueryProjectsResponse(
+                          request, userInfo, null, ResourceVisibility.PRIVATE),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -738,117 +865,109 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
     }
   }
 
-  private List<HydratedDataset> getHydratedDatasets(List<Dataset> datasets) {
+  private InternalFuture<List<HydratedDataset>> getHydratedDatasets(List<Dataset> datasets) {
 
     LOGGER.trace("Hydrating {} datasets.", datasets.size());
-    List<HydratedDataset> hydratedDatasets = new ArrayList<>();
-
-    // Map from dataset id to list of users (owners + collaborators) which need to be resolved
-    Map<String, List<GetCollaboratorResponseItem>> datasetCollaboratorMap = new HashMap<>();
-    Set<String> vertaIds = new HashSet<>();
-    Set<String> emailIds = new HashSet<>();
-    Metadata requestHeaders = AuthInterceptor.METADATA_INFO.get();
-    List<String> resourceIds = new LinkedList<>();
-
-    datasets
-        .parallelStream()
-        .forEach(
-            (dataset) -> {
-              vertaIds.add(dataset.getOwner());
-              resourceIds.add(dataset.getId());
-              List<GetCollaboratorResponseItem> datasetCollaboratorList =
-                  mdbRoleService.getResourceCollaborators(
-                      ModelDBServiceResourceTypes.DATASET,
-                      dataset.getId(),
-                      dataset.getOwner(),
-                      requestHeaders);
-              datasetCollaboratorMap.put(dataset.getId(), datasetCollaboratorList);
-            });
-    datasetCollaboratorMap.forEach(
-        (k, datasetCollaboratorList) -> {
-          Map<String, List<String>> vertaIdAndEmailIdMap =
-              ModelDBUtils.getVertaIdOrEmailIdMapFromCollaborator(datasetCollaboratorList);
-          vertaIds.addAll(vertaIdAndEmailIdMap.get(ModelDBConstants.VERTA_ID));
-          emailIds.addAll(vertaIdAndEmailIdMap.get(ModelDBConstants.EMAILID));
-        });
-
-    LOGGER.trace("getHydratedDatasets vertaIds : {}", vertaIds.size());
-    LOGGER.trace("getHydratedDatasets emailIds : {}", emailIds.size());
-
-    Map<String, UserInfo> userInfoMap =
-        authService.getUserInfoFromAuthServer(vertaIds, emailIds, null, false);
-
-    LOGGER.trace("Got results from UAC : {}", userInfoMap.size());
-
-    Map<String, Actions> selfAllowedActions =
-        mdbRoleService.getSelfAllowedActionsBatch(resourceIds, ModelDBServiceResourceTypes.DATASET);
+    if (datasets.isEmpty()) {
+      return InternalFuture.completedInternalFuture(Collections.emptyList());
+    }
 
+    Map<String, String> datasetOwners = new LinkedHashMap<>();
     for (Dataset dataset : datasets) {
-      // Use the map for vertaId  to UserInfo generated for this batch request to populate the
-      // userInfo for individual datasets.
-      List<CollaboratorUserInfo> collaboratorUserInfos =
-          ModelDBUtils.getHydratedCollaboratorUserInfo(
-              authService,
-              mdbRoleService,
-              datasetCollaboratorMap.get(dataset.getId()),
-              userInfoMap);
-
-      var hydratedDatasetBuilder =
-          HydratedDataset.newBuilder()
-              .setDataset(dataset)
-              .addAllCollaboratorUserInfos(collaboratorUserInfos);
-      if (dataset.getOwner() != null && userInfoMap.get(dataset.getOwner()) != null) {
-        hydratedDatasetBuilder.setOwnerUserInfo(userInfoMap.get(dataset.getOwner()));
-      } else {
-        LOGGER.info(ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, dataset.getOwner());
-      }
-      if (selfAllowedActions != null
-          && selfAllowedActions.size() > 0
-          && selfAllowedActions.containsKey(dataset.getId())
-          && selfAllowedActions.get(dataset.getId()).getActionsList().size() > 0) {
-        hydratedDatasetBuilder.addAllAllowedActions(
-            selfAllowedActions.get(dataset.getId()).getActionsList());
-      }
-      var hydratedDataset = hydratedDatasetBuilder.build();
-
-      hydratedDatasets.add(hydratedDataset);
+      datasetOwners.put(dataset.getId(), dataset.getOwner());
     }
-    LOGGER.trace("Hydrated {} datasets.", datasets.size());
-    return hydratedDatasets;
+
+    // The allowed actions don't depend on the collaborators, they are fetched meanwhile
+    final var futureSelfAllowedActions =
+        futureRoleService.getSelfAllowedActionsBatch(
+            new ArrayList<>(datasetOwners.keySet()), ModelDBServiceResourceTypes.DATASET);
+    return getResourceCollaborators(ModelDBServiceResourceTypes.DATASET, datasetOwners)
+        .thenCompose(
+            datasetCollaboratorMap ->
+                getOwnerAndCollaboratorUserInfos(datasetOwners.values(), datasetCollaboratorMap)
+                    .thenCombine(
+                        futureSelfAllowedActions,
+                        (userInfoMap, selfAllowedActions) -> {
+                          LOGGER.trace("Got results from UAC : {}", userInfoMap.size());
+                          List<HydratedDataset> hydratedDatasets = new ArrayList<>();
+                          for (Dataset dataset : datasets) {
+                            // Use the map for vertaId  to UserInfo generated for this batch
+                            // request to populate the userInfo for individual datasets.
+                            List<CollaboratorUserInfo> collaboratorUserInfos =
+                                ModelDBUtils.getHydratedCollaboratorUserInfo(
+                                    authService,
+                                    mdbRoleService,
+                                    datasetCollaboratorMap.get(dataset.getId()),
+                                    userInfoMap);
+
+                            var hydratedDatasetBuilder =
+                                HydratedDataset.newBuilder()
+                                    .setDataset(dataset)
+                                    .addAllCollaboratorUserInfos(collaboratorUserInfos);
+                            if (dataset.getOwner() != null
+                                && userInfoMap.get(dataset.getOwner()) != null) {
+                              hydratedDatasetBuilder.setOwnerUserInfo(
+                                  userInfoMap.get(dataset.getOwner()));
+                            } else {
+                              LOGGER.info(
+                                  ModelDBMessages.USER_NOT_FOUND_ERROR_MSG, dataset.getOwner());
+                            }
+                            if (selfAllowedActions != null
+                                && selfAllowedActions.size() > 0
+                                && selfAllowedActions.containsKey(dataset.getId())
+                                && selfAllowedActions.get(dataset.getId()).getActionsList().size()
+                                    > 0) {
+                              hydratedDatasetBuilder.addAllAllowedActions(
+                                  selfAllowedActions.get(dataset.getId()).getActionsList());
+                            }
+                            hydratedDatasets.add(hydratedDatasetBuilder.build());
+                          }
+                          LOGGER.trace("Hydrated {} datasets.", datasets.size());
+                          return hydratedDatasets;
+                        },
+                        blockingExecutor),
+            executor);
   }
 
-  private List<HydratedDataset> findHydratedDatasets(
+  private InternalFuture<List<HydratedDataset>> findHydratedDatasets(
       DatasetPaginationDTO datasetPaginationDTO, Boolean isIdsOnly) {
-    List<HydratedDataset> hydratedDatasets = new ArrayList<>();
     if (isIdsOnly) {
+      List<HydratedDataset> hydratedDatasets = new ArrayList<>();
       for (Dataset dataset : datasetPaginationDTO.getDatasets()) {
         hydratedDatasets.add(HydratedDataset.newBuilder().setDataset(dataset).build());
       }
-    } else if (!datasetPaginationDTO.getDatasets().isEmpty()) {
-      hydratedDatasets = getHydratedDatasets(datasetPaginationDTO.getDatasets());
+      return InternalFuture.completedInternalFuture(hydratedDatasets);
     }
-    return hydratedDatasets;
+    return getHydratedDatasets(datasetPaginationDTO.getDatasets());
   }
 
   @Override
   public void findHydratedDatasets(
       FindDatasets request, StreamObserver<AdvancedQueryDatasetsResponse> responseObserver) {
     try {
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-      var datasetPaginationDTO =
-          datasetDAO.findDatasets(request, userInfo, ResourceVisibility.PRIVATE);
-      LOGGER.debug(
-          ModelDBMessages.DATASET_RECORD_COUNT_MSG, datasetPaginationDTO.getTotalRecords());
-      List<HydratedDataset> hydratedDatasets =
-          findHydratedDatasets(datasetPaginationDTO, request.getIdsOnly());
-
-      responseObserver.onNext(
-          AdvancedQueryDatasetsResponse.newBuilder()
-              .addAllHydratedDatasets(hydratedDatasets)
-              .setTotalRecords(datasetPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenApply(
+                  userInfo ->
+                      datasetDAO.findDatasets(request, userInfo, ResourceVisibility.PRIVATE),
+                  blockingExecutor)
+              .thenCompose(
+                  datasetPaginationDTO -> {
+                    LOGGER.debug(
+                        ModelDBMessages.DATASET_RECORD_COUNT_MSG,
+                        datasetPaginationDTO.getTotalRecords());
+                    return findHydratedDatasets(datasetPaginationDTO, request.getIdsOnly())
+                        .thenApply(
+                            hydratedDatasets ->
+                                AdvancedQueryDatasetsResponse.newBuilder()
+                                    .addAllHydratedDatasets(hydratedDatasets)
+                                    .setTotalRecords(datasetPaginationDTO.getTotalRecords())
+                                    .build(),
+                            executor);
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -901,41 +1020,46 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
       FindDatasetVersions request,
       StreamObserver<AdvancedQueryDatasetVersionsResponse> responseObserver) {
     try {
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-
-      if (!request.getDatasetId().isEmpty()) {
-        // Validate if current user has access to the entity or not
-        mdbRoleService.validateEntityUserWithUserInfo(
-            ModelDBServiceResourceTypes.DATASET,
-            request.getDatasetId(),
-            ModelDBServiceActions.READ);
-      }
-
-      DatasetVersionDTO datasetVersionPaginationDTO =
-          datasetVersionDAO.findDatasetVersions(datasetDAO, request, userInfo);
-      LOGGER.debug(
-          "DatasetVersionPaginationDTO record count : "
-              + datasetVersionPaginationDTO.getTotalRecords());
-
-      List<HydratedDatasetVersion> hydratedDatasetVersions = new ArrayList<>();
-      if (request.getIdsOnly()) {
-        for (DatasetVersion datasetVersion : datasetVersionPaginationDTO.getDatasetVersions()) {
-          hydratedDatasetVersions.add(
-              HydratedDatasetVersion.newBuilder().setDatasetVersion(datasetVersion).build());
-        }
-      } else if (!datasetVersionPaginationDTO.getDatasetVersions().isEmpty()) {
-        for (DatasetVersion datasetVersion : datasetVersionPaginationDTO.getDatasetVersions()) {
-          hydratedDatasetVersions.add(getHydratedDatasetVersion(datasetVersion));
-        }
-      }
-
-      responseObserver.onNext(
-          AdvancedQueryDatasetVersionsResponse.newBuilder()
-              .addAllHydratedDatasetVersions(hydratedDatasetVersions)
-              .setTotalRecords(datasetVersionPaginationDTO.getTotalRecords())
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          (request.getDatasetId().isEmpty()
+                  ? InternalFuture.<Void>completedInternalFuture(null)
+                  : futureRoleService.validateEntityUserWithUserInfo(
+                      ModelDBServiceResourceTypes.DATASET,
+                      request.getDatasetId(),
+                      ModelDBServiceActions.READ))
+              // Get the user info from the Context
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    DatasetVersionDTO datasetVersionPaginationDTO =
+                        datasetVersionDAO.findDatasetVersions(datasetDAO, request, userInfo);
+                    LOGGER.debug(
+                        "DatasetVersionPaginationDTO record count : "
+                            + datasetVersionPaginationDTO.getTotalRecords());
+
+                    List<HydratedDatasetVersion> hydratedDatasetVersions = new ArrayList<>();
+                    if (request.getIdsOnly()) {
+                      for (DatasetVersion datasetVersion :
+                          datasetVersionPaginationDTO.getDatasetVersions()) {
+                        hydratedDatasetVersions.add(
+                            HydratedDatasetVersion.newBuilder()
+                                .setDatasetVersion(datasetVersion)
+                                .build());
+                      }
+                    } else if (!datasetVersionPaginationDTO.getDatasetVersions().isEmpty()) {
+                      for (DatasetVersion datasetVersion :
+                          datasetVersionPaginationDTO.getDatasetVersions()) {
+                        hydratedDatasetVersions.add(getHydratedDatasetVersion(datasetVersion));
+                      }
+                    }
+
+                    return AdvancedQueryDatasetVersionsResponse.newBuilder()
+                        .addAllHydratedDatasetVersions(hydratedDatasetVersions)
+                        .setTotalRecords(datasetVersionPaginationDTO.getTotalRecords())
+                        .build();
+                  },
+                  blockingExecutor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -953,57 +1077,74 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         throw new InvalidArgumentException(errorMessage);
       }
 
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-
-      FindDatasets.Builder findDatasets =
-          FindDatasets.newBuilder()
-              .addPredicates(
-                  KeyValueQuery.newBuilder()
-                      .setKey(ModelDBConstants.NAME)
-                      .setValue(Value.newBuilder().setStringValue(request.getName()).build())
-                      .setOperator(OperatorEnum.Operator.EQ)
-                      .setValueType(ValueTypeEnum.ValueType.STRING)
-                      .build())
-              .setWorkspaceName(
-                  request.getWorkspaceName().isEmpty()
-                      ? authService.getUsernameFromUserInfo(userInfo)
-                      : request.getWorkspaceName());
-
-      var datasetPaginationDTO =
-          datasetDAO.findDatasets(findDatasets.build(), userInfo, ResourceVisibility.PRIVATE);
-
-      if (datasetPaginationDTO.getTotalRecords() == 0) {
-        throw new NotFoundException("Dataset not found");
-      }
-      Dataset selfOwnerdataset = null;
-      List<Dataset> sharedDatasets = new ArrayList<>();
-
-      for (Dataset dataset : datasetPaginationDTO.getDatasets()) {
-        if (userInfo == null
-            || dataset.getOwner().equals(authService.getVertaIdFromUserInfo(userInfo))) {
-          selfOwnerdataset = dataset;
-        } else {
-          sharedDatasets.add(dataset);
-        }
-      }
-
-      List<HydratedDataset> sharedHydratedDatasets = new ArrayList<>();
-      if (!sharedDatasets.isEmpty()) {
-        sharedHydratedDatasets = getHydratedDatasets(sharedDatasets);
-      }
-
-      GetHydratedDatasetByName.Response.Builder getHydratedDatasetByNameResponse =
-          GetHydratedDatasetByName.Response.newBuilder()
-              .addAllSharedHydratedDatasets(sharedHydratedDatasets);
-
-      if (selfOwnerdataset != null) {
-        getHydratedDatasetByNameResponse.setHydratedDatasetByUser(
-            getHydratedDatasets(Collections.singletonList(selfOwnerdataset)).get(0));
-      }
-
-      responseObserver.onNext(getHydratedDatasetByNameResponse.build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(
+                  userInfo -> {
+                    FindDatasets.Builder findDatasets =
+                        FindDatasets.newBuilder()
+                            .addPredicates(
+                                KeyValueQuery.newBuilder()
+                                    .setKey(ModelDBConstants.NAME)
+                                    .setValue(
+                                        Value.newBuilder()
+                                            .setStringValue(request.getName())
+                                            .build())
+                                    .setOperator(OperatorEnum.Operator.EQ)
+                                    .setValueType(ValueTypeEnum.ValueType.STRING)
+                                    .build())
+                            .setWorkspaceName(
+                                request.getWorkspaceName().isEmpty()
+                                    ? authService.getUsernameFromUserInfo(userInfo)
+                                    : request.getWorkspaceName());
+
+                    var datasetPaginationDTO =
+                        datasetDAO.findDatasets(
+                            findDatasets.build(), userInfo, ResourceVisibility.PRIVATE);
+
+                    if (datasetPaginationDTO.getTotalRecords() == 0) {
+                      throw new NotFoundException("Dataset not found");
+                    }
+                    Dataset selfOwnerdataset = null;
+                    List<Dataset> sharedDatasets = new ArrayList<>();
+
+                    for (Dataset dataset : datasetPaginationDTO.getDatasets()) {
+                      if (userInfo == null
+                          || dataset
+                              .getOwner()
+                              .equals(authService.getVertaIdFromUserInfo(userInfo))) {
+                        selfOwnerdataset = dataset;
+                      } else {
+                        sharedDatasets.add(dataset);
+                      }
+                    }
+
+                    final var futureSelfHydratedDatasets =
+                        getHydratedDatasets(
+                            selfOwnerdataset != null
+                                ? Collections.singletonList(selfOwnerdataset)
+                                : Collections.emptyList());
+                    return getHydratedDatasets(sharedDatasets)
+                        .thenCombine(
+                            futureSelfHydratedDatasets,
+                            (sharedHydratedDatasets, selfHydratedDatasets) -> {
+                              GetHydratedDatasetByName.Response.Builder
+                                  getHydratedDatasetByNameResponse =
+                                      GetHydratedDatasetByName.Response.newBuilder()
+                                          .addAllSharedHydratedDatasets(sharedHydratedDatasets);
+
+                              if (!selfHydratedDatasets.isEmpty()) {
+                                getHydratedDatasetByNameResponse.setHydratedDatasetByUser(
+                                    selfHydratedDatasets.get(0));
+                              }
+
+                              return getHydratedDatasetByNameResponse.build();
+                            },
+                            executor);
+                  },
+                  blockingExecutor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -1011,28 +1152,40 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
     }
   }
 
-  private AdvancedQueryProjectsResponse createQueryProjectsResponse(
+  private InternalFuture<AdvancedQueryProjectsResponse> createQueryProjectsResponse(
       FindProjects findProjectsRequest,
       UserInfo currentLoginUserInfo,
       CollaboratorBase host,
       ResourceVisibility visibility) {
-
-    var projectPaginationDTO =
-        projectDAO.findProjects(findProjectsRequest, host, currentLoginUserInfo, visibility);
-    LOGGER.debug(ModelDBMessages.PROJECT_RECORD_COUNT_MSG, projectPaginationDTO.getTotalRecords());
-
-    List<HydratedProject> hydratedProjects = new ArrayList<>();
-    if (findProjectsRequest.getIdsOnly()) {
-      for (Project project : projectPaginationDTO.getProjects()) {
-        hydratedProjects.add(HydratedProject.newBuilder().setProject(project).build());
-      }
-    } else if (!projectPaginationDTO.getProjects().isEmpty()) {
-      hydratedProjects = getHydratedProjects(projectPaginationDTO.getProjects());
-    }
-    return AdvancedQueryProjectsResponse.newBuilder()
-        .addAllHydratedProjects(hydratedProjects)
-        .setTotalRecords(projectPaginationDTO.getTotalRecords())
-        .build();
+    return InternalFuture.supplyAsync(
+            () ->
+                projectDAO.findProjects(
+                    findProjectsRequest, host, currentLoginUserInfo, visibility),
+            blockingExecutor)
+        .thenCompose(
+            projectPaginationDTO -> {
+              LOGGER.debug(
+                  ModelDBMessages.PROJECT_RECORD_COUNT_MSG, projectPaginationDTO.getTotalRecords());
+
+              InternalFuture<List<HydratedProject>> futureHydratedProjects;
+              if (findProjectsRequest.getIdsOnly()) {
+                List<HydratedProject> hydratedProjects = new ArrayList<>();
+                for (Project project : projectPaginationDTO.getProjects()) {
+                  hydratedProjects.add(HydratedProject.newBuilder().setProject(project).build());
+                }
+                futureHydratedProjects = InternalFuture.completedInternalFuture(hydratedProjects);
+              } else {
+                futureHydratedProjects = getHydratedProjects(projectPaginationDTO.getProjects());
+              }
+              return futureHydratedProjects.thenApply(
+                  hydratedProjects ->
+                      AdvancedQueryProjectsResponse.newBuilder()
+                          .addAllHydratedProjects(hydratedProjects)
+                          .setTotalRecords(projectPaginationDTO.getTotalRecords())
+                          .build(),
+                  executor);
+            },
+            executor);
   }
 
   @Override
@@ -1063,13 +1216,19 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         throw new InvalidArgumentException(errorMessage);
       }
 
-      responseObserver.onNext(
-          createQueryProjectsResponse(
-              request.getFindProjects(),
-              authService.getCurrentLoginUserInfo(),
-              hostCollaboratorBase,
-              ResourceVisibility.PRIVATE));
-      responseObserver.onCompleted();
+      final var finalHostCollaboratorBase = hostCollaboratorBase;
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(
+                  userInfo ->
+                      createQueryProjectsResponse(
+                          request.getFindProjects(),
+                          userInfo,
+                          finalHostCollaboratorBase,
+                          ResourceVisibility.PRIVATE),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -1097,13 +1256,13 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         hostOrgInfo = mdbRoleService.getOrgByName(request.getName());
       }
 
-      responseObserver.onNext(
+      final var futureResponse =
           createQueryProjectsResponse(
               request.getFindProjects(),
               null,
               new CollaboratorOrg(hostOrgInfo),
-              ResourceVisibility.PRIVATE));
-      responseObserver.onCompleted();
+              ResourceVisibility.PRIVATE);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -1132,13 +1291,13 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         hostTeamInfo = mdbRoleService.getTeamByName(request.getOrgId(), request.getName());
       }
 
-      responseObserver.onNext(
+      final var futureResponse =
           createQueryProjectsResponse(
               request.getFindProjects(),
               null,
               new CollaboratorTeam(hostTeamInfo),
-              ResourceVisibility.PRIVATE));
-      responseObserver.onCompleted();
+              ResourceVisibility.PRIVATE);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -1171,69 +1330,85 @@ public class AdvancedServiceImpl extends HydratedServiceImplBase {
         var errorMessage = "Project ID not found in GetHydratedDatasetsByProjectId request";
         throw new InvalidArgumentException(errorMessage);
       }
-      // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.PROJECT, request.getProjectId(), ModelDBServiceActions.READ);
-
-      List<ExperimentRun> experimentRuns =
-          experimentRunDAO.getExperimentRuns(
-              ModelDBConstants.PROJECT_ID, request.getProjectId(), null);
-
-      LOGGER.debug("ExperimentRun list record count : {}", experimentRuns.size());
-      List<HydratedDataset> hydratedDatasets = new ArrayList<>();
-      var totalRecords = 0L;
-      if (!experimentRuns.isEmpty()) {
-        Set<String> datasetVersionIdSet = new HashSet<>();
-        for (ExperimentRun experimentRun : experimentRuns) {
-          for (Artifact dataset : experimentRun.getDatasetsList()) {
-            if (!dataset.getLinkedArtifactId().isEmpty()) {
-              datasetVersionIdSet.add(dataset.getLinkedArtifactId());
-            }
-          }
-        }
-        LOGGER.debug(
-            "Dataset version ids from experimentRun count : {}", datasetVersionIdSet.size());
-        Set<String> datasetIdSet = new HashSet<>();
-        if (!datasetVersionIdSet.isEmpty()) {
-          List<DatasetVersion> datasetVersionList =
-              datasetVersionDAO.getDatasetVersionsByBatchIds(new ArrayList<>(datasetVersionIdSet));
-          for (DatasetVersion datasetVersion : datasetVersionList) {
-            if (!datasetVersion.getDatasetId().isEmpty()) {
-              datasetIdSet.add(datasetVersion.getDatasetId());
-            }
-          }
-        }
-        LOGGER.debug(
-            "Dataset ids count based on the dataset version founded from experimentRun : "
-                + datasetIdSet.size());
-        if (!datasetIdSet.isEmpty()) {
-          var findDatasetsRequest =
-              FindDatasets.newBuilder()
-                  .addAllDatasetIds(datasetIdSet)
-                  .setPageNumber(request.getPageNumber())
-                  .setPageLimit(request.getPageLimit())
-                  .setAscending(request.getAscending())
-                  .setSortKey(request.getSortKey())
-                  .build();
-          // Get the user info from the Context
-          var userInfo = authService.getCurrentLoginUserInfo();
-          var datasetPaginationDTO =
-              datasetDAO.findDatasets(findDatasetsRequest, userInfo, ResourceVisibility.PRIVATE);
-          LOGGER.debug(
-              ModelDBMessages.DATASET_RECORD_COUNT_MSG, datasetPaginationDTO.getTotalRecords());
-          hydratedDatasets = findHydratedDatasets(datasetPaginationDTO, false);
-          totalRecords = datasetPaginationDTO.getTotalRecords();
-        }
-      }
-      LOGGER.debug("Final return HydratedDataset count : {}", hydratedDatasets.size());
-      LOGGER.debug("Final return total record count : {}", totalRecords);
-
-      responseObserver.onNext(
-          GetHydratedDatasetsByProjectId.Response.newBuilder()
-              .addAllHydratedDatasets(hydratedDatasets)
-              .setTotalRecords(totalRecords)
-              .build());
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.PROJECT,
+                  request.getProjectId(),
+                  ModelDBServiceActions.READ)
+              // Get the user info from the Context
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenCompose(
+                  userInfo -> {
+                    List<ExperimentRun> experimentRuns =
+                        experimentRunDAO.getExperimentRuns(
+                            ModelDBConstants.PROJECT_ID, request.getProjectId(), null);
+
+                    LOGGER.debug("ExperimentRun list record count : {}", experimentRuns.size());
+                    InternalFuture<List<HydratedDataset>> futureHydratedDatasets =
+                        InternalFuture.completedInternalFuture(Collections.emptyList());
+                    var totalRecords = 0L;
+                    if (!experimentRuns.isEmpty()) {
+                      Set<String> datasetVersionIdSet = new HashSet<>();
+                      for (ExperimentRun experimentRun : experimentRuns) {
+                        for (Artifact dataset : experimentRun.getDatasetsList()) {
+                          if (!dataset.getLinkedArtifactId().isEmpty()) {
+                            datasetVersionIdSet.add(dataset.getLinkedArtifactId());
+                          }
+                        }
+                      }
+                      LOGGER.debug(
+                          "Dataset version ids from experimentRun count : {}",
+                          datasetVersionIdSet.size());
+                      Set<String> datasetIdSet = new HashSet<>();
+                      if (!datasetVersionIdSet.isEmpty()) {
+                        List<DatasetVersion> datasetVersionList =
+                            datasetVersionDAO.getDatasetVersionsByBatchIds(
+                                new ArrayList<>(datasetVersionIdSet));
+                        for (DatasetVersion datasetVersion : datasetVersionList) {
+                          if (!datasetVersion.getDatasetId().isEmpty()) {
+                            datasetIdSet.add(datasetVersion.getDatasetId());
+                          }
+                        }
+                      }
+                      LOGGER.debug(
+                          "Dataset ids count based on the dataset version founded from experimentRun : "
+                              + datasetIdSet.size());
+                      if (!datasetIdSet.isEmpty()) {
+                        var findDatasetsRequest =
+                            FindDatasets.newBuilder()
+                                .addAllDatasetIds(datasetIdSet)
+                                .setPageNumber(request.getPageNumber())
+                                .setPageLimit(request.getPageLimit())
+                                .setAscending(request.getAscending())
+                                .setSortKey(request.getSortKey())
+                                .build();
+                        var datasetPaginationDTO =
+                            datasetDAO.findDatasets(
+                                findDatasetsRequest, userInfo, ResourceVisibility.PRIVATE);
+                        LOGGER.debug(
+                            ModelDBMessages.DATASET_RECORD_COUNT_MSG,
+                            datasetPaginationDTO.getTotalRecords());
+                        futureHydratedDatasets = findHydratedDatasets(datasetPaginationDTO, false);
+                        totalRecords = datasetPaginationDTO.getTotalRecords();
+                      }
+                    }
+                    final var finalTotalRecords = totalRecords;
+                    return futureHydratedDatasets.thenApply(
+                        hydratedDatasets -> {
+                          LOGGER.debug(
+                              "Final return HydratedDataset count : {}", hydratedDatasets.size());
+                          LOGGER.debug("Final return total record count : {}", finalTotalRecords);
+
+                          return GetHydratedDatasetsByProjectId.Response.newBuilder()
+                              .addAllHydratedDatasets(hydratedDatasets)
+                              .setTotalRecords(finalTotalRecords)
+                              .build();
+                        },
+                        executor);
+                  },
+                  blockingExecutor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -0,0 +1,98 @@
+package ai.verta.modeldb.authservice;
+
+import ai.verta.common.ModelDBResourceEnum.ModelDBServiceResourceTypes;
+import ai.verta.modeldb.common.authservice.FutureRoleService;
+import ai.verta.modeldb.common.connections.UAC;
+import ai.verta.modeldb.common.futures.FutureGrpc;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.uac.GetResourcesResponseItem;
+import ai.verta.uac.GetWorkspaceByName;
+import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
+import ai.verta.uac.Organization;
+import ai.verta.uac.UserInfo;
+import ai.verta.uac.Workspace;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+public class FutureMDBRoleService extends FutureRoleService {
+  private final MDBRoleService mdbRoleService;
+
+  public FutureMDBRoleService(UAC uac, MDBRoleService mdbRoleService, Executor executor) {
+    super(uac, mdbRoleService, executor);
+    this.mdbRoleService = mdbRoleService;
+  }
+
+  /** Non-blocking {@link MDBRoleService#validateEntityUserWithUserInfo}. */
+  public InternalFuture<Void> validateEntityUserWithUserInfo(
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes,
+      String resourceId,
+      ModelDBServiceActions modelDBServiceActions) {
+    if (uac == null) {
+      // Without UAC the entity is only checked to exist in the database
+      return InternalFuture.runAsync(
+          () ->
+              mdbRoleService.validateEntityUserWithUserInfo(
+                  modelDBServiceResourceTypes, resourceId, modelDBServiceActions),
+          executor);
+    }
+    return isSelfAllowed(modelDBServiceResourceTypes, modelDBServiceActions, resourceId);
+  }
+
+  /** Non-blocking {@link MDBRoleService#getWorkspaceByWorkspaceName}. */
+  public InternalFuture<Workspace> getWorkspaceByWorkspaceName(
+      UserInfo currentLoginUserInfo, String workspaceName) {
+    if (uac == null) {
+      return InternalFuture.supplyAsync(
+          () -> mdbRoleService.getWorkspaceByWorkspaceName(currentLoginUserInfo, workspaceName),
+          executor);
+    }
+    // Without workspace name, the personal workspace of the user
+    final var name =
+        workspaceName == null || workspaceName.isEmpty()
+            ? currentLoginUserInfo.getVertaInfo().getUsername()
+            : workspaceName;
+    return FutureGrpc.ClientRequest(
+        uac.getWorkspaceService()
+            .getWorkspaceByName(GetWorkspaceByName.newBuilder().setName(name).build()),
+        executor);
+  }
+
+  /**
+   * Resources of the type the current user can access in the workspace, restricted to the ids if
+   * there are some. In the personal workspace of the user, the resources of their organizations are
+   * left out, leaving their own resources and the ones shared with them.
+   */
+  public InternalFuture<List<GetResourcesResponseItem>> getWorkspaceResourceItems(
+      UserInfo currentLoginUserInfo,
+      String workspaceName,
+      Set<String> resourceIds,
+      ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
+    if (uac != null
+        && !workspaceName.isEmpty()
+        && workspaceName.equals(currentLoginUserInfo.getVertaInfo().getUsername())) {
+      /*TODO: Remove organization resource filtering after UAC provide the endpoint which just
+      returns the accessible ids with collaborators entities not include the organization
+      entities*/
+      return getResourceItems(resourceIds, modelDBServiceResourceTypes)
+          .thenCombine(
+              listMyOrganizations(),
+              (resourceItems, organizations) -> {
+                final Set<String> orgWorkspaceIds =
+                    organizations.stream()
+                        .map(Organization::getWorkspaceId)
+                        .collect(Collectors.toSet());
+                return resourceItems.stream()
+                    .filter(
+                        item -> !orgWorkspaceIds.contains(String.valueOf(item.getWorkspaceId())))
+                    .collect(Collectors.toList());
+              },
+              executor);
+    }
+    return getWorkspaceByWorkspaceName(currentLoginUserInfo, workspaceName)
+        .thenCompose(
+            workspace -> getResourceItems(workspace, resourceIds, modelDBServiceResourceTypes),
+            executor);
+  }
+}
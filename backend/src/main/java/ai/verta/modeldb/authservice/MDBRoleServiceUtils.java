@@ -21,6 +21,7 @@ import ai.verta.modeldb.common.connections.UAC;
 import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.dto.WorkspaceDTO;
 import ai.verta.modeldb.utils.ModelDBUtils;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import ai.verta.uac.*;
 import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
 import com.google.rpc.Code;
@@ -35,8 +36,13 @@ import org.apache.logging.log4j.Logger;
 public class MDBRoleServiceUtils extends RoleServiceUtils implements MDBRoleService {
   private static final Logger LOGGER = LogManager.getLogger(MDBRoleServiceUtils.class);
 
-  public static MDBRoleService FromConfig(Config config, AuthService authService, UAC uac) {
-    if (!config.hasAuth()) return new PublicMDBRoleServiceUtils(authService);
+  public static MDBRoleService FromConfig(
+      Config config,
+      AuthService authService,
+      UAC uac,
+      VersioningContentCache versioningContentCache) {
+    if (!config.hasAuth())
+      return new PublicMDBRoleServiceUtils(authService, versioningContentCache);
     else return new MDBRoleServiceUtils(config, authService, uac);
   }
 
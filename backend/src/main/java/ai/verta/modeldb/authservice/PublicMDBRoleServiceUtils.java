@@ -22,6 +22,7 @@ import ai.verta.modeldb.versioning.BlobDAORdbImpl;
 import ai.verta.modeldb.versioning.CommitDAO;
 import ai.verta.modeldb.versioning.CommitDAORdbImpl;
 import ai.verta.modeldb.versioning.RepositoryDAORdbImpl;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import ai.verta.uac.*;
 import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
 import com.google.protobuf.GeneratedMessageV3;
@@ -33,7 +34,8 @@ public class PublicMDBRoleServiceUtils implements MDBRoleService {
   private ProjectDAO projectDAO;
   private DatasetDAO datasetDAO;
 
-  public PublicMDBRoleServiceUtils(AuthService authService) {
+  public PublicMDBRoleServiceUtils(
+      AuthService authService, VersioningContentCache versioningContentCache) {
     MetadataDAO metadataDAO = new MetadataDAORdbImpl();
     CommitDAO commitDAO = new CommitDAORdbImpl(authService, this);
     ExperimentDAO experimentDAO = new ExperimentDAORdbImpl(authService, this);
@@ -44,7 +46,7 @@ public class PublicMDBRoleServiceUtils implements MDBRoleService {
             this,
             new RepositoryDAORdbImpl(authService, this, commitDAO, metadataDAO),
             new CommitDAORdbImpl(authService, this),
-            new BlobDAORdbImpl(authService, this),
+            new BlobDAORdbImpl(authService, this, versioningContentCache),
             metadataDAO);
     this.projectDAO = new ProjectDAORdbImpl(authService, this, experimentDAO, experimentRunDAO);
     this.datasetDAO = new DatasetDAORdbImpl(authService, this);
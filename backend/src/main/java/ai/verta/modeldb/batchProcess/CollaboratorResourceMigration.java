@@ -17,6 +17,7 @@ import ai.verta.modeldb.entities.ProjectEntity;
 import ai.verta.modeldb.entities.versioning.RepositoryEntity;
 import ai.verta.modeldb.utils.ModelDBHibernateUtil;
 import ai.verta.modeldb.utils.ModelDBUtils;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import ai.verta.uac.CollaboratorPermissions;
 import ai.verta.uac.GetResourcesResponseItem;
 import ai.verta.uac.ResourceVisibility;
@@ -46,13 +47,14 @@ public class CollaboratorResourceMigration {
   private static MDBRoleService mdbRoleService;
   private static int paginationSize;
 
-  public static void execute() {
+  public static void execute(VersioningContentCache versioningContentCache) {
     var config = App.getInstance().mdbConfig;
     CollaboratorResourceMigration.paginationSize = 100;
     if (config.hasAuth()) {
       uac = UAC.FromConfig(config);
       authService = MDBAuthServiceUtils.FromConfig(config, uac);
-      mdbRoleService = MDBRoleServiceUtils.FromConfig(config, authService, uac);
+      mdbRoleService =
+          MDBRoleServiceUtils.FromConfig(config, authService, uac, versioningContentCache);
     } else {
       LOGGER.debug("AuthService Host & Port not found, OSS setup found");
       return;
@@ -0,0 +1,165 @@
+package ai.verta.modeldb.batchProcess;
+
+import ai.verta.modeldb.App;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jdbi.v3.core.Handle;
+
+/**
+ * Fills the generation of the commits created before it was stored. Repositories are migrated one
+ * at a time, each in its own transaction, so the migration can be stopped and resumed. The commits
+ * whose history isn't fully in their repository are left without generation.
+ */
+public class CommitGenerationMigration {
+  private CommitGenerationMigration() {}
+
+  private static final Logger LOGGER = LogManager.getLogger(CommitGenerationMigration.class);
+
+  public static void execute(int recordUpdateLimit) {
+    final var jdbi = App.getInstance().mdbConfig.getJdbi();
+    LOGGER.debug("Commit generation migration started");
+
+    var lastRepositoryId = 0L;
+    var migratedRepositories = 0;
+    while (true) {
+      final var fromRepositoryId = lastRepositoryId;
+      final List<Long> repositoryIds =
+          jdbi.withHandle(
+                  handle ->
+                      handle
+                          .createQuery(
+                              "select distinct rc.repository_id from repository_commit rc "
+                                  + "join commit c on c.commit_hash = rc.commit_hash "
+                                  + "where c.generation is null and rc.repository_id > :from_repository_id "
+                                  + "order by rc.repository_id")
+                          .bind("from_repository_id", fromRepositoryId)
+                          .setMaxRows(recordUpdateLimit)
+                          .mapTo(Long.class)
+                          .list())
+              .get();
+      if (repositoryIds.isEmpty()) {
+        break;
+      }
+
+      for (final var repositoryId : repositoryIds) {
+        jdbi.useHandle(
+                handle ->
+                    handle.useTransaction(handle1 -> migrateRepository(handle1, repositoryId)))
+            .get();
+      }
+      migratedRepositories += repositoryIds.size();
+      lastRepositoryId = repositoryIds.get(repositoryIds.size() - 1);
+      LOGGER.debug("Commit generation migrated for {} repositories", migratedRepositories);
+    }
+
+    LOGGER.debug("Commit generation migration finished");
+  }
+
+  private static void migrateRepository(Handle handle, long repositoryId) {
+    // Commits mapped to null have no generation yet
+    final Map<String, Long> knownGenerations = new HashMap<>();
+    handle
+        .createQuery(
+            "select c.commit_hash, c.generation from commit c "
+                + "join repository_commit rc on rc.commit_hash = c.commit_hash "
+                + "where rc.repository_id = :repository_id")
+        .bind("repository_id", repositoryId)
+        .map(
+            (rs, ctx) -> {
+              final var generation = rs.getLong("generation");
+              return new AbstractMap.SimpleEntry<>(
+                  rs.getString("commit_hash"), rs.wasNull() ? null : generation);
+            })
+        .forEach(entry -> knownGenerations.put(entry.getKey(), entry.getValue()));
+
+    final Map<String, List<String>> parentsByChild = new HashMap<>();
+    handle
+        .createQuery(
+            "select cp.child_hash, cp.parent_hash from commit_parent cp "
+                + "join repository_commit rc on rc.commit_hash = cp.child_hash "
+                + "where rc.repository_id = :repository_id")
+        .bind("repository_id", repositoryId)
+        .map(
+            (rs, ctx) ->
+                new AbstractMap.SimpleEntry<>(
+                    rs.getString("child_hash"), rs.getString("parent_hash")))
+        .forEach(
+            entry ->
+                parentsByChild
+                    .computeIfAbsent(entry.getKey(), unused -> new ArrayList<>())
+                    .add(entry.getValue()));
+
+    final Map<String, Long> generations = new HashMap<>();
+    for (final var entry : knownGenerations.entrySet()) {
+      if (entry.getValue() != null) {
+        generations.put(entry.getKey(), entry.getValue());
+      }
+    }
+    final var batch =
+        handle.prepareBatch(
+            "update commit set generation = :generation where commit_hash = :commit_hash");
+    for (final var entry : knownGenerations.entrySet()) {
+      if (entry.getValue() != null) {
+        continue;
+      }
+      final var generation =
+          computeGeneration(entry.getKey(), knownGenerations, parentsByChild, generations);
+      if (generation != null) {
+        batch.bind("generation", generation).bind("commit_hash", entry.getKey()).add();
+      }
+    }
+    if (batch.size() > 0) {
+      batch.execute();
+    }
+  }
+
+  /**
+   * Generation of the commit, computed from its parents down to the commits of known generation, or
+   * null if one of its ancestors isn't in the repository. The results are added to generations,
+   * null included, so each commit is only computed once.
+   */
+  private static Long computeGeneration(
+      String commitHash,
+      Map<String, Long> knownGenerations,
+      Map<String, List<String>> parentsByChild,
+      Map<String, Long> generations) {
+    // Iterative, the history being as deep as the number of commits
+    final Deque<String> stack = new ArrayDeque<>();
+    stack.push(commitHash);
+    while (!stack.isEmpty()) {
+      final var hash = stack.peek();
+      if (generations.containsKey(hash)) {
+        stack.pop();
+        continue;
+      }
+      Long generation = 1L;
+      final List<String> pendingParentHashes = new ArrayList<>();
+      for (final var parentHash : parentsByChild.getOrDefault(hash, Collections.emptyList())) {
+        if (!knownGenerations.containsKey(parentHash)
+            || (generations.containsKey(parentHash) && generations.get(parentHash) == null)) {
+          generation = null;
+          break;
+        } else if (!generations.containsKey(parentHash)) {
+          pendingParentHashes.add(parentHash);
+        } else {
+          generation = Math.max(generation, generations.get(parentHash) + 1L);
+        }
+      }
+      if (generation == null || pendingParentHashes.isEmpty()) {
+        generations.put(hash, generation);
+        stack.pop();
+      } else {
+        pendingParentHashes.forEach(stack::push);
+      }
+    }
+    return generations.get(commitHash);
+  }
+}
@@ -66,16 +66,17 @@ public class DatasetToRepositoryMigration {
   private static int recordUpdateLimit = 100;
   private static Role writeOnlyRole;
 
-  public static void execute(int recordUpdateLimit) {
+  public static void execute(int recordUpdateLimit, VersioningContentCache versioningContentCache) {
     DatasetToRepositoryMigration.recordUpdateLimit = recordUpdateLimit;
     var config = App.getInstance().mdbConfig;
     uac = UAC.FromConfig(config);
     authService = MDBAuthServiceUtils.FromConfig(config, uac);
-    mdbRoleService = MDBRoleServiceUtils.FromConfig(config, authService, uac);
+    mdbRoleService =
+        MDBRoleServiceUtils.FromConfig(config, authService, uac, versioningContentCache);
 
     commitDAO = new CommitDAORdbImpl(authService, mdbRoleService);
     repositoryDAO = new RepositoryDAORdbImpl(authService, mdbRoleService, commitDAO, metadataDAO);
-    blobDAO = new BlobDAORdbImpl(authService, mdbRoleService);
+    blobDAO = new BlobDAORdbImpl(authService, mdbRoleService, versioningContentCache);
     metadataDAO = new MetadataDAORdbImpl();
     experimentRunDAO =
         new ExperimentRunDAORdbImpl(
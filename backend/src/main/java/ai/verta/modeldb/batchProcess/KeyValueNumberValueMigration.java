@@ -0,0 +1,95 @@
+package ai.verta.modeldb.batchProcess;
+
+import ai.verta.modeldb.App;
+import ai.verta.modeldb.common.CommonUtils;
+import ai.verta.modeldb.utils.ModelDBUtils;
+import com.google.protobuf.Value;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fills the kv_number_value column of the experiment run metrics and hyperparameters logged before
+ * it was written. Liquibase only backfills it on PostgreSQL and MySQL, this migration parses the
+ * JSON values in the backend so it works on every database. Rows are read by pages of ascending id,
+ * each page updated in its own transaction, so the migration can be stopped and resumed.
+ */
+public class KeyValueNumberValueMigration {
+  private KeyValueNumberValueMigration() {}
+
+  private static final Logger LOGGER = LogManager.getLogger(KeyValueNumberValueMigration.class);
+  private static final List<String> FIELD_TYPES = Arrays.asList("metrics", "hyperparameters");
+
+  public static void execute(int recordUpdateLimit) {
+    final var jdbi = App.getInstance().mdbConfig.getJdbi();
+    LOGGER.debug("Key value number value migration started");
+
+    var lastId = 0L;
+    var migratedRows = 0L;
+    while (true) {
+      final var fromId = lastId;
+      final List<AbstractMap.SimpleEntry<Long, String>> rows =
+          jdbi.withHandle(
+                  handle ->
+                      handle
+                          .createQuery(
+                              "select id, kv_value from keyvalue "
+                                  + "where entity_name = :entity_name and field_type in (<field_types>) "
+                                  + "and kv_number_value is null and id > :from_id order by id")
+                          .bind("entity_name", "ExperimentRunEntity")
+                          .bindList("field_types", FIELD_TYPES)
+                          .bind("from_id", fromId)
+                          .setMaxRows(recordUpdateLimit)
+                          .map(
+                              (rs, ctx) ->
+                                  new AbstractMap.SimpleEntry<>(
+                                      rs.getLong("id"), rs.getString("kv_value")))
+                          .list())
+              .get();
+      if (rows.isEmpty()) {
+        break;
+      }
+
+      jdbi.useHandle(
+              handle ->
+                  handle.useTransaction(
+                      handle1 -> {
+                        final var batch =
+                            handle1.prepareBatch(
+                                "update keyvalue set kv_number_value = :number_value where id = :id");
+                        for (final var row : rows) {
+                          final var numberValue = getNumberValueOrNull(row.getValue());
+                          if (numberValue != null) {
+                            batch.bind("number_value", numberValue).bind("id", row.getKey()).add();
+                          }
+                        }
+                        if (batch.size() > 0) {
+                          batch.execute();
+                        }
+                      }))
+          .get();
+      migratedRows += rows.size();
+      lastId = rows.get(rows.size() - 1).getKey();
+      LOGGER.debug("Key value number value migrated for {} rows", migratedRows);
+    }
+
+    LOGGER.debug("Key value number value migration finished");
+  }
+
+  private static Double getNumberValueOrNull(String json) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      final var value =
+          (Value.Builder) CommonUtils.getProtoObjectFromString(json, Value.newBuilder());
+      return ModelDBUtils.getNumberValueOrNull(value.build());
+    } catch (Exception e) {
+      // Values that aren't valid JSON are compared as text by the predicates
+      LOGGER.debug("Key value not parsed: {}", e.getMessage());
+      return null;
+    }
+  }
+}
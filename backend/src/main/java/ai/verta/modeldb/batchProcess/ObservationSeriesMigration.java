@@ -0,0 +1,146 @@
+package ai.verta.modeldb.batchProcess;
+
+import ai.verta.modeldb.App;
+import ai.verta.modeldb.common.CommonUtils;
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesCodec.Series;
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesStore;
+import com.google.protobuf.Value;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jdbi.v3.core.Handle;
+
+/**
+ * Packs the numeric observations stored as keyvalue rows in the observation_series table, and marks
+ * their observation rows as packed. The keyvalue rows are kept, predicates on observations only
+ * reading them. Runs are migrated one at a time, each in its own transaction, so the migration can
+ * be stopped and resumed.
+ */
+public class ObservationSeriesMigration {
+  private ObservationSeriesMigration() {}
+
+  private static final Logger LOGGER = LogManager.getLogger(ObservationSeriesMigration.class);
+  private static final int UPDATE_CHUNK_SIZE = 1000;
+
+  private static class LegacyObservation {
+    private final long id;
+    private final String key;
+    private final String value;
+    private final int valueType;
+    private final long epoch;
+    private final long timestamp;
+
+    private LegacyObservation(
+        long id, String key, String value, int valueType, long epoch, long timestamp) {
+      this.id = id;
+      this.key = key;
+      this.value = value;
+      this.valueType = valueType;
+      this.epoch = epoch;
+      this.timestamp = timestamp;
+    }
+  }
+
+  public static void execute(int recordUpdateLimit) {
+    final var mdbConfig = App.getInstance().mdbConfig;
+    final var jdbi = mdbConfig.getJdbi();
+    final var seriesStore = new ObservationSeriesStore(mdbConfig.observationStore.maxBlockSize);
+    LOGGER.debug("Observation series migration started");
+
+    var lastRunId = "";
+    var migratedRuns = 0;
+    while (true) {
+      final var fromRunId = lastRunId;
+      final List<String> runIds =
+          jdbi.withHandle(
+                  handle ->
+                      handle
+                          .createQuery(
+                              "select distinct experiment_run_id from observation "
+                                  + "where entity_name = :entity_name and packed = :packed "
+                                  + "and experiment_run_id > :from_run_id order by experiment_run_id")
+                          .bind("entity_name", "ExperimentRunEntity")
+                          .bind("packed", false)
+                          .bind("from_run_id", fromRunId)
+                          .setMaxRows(recordUpdateLimit)
+                          .mapTo(String.class)
+                          .list())
+              .get();
+      if (runIds.isEmpty()) {
+        break;
+      }
+
+      for (final var runId : runIds) {
+        jdbi.useHandle(
+                handle -> handle.useTransaction(handle1 -> migrateRun(handle1, seriesStore, runId)))
+            .get();
+      }
+      migratedRuns += runIds.size();
+      lastRunId = runIds.get(runIds.size() - 1);
+      LOGGER.debug("Observation series migrated for {} runs", migratedRuns);
+    }
+
+    LOGGER.debug("Observation series migration finished");
+  }
+
+  private static void migrateRun(Handle handle, ObservationSeriesStore seriesStore, String runId) {
+    final var rows =
+        handle
+            .createQuery(
+                "select o.id, k.kv_key, k.kv_value, k.value_type, o.epoch_number, o.timestamp "
+                    + "from observation as o join keyvalue as k on o.keyvaluemapping_id = k.id "
+                    + "where o.experiment_run_id = :run_id and o.entity_name = :entity_name "
+                    + "and o.packed = :packed and k.entity_name IS NULL order by o.id")
+            .bind("run_id", runId)
+            .bind("entity_name", "ExperimentRunEntity")
+            .bind("packed", false)
+            .map(
+                (rs, ctx) ->
+                    new LegacyObservation(
+                        rs.getLong("id"),
+                        rs.getString("kv_key"),
+                        rs.getString("kv_value"),
+                        rs.getInt("value_type"),
+                        rs.getLong("epoch_number"),
+                        rs.getLong("timestamp")))
+            .list();
+
+    final Map<Map.Entry<String, Integer>, Series> seriesByKey = new LinkedHashMap<>();
+    final List<Long> observationIds = new ArrayList<>();
+    for (final var row : rows) {
+      final var value =
+          (Value.Builder) CommonUtils.getProtoObjectFromString(row.value, Value.newBuilder());
+      if (value.getKindCase() != Value.KindCase.NUMBER_VALUE) {
+        continue;
+      }
+      seriesByKey
+          .computeIfAbsent(
+              new AbstractMap.SimpleEntry<>(row.key, row.valueType), unused -> new Series())
+          .add(row.epoch, row.timestamp, value.getNumberValue());
+      observationIds.add(row.id);
+    }
+    if (observationIds.isEmpty()) {
+      return;
+    }
+
+    for (final var entry : seriesByKey.entrySet()) {
+      seriesStore.append(
+          handle, runId, entry.getKey().getKey(), entry.getKey().getValue(), entry.getValue());
+    }
+
+    for (var from = 0; from < observationIds.size(); from += UPDATE_CHUNK_SIZE) {
+      handle
+          .createUpdate("update observation set packed = :packed where id in (<ids>)")
+          .bind("packed", true)
+          .bindList(
+              "ids",
+              observationIds.subList(
+                  from, Math.min(from + UPDATE_CHUNK_SIZE, observationIds.size())))
+          .execute();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import ai.verta.modeldb.entities.ExperimentRunEntity;
 import ai.verta.modeldb.entities.versioning.RepositoryEntity;
 import ai.verta.modeldb.utils.ModelDBHibernateUtil;
 import ai.verta.modeldb.utils.ModelDBUtils;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import ai.verta.uac.UserInfo;
 import java.util.HashSet;
 import java.util.List;
@@ -36,12 +37,13 @@ public class OwnerRoleBindingUtils {
   private static UAC uac;
   private static MDBRoleService mdbRoleService;
 
-  public static void execute() {
+  public static void execute(VersioningContentCache versioningContentCache) {
     var config = App.getInstance().mdbConfig;
     if (config.hasAuth()) {
       uac = UAC.FromConfig(config);
       authService = MDBAuthServiceUtils.FromConfig(config, uac);
-      mdbRoleService = MDBRoleServiceUtils.FromConfig(config, authService, uac);
+      mdbRoleService =
+          MDBRoleServiceUtils.FromConfig(config, authService, uac, versioningContentCache);
     } else {
       LOGGER.debug("AuthService Host & Port not found");
       return;
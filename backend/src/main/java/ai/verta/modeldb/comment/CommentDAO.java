@@ -3,6 +3,7 @@ package ai.verta.modeldb.comment;
 import ai.verta.modeldb.Comment;
 import ai.verta.uac.UserInfo;
 import java.util.List;
+import java.util.Map;
 
 public interface CommentDAO {
 
@@ -35,6 +36,16 @@ public interface CommentDAO {
    */
   List<Comment> getComments(String entityType, String entityId);
 
+  /**
+   * Get the comments of several entities in a single query.
+   *
+   * @param String entityType --> like project, experiment, experimentRun etc.
+   * @param List<String> entityIds --> like project.id, experiment.id, experimentRun.id etc.
+   * @return Map<String, List<Comment>> commentsMap --> entityId to its comments, the entities
+   *     without comments are not in the map
+   */
+  Map<String, List<Comment>> getCommentsMap(String entityType, List<String> entityIds);
+
   /**
    * Delete the selected comment from EntityComment.
    *
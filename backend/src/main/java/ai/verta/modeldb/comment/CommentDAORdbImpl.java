@@ -12,7 +12,9 @@ import ai.verta.modeldb.utils.ModelDBUtils;
 import ai.verta.modeldb.utils.RdbmsUtils;
 import ai.verta.uac.UserInfo;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +35,17 @@ public class CommentDAORdbImpl implements CommentDAO {
           .append(ModelDBConstants.DATE_TIME)
           .append(" ASC")
           .toString();
+  private static final String GET_ENTITIES_COMMENTS_QUERY =
+      new StringBuilder("Select c.commentEntity.")
+          .append(ModelDBConstants.ENTITY_ID)
+          .append(", c From UserCommentEntity c where c.commentEntity.")
+          .append(ModelDBConstants.ENTITY_ID)
+          .append(" IN (:entityIds) AND c.commentEntity.")
+          .append(ModelDBConstants.ENTITY_NAME)
+          .append(" =:entityName order by c.")
+          .append(ModelDBConstants.DATE_TIME)
+          .append(" ASC")
+          .toString();
   private static final String ADD_ENTITY_COMMENT_QUERY =
       new StringBuilder("From CommentEntity c where c.")
           .append(ModelDBConstants.ENTITY_ID)
@@ -128,6 +141,35 @@ public class CommentDAORdbImpl implements CommentDAO {
     }
   }
 
+  @Override
+  public Map<String, List<Comment>> getCommentsMap(String entityType, List<String> entityIds) {
+    Map<String, List<Comment>> commentsMap = new HashMap<>();
+    if (entityIds.isEmpty()) {
+      return commentsMap;
+    }
+    try (var session = modelDBHibernateUtil.getSessionFactory().openSession()) {
+      var query = session.createQuery(GET_ENTITIES_COMMENTS_QUERY);
+      query.setParameterList("entityIds", entityIds);
+      query.setParameter("entityName", entityType);
+      List<Object[]> rows = query.list();
+
+      for (Object[] row : rows) {
+        var userCommentEntity = (UserCommentEntity) row[1];
+        commentsMap
+            .computeIfAbsent((String) row[0], entityId -> new ArrayList<>())
+            .add(userCommentEntity.getProtoObject());
+      }
+      LOGGER.debug("Got {} comments of {} entities", rows.size(), commentsMap.size());
+      return commentsMap;
+    } catch (Exception ex) {
+      if (ModelDBUtils.needToRetry(ex)) {
+        return getCommentsMap(entityType, entityIds);
+      } else {
+        throw ex;
+      }
+    }
+  }
+
   @Override
   public Boolean deleteComment(
       String entityType, String entityId, String commentId, UserInfo userInfo) {
@@ -0,0 +1,17 @@
+package ai.verta.modeldb.config;
+
+import ai.verta.modeldb.common.config.InvalidConfigException;
+
+public class LogStreamConfig {
+  // Entries buffered by a stream before they are flushed to the database
+  public int maxBatchSize = 1000;
+  // Max time in ms an entry can stay buffered before it is flushed to the database
+  public int flushInterval = 1000;
+
+  public void Validate(String base) throws InvalidConfigException {
+    if (maxBatchSize <= 0)
+      throw new InvalidConfigException(base + ".maxBatchSize", "should be greater than 0");
+    if (flushInterval <= 0)
+      throw new InvalidConfigException(base + ".flushInterval", "should be greater than 0");
+  }
+}
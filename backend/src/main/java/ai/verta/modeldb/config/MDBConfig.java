@@ -13,8 +13,12 @@ public class MDBConfig extends Config {
   public String starterProject;
   public MDBArtifactStoreConfig artifactStoreConfig;
   public TelemetryConfig telemetry;
+  public LogStreamConfig logStream;
+  public ObservationStoreConfig observationStore;
   public TrialConfig trial;
   public List<MigrationConfig> migrations;
+  public long runProjectIndexSize = 100000;
+  public long versioningContentCacheSize = 268435456;
   protected FutureJdbi jdbi;
 
   public static MDBConfig getInstance() throws InternalErrorException {
@@ -39,10 +43,24 @@ public class MDBConfig extends Config {
     if (telemetry == null) telemetry = new TelemetryConfig();
     telemetry.Validate("telemetry");
 
+    if (logStream == null) logStream = new LogStreamConfig();
+    logStream.Validate("logStream");
+
+    if (observationStore == null) observationStore = new ObservationStoreConfig();
+    observationStore.Validate("observationStore");
+
     if (trial != null) {
       trial.Validate("trial");
     }
 
+    if (runProjectIndexSize < 0) {
+      throw new InvalidConfigException("runProjectIndexSize", "should not be negative");
+    }
+
+    if (versioningContentCacheSize < 0) {
+      throw new InvalidConfigException("versioningContentCacheSize", "should not be negative");
+    }
+
     if (migrations != null) {
       for (MigrationConfig migrationConfig : migrations) {
         migrationConfig.Validate("migration");
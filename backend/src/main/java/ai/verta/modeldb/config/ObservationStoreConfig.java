@@ -0,0 +1,13 @@
+package ai.verta.modeldb.config;
+
+import ai.verta.modeldb.common.config.InvalidConfigException;
+
+public class ObservationStoreConfig {
+  // Max number of points packed in a single observation_series block
+  public int maxBlockSize = 1024;
+
+  public void Validate(String base) throws InvalidConfigException {
+    if (maxBlockSize <= 0)
+      throw new InvalidConfigException(base + ".maxBlockSize", "should be greater than 0");
+  }
+}
@@ -41,6 +41,12 @@ public class TestConfig extends MDBConfig {
       throw new InvalidConfigException("artifactStoreConfig", MISSING_REQUIRED);
     artifactStoreConfig.Validate("artifactStoreConfig");
 
+    if (logStream == null) logStream = new LogStreamConfig();
+    logStream.Validate("logStream");
+
+    if (observationStore == null) observationStore = new ObservationStoreConfig();
+    observationStore.Validate("observationStore");
+
     if (trial != null) {
       trial.Validate("trial");
     }
@@ -10,11 +10,15 @@ import ai.verta.modeldb.*;
 import ai.verta.modeldb.Dataset;
 import ai.verta.modeldb.DatasetServiceGrpc.DatasetServiceImplBase;
 import ai.verta.modeldb.GetAllDatasets.Response;
-import ai.verta.modeldb.authservice.MDBRoleService;
+import ai.verta.modeldb.authservice.FutureMDBRoleService;
 import ai.verta.modeldb.common.CommonUtils;
 import ai.verta.modeldb.common.authservice.AuthService;
+import ai.verta.modeldb.common.authservice.FutureAuthService;
 import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.common.exceptions.NotFoundException;
+import ai.verta.modeldb.common.futures.FutureGrpc;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.modeldb.dto.DatasetPaginationDTO;
 import ai.verta.modeldb.entities.versioning.RepositoryEnums;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import ai.verta.modeldb.experiment.ExperimentDAO;
@@ -29,19 +33,21 @@ import ai.verta.modeldb.versioning.DeleteRepositoryRequest;
 import ai.verta.modeldb.versioning.ListCommitsRequest;
 import ai.verta.modeldb.versioning.RepositoryDAO;
 import ai.verta.modeldb.versioning.RepositoryIdentification;
-import ai.verta.uac.GetResourcesResponseItem;
 import ai.verta.uac.ModelDBActionEnum.ModelDBServiceActions;
 import ai.verta.uac.ResourceVisibility;
+import ai.verta.uac.UserInfo;
 import com.google.protobuf.ListValue;
 import com.google.protobuf.Value;
 import com.google.rpc.Code;
 import io.grpc.stub.StreamObserver;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,20 +58,26 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
   private final CommitDAO commitDAO;
   private final MetadataDAO metadataDAO;
   private final AuthService authService;
-  private final MDBRoleService mdbRoleService;
+  private final FutureAuthService futureAuthService;
+  private final FutureMDBRoleService futureRoleService;
   private final ProjectDAO projectDAO;
   private final ExperimentDAO experimentDAO;
   private final ExperimentRunDAO experimentRunDAO;
+  private final Executor executor;
 
-  public DatasetServiceImpl(ServiceSet serviceSet, DAOSet daoSet) {
+  public DatasetServiceImpl(ServiceSet serviceSet, DAOSet daoSet, Executor executor) {
     this.authService = serviceSet.authService;
-    this.mdbRoleService = serviceSet.mdbRoleService;
+    this.futureAuthService =
+        new FutureAuthService(serviceSet.uac, serviceSet.authService, executor);
+    this.futureRoleService =
+        new FutureMDBRoleService(serviceSet.uac, serviceSet.mdbRoleService, executor);
     this.projectDAO = daoSet.projectDAO;
     this.experimentDAO = daoSet.experimentDAO;
     this.experimentRunDAO = daoSet.experimentRunDAO;
     this.repositoryDAO = daoSet.repositoryDAO;
     this.commitDAO = daoSet.commitDAO;
     this.metadataDAO = daoSet.metadataDAO;
+    this.executor = executor;
   }
 
   /**
@@ -77,23 +89,35 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
   public void createDataset(
       CreateDataset request, StreamObserver<CreateDataset.Response> responseObserver) {
     try {
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, null, ModelDBServiceActions.CREATE);
-
-      var dataset = getDatasetFromRequest(request);
-      var userInfo = authService.getCurrentLoginUserInfo();
-      var createdDataset =
-          repositoryDAO.createOrUpdateDataset(dataset, request.getWorkspaceName(), true, userInfo);
-
-      var response = CreateDataset.Response.newBuilder().setDataset(createdDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET, null, ModelDBServiceActions.CREATE)
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    var dataset = getDatasetFromRequest(request);
+                    var createdDataset =
+                        createOrUpdateDataset(dataset, request.getWorkspaceName(), true, userInfo);
+                    return CreateDataset.Response.newBuilder().setDataset(createdDataset).build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, CreateDataset.Response.getDefaultInstance());
     }
   }
 
+  private Dataset createOrUpdateDataset(
+      Dataset dataset, String workspaceName, boolean create, UserInfo userInfo) {
+    try {
+      return repositoryDAO.createOrUpdateDataset(dataset, workspaceName, create, userInfo);
+    } catch (NoSuchAlgorithmException e) {
+      throw new ModelDBException(e);
+    }
+  }
+
   private Dataset getDatasetFromRequest(CreateDataset request) {
     /*
      * Generate a random UUID for id
@@ -132,9 +156,6 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
   public void getAllDatasets(
       GetAllDatasets request, StreamObserver<GetAllDatasets.Response> responseObserver) {
     try {
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-
       FindDatasets.Builder findDatasets =
           FindDatasets.newBuilder()
               .setPageNumber(request.getPageNumber())
@@ -150,19 +171,23 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
         findDatasets.setSortKey(ModelDBConstants.DATE_CREATED);
       }
 
-      var datasetPaginationDTO =
-          repositoryDAO.findDatasets(
-              metadataDAO, findDatasets.build(), userInfo, ResourceVisibility.PRIVATE);
-
-      LOGGER.debug(
-          ModelDBMessages.ACCESSIBLE_DATASET_IN_SERVICE, datasetPaginationDTO.getDatasets().size());
-      final var response =
-          Response.newBuilder()
-              .addAllDatasets(datasetPaginationDTO.getDatasets())
-              .setTotalRecords(datasetPaginationDTO.getTotalRecords())
-              .build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      // Get the user info from the Context
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(userInfo -> findDatasets(findDatasets.build(), userInfo), executor)
+              .thenApply(
+                  datasetPaginationDTO -> {
+                    LOGGER.debug(
+                        ModelDBMessages.ACCESSIBLE_DATASET_IN_SERVICE,
+                        datasetPaginationDTO.getDatasets().size());
+                    return Response.newBuilder()
+                        .addAllDatasets(datasetPaginationDTO.getDatasets())
+                        .setTotalRecords(datasetPaginationDTO.getTotalRecords())
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, GetAllDatasets.Response.getDefaultInstance());
@@ -179,12 +204,16 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
         throw new InvalidArgumentException(ModelDBMessages.DATASET_ID_NOT_FOUND_IN_REQUEST);
       }
 
-      GetResourcesResponseItem entityResource =
-          mdbRoleService.getEntityResource(request.getId(), ModelDBServiceResourceTypes.DATASET);
-      deleteRepositoriesByDatasetIds(Collections.singletonList(request.getId()));
-      var response = DeleteDataset.Response.newBuilder().setStatus(true).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .getEntityResource(request.getId(), ModelDBServiceResourceTypes.DATASET)
+              .thenApply(
+                  entityResource -> {
+                    deleteRepositoriesByDatasetIds(Collections.singletonList(request.getId()));
+                    return DeleteDataset.Response.newBuilder().setStatus(true).build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, DeleteDataset.Response.getDefaultInstance());
@@ -205,12 +234,13 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.READ);
-
-      final var response = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.READ)
+              .thenApply(
+                  unused -> repositoryDAO.getDatasetById(metadataDAO, request.getId()), executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, GetDatasetById.Response.getDefaultInstance());
@@ -222,16 +252,18 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       FindDatasets request, StreamObserver<FindDatasets.Response> responseObserver) {
     try {
       // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-      var datasetPaginationDTO =
-          repositoryDAO.findDatasets(metadataDAO, request, userInfo, ResourceVisibility.PRIVATE);
-      final var response =
-          FindDatasets.Response.newBuilder()
-              .addAllDatasets(datasetPaginationDTO.getDatasets())
-              .setTotalRecords(datasetPaginationDTO.getTotalRecords())
-              .build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(userInfo -> findDatasets(request, userInfo), executor)
+              .thenApply(
+                  datasetPaginationDTO ->
+                      FindDatasets.Response.newBuilder()
+                          .addAllDatasets(datasetPaginationDTO.getDatasets())
+                          .setTotalRecords(datasetPaginationDTO.getTotalRecords())
+                          .build(),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, FindDatasets.Response.getDefaultInstance());
@@ -248,54 +280,86 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
+      final var futureResponse =
+          futureAuthService
+              .getCurrentLoginUserInfo()
+              .thenCompose(userInfo -> getDatasetByName(request, userInfo), executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
-      FindDatasets.Builder findDatasets =
-          FindDatasets.newBuilder()
-              .addPredicates(
-                  KeyValueQuery.newBuilder()
-                      .setKey(ModelDBConstants.NAME)
-                      .setValue(Value.newBuilder().setStringValue(request.getName()).build())
-                      .setOperator(OperatorEnum.Operator.EQ)
-                      .setValueType(ValueTypeEnum.ValueType.STRING)
-                      .build())
-              .setWorkspaceName(
-                  request.getWorkspaceName().isEmpty()
-                      ? authService.getUsernameFromUserInfo(userInfo)
-                      : request.getWorkspaceName());
-
-      var datasetPaginationDTO =
-          repositoryDAO.findDatasets(
-              metadataDAO, findDatasets.build(), userInfo, ResourceVisibility.PRIVATE);
-
-      if (datasetPaginationDTO.getTotalRecords() == 0) {
-        throw new NotFoundException("Dataset not found");
-      }
-      Dataset selfOwnerdataset = null;
-      List<Dataset> sharedDatasets = new ArrayList<>();
-      Set<String> datasetIdSet = new HashSet<>();
-
-      for (Dataset dataset : datasetPaginationDTO.getDatasets()) {
-        if (userInfo == null
-            || dataset.getOwner().equals(authService.getVertaIdFromUserInfo(userInfo))) {
-          selfOwnerdataset = dataset;
-        } else {
-          sharedDatasets.add(dataset);
-        }
-        datasetIdSet.add(dataset.getId());
-      }
+    } catch (Exception e) {
+      CommonUtils.observeError(responseObserver, e, GetDatasetByName.Response.getDefaultInstance());
+    }
+  }
+
+  /**
+   * Datasets matching the request among the ones of UAC the user can access in its workspace, which
+   * are fetched before the database is queried.
+   */
+  private InternalFuture<DatasetPaginationDTO> findDatasets(
+      FindDatasets findDatasets, UserInfo userInfo) {
+    return futureRoleService
+        .getWorkspaceResourceItems(
+            userInfo,
+            findDatasets.getWorkspaceName(),
+            new HashSet<>(findDatasets.getDatasetIdsList()),
+            ModelDBServiceResourceTypes.DATASET)
+        .thenApply(
+            accessibleDatasetItems ->
+                repositoryDAO.findDatasets(
+                    metadataDAO,
+                    findDatasets,
+                    userInfo,
+                    ResourceVisibility.PRIVATE,
+                    accessibleDatasetItems),
+            executor);
+  }
 
-      var responseBuilder = GetDatasetByName.Response.newBuilder();
-      if (selfOwnerdataset != null) {
-        responseBuilder.setDatasetByUser(selfOwnerdataset);
+  private InternalFuture<GetDatasetByName.Response> getDatasetByName(
+      GetDatasetByName request, UserInfo userInfo) {
+    FindDatasets.Builder findDatasets =
+        FindDatasets.newBuilder()
+            .addPredicates(
+                KeyValueQuery.newBuilder()
+                    .setKey(ModelDBConstants.NAME)
+                    .setValue(Value.newBuilder().setStringValue(request.getName()).build())
+                    .setOperator(OperatorEnum.Operator.EQ)
+                    .setValueType(ValueTypeEnum.ValueType.STRING)
+                    .build())
+            .setWorkspaceName(
+                request.getWorkspaceName().isEmpty()
+                    ? authService.getUsernameFromUserInfo(userInfo)
+                    : request.getWorkspaceName());
+
+    return findDatasets(findDatasets.build(), userInfo)
+        .thenApply(
+            datasetPaginationDTO -> getDatasetByName(datasetPaginationDTO, userInfo), executor);
+  }
+
+  private GetDatasetByName.Response getDatasetByName(
+      DatasetPaginationDTO datasetPaginationDTO, UserInfo userInfo) {
+    if (datasetPaginationDTO.getTotalRecords() == 0) {
+      throw new NotFoundException("Dataset not found");
+    }
+    Dataset selfOwnerdataset = null;
+    List<Dataset> sharedDatasets = new ArrayList<>();
+    Set<String> datasetIdSet = new HashSet<>();
+
+    for (Dataset dataset : datasetPaginationDTO.getDatasets()) {
+      if (userInfo == null
+          || dataset.getOwner().equals(authService.getVertaIdFromUserInfo(userInfo))) {
+        selfOwnerdataset = dataset;
+      } else {
+        sharedDatasets.add(dataset);
       }
-      responseBuilder.addAllSharedDatasets(sharedDatasets);
-      responseObserver.onNext(responseBuilder.build());
-      responseObserver.onCompleted();
+      datasetIdSet.add(dataset.getId());
+    }
 
-    } catch (Exception e) {
-      CommonUtils.observeError(responseObserver, e, GetDatasetByName.Response.getDefaultInstance());
+    var responseBuilder = GetDatasetByName.Response.newBuilder();
+    if (selfOwnerdataset != null) {
+      responseBuilder.setDatasetByUser(selfOwnerdataset);
     }
+    responseBuilder.addAllSharedDatasets(sharedDatasets);
+    return responseBuilder.build();
   }
 
   @Override
@@ -317,18 +381,31 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var getDatasetResponse = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      var updatedDataset =
-          getDatasetResponse.getDataset().toBuilder().setName(request.getName()).build();
-      var userInfo = authService.getCurrentLoginUserInfo();
-      updatedDataset = repositoryDAO.createOrUpdateDataset(updatedDataset, null, false, userInfo);
-
-      var response = UpdateDatasetName.Response.newBuilder().setDataset(updatedDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var finalRequest = request;
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  finalRequest.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    var getDatasetResponse =
+                        repositoryDAO.getDatasetById(metadataDAO, finalRequest.getId());
+                    var updatedDataset =
+                        getDatasetResponse
+                            .getDataset()
+                            .toBuilder()
+                            .setName(finalRequest.getName())
+                            .build();
+                    updatedDataset = createOrUpdateDataset(updatedDataset, null, false, userInfo);
+                    return UpdateDatasetName.Response.newBuilder()
+                        .setDataset(updatedDataset)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -348,22 +425,30 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var getDatasetResponse = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      var updatedDataset =
-          getDatasetResponse
-              .getDataset()
-              .toBuilder()
-              .setDescription(request.getDescription())
-              .build();
-      var userInfo = authService.getCurrentLoginUserInfo();
-      updatedDataset = repositoryDAO.createOrUpdateDataset(updatedDataset, null, false, userInfo);
-      var response =
-          UpdateDatasetDescription.Response.newBuilder().setDataset(updatedDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    var getDatasetResponse =
+                        repositoryDAO.getDatasetById(metadataDAO, request.getId());
+                    var updatedDataset =
+                        getDatasetResponse
+                            .getDataset()
+                            .toBuilder()
+                            .setDescription(request.getDescription())
+                            .build();
+                    updatedDataset = createOrUpdateDataset(updatedDataset, null, false, userInfo);
+                    return UpdateDatasetDescription.Response.newBuilder()
+                        .setDataset(updatedDataset)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -390,16 +475,17 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var response =
-          repositoryDAO.addDatasetTags(
-              metadataDAO,
-              request.getId(),
-              ModelDBUtils.checkEntityTagsLength(request.getTagsList()));
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var tags = ModelDBUtils.checkEntityTagsLength(request.getTagsList());
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenApply(
+                  unused -> repositoryDAO.addDatasetTags(metadataDAO, request.getId(), tags),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, AddDatasetTags.Response.getDefaultInstance());
@@ -437,15 +523,26 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var updatedDataset =
-          repositoryDAO.deleteDatasetTags(
-              metadataDAO, request.getId(), request.getTagsList(), request.getDeleteAll());
-      var response = DeleteDatasetTags.Response.newBuilder().setDataset(updatedDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenApply(
+                  unused -> {
+                    var updatedDataset =
+                        repositoryDAO.deleteDatasetTags(
+                            metadataDAO,
+                            request.getId(),
+                            request.getTagsList(),
+                            request.getDeleteAll());
+                    return DeleteDatasetTags.Response.newBuilder()
+                        .setDataset(updatedDataset)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -473,21 +570,30 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var getDatasetResponse = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      var updatedDataset =
-          getDatasetResponse
-              .getDataset()
-              .toBuilder()
-              .addAllAttributes(request.getAttributesList())
-              .build();
-      var userInfo = authService.getCurrentLoginUserInfo();
-      updatedDataset = repositoryDAO.createOrUpdateDataset(updatedDataset, null, false, userInfo);
-      var response = AddDatasetAttributes.Response.newBuilder().setDataset(updatedDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    var getDatasetResponse =
+                        repositoryDAO.getDatasetById(metadataDAO, request.getId());
+                    var updatedDataset =
+                        getDatasetResponse
+                            .getDataset()
+                            .toBuilder()
+                            .addAllAttributes(request.getAttributesList())
+                            .build();
+                    updatedDataset = createOrUpdateDataset(updatedDataset, null, false, userInfo);
+                    return AddDatasetAttributes.Response.newBuilder()
+                        .setDataset(updatedDataset)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -515,18 +621,30 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      var getDatasetResponse = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      var updatedDataset =
-          getDatasetResponse.getDataset().toBuilder().addAttributes(request.getAttribute()).build();
-      var userInfo = authService.getCurrentLoginUserInfo();
-      updatedDataset = repositoryDAO.createOrUpdateDataset(updatedDataset, null, false, userInfo);
-      var response =
-          UpdateDatasetAttributes.Response.newBuilder().setDataset(updatedDataset).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(
+                  userInfo -> {
+                    var getDatasetResponse =
+                        repositoryDAO.getDatasetById(metadataDAO, request.getId());
+                    var updatedDataset =
+                        getDatasetResponse
+                            .getDataset()
+                            .toBuilder()
+                            .addAttributes(request.getAttribute())
+                            .build();
+                    updatedDataset = createOrUpdateDataset(updatedDataset, null, false, userInfo);
+                    return UpdateDatasetAttributes.Response.newBuilder()
+                        .setDataset(updatedDataset)
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -557,22 +675,28 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getId(), ModelDBServiceActions.UPDATE);
-
-      repositoryDAO.deleteRepositoryAttributes(
-          Long.parseLong(request.getId()),
-          request.getAttributeKeysList(),
-          request.getDeleteAll(),
-          false,
-          RepositoryEnums.RepositoryTypeEnum.DATASET);
-      var getDatasetResponse = repositoryDAO.getDatasetById(metadataDAO, request.getId());
-      var response =
-          DeleteDatasetAttributes.Response.newBuilder()
-              .setDataset(getDatasetResponse.getDataset())
-              .build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getId(),
+                  ModelDBServiceActions.UPDATE)
+              .thenApply(
+                  unused -> {
+                    repositoryDAO.deleteRepositoryAttributes(
+                        Long.parseLong(request.getId()),
+                        request.getAttributeKeysList(),
+                        request.getDeleteAll(),
+                        false,
+                        RepositoryEnums.RepositoryTypeEnum.DATASET);
+                    var getDatasetResponse =
+                        repositoryDAO.getDatasetById(metadataDAO, request.getId());
+                    return DeleteDatasetAttributes.Response.newBuilder()
+                        .setDataset(getDatasetResponse.getDataset())
+                        .build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(
@@ -589,16 +713,17 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
         throw new InvalidArgumentException(ModelDBMessages.DATASET_ID_NOT_FOUND_IN_REQUEST);
       }
 
-      List<GetResourcesResponseItem> responseItems =
-          mdbRoleService.getResourceItems(
-              null,
-              new HashSet<>(request.getIdsList()),
-              ModelDBServiceResourceTypes.DATASET,
-              false);
-      deleteRepositoriesByDatasetIds(request.getIdsList());
-      var response = DeleteDatasets.Response.newBuilder().setStatus(true).build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
+      final var futureResponse =
+          futureRoleService
+              .getResourceItems(
+                  new HashSet<>(request.getIdsList()), ModelDBServiceResourceTypes.DATASET)
+              .thenApply(
+                  responseItems -> {
+                    deleteRepositoriesByDatasetIds(request.getIdsList());
+                    return DeleteDatasets.Response.newBuilder().setStatus(true).build();
+                  },
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
     } catch (Exception e) {
       CommonUtils.observeError(responseObserver, e, DeleteDatasets.Response.getDefaultInstance());
@@ -629,94 +754,96 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getDatasetId(), ModelDBServiceActions.READ);
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getDatasetId(),
+                  ModelDBServiceActions.READ)
+              // Get the user info from the Context
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(userInfo -> getLastExperimentByDatasetId(request, userInfo), executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
-      var repositoryIdentification =
-          RepositoryIdentification.newBuilder()
-              .setRepoId(Long.parseLong(request.getDatasetId()))
-              .build();
-      ListCommitsRequest.Builder listCommitsRequest =
-          ListCommitsRequest.newBuilder().setRepositoryId(repositoryIdentification);
-      var listCommitsResponse =
-          commitDAO.listCommits(
-              listCommitsRequest.build(),
-              (session ->
-                  repositoryDAO.getRepositoryById(
-                      session,
-                      repositoryIdentification,
-                      false,
-                      false,
-                      RepositoryEnums.RepositoryTypeEnum.DATASET)),
-              false);
-      List<String> datasetVersionIds = new ArrayList<>();
-      var listValueBuilder = ListValue.newBuilder();
-      List<Commit> commitList = listCommitsResponse.getCommitsList();
-      if (!commitList.isEmpty()) {
-        for (Commit commit : commitList) {
-          datasetVersionIds.add(commit.getCommitSha());
-          listValueBuilder.addValues(
-              Value.newBuilder().setStringValue(commit.getCommitSha()).build());
-        }
+    } catch (Exception e) {
+      CommonUtils.observeError(
+          responseObserver, e, LastExperimentByDatasetId.Response.getDefaultInstance());
+    }
+  }
+
+  private LastExperimentByDatasetId.Response getLastExperimentByDatasetId(
+      LastExperimentByDatasetId request, UserInfo userInfo) {
+    var repositoryIdentification =
+        RepositoryIdentification.newBuilder()
+            .setRepoId(Long.parseLong(request.getDatasetId()))
+            .build();
+    ListCommitsRequest.Builder listCommitsRequest =
+        ListCommitsRequest.newBuilder().setRepositoryId(repositoryIdentification);
+    var listCommitsResponse =
+        commitDAO.listCommits(
+            listCommitsRequest.build(),
+            (session ->
+                repositoryDAO.getRepositoryById(
+                    session,
+                    repositoryIdentification,
+                    false,
+                    false,
+                    RepositoryEnums.RepositoryTypeEnum.DATASET)),
+            false);
+    List<String> datasetVersionIds = new ArrayList<>();
+    var listValueBuilder = ListValue.newBuilder();
+    List<Commit> commitList = listCommitsResponse.getCommitsList();
+    if (!commitList.isEmpty()) {
+      for (Commit commit : commitList) {
+        datasetVersionIds.add(commit.getCommitSha());
+        listValueBuilder.addValues(
+            Value.newBuilder().setStringValue(commit.getCommitSha()).build());
       }
+    }
 
-      Experiment lastUpdatedExperiment = null;
-      if (!datasetVersionIds.isEmpty()) {
+    Experiment lastUpdatedExperiment = null;
+    if (!datasetVersionIds.isEmpty()) {
 
-        var keyValueQuery =
-            KeyValueQuery.newBuilder()
-                .setKey(ModelDBConstants.DATASETS + "." + ModelDBConstants.LINKED_ARTIFACT_ID)
-                .setValue(Value.newBuilder().setListValue(listValueBuilder.build()).build())
-                .setOperator(OperatorEnum.Operator.IN)
-                .build();
-        var findExperimentRuns =
-            FindExperimentRuns.newBuilder().addPredicates(keyValueQuery).build();
-        var experimentRunPaginationDTO =
-            experimentRunDAO.findExperimentRuns(projectDAO, userInfo, findExperimentRuns);
-        if (experimentRunPaginationDTO != null
-            && experimentRunPaginationDTO.getExperimentRuns() != null
-            && !experimentRunPaginationDTO.getExperimentRuns().isEmpty()) {
-          List<ExperimentRun> experimentRuns = experimentRunPaginationDTO.getExperimentRuns();
-          List<String> experimentIds = new ArrayList<>();
-          for (ExperimentRun experimentRun : experimentRuns) {
-            experimentIds.add(experimentRun.getExperimentId());
-          }
-          var findExperiments =
-              FindExperiments.newBuilder()
-                  .addAllExperimentIds(experimentIds)
-                  .setPageLimit(1)
-                  .setPageNumber(1)
-                  .setSortKey(ModelDBConstants.DATE_UPDATED)
-                  .setAscending(false)
-                  .build();
-          var experimentPaginationDTO =
-              experimentDAO.findExperiments(projectDAO, userInfo, findExperiments);
-          if (experimentPaginationDTO.getExperiments() != null
-              && !experimentPaginationDTO.getExperiments().isEmpty()) {
-            lastUpdatedExperiment = experimentPaginationDTO.getExperiments().get(0);
-          }
+      var keyValueQuery =
+          KeyValueQuery.newBuilder()
+              .setKey(ModelDBConstants.DATASETS + "." + ModelDBConstants.LINKED_ARTIFACT_ID)
+              .setValue(Value.newBuilder().setListValue(listValueBuilder.build()).build())
+              .setOperator(OperatorEnum.Operator.IN)
+              .build();
+      var findExperimentRuns = FindExperimentRuns.newBuilder().addPredicates(keyValueQuery).build();
+      var experimentRunPaginationDTO =
+          experimentRunDAO.findExperimentRuns(projectDAO, userInfo, findExperimentRuns);
+      if (experimentRunPaginationDTO != null
+          && experimentRunPaginationDTO.getExperimentRuns() != null
+          && !experimentRunPaginationDTO.getExperimentRuns().isEmpty()) {
+        List<ExperimentRun> experimentRuns = experimentRunPaginationDTO.getExperimentRuns();
+        List<String> experimentIds = new ArrayList<>();
+        for (ExperimentRun experimentRun : experimentRuns) {
+          experimentIds.add(experimentRun.getExperimentId());
         }
-      }
-
-      final LastExperimentByDatasetId.Response response;
-      if (lastUpdatedExperiment != null) {
-        response =
-            LastExperimentByDatasetId.Response.newBuilder()
-                .setExperiment(lastUpdatedExperiment)
+        var findExperiments =
+            FindExperiments.newBuilder()
+                .addAllExperimentIds(experimentIds)
+                .setPageLimit(1)
+                .setPageNumber(1)
+                .setSortKey(ModelDBConstants.DATE_UPDATED)
+                .setAscending(false)
                 .build();
-        responseObserver.onNext(response);
-      } else {
-        response = LastExperimentByDatasetId.Response.newBuilder().build();
-        responseObserver.onNext(response);
+        var experimentPaginationDTO =
+            experimentDAO.findExperiments(projectDAO, userInfo, findExperiments);
+        if (experimentPaginationDTO.getExperiments() != null
+            && !experimentPaginationDTO.getExperiments().isEmpty()) {
+          lastUpdatedExperiment = experimentPaginationDTO.getExperiments().get(0);
+        }
       }
-      responseObserver.onCompleted();
+    }
 
-    } catch (Exception e) {
-      CommonUtils.observeError(
-          responseObserver, e, LastExperimentByDatasetId.Response.getDefaultInstance());
+    if (lastUpdatedExperiment != null) {
+      return LastExperimentByDatasetId.Response.newBuilder()
+          .setExperiment(lastUpdatedExperiment)
+          .build();
     }
+    return LastExperimentByDatasetId.Response.newBuilder().build();
   }
 
   @Override
@@ -729,68 +856,73 @@ public class DatasetServiceImpl extends DatasetServiceImplBase {
       }
 
       // Validate if current user has access to the entity or not
-      mdbRoleService.validateEntityUserWithUserInfo(
-          ModelDBServiceResourceTypes.DATASET, request.getDatasetId(), ModelDBServiceActions.READ);
+      final var futureResponse =
+          futureRoleService
+              .validateEntityUserWithUserInfo(
+                  ModelDBServiceResourceTypes.DATASET,
+                  request.getDatasetId(),
+                  ModelDBServiceActions.READ)
+              // Get the user info from the Context
+              .thenCompose(unused -> futureAuthService.getCurrentLoginUserInfo(), executor)
+              .thenApply(userInfo -> getExperimentRunByDataset(request, userInfo), executor);
+      FutureGrpc.ServerResponse(responseObserver, futureResponse, executor);
 
-      // Get the user info from the Context
-      var userInfo = authService.getCurrentLoginUserInfo();
-      var repositoryIdentification =
-          RepositoryIdentification.newBuilder()
-              .setRepoId(Long.parseLong(request.getDatasetId()))
-              .build();
-      ListCommitsRequest.Builder listCommitsRequest =
-          ListCommitsRequest.newBuilder().setRepositoryId(repositoryIdentification);
-      var listCommitsResponse =
-          commitDAO.listCommits(
-              listCommitsRequest.build(),
-              (session ->
-                  repositoryDAO.getRepositoryById(
-                      session,
-                      repositoryIdentification,
-                      false,
-                      false,
-                      RepositoryEnums.RepositoryTypeEnum.DATASET)),
-              false);
-      List<String> datasetVersionIds = new ArrayList<>();
-      var listValueBuilder = ListValue.newBuilder();
-      List<Commit> commitList = listCommitsResponse.getCommitsList();
-      if (!commitList.isEmpty()) {
-        for (Commit commit : commitList) {
-          datasetVersionIds.add(commit.getCommitSha());
-          listValueBuilder.addValues(
-              Value.newBuilder().setStringValue(commit.getCommitSha()).build());
-        }
-      }
+    } catch (Exception e) {
+      CommonUtils.observeError(
+          responseObserver, e, GetExperimentRunByDataset.Response.getDefaultInstance());
+    }
+  }
 
-      List<ExperimentRun> experimentRuns = new ArrayList<>();
-      if (!datasetVersionIds.isEmpty()) {
-        var keyValueQuery =
-            KeyValueQuery.newBuilder()
-                .setKey(ModelDBConstants.DATASETS + "." + ModelDBConstants.LINKED_ARTIFACT_ID)
-                .setValue(Value.newBuilder().setListValue(listValueBuilder.build()).build())
-                .setOperator(OperatorEnum.Operator.IN)
-                .build();
-        var findExperimentRuns =
-            FindExperimentRuns.newBuilder().addPredicates(keyValueQuery).build();
-        var experimentRunPaginationDTO =
-            experimentRunDAO.findExperimentRuns(projectDAO, userInfo, findExperimentRuns);
-        if (experimentRunPaginationDTO != null
-            && experimentRunPaginationDTO.getExperimentRuns() != null
-            && !experimentRunPaginationDTO.getExperimentRuns().isEmpty()) {
-          experimentRuns.addAll(experimentRunPaginationDTO.getExperimentRuns());
-        }
+  private GetExperimentRunByDataset.Response getExperimentRunByDataset(
+      GetExperimentRunByDataset request, UserInfo userInfo) {
+    var repositoryIdentification =
+        RepositoryIdentification.newBuilder()
+            .setRepoId(Long.parseLong(request.getDatasetId()))
+            .build();
+    ListCommitsRequest.Builder listCommitsRequest =
+        ListCommitsRequest.newBuilder().setRepositoryId(repositoryIdentification);
+    var listCommitsResponse =
+        commitDAO.listCommits(
+            listCommitsRequest.build(),
+            (session ->
+                repositoryDAO.getRepositoryById(
+                    session,
+                    repositoryIdentification,
+                    false,
+                    false,
+                    RepositoryEnums.RepositoryTypeEnum.DATASET)),
+            false);
+    List<String> datasetVersionIds = new ArrayList<>();
+    var listValueBuilder = ListValue.newBuilder();
+    List<Commit> commitList = listCommitsResponse.getCommitsList();
+    if (!commitList.isEmpty()) {
+      for (Commit commit : commitList) {
+        datasetVersionIds.add(commit.getCommitSha());
+        listValueBuilder.addValues(
+            Value.newBuilder().setStringValue(commit.getCommitSha()).build());
       }
+    }
 
-      final var response =
-          GetExperimentRunByDataset.Response.newBuilder()
-              .addAllExperimentRuns(experimentRuns)
+    List<ExperimentRun> experimentRuns = new ArrayList<>();
+    if (!datasetVersionIds.isEmpty()) {
+      var keyValueQuery =
+          KeyValueQuery.newBuilder()
+              .setKey(ModelDBConstants.DATASETS + "." + ModelDBConstants.LINKED_ARTIFACT_ID)
+              .setValue(Value.newBuilder().setListValue(listValueBuilder.build()).build())
+              .setOperator(OperatorEnum.Operator.IN)
               .build();
-      responseObserver.onNext(response);
-      responseObserver.onCompleted();
-
-    } catch (Exception e) {
-      CommonUtils.observeError(
-          responseObserver, e, GetExperimentRunByDataset.Response.getDefaultInstance());
+      var findExperimentRuns = FindExperimentRuns.newBuilder().addPredicates(keyValueQuery).build();
+      var experimentRunPaginationDTO =
+          experimentRunDAO.findExperimentRuns(projectDAO, userInfo, findExperimentRuns);
+      if (experimentRunPaginationDTO != null
+          && experimentRunPaginationDTO.getExperimentRuns() != null
+          && !experimentRunPaginationDTO.getExperimentRuns().isEmpty()) {
+        experimentRuns.addAll(experimentRunPaginationDTO.getExperimentRuns());
+      }
     }
+
+    return GetExperimentRunByDataset.Response.newBuilder()
+        .addAllExperimentRuns(experimentRuns)
+        .build();
   }
 }
@@ -31,6 +31,7 @@ public class KeyValueEntity implements Serializable {
     setKey(keyValue.getKey());
     setValue(ModelDBUtils.getStringFromProtoObject(keyValue.getValue()));
     setValue_type(keyValue.getValueTypeValue());
+    this.numberValue = ModelDBUtils.getNumberValueOrNull(keyValue.getValue());
 
     if (entity instanceof ProjectEntity) {
       setProjectEntity(entity);
@@ -65,6 +66,10 @@ public class KeyValueEntity implements Serializable {
   @Column(name = "value_type")
   private Integer value_type;
 
+  // Numeric values only, to filter and sort on them without parsing kv_value
+  @Column(name = "kv_number_value")
+  private Double numberValue;
+
   @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   @JoinColumn(name = "project_id")
   private ProjectEntity projectEntity;
@@ -119,6 +124,10 @@ public class KeyValueEntity implements Serializable {
     this.value = value;
   }
 
+  public Double getNumberValue() {
+    return numberValue;
+  }
+
   public Integer getValue_type() {
     return value_type;
   }
@@ -45,6 +45,16 @@ public class CommitEntity implements Serializable {
     if (parentCommits != null) {
       this.parent_commits.putAll(parentCommits);
     }
+
+    // Left null while a parent has none, until COMMIT_GENERATION_MIGRATION fills it
+    this.generation = 1L;
+    for (CommitEntity parentCommit : this.parent_commits.values()) {
+      if (parentCommit.getGeneration() == null) {
+        this.generation = null;
+        break;
+      }
+      this.generation = Math.max(this.generation, parentCommit.getGeneration() + 1L);
+    }
   }
 
   @Id
@@ -91,6 +101,11 @@ public class CommitEntity implements Serializable {
   @Column(name = "version_number")
   private Long version_number;
 
+  // 1 for a root commit, one more than the greatest one of its parents otherwise, so a commit can
+  // only be the ancestor of the commits with a greater generation
+  @Column(name = "generation")
+  private Long generation;
+
   public String getCommit_hash() {
     return commit_hash;
   }
@@ -152,6 +167,10 @@ public class CommitEntity implements Serializable {
     return version_number;
   }
 
+  public Long getGeneration() {
+    return generation;
+  }
+
   public void increaseVersionNumber() {
     this.version_number = this.version_number + 1L;
   }
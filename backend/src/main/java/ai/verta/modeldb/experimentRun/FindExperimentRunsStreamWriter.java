@@ -0,0 +1,103 @@
+package ai.verta.modeldb.experimentRun;
+
+import ai.verta.modeldb.FindExperimentRuns;
+import ai.verta.modeldb.common.CommonUtils;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Server side of the findExperimentRunsStream call. The runs are read page by page with the page
+ * tokens of findExperimentRuns, and each page is hydrated and sent before the next one is read, so
+ * the memory used by a call is bounded by the page size instead of the result size. The next page
+ * is only read once the transport is ready to take it, so a slow client slows down the reads
+ * instead of letting responses pile up in the server.
+ */
+public class FindExperimentRunsStreamWriter {
+  private static final Logger LOGGER = LogManager.getLogger(FindExperimentRunsStreamWriter.class);
+  static final int DEFAULT_PAGE_LIMIT = 100;
+
+  private final FutureExperimentRunDAO futureExperimentRunDAO;
+  private final StreamObserver<FindExperimentRuns.Response> responseObserver;
+  private final Executor executor;
+
+  // Request of the next page to read, null while a page is being read or once the call is over
+  private FindExperimentRuns nextRequest;
+  private boolean firstPage = true;
+  private boolean closed = false;
+
+  public FindExperimentRunsStreamWriter(
+      FutureExperimentRunDAO futureExperimentRunDAO,
+      FindExperimentRuns request,
+      StreamObserver<FindExperimentRuns.Response> responseObserver,
+      Executor executor) {
+    this.futureExperimentRunDAO = futureExperimentRunDAO;
+    this.responseObserver = responseObserver;
+    this.executor = executor;
+    this.nextRequest =
+        request
+            .toBuilder()
+            .clearPageNumber()
+            .setPageLimit(request.getPageLimit() > 0 ? request.getPageLimit() : DEFAULT_PAGE_LIMIT)
+            .build();
+  }
+
+  /** Must be called from the call handler, before it returns. */
+  public void start() {
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      final var serverCallObserver =
+          (ServerCallStreamObserver<FindExperimentRuns.Response>) responseObserver;
+      serverCallObserver.setOnCancelHandler(this::cancel);
+      serverCallObserver.setOnReadyHandler(this::readNextPage);
+    }
+    readNextPage();
+  }
+
+  private synchronized void cancel() {
+    LOGGER.debug("findExperimentRunsStream cancelled by the client");
+    closed = true;
+    nextRequest = null;
+  }
+
+  private boolean isReady() {
+    return !(responseObserver instanceof ServerCallStreamObserver)
+        || ((ServerCallStreamObserver<FindExperimentRuns.Response>) responseObserver).isReady();
+  }
+
+  private synchronized void readNextPage() {
+    if (closed || nextRequest == null || !isReady()) {
+      return;
+    }
+    final var request = nextRequest;
+    final var countRecords = firstPage;
+    nextRequest = null;
+    firstPage = false;
+
+    futureExperimentRunDAO
+        .findExperimentRuns(request, countRecords, true)
+        .whenComplete(
+            (response, throwable) -> {
+              synchronized (this) {
+                if (closed) {
+                  return;
+                }
+                if (throwable != null) {
+                  closed = true;
+                  CommonUtils.observeError(responseObserver, throwable);
+                  return;
+                }
+                responseObserver.onNext(response);
+                if (response.getNextPageToken().isEmpty()) {
+                  closed = true;
+                  responseObserver.onCompleted();
+                  return;
+                }
+                nextRequest = request.toBuilder().setPageToken(response.getNextPageToken()).build();
+                readNextPage();
+              }
+            },
+            executor);
+  }
+}
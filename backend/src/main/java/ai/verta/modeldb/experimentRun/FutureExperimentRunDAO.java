@@ -12,6 +12,7 @@ import ai.verta.modeldb.CloneExperimentRun;
 import ai.verta.modeldb.CommitArtifactPart;
 import ai.verta.modeldb.CommitMultipartArtifact;
 import ai.verta.modeldb.CreateExperimentRun;
+import ai.verta.modeldb.CreateExperimentRuns;
 import ai.verta.modeldb.DeleteArtifact;
 import ai.verta.modeldb.DeleteExperimentRunAttributes;
 import ai.verta.modeldb.DeleteExperimentRunTags;
@@ -61,8 +62,8 @@ import ai.verta.modeldb.common.exceptions.NotFoundException;
 import ai.verta.modeldb.common.futures.FutureGrpc;
 import ai.verta.modeldb.common.futures.FutureJdbi;
 import ai.verta.modeldb.common.futures.InternalFuture;
-import ai.verta.modeldb.common.query.OrderColumn;
 import ai.verta.modeldb.common.query.QueryFilterContext;
+import ai.verta.modeldb.config.ObservationStoreConfig;
 import ai.verta.modeldb.config.TrialConfig;
 import ai.verta.modeldb.datasetVersion.DatasetVersionDAO;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
@@ -74,14 +75,17 @@ import ai.verta.modeldb.experimentRun.subtypes.CodeVersionHandler;
 import ai.verta.modeldb.experimentRun.subtypes.CreateExperimentRunHandler;
 import ai.verta.modeldb.experimentRun.subtypes.DatasetHandler;
 import ai.verta.modeldb.experimentRun.subtypes.EnvironmentHandler;
+import ai.verta.modeldb.experimentRun.subtypes.ExperimentRunFieldProjection;
 import ai.verta.modeldb.experimentRun.subtypes.FeatureHandler;
 import ai.verta.modeldb.experimentRun.subtypes.FilterPrivilegedDatasetsHandler;
 import ai.verta.modeldb.experimentRun.subtypes.FilterPrivilegedVersionedInputsHandler;
 import ai.verta.modeldb.experimentRun.subtypes.HyperparametersFromConfigHandler;
 import ai.verta.modeldb.experimentRun.subtypes.KeyValueHandler;
+import ai.verta.modeldb.experimentRun.subtypes.KeysetPaginationHandler;
 import ai.verta.modeldb.experimentRun.subtypes.MapSubtypes;
 import ai.verta.modeldb.experimentRun.subtypes.ObservationHandler;
 import ai.verta.modeldb.experimentRun.subtypes.PredicatesHandler;
+import ai.verta.modeldb.experimentRun.subtypes.RunProjectIndex;
 import ai.verta.modeldb.experimentRun.subtypes.SortingHandler;
 import ai.verta.modeldb.experimentRun.subtypes.TagsHandler;
 import ai.verta.modeldb.experimentRun.subtypes.VersionInputHandler;
@@ -112,6 +116,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +124,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -141,6 +147,7 @@ public class FutureExperimentRunDAO {
   private final DatasetHandler datasetHandler;
   private final PredicatesHandler predicatesHandler;
   private final SortingHandler sortingHandler;
+  private final KeysetPaginationHandler keysetPaginationHandler;
   private final FeatureHandler featureHandler;
   private final EnvironmentHandler environmentHandler;
   private final FilterPrivilegedDatasetsHandler privilegedDatasetsHandler;
@@ -151,29 +158,33 @@ public class FutureExperimentRunDAO {
   private final Config config;
   private final TrialConfig trialConfig;
   private final CodeVersionFromBlobHandler codeVersionFromBlobHandler;
+  private final RunProjectIndex runProjectIndex;
 
   public FutureExperimentRunDAO(
       Executor executor,
       FutureJdbi jdbi,
       Config config,
       TrialConfig trialConfig,
+      ObservationStoreConfig observationStoreConfig,
       UAC uac,
       ArtifactStoreDAO artifactStoreDAO,
       DatasetVersionDAO datasetVersionDAO,
       RepositoryDAO repositoryDAO,
       CommitDAO commitDAO,
-      BlobDAO blobDAO) {
+      BlobDAO blobDAO,
+      RunProjectIndex runProjectIndex) {
     this.executor = executor;
     this.jdbi = jdbi;
     this.uac = uac;
     this.config = config;
     this.trialConfig = trialConfig;
+    this.runProjectIndex = runProjectIndex;
 
     attributeHandler = new AttributeHandler(executor, jdbi, EXPERIMENT_RUN_ENTITY_NAME);
     hyperparametersHandler =
         new KeyValueHandler(executor, jdbi, "hyperparameters", EXPERIMENT_RUN_ENTITY_NAME);
     metricsHandler = new KeyValueHandler(executor, jdbi, "metrics", EXPERIMENT_RUN_ENTITY_NAME);
-    observationHandler = new ObservationHandler(executor, jdbi);
+    observationHandler = new ObservationHandler(executor, jdbi, config, observationStoreConfig);
     tagsHandler = new TagsHandler(executor, jdbi, EXPERIMENT_RUN_ENTITY_NAME);
     codeVersionHandler = new CodeVersionHandler(executor, jdbi);
     datasetHandler = new DatasetHandler(executor, jdbi, EXPERIMENT_RUN_ENTITY_NAME);
@@ -188,6 +199,7 @@ public class FutureExperimentRunDAO {
             datasetVersionDAO);
     predicatesHandler = new PredicatesHandler();
     sortingHandler = new SortingHandler();
+    keysetPaginationHandler = new KeysetPaginationHandler();
     featureHandler = new FeatureHandler(executor, jdbi, EXPERIMENT_RUN_ENTITY_NAME);
     environmentHandler = new EnvironmentHandler(executor, jdbi, EXPERIMENT_RUN_ENTITY_NAME);
     privilegedDatasetsHandler = new FilterPrivilegedDatasetsHandler(executor, jdbi);
@@ -243,7 +255,9 @@ public class FutureExperimentRunDAO {
 
     return checkPermission(
             Collections.singletonList(runId), ModelDBActionEnum.ModelDBServiceActions.READ)
-        .thenCompose(unused -> observationHandler.getObservations(runId, key), executor)
+        .thenCompose(
+            unused -> observationHandler.getObservations(runId, key, request.getMaxPoints()),
+            executor)
         .thenApply(
             observations ->
                 observations.stream()
@@ -267,6 +281,42 @@ public class FutureExperimentRunDAO {
         .thenCompose(unused -> updateVersionNumber(runId), executor);
   }
 
+  public InternalFuture<Void> checkExperimentRunUpdatePermission(String runId) {
+    return checkPermission(
+        Collections.singletonList(runId), ModelDBActionEnum.ModelDBServiceActions.UPDATE);
+  }
+
+  /**
+   * Log a batch of entries received through a stream. The caller is expected to have checked the
+   * UPDATE permission on the run once for the whole stream, so it isn't checked again here.
+   */
+  public InternalFuture<Void> logExperimentRunDataBatch(
+      String runId,
+      List<Observation> observations,
+      List<KeyValue> metrics,
+      List<KeyValue> attributes,
+      long now) {
+    var currentFuture = InternalFuture.<Void>completedInternalFuture(null);
+    if (!observations.isEmpty()) {
+      currentFuture =
+          currentFuture.thenCompose(
+              unused -> observationHandler.logObservations(runId, observations, now), executor);
+    }
+    if (!metrics.isEmpty()) {
+      currentFuture =
+          currentFuture.thenCompose(
+              unused -> metricsHandler.logKeyValues(runId, metrics), executor);
+    }
+    if (!attributes.isEmpty()) {
+      currentFuture =
+          currentFuture.thenCompose(
+              unused -> attributeHandler.logKeyValues(runId, attributes), executor);
+    }
+    return currentFuture
+        .thenCompose(unused -> updateModifiedTimestamp(runId, now), executor)
+        .thenCompose(unused -> updateVersionNumber(runId), executor);
+  }
+
   public InternalFuture<Void> deleteMetrics(DeleteMetrics request) {
     final var runId = request.getId();
     final var now = Calendar.getInstance().getTimeInMillis();
@@ -464,25 +514,31 @@ public class FutureExperimentRunDAO {
       List<String> entityIds,
       ModelDBActionEnum.ModelDBServiceActions action,
       ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
-    return FutureGrpc.ClientRequest(
-            uac.getAuthzService()
-                .isSelfAllowed(
-                    IsSelfAllowed.newBuilder()
-                        .addActions(
-                            Action.newBuilder()
-                                .setModeldbServiceAction(action)
-                                .setService(ServiceEnum.Service.MODELDB_SERVICE))
-                        .addResources(
-                            Resources.newBuilder()
-                                .setService(ServiceEnum.Service.MODELDB_SERVICE)
-                                .setResourceType(
-                                    ResourceType.newBuilder()
-                                        .setModeldbServiceResourceType(modelDBServiceResourceTypes))
-                                .addAllResourceIds(entityIds))
-                        .build()),
-            executor)
-        .thenCompose(
-            response -> InternalFuture.completedInternalFuture(response.getAllowed()), executor);
+    return uac.getAuthzCache()
+        .isSelfAllowed(
+            action,
+            modelDBServiceResourceTypes,
+            entityIds,
+            () ->
+                FutureGrpc.ClientRequest(
+                        uac.getAuthzService()
+                            .isSelfAllowed(
+                                IsSelfAllowed.newBuilder()
+                                    .addActions(
+                                        Action.newBuilder()
+                                            .setModeldbServiceAction(action)
+                                            .setService(ServiceEnum.Service.MODELDB_SERVICE))
+                                    .addResources(
+                                        Resources.newBuilder()
+                                            .setService(ServiceEnum.Service.MODELDB_SERVICE)
+                                            .setResourceType(
+                                                ResourceType.newBuilder()
+                                                    .setModeldbServiceResourceType(
+                                                        modelDBServiceResourceTypes))
+                                            .addAllResourceIds(entityIds))
+                                    .build()),
+                        executor)
+                    .thenApply(IsSelfAllowed.Response::getAllowed, executor));
   }
 
   private InternalFuture<Void> checkPermission(
@@ -495,15 +551,7 @@ public class FutureExperimentRunDAO {
           new InvalidArgumentException("Experiment run IDs is missing"));
     }
 
-    var futureMaybeProjectIds =
-        jdbi.withHandle(
-            handle ->
-                handle
-                    .createQuery(
-                        "SELECT project_id FROM experiment_run WHERE id IN (<ids>) AND deleted=0")
-                    .bindList("ids", finalRunIds)
-                    .mapTo(String.class)
-                    .list());
+    var futureMaybeProjectIds = runProjectIndex.getProjectIds(finalRunIds);
 
     return futureMaybeProjectIds.thenCompose(
         maybeProjectIds -> {
@@ -543,21 +591,27 @@ public class FutureExperimentRunDAO {
   private InternalFuture<List<Resources>> getAllowedEntitiesByResourceType(
       ModelDBActionEnum.ModelDBServiceActions action,
       ModelDBServiceResourceTypes modelDBServiceResourceTypes) {
-    return FutureGrpc.ClientRequest(
-            uac.getAuthzService()
-                .getSelfAllowedResources(
-                    GetSelfAllowedResources.newBuilder()
-                        .addActions(
-                            Action.newBuilder()
-                                .setModeldbServiceAction(action)
-                                .setService(ServiceEnum.Service.MODELDB_SERVICE))
-                        .setService(ServiceEnum.Service.MODELDB_SERVICE)
-                        .setResourceType(
-                            ResourceType.newBuilder()
-                                .setModeldbServiceResourceType(modelDBServiceResourceTypes))
-                        .build()),
-            executor)
-        .thenApply(GetSelfAllowedResources.Response::getResourcesList, executor);
+    return uac.getAuthzCache()
+        .getSelfAllowedResources(
+            action,
+            modelDBServiceResourceTypes,
+            () ->
+                FutureGrpc.ClientRequest(
+                        uac.getAuthzService()
+                            .getSelfAllowedResources(
+                                GetSelfAllowedResources.newBuilder()
+                                    .addActions(
+                                        Action.newBuilder()
+                                            .setModeldbServiceAction(action)
+                                            .setService(ServiceEnum.Service.MODELDB_SERVICE))
+                                    .setService(ServiceEnum.Service.MODELDB_SERVICE)
+                                    .setResourceType(
+                                        ResourceType.newBuilder()
+                                            .setModeldbServiceResourceType(
+                                                modelDBServiceResourceTypes))
+                                    .build()),
+                        executor)
+                    .thenApply(GetSelfAllowedResources.Response::getResourcesList, executor));
   }
 
   private InternalFuture<List<GetResourcesResponseItem>> getAllowedResourceItems(
@@ -611,17 +665,17 @@ public class FutureExperimentRunDAO {
   }
 
   private InternalFuture<Void> deleteExperimentRuns(List<String> runIds) {
-    return InternalFuture.runAsync(
-        () ->
-            jdbi.withHandle(
-                handle ->
-                    handle
-                        .createUpdate(
-                            "Update experiment_run SET deleted = :deleted WHERE id IN (<ids>)")
-                        .bindList("ids", runIds)
-                        .bind("deleted", true)
-                        .execute()),
-        executor);
+    // The runs are dropped from the index once the update is committed, so that a concurrent
+    // lookup can't load them back
+    return jdbi.useHandle(
+            handle ->
+                handle
+                    .createUpdate(
+                        "Update experiment_run SET deleted = :deleted WHERE id IN (<ids>)")
+                    .bindList("ids", runIds)
+                    .bind("deleted", true)
+                    .execute())
+        .thenAccept(unused -> runProjectIndex.invalidate(runIds), executor);
   }
 
   public InternalFuture<Void> logArtifacts(LogArtifacts request) {
@@ -763,6 +817,17 @@ public class FutureExperimentRunDAO {
 
   public InternalFuture<FindExperimentRuns.Response> findExperimentRuns(
       FindExperimentRuns request) {
+    return findExperimentRuns(request, true, false);
+  }
+
+  /**
+   * Same as {@link #findExperimentRuns(FindExperimentRuns)}, the total records count being skipped
+   * unless countRecords is set, e.g. for the pages following the first one of a stream. With
+   * keysetPaging, the first page, requested without a page token, is limited to the page limit too
+   * and gets a token, while findExperimentRuns returns all the runs without page number nor token.
+   */
+  public InternalFuture<FindExperimentRuns.Response> findExperimentRuns(
+      FindExperimentRuns request, boolean countRecords, boolean keysetPaging) {
     // TODO: handle ids only?
     // TODO: filter by permission
 
@@ -807,6 +872,19 @@ public class FutureExperimentRunDAO {
             },
             executor);
 
+    if (!request.getPageToken().isEmpty() && request.getPageLimit() <= 0) {
+      return InternalFuture.failedStage(
+          new InvalidArgumentException("Page limit is required with a page token"));
+    }
+    final ExperimentRunFieldProjection fieldProjection;
+    try {
+      fieldProjection = new ExperimentRunFieldProjection(request.getFieldMask());
+    } catch (InvalidArgumentException e) {
+      return InternalFuture.failedStage(e);
+    }
+    // Sort values of the last row of the page, to build the token of the next page
+    final var lastRowSortValues = new AtomicReference<List<Object>>();
+
     // futurePredicatesContext
     final var futurePredicatesContext =
         predicatesHandler.processPredicates(request.getPredicatesList(), executor);
@@ -845,7 +923,15 @@ public class FutureExperimentRunDAO {
                           return jdbi.withHandle(
                                   handle -> {
                                     var sql =
-                                        "select experiment_run.id, experiment_run.date_created, experiment_run.date_updated, experiment_run.experiment_id, experiment_run.name, experiment_run.project_id, experiment_run.description, experiment_run.start_time, experiment_run.end_time, experiment_run.owner, experiment_run.environment, experiment_run.code_version, experiment_run.job_id, experiment_run.version_number from experiment_run";
+                                        "select experiment_run.id, experiment_run.date_created, experiment_run.date_updated, experiment_run.experiment_id, experiment_run.name, experiment_run.project_id, experiment_run.description, experiment_run.start_time, experiment_run.end_time, experiment_run.owner, experiment_run.environment, experiment_run.code_version, experiment_run.job_id, experiment_run.version_number";
+
+                                    // The sort values are selected too, to build the token of the
+                                    // next page
+                                    final var sortColumns =
+                                        keysetPaginationHandler.getSortColumns(queryContext);
+                                    sql +=
+                                        keysetPaginationHandler.getSelectColumns(sortColumns)
+                                            + " from experiment_run";
 
                                     // Add the sorting tables
                                     for (final var item :
@@ -861,46 +947,29 @@ public class FutureExperimentRunDAO {
                                       }
                                     }
 
+                                    if (!request.getPageToken().isEmpty()) {
+                                      keysetPaginationHandler.addSeekPredicate(
+                                          queryContext,
+                                          sortColumns,
+                                          request.getPageToken(),
+                                          request.getSortKey(),
+                                          request.getAscending());
+                                    }
+
                                     if (!queryContext.getConditions().isEmpty()) {
                                       sql +=
                                           " WHERE "
                                               + String.join(" AND ", queryContext.getConditions());
                                     }
 
-                                    if (!queryContext.getOrderItems().isEmpty()) {
-                                      sql += " ORDER BY ";
-                                      List<String> orderColumnQueryString = new ArrayList<>();
-                                      for (final var item :
-                                          new EnumerateList<>(queryContext.getOrderItems())
-                                              .getList()) {
-                                        if (item.getValue().getTable() != null) {
-                                          for (OrderColumn orderColumn :
-                                              item.getValue().getColumns()) {
-                                            var orderColumnStr =
-                                                String.format(
-                                                    " join_table_%d.%s ",
-                                                    item.getIndex(), orderColumn.getColumn());
-                                            orderColumnStr +=
-                                                String.format(
-                                                    " %s ",
-                                                    orderColumn.getAscending() ? "ASC" : "DESC");
-                                            orderColumnQueryString.add(orderColumnStr);
-                                          }
-                                        } else if (item.getValue().getColumn() != null) {
-                                          var orderColumnStr =
-                                              String.format(" %s ", item.getValue().getColumn());
-                                          orderColumnStr +=
-                                              String.format(
-                                                  " %s ",
-                                                  item.getValue().getAscending() ? "ASC" : "DESC");
-                                          orderColumnQueryString.add(orderColumnStr);
-                                        }
-                                      }
-                                      sql += String.join(",", orderColumnQueryString);
-                                    }
+                                    sql += keysetPaginationHandler.getOrderByClause(sortColumns);
 
                                     // Backwards compatibility: fetch everything
-                                    if (request.getPageNumber() != 0
+                                    if (!request.getPageToken().isEmpty() || keysetPaging) {
+                                      sql += " LIMIT :limit";
+                                      queryContext.addBind(
+                                          q -> q.bind("limit", request.getPageLimit()));
+                                    } else if (request.getPageNumber() != 0
                                         && request.getPageLimit() != 0) {
                                       final var offset =
                                           (request.getPageNumber() - 1) * request.getPageLimit();
@@ -958,6 +1027,9 @@ public class FutureExperimentRunDAO {
                                                     environmentBlobBuilder.build());
                                               }
 
+                                              lastRowSortValues.set(
+                                                  keysetPaginationHandler.getSortValues(
+                                                      rs, sortColumns));
                                               return runBuilder;
                                             })
                                         .list();
@@ -976,237 +1048,275 @@ public class FutureExperimentRunDAO {
                                             .map(x -> x.getId())
                                             .collect(Collectors.toSet());
 
-                                    // Get tags
-                                    final var futureTags = tagsHandler.getTagsMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureTags,
-                                            (stream, tags) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllTags(
-                                                            tags.get(builder.getId()))),
-                                            executor);
-
-                                    // Get hyperparams
-                                    final var futureHyperparams =
-                                        hyperparametersHandler.getKeyValuesMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureHyperparams,
-                                            (stream, hyperparams) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllHyperparameters(
-                                                            hyperparams.get(builder.getId()))),
-                                            executor);
-
-                                    final var futureHyperparamsFromConfigBlobs =
-                                        getFutureHyperparamsFromConfigBlobs(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureHyperparamsFromConfigBlobs,
-                                            (stream, hyperparamsFromConfigBlob) ->
-                                                stream.map(
-                                                    builder -> {
-                                                      List<KeyValue> hypFromConfigs =
-                                                          hyperparamsFromConfigBlob.get(
-                                                              builder.getId());
-                                                      if (hypFromConfigs != null) {
-                                                        builder.addAllHyperparameters(
-                                                            hypFromConfigs);
-                                                      }
-                                                      return builder;
-                                                    }),
-                                            executor);
-
-                                    final var futureCodeVersionFromBlob =
-                                        getFutureCodeVersionFromBlob(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureCodeVersionFromBlob,
-                                            (stream, runCodeVersionConfigBlob) ->
-                                                stream.map(
-                                                    builder -> {
-                                                      if (!runCodeVersionConfigBlob.isEmpty()
-                                                          && runCodeVersionConfigBlob.containsKey(
-                                                              builder.getId())) {
-                                                        builder.putAllCodeVersionFromBlob(
-                                                            runCodeVersionConfigBlob.get(
-                                                                builder.getId()));
-                                                      }
-                                                      return builder;
-                                                    }),
-                                            executor);
-
-                                    // Get metrics
-                                    final var futureMetrics = metricsHandler.getKeyValuesMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureMetrics,
-                                            (stream, metrics) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllMetrics(
-                                                            metrics.get(builder.getId()))),
-                                            executor);
-
-                                    // Get attributes
-                                    final var futureAttributes =
-                                        attributeHandler.getKeyValuesMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureAttributes,
-                                            (stream, attributes) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllAttributes(
-                                                            attributes.get(builder.getId()))),
-                                            executor);
-
-                                    // Get artifacts
-                                    final var futureArtifacts =
-                                        artifactHandler.getArtifactsMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureArtifacts,
-                                            (stream, artifacts) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllArtifacts(
-                                                            artifacts.get(builder.getId()))),
-                                            executor);
-
-                                    // Get datasets
-                                    final var futureDatasetsMap =
-                                        datasetHandler.getArtifactsMap(ids);
-                                    final var filterDatasetsMap =
-                                        futureDatasetsMap.thenCompose(
-                                            artifactMapSubtypes -> {
-                                              List<InternalFuture<Map<String, List<Artifact>>>>
-                                                  internalFutureList = new ArrayList<>();
-                                              for (ExperimentRun.Builder builder : builders) {
-                                                internalFutureList.add(
-                                                    privilegedDatasetsHandler
-                                                        .filterAndGetPrivilegedDatasetsOnly(
-                                                            artifactMapSubtypes.get(
-                                                                builder.getId()),
-                                                            false,
-                                                            this
-                                                                ::getEntityPermissionBasedOnResourceTypes)
-                                                        .thenCompose(
-                                                            artifacts ->
-                                                                InternalFuture
-                                                                    .completedInternalFuture(
-                                                                        Collections.singletonMap(
-                                                                            builder.getId(),
-                                                                            artifacts)),
-                                                            executor));
-                                              }
-                                              return InternalFuture.sequence(
-                                                      internalFutureList, executor)
-                                                  .thenCompose(
-                                                      maps -> {
-                                                        Map<String, List<Artifact>>
-                                                            finalDatasetMap = new HashMap<>();
-                                                        maps.forEach(finalDatasetMap::putAll);
-                                                        return InternalFuture
-                                                            .completedInternalFuture(
-                                                                finalDatasetMap);
-                                                      },
-                                                      executor);
-                                            },
-                                            executor);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            filterDatasetsMap,
-                                            (stream, datasets) ->
-                                                stream.map(
-                                                    builder -> {
-                                                      List<Artifact> datasetList =
-                                                          datasets.get(builder.getId());
-                                                      if (datasetList != null
-                                                          && !datasetList.isEmpty()) {
-                                                        return builder
-                                                            .clearDatasets()
-                                                            .addAllDatasets(datasetList);
-                                                      }
-                                                      return builder;
-                                                    }),
-                                            executor);
-
-                                    // Get observations
-                                    final var futureObservations =
-                                        observationHandler.getObservationsMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureObservations,
-                                            (stream, observations) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllObservations(
-                                                            observations.get(builder.getId()))),
-                                            executor);
-
-                                    // Get features
-                                    final var futureFeatures = featureHandler.getFeaturesMap(ids);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureFeatures,
-                                            (stream, features) ->
-                                                stream.map(
-                                                    builder ->
-                                                        builder.addAllFeatures(
-                                                            features.get(builder.getId()))),
-                                            executor);
-
-                                    // Get code version snapshot
-                                    final var futureCodeVersionSnapshots =
-                                        codeVersionHandler.getCodeVersionMap(new ArrayList<>(ids));
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            futureCodeVersionSnapshots,
-                                            (stream, codeVersionsMap) ->
-                                                stream.peek(
-                                                    builder -> {
-                                                      if (codeVersionsMap.containsKey(
-                                                          builder.getId())) {
-                                                        builder.setCodeVersionSnapshot(
-                                                            codeVersionsMap.get(builder.getId()));
-                                                      } else {
-                                                        builder.setCodeVersionSnapshot(
-                                                            CodeVersion.getDefaultInstance());
-                                                      }
-                                                    }),
-                                            executor);
-
-                                    // Get VersionedInputs
-                                    final var futureVersionedInputs =
-                                        versionInputHandler.getVersionedInputs(ids);
-                                    final InternalFuture<Map<String, VersioningEntry>>
-                                        filterPrivilegeVersionedInputMap =
-                                            privilegedVersionedInputsHandler
-                                                .filterVersionedInputsBasedOnPrivileges(
-                                                    ids,
-                                                    futureVersionedInputs,
-                                                    this::getEntityPermissionBasedOnResourceTypes);
-                                    futureBuildersStream =
-                                        futureBuildersStream.thenCombine(
-                                            filterPrivilegeVersionedInputMap,
-                                            (stream, versionInputsMap) ->
-                                                stream.map(
-                                                    builder -> {
-                                                      VersioningEntry finalVersionedInputs =
-                                                          versionInputsMap.get(builder.getId());
-                                                      if (finalVersionedInputs != null) {
-                                                        builder.setVersionedInputs(
-                                                            finalVersionedInputs);
-                                                      } else {
-                                                        builder.clearVersionedInputs();
-                                                      }
-                                                      return builder;
-                                                    }),
-                                            executor);
+                                    if (fieldProjection.includes("tags")) {
+                                      // Get tags
+                                      final var futureTags = tagsHandler.getTagsMap(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureTags,
+                                              (stream, tags) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllTags(
+                                                              tags.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("hyperparameters")) {
+                                      // Get hyperparams
+                                      final var futureHyperparams =
+                                          hyperparametersHandler.getKeyValuesMap(
+                                              ids, request.getHyperparameterKeysList());
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureHyperparams,
+                                              (stream, hyperparams) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllHyperparameters(
+                                                              hyperparams.get(builder.getId()))),
+                                              executor);
+
+                                      final var futureHyperparamsFromConfigBlobs =
+                                          getFutureHyperparamsFromConfigBlobs(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureHyperparamsFromConfigBlobs,
+                                              (stream, hyperparamsFromConfigBlob) ->
+                                                  stream.map(
+                                                      builder -> {
+                                                        List<KeyValue> hypFromConfigs =
+                                                            hyperparamsFromConfigBlob.get(
+                                                                builder.getId());
+                                                        if (hypFromConfigs != null) {
+                                                          builder.addAllHyperparameters(
+                                                              hypFromConfigs.stream()
+                                                                  .filter(
+                                                                      kv ->
+                                                                          request
+                                                                                  .getHyperparameterKeysList()
+                                                                                  .isEmpty()
+                                                                              || request
+                                                                                  .getHyperparameterKeysList()
+                                                                                  .contains(
+                                                                                      kv.getKey()))
+                                                                  .collect(Collectors.toList()));
+                                                        }
+                                                        return builder;
+                                                      }),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("code_version_from_blob")) {
+                                      final var futureCodeVersionFromBlob =
+                                          getFutureCodeVersionFromBlob(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureCodeVersionFromBlob,
+                                              (stream, runCodeVersionConfigBlob) ->
+                                                  stream.map(
+                                                      builder -> {
+                                                        if (!runCodeVersionConfigBlob.isEmpty()
+                                                            && runCodeVersionConfigBlob.containsKey(
+                                                                builder.getId())) {
+                                                          builder.putAllCodeVersionFromBlob(
+                                                              runCodeVersionConfigBlob.get(
+                                                                  builder.getId()));
+                                                        }
+                                                        return builder;
+                                                      }),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("metrics")) {
+                                      // Get metrics
+                                      final var futureMetrics =
+                                          metricsHandler.getKeyValuesMap(
+                                              ids, request.getMetricKeysList());
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureMetrics,
+                                              (stream, metrics) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllMetrics(
+                                                              metrics.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("attributes")) {
+                                      // Get attributes
+                                      final var futureAttributes =
+                                          attributeHandler.getKeyValuesMap(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureAttributes,
+                                              (stream, attributes) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllAttributes(
+                                                              attributes.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("artifacts")) {
+                                      // Get artifacts
+                                      final var futureArtifacts =
+                                          artifactHandler.getArtifactsMap(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureArtifacts,
+                                              (stream, artifacts) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllArtifacts(
+                                                              artifacts.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("datasets")) {
+                                      // Get datasets
+                                      final var futureDatasetsMap =
+                                          datasetHandler.getArtifactsMap(ids);
+                                      final var filterDatasetsMap =
+                                          futureDatasetsMap.thenCompose(
+                                              artifactMapSubtypes -> {
+                                                List<InternalFuture<Map<String, List<Artifact>>>>
+                                                    internalFutureList = new ArrayList<>();
+                                                for (ExperimentRun.Builder builder : builders) {
+                                                  internalFutureList.add(
+                                                      privilegedDatasetsHandler
+                                                          .filterAndGetPrivilegedDatasetsOnly(
+                                                              artifactMapSubtypes.get(
+                                                                  builder.getId()),
+                                                              false,
+                                                              this
+                                                                  ::getEntityPermissionBasedOnResourceTypes)
+                                                          .thenCompose(
+                                                              artifacts ->
+                                                                  InternalFuture
+                                                                      .completedInternalFuture(
+                                                                          Collections.singletonMap(
+                                                                              builder.getId(),
+                                                                              artifacts)),
+                                                              executor));
+                                                }
+                                                return InternalFuture.sequence(
+                                                        internalFutureList, executor)
+                                                    .thenCompose(
+                                                        maps -> {
+                                                          Map<String, List<Artifact>>
+                                                              finalDatasetMap = new HashMap<>();
+                                                          maps.forEach(finalDatasetMap::putAll);
+                                                          return InternalFuture
+                                                              .completedInternalFuture(
+                                                                  finalDatasetMap);
+                                                        },
+                                                        executor);
+                                              },
+                                              executor);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              filterDatasetsMap,
+                                              (stream, datasets) ->
+                                                  stream.map(
+                                                      builder -> {
+                                                        List<Artifact> datasetList =
+                                                            datasets.get(builder.getId());
+                                                        if (datasetList != null
+                                                            && !datasetList.isEmpty()) {
+                                                          return builder
+                                                              .clearDatasets()
+                                                              .addAllDatasets(datasetList);
+                                                        }
+                                                        return builder;
+                                                      }),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("observations")) {
+                                      // Get observations
+                                      final var futureObservations =
+                                          observationHandler.getObservationsMap(
+                                              ids, request.getObservationsMaxPoints());
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureObservations,
+                                              (stream, observations) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllObservations(
+                                                              observations.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("features")) {
+                                      // Get features
+                                      final var futureFeatures = featureHandler.getFeaturesMap(ids);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureFeatures,
+                                              (stream, features) ->
+                                                  stream.map(
+                                                      builder ->
+                                                          builder.addAllFeatures(
+                                                              features.get(builder.getId()))),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("code_version_snapshot")) {
+                                      // Get code version snapshot
+                                      final var futureCodeVersionSnapshots =
+                                          codeVersionHandler.getCodeVersionMap(
+                                              new ArrayList<>(ids));
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              futureCodeVersionSnapshots,
+                                              (stream, codeVersionsMap) ->
+                                                  stream.peek(
+                                                      builder -> {
+                                                        if (codeVersionsMap.containsKey(
+                                                            builder.getId())) {
+                                                          builder.setCodeVersionSnapshot(
+                                                              codeVersionsMap.get(builder.getId()));
+                                                        } else {
+                                                          builder.setCodeVersionSnapshot(
+                                                              CodeVersion.getDefaultInstance());
+                                                        }
+                                                      }),
+                                              executor);
+                                    }
+
+                                    if (fieldProjection.includes("versioned_inputs")) {
+                                      // Get VersionedInputs
+                                      final var futureVersionedInputs =
+                                          versionInputHandler.getVersionedInputs(ids);
+                                      final InternalFuture<Map<String, VersioningEntry>>
+                                          filterPrivilegeVersionedInputMap =
+                                              privilegedVersionedInputsHandler
+                                                  .filterVersionedInputsBasedOnPrivileges(
+                                                      ids,
+                                                      futureVersionedInputs,
+                                                      this
+                                                          ::getEntityPermissionBasedOnResourceTypes);
+                                      futureBuildersStream =
+                                          futureBuildersStream.thenCombine(
+                                              filterPrivilegeVersionedInputMap,
+                                              (stream, versionInputsMap) ->
+                                                  stream.map(
+                                                      builder -> {
+                                                        VersioningEntry finalVersionedInputs =
+                                                            versionInputsMap.get(builder.getId());
+                                                        if (finalVersionedInputs != null) {
+                                                          builder.setVersionedInputs(
+                                                              finalVersionedInputs);
+                                                        } else {
+                                                          builder.clearVersionedInputs();
+                                                        }
+                                                        return builder;
+                                                      }),
+                                              executor);
+                                    }
 
                                     return futureBuildersStream.thenApply(
                                         experimentRunBuilders ->
@@ -1226,7 +1336,7 @@ public class FutureExperimentRunDAO {
         futureProjectIds.thenCompose(
             accessibleProjectIdsQueryContext -> {
               // accessibleProjectIdsQueryContext == null means not allowed anything
-              if (accessibleProjectIdsQueryContext == null) {
+              if (accessibleProjectIdsQueryContext == null || !countRecords) {
                 return InternalFuture.completedInternalFuture(0L);
               } else {
                 final var futureProjectIdsContext =
@@ -1262,11 +1372,21 @@ public class FutureExperimentRunDAO {
         .thenApply(this::sortExperimentRunFields, executor)
         .thenCombine(
             futureCount,
-            (runs, count) ->
-                FindExperimentRuns.Response.newBuilder()
-                    .addAllExperimentRuns(runs)
-                    .setTotalRecords(count)
-                    .build(),
+            (runs, count) -> {
+              final var response =
+                  FindExperimentRuns.Response.newBuilder()
+                      .addAllExperimentRuns(runs)
+                      .setTotalRecords(count);
+              // A full page may be followed by another one
+              if (request.getPageLimit() > 0
+                  && runs.size() == request.getPageLimit()
+                  && lastRowSortValues.get() != null) {
+                response.setNextPageToken(
+                    keysetPaginationHandler.encodePageToken(
+                        request.getSortKey(), request.getAscending(), lastRowSortValues.get()));
+              }
+              return response.build();
+            },
             executor);
   }
 
@@ -1545,9 +1665,150 @@ public class FutureExperimentRunDAO {
                 createExperimentRunHandler
                     .insertExperimentRun(experimentRun)
                     .thenApply(
-                        unused2 ->
-                            sortExperimentRunFields(Collections.singletonList(experimentRun))
-                                .get(0),
+                        unused2 -> {
+                          runProjectIndex.put(experimentRun.getId(), experimentRun.getProjectId());
+                          return sortExperimentRunFields(Collections.singletonList(experimentRun))
+                              .get(0);
+                        },
+                        executor),
+            executor);
+  }
+
+  public InternalFuture<List<ExperimentRun>> createExperimentRuns(CreateExperimentRuns request) {
+    final var requests = request.getExperimentRunsList();
+    final var projectIds =
+        requests.stream()
+            .map(CreateExperimentRun::getProjectId)
+            .distinct()
+            .collect(Collectors.toList());
+    final var experimentIds =
+        requests.stream()
+            .map(CreateExperimentRun::getExperimentId)
+            .distinct()
+            .collect(Collectors.toList());
+    // Validate arguments
+    var futureTask =
+        InternalFuture.runAsync(
+            () -> {
+              if (requests.isEmpty()) {
+                throw new InvalidArgumentException("Experiment runs not present");
+              }
+              for (final var createRequest : requests) {
+                if (createRequest.getProjectId().isEmpty()) {
+                  throw new InvalidArgumentException("Project ID not present");
+                } else if (createRequest.getExperimentId().isEmpty()) {
+                  throw new InvalidArgumentException("Experiment ID not present");
+                }
+              }
+            },
+            executor);
+    return futureTask
+        .thenCompose(
+            unused ->
+                getEntityPermissionBasedOnResourceTypes(
+                    projectIds,
+                    ModelDBActionEnum.ModelDBServiceActions.UPDATE,
+                    ModelDBServiceResourceTypes.PROJECT),
+            executor)
+        .thenAccept(
+            allowed -> {
+              if (!allowed) {
+                throw new PermissionDeniedException(ModelDBMessages.PERMISSION_DENIED);
+              }
+            },
+            executor)
+        .thenCompose(
+            unused ->
+                jdbi.useHandle(
+                    handle -> {
+                      final var existingExperimentIds =
+                          new HashSet<>(
+                              handle
+                                  .createQuery("SELECT id FROM experiment where id IN (<ids>)")
+                                  .bindList("ids", experimentIds)
+                                  .mapTo(String.class)
+                                  .list());
+                      for (final var experimentId : experimentIds) {
+                        if (!existingExperimentIds.contains(experimentId)) {
+                          throw new NotFoundException(
+                              "Experiment not found for given ID: " + experimentId);
+                        }
+                      }
+                    }),
+            executor)
+        .thenCompose(
+            unused -> {
+              final var futureRequests = new ArrayList<InternalFuture<CreateExperimentRun>>();
+              for (final var createRequest : requests) {
+                if (createRequest.getDatasetsCount() == 0) {
+                  futureRequests.add(InternalFuture.completedInternalFuture(createRequest));
+                  continue;
+                }
+                futureRequests.add(
+                    privilegedDatasetsHandler
+                        .filterAndGetPrivilegedDatasetsOnly(
+                            createRequest.getDatasetsList(),
+                            true,
+                            this::getEntityPermissionBasedOnResourceTypes)
+                        .thenApply(
+                            privilegedDatasets ->
+                                createRequest
+                                    .toBuilder()
+                                    .clearDatasets()
+                                    .addAllDatasets(privilegedDatasets)
+                                    .build(),
+                            executor));
+              }
+              return InternalFuture.sequence(futureRequests, executor);
+            },
+            executor)
+        .thenCompose(createExperimentRunHandler::convertCreateRequests, executor)
+        .thenCompose(
+            experimentRuns -> {
+              if (trialConfig == null) {
+                return InternalFuture.completedInternalFuture(experimentRuns);
+              }
+              // The existing runs are counted once per project, with the new ones of the request
+              final var newRunCounts =
+                  experimentRuns.stream()
+                      .collect(
+                          Collectors.groupingBy(
+                              ExperimentRun::getProjectId, Collectors.counting()));
+              final var futureChecks = new ArrayList<InternalFuture<Void>>();
+              for (final var newRunCount : newRunCounts.entrySet()) {
+                futureChecks.add(
+                    findExperimentRuns(
+                            FindExperimentRuns.newBuilder()
+                                .setIdsOnly(true)
+                                .setProjectId(newRunCount.getKey())
+                                .build())
+                        .thenAccept(
+                            runsResponse ->
+                                TrialUtils.validateExperimentRunPerWorkspaceForTrial(
+                                    trialConfig,
+                                    Long.valueOf(
+                                            runsResponse.getTotalRecords()
+                                                + newRunCount.getValue()
+                                                - 1)
+                                        .intValue()),
+                            executor));
+              }
+              return InternalFuture.sequence(futureChecks, executor)
+                  .thenApply(unused -> experimentRuns, executor);
+            },
+            executor)
+        .thenCompose(
+            experimentRuns ->
+                createExperimentRunHandler
+                    .insertExperimentRuns(experimentRuns)
+                    .thenApply(
+                        unused -> {
+                          for (final var experimentRun : experimentRuns) {
+                            runProjectIndex.put(
+                                experimentRun.getId(), experimentRun.getProjectId());
+                          }
+                          return sortExperimentRunFields(experimentRuns);
+                        },
                         executor),
             executor);
   }
@@ -1784,8 +2045,13 @@ public class FutureExperimentRunDAO {
     return validateRequestParamFuture
         .thenCompose(
             unused ->
-                FutureGrpc.ClientRequest(
-                    uac.getUACService().getCurrentUser(Empty.newBuilder().build()), executor),
+                uac.getCurrentUserCache()
+                    .getAsync(
+                        () ->
+                            FutureGrpc.ClientRequest(
+                                uac.getUACService().getCurrentUser(Empty.newBuilder().build()),
+                                executor),
+                        executor),
             executor)
         .thenCompose(
             userInfo ->
@@ -11,6 +11,7 @@ import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.common.exceptions.NotFoundException;
 import ai.verta.modeldb.common.futures.FutureGrpc;
 import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.modeldb.config.LogStreamConfig;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import com.google.protobuf.Value;
 import io.grpc.Status;
@@ -21,12 +22,14 @@ public class FutureExperimentRunServiceImpl extends ExperimentRunServiceImpl {
   private final Executor executor;
   private final FutureExperimentRunDAO futureExperimentRunDAO;
   private final ExperimentRunDAO experimentRunDAO;
+  private final LogStreamConfig logStreamConfig;
 
   public FutureExperimentRunServiceImpl(ServiceSet serviceSet, DAOSet daoSet, Executor executor) {
     super(serviceSet, daoSet);
     this.executor = executor;
     this.futureExperimentRunDAO = daoSet.futureExperimentRunDAO;
     this.experimentRunDAO = daoSet.experimentRunDAO;
+    this.logStreamConfig = serviceSet.app.mdbConfig.logStream;
   }
 
   @Override
@@ -48,6 +51,26 @@ public class FutureExperimentRunServiceImpl extends ExperimentRunServiceImpl {
     }
   }
 
+  @Override
+  public void createExperimentRuns(
+      CreateExperimentRuns request,
+      StreamObserver<CreateExperimentRuns.Response> responseObserver) {
+    try {
+      final var response =
+          futureExperimentRunDAO
+              .createExperimentRuns(request)
+              .thenApply(
+                  experimentRuns ->
+                      CreateExperimentRuns.Response.newBuilder()
+                          .addAllExperimentRuns(experimentRuns)
+                          .build(),
+                  executor);
+      FutureGrpc.ServerResponse(responseObserver, response, executor);
+    } catch (Exception e) {
+      CommonUtils.observeError(responseObserver, e);
+    }
+  }
+
   @Override
   public void deleteExperimentRun(
       DeleteExperimentRun request, StreamObserver<DeleteExperimentRun.Response> responseObserver) {
@@ -421,6 +444,13 @@ public class FutureExperimentRunServiceImpl extends ExperimentRunServiceImpl {
     }
   }
 
+  @Override
+  public StreamObserver<LogExperimentRunData> logExperimentRunDataStream(
+      StreamObserver<LogExperimentRunData.Response> responseObserver) {
+    return new LogExperimentRunDataStreamObserver(
+        futureExperimentRunDAO, responseObserver, logStreamConfig, executor);
+  }
+
   @Override
   public void getObservations(
       GetObservations request, StreamObserver<GetObservations.Response> responseObserver) {
@@ -889,6 +919,18 @@ public class FutureExperimentRunServiceImpl extends ExperimentRunServiceImpl {
     }
   }
 
+  @Override
+  public void findExperimentRunsStream(
+      FindExperimentRuns request, StreamObserver<FindExperimentRuns.Response> responseObserver) {
+    try {
+      new FindExperimentRunsStreamWriter(
+              futureExperimentRunDAO, request, responseObserver, executor)
+          .start();
+    } catch (Exception e) {
+      CommonUtils.observeError(responseObserver, e);
+    }
+  }
+
   @Override
   public void sortExperimentRuns(
       SortExperimentRuns request, StreamObserver<SortExperimentRuns.Response> responseObserver) {
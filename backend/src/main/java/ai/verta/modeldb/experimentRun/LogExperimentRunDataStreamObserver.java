@@ -0,0 +1,222 @@
+package ai.verta.modeldb.experimentRun;
+
+import ai.verta.common.KeyValue;
+import ai.verta.modeldb.LogExperimentRunData;
+import ai.verta.modeldb.Observation;
+import ai.verta.modeldb.common.CommonUtils;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.modeldb.config.LogStreamConfig;
+import ai.verta.modeldb.exceptions.InvalidArgumentException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Server side of the logExperimentRunDataStream call. The UPDATE permission on the run is checked
+ * once when the first message arrives, then the received entries are buffered and flushed to the
+ * database whenever the buffer reaches {@link LogStreamConfig#maxBatchSize} entries or every {@link
+ * LogStreamConfig#flushInterval} ms. Flushes are chained so that they are applied in the order the
+ * entries were received, and the first failure terminates the stream.
+ *
+ * <p>Messages are requested from the client one at a time. When the buffer is full, no more are
+ * requested until its flush is persisted, so a client sending faster than the database writes is
+ * slowed down instead of filling the memory of the server.
+ */
+public class LogExperimentRunDataStreamObserver implements StreamObserver<LogExperimentRunData> {
+  private static final Logger LOGGER =
+      LogManager.getLogger(LogExperimentRunDataStreamObserver.class);
+
+  private final FutureExperimentRunDAO futureExperimentRunDAO;
+  private final StreamObserver<LogExperimentRunData.Response> responseObserver;
+  private final LogStreamConfig logStreamConfig;
+  private final Executor executor;
+  // Null if the transport doesn't support flow control, then messages are delivered as they come
+  private final ServerCallStreamObserver<LogExperimentRunData.Response> callObserver;
+
+  private String runId = null;
+  private InternalFuture<Void> pendingFuture = InternalFuture.completedInternalFuture(null);
+  private List<Observation> observations = new ArrayList<>();
+  private List<KeyValue> metrics = new ArrayList<>();
+  private List<KeyValue> attributes = new ArrayList<>();
+  private long observationsLogged = 0;
+  private long metricsLogged = 0;
+  private long attributesLogged = 0;
+  private boolean closed = false;
+
+  public LogExperimentRunDataStreamObserver(
+      FutureExperimentRunDAO futureExperimentRunDAO,
+      StreamObserver<LogExperimentRunData.Response> responseObserver,
+      LogStreamConfig logStreamConfig,
+      Executor executor) {
+    this.futureExperimentRunDAO = futureExperimentRunDAO;
+    this.responseObserver = responseObserver;
+    this.logStreamConfig = logStreamConfig;
+    this.executor = executor;
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      // Must be disabled before the call handler returns
+      callObserver = (ServerCallStreamObserver<LogExperimentRunData.Response>) responseObserver;
+      callObserver.disableAutoRequest();
+      callObserver.request(1);
+    } else {
+      callObserver = null;
+    }
+    scheduleFlush();
+  }
+
+  @Override
+  public synchronized void onNext(LogExperimentRunData request) {
+    if (closed) {
+      return;
+    }
+
+    if (runId == null) {
+      if (request.getId().isEmpty()) {
+        fail(new InvalidArgumentException("Experiment run ID is missing"));
+        return;
+      }
+      runId = request.getId();
+      pendingFuture = futureExperimentRunDAO.checkExperimentRunUpdatePermission(runId);
+      watch(pendingFuture);
+    } else if (!request.getId().isEmpty() && !request.getId().equals(runId)) {
+      fail(
+          new InvalidArgumentException(
+              "A stream can only log to a single experiment run, expected " + runId));
+      return;
+    }
+
+    observations.addAll(request.getObservationsList());
+    metrics.addAll(request.getMetricsList());
+    attributes.addAll(request.getAttributesList());
+    if (observations.size() + metrics.size() + attributes.size() >= logStreamConfig.maxBatchSize) {
+      // The next message is requested once the buffer is persisted
+      flush(true);
+    } else {
+      requestNext();
+    }
+  }
+
+  @Override
+  public synchronized void onError(Throwable t) {
+    LOGGER.debug("logExperimentRunDataStream cancelled by the client: {}", t.getMessage());
+    // Entries received before the client went away are still persisted
+    flush(false);
+    closed = true;
+  }
+
+  @Override
+  public synchronized void onCompleted() {
+    if (closed) {
+      return;
+    }
+    flush(false);
+    pendingFuture.whenComplete(
+        (unused, throwable) -> {
+          synchronized (this) {
+            if (throwable != null) {
+              fail(throwable);
+              return;
+            }
+            if (closed) {
+              return;
+            }
+            closed = true;
+            responseObserver.onNext(
+                LogExperimentRunData.Response.newBuilder()
+                    .setObservationsLogged(observationsLogged)
+                    .setMetricsLogged(metricsLogged)
+                    .setAttributesLogged(attributesLogged)
+                    .build());
+            responseObserver.onCompleted();
+          }
+        },
+        executor);
+  }
+
+  private void scheduleFlush() {
+    CompletableFuture.delayedExecutor(
+            logStreamConfig.flushInterval, TimeUnit.MILLISECONDS, executor)
+        .execute(
+            () -> {
+              synchronized (this) {
+                if (closed) {
+                  return;
+                }
+                flush(false);
+                scheduleFlush();
+              }
+            });
+  }
+
+  private synchronized void requestNext() {
+    if (!closed && callObserver != null) {
+      callObserver.request(1);
+    }
+  }
+
+  /** Persists the buffered entries, then requests the next message if requestNext is set. */
+  private synchronized void flush(boolean requestNext) {
+    if (closed
+        || runId == null
+        || (observations.isEmpty() && metrics.isEmpty() && attributes.isEmpty())) {
+      if (requestNext) {
+        requestNext();
+      }
+      return;
+    }
+
+    final var batchRunId = runId;
+    final var batchObservations = observations;
+    final var batchMetrics = metrics;
+    final var batchAttributes = attributes;
+    observations = new ArrayList<>();
+    metrics = new ArrayList<>();
+    attributes = new ArrayList<>();
+
+    final var now = Calendar.getInstance().getTimeInMillis();
+    pendingFuture =
+        pendingFuture
+            .thenCompose(
+                unused ->
+                    futureExperimentRunDAO.logExperimentRunDataBatch(
+                        batchRunId, batchObservations, batchMetrics, batchAttributes, now),
+                executor)
+            .thenAccept(
+                unused -> {
+                  synchronized (this) {
+                    observationsLogged += batchObservations.size();
+                    metricsLogged += batchMetrics.size();
+                    attributesLogged += batchAttributes.size();
+                  }
+                  if (requestNext) {
+                    requestNext();
+                  }
+                },
+                executor);
+    watch(pendingFuture);
+  }
+
+  private void watch(InternalFuture<Void> future) {
+    future.whenComplete(
+        (unused, throwable) -> {
+          if (throwable != null) {
+            fail(throwable);
+          }
+        },
+        executor);
+  }
+
+  private synchronized void fail(Throwable t) {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    CommonUtils.observeError(responseObserver, t);
+  }
+}
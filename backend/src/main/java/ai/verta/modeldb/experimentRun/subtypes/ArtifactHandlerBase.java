@@ -5,6 +5,7 @@ import ai.verta.modeldb.App;
 import ai.verta.modeldb.ModelDBConstants;
 import ai.verta.modeldb.ModelDBMessages;
 import ai.verta.modeldb.common.exceptions.InternalErrorException;
+import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.common.futures.FutureJdbi;
 import ai.verta.modeldb.common.futures.InternalFuture;
 import ai.verta.modeldb.config.MDBArtifactStoreConfig;
@@ -14,23 +15,30 @@ import ai.verta.modeldb.exceptions.AlreadyExistsException;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import ai.verta.modeldb.utils.TrialUtils;
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import org.jdbi.v3.core.Handle;
 
 public class ArtifactHandlerBase {
   private static final String FIELD_TYPE_QUERY_PARAM = "field_type";
   private static final String ENTITY_NAME_QUERY_PARAM = "entity_name";
   private static final String ENTITY_ID_QUERY_PARAM = "entity_id";
+  // Largest IN list, SQL Server limiting the number of parameters of a statement
+  private static final int KEYS_CHUNK_SIZE = 1000;
   protected final Executor executor;
   protected final FutureJdbi jdbi;
   protected final String fieldType;
   protected final String entityName;
   protected final String entityIdReferenceColumn;
+  private final String entityTableName;
   private final MDBArtifactStoreConfig artifactStoreConfig;
   private final TrialConfig trialConfig;
+  private final boolean isMssql;
 
   protected String getTableName() {
     return "artifact";
@@ -45,13 +53,16 @@ public class ArtifactHandlerBase {
     MDBConfig mdbConfig = App.getInstance().mdbConfig;
     this.artifactStoreConfig = mdbConfig.artifactStoreConfig;
     this.trialConfig = mdbConfig.trial;
+    this.isMssql = mdbConfig.getDatabase().getRdbConfiguration().isMssql();
 
     switch (entityName) {
       case "ProjectEntity":
         this.entityIdReferenceColumn = "project_id";
+        this.entityTableName = "project";
         break;
       case "ExperimentRunEntity":
         this.entityIdReferenceColumn = "experiment_run_id";
+        this.entityTableName = "experiment_run";
         break;
       default:
         throw new InternalErrorException("Invalid entity name: " + entityName);
@@ -176,129 +187,178 @@ public class ArtifactHandlerBase {
               if (entityId == null || entityId.isEmpty()) {
                 throw new InvalidArgumentException(ModelDBMessages.ENTITY_ID_IS_EMPTY_ERROR);
               }
-              for (final var artifact : artifacts) {
-                String errorMessage = null;
-                if (artifact.getKey().isEmpty()
-                    && (artifact.getPathOnly() && artifact.getPath().isEmpty())) {
-                  errorMessage = "Artifact key and Artifact path not found in request";
-                } else if (artifact.getKey().isEmpty()) {
-                  errorMessage = "Artifact key not found in request";
-                } else if (artifact.getPathOnly() && artifact.getPath().isEmpty()) {
-                  errorMessage = "Artifact path not found in request";
-                }
-
-                if (errorMessage != null) {
-                  throw new InvalidArgumentException(errorMessage);
-                }
-              }
+              validateArtifacts(artifacts);
             },
             executor)
         .thenCompose(
-            unused ->
-                // Check for conflicts
-                jdbi.useHandle(
-                    handle -> {
-                      if (overwrite) {
-                        handle
-                            .createUpdate(
-                                String.format(
-                                    "delete from %s where entity_name=:entity_name and field_type=:field_type and ar_key in (<keys>) and %s =:entity_id",
-                                    getTableName(), entityIdReferenceColumn))
-                            .bindList(
-                                "keys",
-                                artifacts.stream()
-                                    .map(Artifact::getKey)
-                                    .collect(Collectors.toList()))
-                            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                            .bind(ENTITY_ID_QUERY_PARAM, entityId)
-                            .execute();
-                      } else {
-                        for (final var artifact : artifacts) {
-                          handle
-                              .createQuery(
-                                  String.format(
-                                      "select id from %s where entity_name=:entity_name and field_type=:field_type and ar_key=:key and %s =:entity_id",
-                                      getTableName(), entityIdReferenceColumn))
-                              .bind("key", artifact.getKey())
-                              .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                              .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                              .bind(ENTITY_ID_QUERY_PARAM, entityId)
-                              .mapTo(Long.class)
-                              .findOne()
-                              .ifPresent(
-                                  present -> {
-                                    throw new AlreadyExistsException(
-                                        "Key '" + artifact.getKey() + "' already exists");
-                                  });
-                        }
-                      }
-                    }),
-            executor)
-        .thenAccept(
             unused -> {
-              if (entityName.equals("ExperimentRunEntity") && fieldType.equals("artifacts")) {
-                jdbi.withHandle(
-                        handle ->
-                            handle
-                                .createQuery(
-                                    String.format(
-                                        "select count(id) from %s where entity_name=:entity_name and field_type=:field_type and %s =:entity_id ",
-                                        getTableName(), entityIdReferenceColumn))
-                                .bind(ENTITY_ID_QUERY_PARAM, entityId)
-                                .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                                .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                                .mapTo(Long.class)
-                                .one())
-                    .thenAccept(
-                        count ->
-                            TrialUtils.validateMaxArtifactsForTrial(
-                                trialConfig, artifacts.size(), count.intValue()),
-                        executor);
+              if (artifacts.isEmpty()) {
+                return InternalFuture.completedInternalFuture(null);
               }
+              // Check for conflicts and log in a single transaction. The lock of the entity row is
+              // held while a check can be raced by another request: the key conflicts without
+              // overwrite, and the count of the trial artifacts
+              final var checkTrialArtifacts =
+                  trialConfig != null
+                      && entityName.equals("ExperimentRunEntity")
+                      && fieldType.equals("artifacts");
+              return jdbi.useHandle(
+                  handle ->
+                      handle.useTransaction(
+                          handle1 -> {
+                            final var keys =
+                                artifacts.stream()
+                                    .map(Artifact::getKey)
+                                    .collect(Collectors.toList());
+                            if (!overwrite || checkTrialArtifacts) {
+                              lockEntity(handle1, entityId);
+                            }
+                            if (overwrite) {
+                              deleteKeys(handle1, entityId, keys);
+                            } else {
+                              checkKeysConflict(handle1, entityId, keys);
+                            }
+                            if (checkTrialArtifacts) {
+                              validateMaxArtifactsForTrial(handle1, entityId, artifacts.size());
+                            }
+                            insertArtifacts(handle1, Collections.singletonMap(entityId, artifacts));
+                          }));
             },
-            executor)
-        .thenCompose(
-            unused ->
-                // Log
-                jdbi.useHandle(
-                    handle -> {
-                      for (final var artifact : artifacts) {
-                        var storeTypePath =
-                            !artifact.getPathOnly()
-                                ? artifactStoreConfig.storeTypePathPrefix() + artifact.getPath()
-                                : "";
-                        handle
-                            .createUpdate(
-                                "insert into "
-                                    + getTableName()
-                                    + " (entity_name, field_type, ar_key, ar_path, artifact_type, path_only, linked_artifact_id, filename_extension, store_type_path, serialization, artifact_subtype, upload_completed, "
-                                    + entityIdReferenceColumn
-                                    + ") "
-                                    + "values (:entity_name, :field_type, :key, :path, :type,:path_only,:linked_artifact_id,:filename_extension,:store_type_path, :serialization, :artifact_subtype, :upload_completed, :entity_id)")
-                            .bind("key", artifact.getKey())
-                            .bind("path", artifact.getPath())
-                            .bind("type", artifact.getArtifactTypeValue())
-                            .bind("path_only", artifact.getPathOnly())
-                            .bind("linked_artifact_id", artifact.getLinkedArtifactId())
-                            .bind("filename_extension", artifact.getFilenameExtension())
-                            .bind(
-                                "upload_completed",
-                                !artifactStoreConfig
-                                    .getArtifactStoreType()
-                                    .equals(ModelDBConstants.S3))
-                            .bind("store_type_path", storeTypePath)
-                            .bind("serialization", artifact.getSerialization())
-                            .bind("artifact_subtype", artifact.getArtifactSubtype())
-                            .bind(ENTITY_ID_QUERY_PARAM, entityId)
-                            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                            .execute();
-                      }
-                    }),
             executor);
   }
 
+  void validateArtifacts(List<Artifact> artifacts) {
+    for (final var artifact : artifacts) {
+      String errorMessage = null;
+      if (artifact.getKey().isEmpty() && (artifact.getPathOnly() && artifact.getPath().isEmpty())) {
+        errorMessage = "Artifact key and Artifact path not found in request";
+      } else if (artifact.getKey().isEmpty()) {
+        errorMessage = "Artifact key not found in request";
+      } else if (artifact.getPathOnly() && artifact.getPath().isEmpty()) {
+        errorMessage = "Artifact path not found in request";
+      }
+
+      if (errorMessage != null) {
+        throw new InvalidArgumentException(errorMessage);
+      }
+    }
+  }
+
+  /**
+   * Locks the row of the entity until the end of the transaction, so that the requests logging
+   * artifacts of the same entity run one after the other. SQL Server doesn't support SELECT ... FOR
+   * UPDATE, a no-op update of the row takes the lock there.
+   */
+  private void lockEntity(Handle handle, String entityId) {
+    if (isMssql) {
+      handle
+          .createUpdate(
+              String.format(
+                  "update %s set date_updated = date_updated where id = :entity_id",
+                  entityTableName))
+          .bind(ENTITY_ID_QUERY_PARAM, entityId)
+          .execute();
+    } else {
+      handle
+          .createQuery(
+              String.format("select id from %s where id = :entity_id for update", entityTableName))
+          .bind(ENTITY_ID_QUERY_PARAM, entityId)
+          .mapTo(String.class)
+          .findFirst();
+    }
+  }
+
+  private void checkKeysConflict(Handle handle, String entityId, List<String> keys) {
+    for (var from = 0; from < keys.size(); from += KEYS_CHUNK_SIZE) {
+      handle
+          .createQuery(
+              String.format(
+                  "select ar_key from %s where entity_name=:entity_name and field_type=:field_type and ar_key in (<keys>) and %s =:entity_id",
+                  getTableName(), entityIdReferenceColumn))
+          .bindList("keys", keys.subList(from, Math.min(from + KEYS_CHUNK_SIZE, keys.size())))
+          .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+          .bind(ENTITY_ID_QUERY_PARAM, entityId)
+          .mapTo(String.class)
+          .findFirst()
+          .ifPresent(
+              key -> {
+                throw new AlreadyExistsException("Key '" + key + "' already exists");
+              });
+    }
+  }
+
+  private void deleteKeys(Handle handle, String entityId, List<String> keys) {
+    for (var from = 0; from < keys.size(); from += KEYS_CHUNK_SIZE) {
+      handle
+          .createUpdate(
+              String.format(
+                  "delete from %s where entity_name=:entity_name and field_type=:field_type and ar_key in (<keys>) and %s =:entity_id",
+                  getTableName(), entityIdReferenceColumn))
+          .bindList("keys", keys.subList(from, Math.min(from + KEYS_CHUNK_SIZE, keys.size())))
+          .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+          .bind(ENTITY_ID_QUERY_PARAM, entityId)
+          .execute();
+    }
+  }
+
+  private void validateMaxArtifactsForTrial(Handle handle, String entityId, int newArtifactsCount)
+      throws ModelDBException {
+    final var count =
+        handle
+            .createQuery(
+                String.format(
+                    "select count(id) from %s where entity_name=:entity_name and field_type=:field_type and %s =:entity_id ",
+                    getTableName(), entityIdReferenceColumn))
+            .bind(ENTITY_ID_QUERY_PARAM, entityId)
+            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+            .mapTo(Long.class)
+            .one();
+    TrialUtils.validateMaxArtifactsForTrial(trialConfig, newArtifactsCount, count.intValue());
+  }
+
+  /** Inserts the artifacts of the entities, mapped by entity id, as a single batch. */
+  void insertArtifacts(Handle handle, Map<String, List<Artifact>> artifactsByEntityId) {
+    final var uploadCompleted =
+        !artifactStoreConfig.getArtifactStoreType().equals(ModelDBConstants.S3);
+    final var batch =
+        handle.prepareBatch(
+            "insert into "
+                + getTableName()
+                + " (entity_name, field_type, ar_key, ar_path, artifact_type, path_only, linked_artifact_id, filename_extension, store_type_path, serialization, artifact_subtype, upload_completed, "
+                + entityIdReferenceColumn
+                + ") "
+                + "values (:entity_name, :field_type, :key, :path, :type,:path_only,:linked_artifact_id,:filename_extension,:store_type_path, :serialization, :artifact_subtype, :upload_completed, :entity_id)");
+    for (final var entry : artifactsByEntityId.entrySet()) {
+      for (final var artifact : entry.getValue()) {
+        var storeTypePath =
+            !artifact.getPathOnly()
+                ? artifactStoreConfig.storeTypePathPrefix() + artifact.getPath()
+                : "";
+        batch
+            .bind("key", artifact.getKey())
+            .bind("path", artifact.getPath())
+            .bind("type", artifact.getArtifactTypeValue())
+            .bind("path_only", artifact.getPathOnly())
+            .bind("linked_artifact_id", artifact.getLinkedArtifactId())
+            .bind("filename_extension", artifact.getFilenameExtension())
+            .bind("upload_completed", uploadCompleted)
+            .bind("store_type_path", storeTypePath)
+            .bind("serialization", artifact.getSerialization())
+            .bind("artifact_subtype", artifact.getArtifactSubtype())
+            .bind(ENTITY_ID_QUERY_PARAM, entry.getKey())
+            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+            .add();
+      }
+    }
+    if (batch.size() > 0) {
+      batch.execute();
+    }
+  }
+
   public InternalFuture<Void> deleteArtifacts(String entityId, Optional<List<String>> maybeKeys) {
     var currentFuture =
         InternalFuture.runAsync(
@@ -12,4 +12,9 @@ public class AttributeHandler extends KeyValueHandler {
   protected String getTableName() {
     return "attribute";
   }
+
+  @Override
+  protected boolean hasNumberValueColumn() {
+    return false;
+  }
 }
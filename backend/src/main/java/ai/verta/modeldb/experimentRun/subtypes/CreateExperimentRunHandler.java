@@ -20,6 +20,8 @@ import ai.verta.uac.*;
 import com.mysql.cj.jdbc.exceptions.MySQLTransactionRollbackException;
 import java.util.*;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jdbi.v3.core.Handle;
@@ -81,23 +83,8 @@ public class CreateExperimentRunHandler {
   }
 
   public InternalFuture<ExperimentRun> convertCreateRequest(final CreateExperimentRun request) {
-    return FutureGrpc.ClientRequest(
-            uac.getUACService().getCurrentUser(Empty.newBuilder().build()), executor)
-        .thenCompose(
-            currentLoginUserInfo ->
-                TrialUtils.futureValidateExperimentRunPerWorkspaceForTrial(trialConfig, executor)
-                    .thenCompose(
-                        unused -> {
-                          final var experimentRun =
-                              getExperimentRunFromRequest(request, currentLoginUserInfo);
-
-                          TrialUtils.validateMaxArtifactsForTrial(
-                              trialConfig, experimentRun.getArtifactsCount(), 0);
-
-                          return InternalFuture.completedInternalFuture(experimentRun);
-                        },
-                        executor),
-            executor);
+    return convertCreateRequests(Collections.singletonList(request))
+        .thenApply(experimentRuns -> experimentRuns.get(0), executor);
     /*.thenCompose(
     experimentRun -> {
       // TODO: Fix below logic for checking privileges of linked dataset versions
@@ -118,6 +105,39 @@ public class CreateExperimentRunHandler {
         executor)*/
   }
 
+  /**
+   * Converts the requests to ExperimentRun objects, in the same order. The current user and the
+   * trial limits are resolved once for all of them.
+   */
+  public InternalFuture<List<ExperimentRun>> convertCreateRequests(
+      final List<CreateExperimentRun> requests) {
+    return uac.getCurrentUserCache()
+        .getAsync(
+            () ->
+                FutureGrpc.ClientRequest(
+                    uac.getUACService().getCurrentUser(Empty.newBuilder().build()), executor),
+            executor)
+        .thenCompose(
+            currentLoginUserInfo ->
+                TrialUtils.futureValidateExperimentRunPerWorkspaceForTrial(trialConfig, executor)
+                    .thenCompose(
+                        unused -> {
+                          final var experimentRuns = new ArrayList<ExperimentRun>(requests.size());
+                          for (final var request : requests) {
+                            final var experimentRun =
+                                getExperimentRunFromRequest(request, currentLoginUserInfo);
+
+                            TrialUtils.validateMaxArtifactsForTrial(
+                                trialConfig, experimentRun.getArtifactsCount(), 0);
+
+                            experimentRuns.add(experimentRun);
+                          }
+                          return InternalFuture.completedInternalFuture(experimentRuns);
+                        },
+                        executor),
+            executor);
+  }
+
   /**
    * Convert CreateExperimentRun request to Experiment object. This method generate the
    * ExperimentRun Id using UUID and put it in ExperimentRun object.
@@ -183,8 +203,7 @@ public class CreateExperimentRunHandler {
     return experimentRunBuilder.build();
   }
 
-  public InternalFuture<Void> insertExperimentRun(ExperimentRun newExperimentRun) {
-    final var now = Calendar.getInstance().getTimeInMillis();
+  private static Map<String, Object> getRunValueMap(ExperimentRun newExperimentRun) {
     Map<String, Object> runValueMap = new LinkedHashMap<>();
     runValueMap.put("id", newExperimentRun.getId());
     runValueMap.put("project_id", newExperimentRun.getProjectId());
@@ -204,24 +223,24 @@ public class CreateExperimentRunHandler {
     runValueMap.put("environment", null);
     runValueMap.put("deleted", false);
     runValueMap.put("created", false);
+    return runValueMap;
+  }
 
-    // Created comma separated field names from keys of above map
-    String[] fieldsArr = runValueMap.keySet().toArray(new String[0]);
-    var commaFields = String.join(",", fieldsArr);
-
-    StringBuilder queryStrBuilder =
-        new StringBuilder("insert into experiment_run ( ").append(commaFields).append(") values (");
-
-    // Created comma separated query bind arguments for the values
-    // based on the
-    // keys of
-    // above the map
+  private static String buildInsertRunQuery(Set<String> fields) {
+    // Created comma separated field names and query bind arguments from the keys of the run map
     // Ex: VALUES (:project_id, :experiment_id, :name) etc.
-    var bindArguments =
-        String.join(",", Arrays.stream(fieldsArr).map(s -> ":" + s).toArray(String[]::new));
+    return "insert into experiment_run ( "
+        + String.join(",", fields)
+        + ") values ("
+        + fields.stream().map(s -> ":" + s).collect(Collectors.joining(","))
+        + " ) ";
+  }
+
+  public InternalFuture<Void> insertExperimentRun(ExperimentRun newExperimentRun) {
+    final var now = Calendar.getInstance().getTimeInMillis();
+    final var runValueMap = getRunValueMap(newExperimentRun);
 
-    queryStrBuilder.append(bindArguments);
-    queryStrBuilder.append(" ) ");
+    final var queryString = buildInsertRunQuery(runValueMap.keySet());
 
     return jdbi.useHandle(
             handle ->
@@ -237,9 +256,8 @@ public class CreateExperimentRunHandler {
                                 + "' already exists in database");
                       }
 
-                      LOGGER.trace(
-                          "insert experiment run query string: " + queryStrBuilder.toString());
-                      var query = handleForTransaction.createUpdate(queryStrBuilder.toString());
+                      LOGGER.trace("insert experiment run query string: " + queryString);
+                      var query = handleForTransaction.createUpdate(queryString);
 
                       // Inserting fields arguments based on the keys and value of map
                       for (Map.Entry<String, Object> objectEntry : runValueMap.entrySet()) {
@@ -282,41 +300,17 @@ public class CreateExperimentRunHandler {
                     metricsHandler.logKeyValues(
                         newExperimentRun.getId(), newExperimentRun.getMetricsList()));
               }
-              if (!newExperimentRun.getObservationsList().isEmpty()) {
-                futureLogs.add(
-                    observationHandler.logObservations(
-                        newExperimentRun.getId(), newExperimentRun.getObservationsList(), now));
-              }
               if (!newExperimentRun.getArtifactsList().isEmpty()) {
                 futureLogs.add(
                     artifactHandler.logArtifacts(
                         newExperimentRun.getId(), newExperimentRun.getArtifactsList(), false));
               }
-              if (!newExperimentRun.getFeaturesList().isEmpty()) {
-                futureLogs.add(
-                    featureHandler.logFeatures(
-                        newExperimentRun.getId(), newExperimentRun.getFeaturesList()));
-              }
-              if (newExperimentRun.getCodeVersionSnapshot().hasCodeArchive()
-                  || newExperimentRun.getCodeVersionSnapshot().hasGitSnapshot()) {
-                futureLogs.add(
-                    codeVersionHandler.logCodeVersion(
-                        LogExperimentRunCodeVersion.newBuilder()
-                            .setId(newExperimentRun.getId())
-                            .setCodeVersion(newExperimentRun.getCodeVersionSnapshot())
-                            .setOverwrite(false)
-                            .build()));
-              }
               if (!newExperimentRun.getDatasetsList().isEmpty()) {
                 futureLogs.add(
                     datasetHandler.logArtifacts(
                         newExperimentRun.getId(), newExperimentRun.getDatasetsList(), false));
               }
-              if (newExperimentRun.getVersionedInputs().getRepositoryId() != 0) {
-                futureLogs.add(
-                    versionInputHandler.validateAndInsertVersionedInputs(
-                        newExperimentRun.getId(), newExperimentRun.getVersionedInputs()));
-              }
+              futureLogs.addAll(logUnbatchedFields(newExperimentRun, now));
 
               return InternalFuture.sequence(futureLogs, executor)
                   .thenAccept(unused2 -> {}, executor);
@@ -335,6 +329,155 @@ public class CreateExperimentRunHandler {
             executor);
   }
 
+  /**
+   * Logs the fields of the run that have no batch insert: observations, features, code version and
+   * versioned inputs.
+   */
+  private List<InternalFuture<Void>> logUnbatchedFields(ExperimentRun newExperimentRun, long now) {
+    final var futureLogs = new LinkedList<InternalFuture<Void>>();
+    if (!newExperimentRun.getObservationsList().isEmpty()) {
+      futureLogs.add(
+          observationHandler.logObservations(
+              newExperimentRun.getId(), newExperimentRun.getObservationsList(), now));
+    }
+    if (!newExperimentRun.getFeaturesList().isEmpty()) {
+      futureLogs.add(
+          featureHandler.logFeatures(newExperimentRun.getId(), newExperimentRun.getFeaturesList()));
+    }
+    if (newExperimentRun.getCodeVersionSnapshot().hasCodeArchive()
+        || newExperimentRun.getCodeVersionSnapshot().hasGitSnapshot()) {
+      futureLogs.add(
+          codeVersionHandler.logCodeVersion(
+              LogExperimentRunCodeVersion.newBuilder()
+                  .setId(newExperimentRun.getId())
+                  .setCodeVersion(newExperimentRun.getCodeVersionSnapshot())
+                  .setOverwrite(false)
+                  .build()));
+    }
+    if (newExperimentRun.getVersionedInputs().getRepositoryId() != 0) {
+      futureLogs.add(
+          versionInputHandler.validateAndInsertVersionedInputs(
+              newExperimentRun.getId(), newExperimentRun.getVersionedInputs()));
+    }
+    return futureLogs;
+  }
+
+  /**
+   * Inserts the runs together with their tags, attributes, hyperparameters, metrics, artifacts and
+   * datasets as batches of a single transaction. The other fields are then logged run by run, and
+   * the owner role bindings of all the runs are created concurrently.
+   */
+  public InternalFuture<Void> insertExperimentRuns(List<ExperimentRun> newExperimentRuns) {
+    if (newExperimentRuns.isEmpty()) {
+      return InternalFuture.completedInternalFuture(null);
+    }
+    final var now = Calendar.getInstance().getTimeInMillis();
+    final var runIds =
+        newExperimentRuns.stream().map(ExperimentRun::getId).collect(Collectors.toList());
+    return InternalFuture.runAsync(
+            () -> {
+              for (final var newExperimentRun : newExperimentRuns) {
+                if (!newExperimentRun.getTagsList().isEmpty()) {
+                  tagsHandler.validateTags(newExperimentRun.getTagsList());
+                }
+                attributeHandler.validateKeyValues(newExperimentRun.getAttributesList());
+                hyperparametersHandler.validateKeyValues(newExperimentRun.getHyperparametersList());
+                metricsHandler.validateKeyValues(newExperimentRun.getMetricsList());
+                artifactHandler.validateArtifacts(newExperimentRun.getArtifactsList());
+                datasetHandler.validateArtifacts(newExperimentRun.getDatasetsList());
+              }
+            },
+            executor)
+        .thenCompose(
+            unused ->
+                jdbi.useHandle(
+                    handle ->
+                        handle.useTransaction(
+                            TransactionIsolationLevel.READ_COMMITTED,
+                            handleForTransaction -> {
+                              checkInsertedEntitiesAlreadyExist(
+                                  handleForTransaction, newExperimentRuns);
+
+                              final var batch =
+                                  handleForTransaction.prepareBatch(
+                                      buildInsertRunQuery(
+                                          getRunValueMap(newExperimentRuns.get(0)).keySet()));
+                              for (final var newExperimentRun : newExperimentRuns) {
+                                for (final var objectEntry :
+                                    getRunValueMap(newExperimentRun).entrySet()) {
+                                  batch.bind(objectEntry.getKey(), objectEntry.getValue());
+                                }
+                                batch.add();
+                              }
+                              batch.execute();
+
+                              tagsHandler.insertTags(
+                                  handleForTransaction,
+                                  mapByRunId(
+                                      newExperimentRuns,
+                                      run -> new ArrayList<>(new HashSet<>(run.getTagsList()))));
+                              attributeHandler.insertKeyValues(
+                                  handleForTransaction,
+                                  mapByRunId(newExperimentRuns, ExperimentRun::getAttributesList));
+                              hyperparametersHandler.insertKeyValues(
+                                  handleForTransaction,
+                                  mapByRunId(
+                                      newExperimentRuns, ExperimentRun::getHyperparametersList));
+                              metricsHandler.insertKeyValues(
+                                  handleForTransaction,
+                                  mapByRunId(newExperimentRuns, ExperimentRun::getMetricsList));
+                              artifactHandler.insertArtifacts(
+                                  handleForTransaction,
+                                  mapByRunId(newExperimentRuns, ExperimentRun::getArtifactsList));
+                              datasetHandler.insertArtifacts(
+                                  handleForTransaction,
+                                  mapByRunId(newExperimentRuns, ExperimentRun::getDatasetsList));
+                            })),
+            executor)
+        .thenCompose(
+            unused -> {
+              final var futureLogs = new LinkedList<InternalFuture<Void>>();
+              for (final var newExperimentRun : newExperimentRuns) {
+                futureLogs.addAll(logUnbatchedFields(newExperimentRun, now));
+              }
+              return InternalFuture.sequence(futureLogs, executor)
+                  .thenAccept(unused2 -> {}, executor);
+            },
+            executor)
+        .thenCompose(
+            unused -> {
+              // UAC has no batch API for role bindings, and the binding of each run is deleted by
+              // name with the run, so the bindings are created one per run but all at once
+              final var futureBindings = new LinkedList<InternalFuture<Void>>();
+              for (final var newExperimentRun : newExperimentRuns) {
+                futureBindings.add(createRoleBindingsForExperimentRun(newExperimentRun));
+              }
+              return InternalFuture.sequence(futureBindings, executor)
+                  .thenAccept(unused2 -> {}, executor);
+            },
+            executor)
+        .thenCompose(
+            unused ->
+                jdbi.useHandle(
+                    handle ->
+                        handle
+                            .createUpdate(
+                                "UPDATE experiment_run SET created=:created WHERE id IN (<ids>)")
+                            .bind("created", true)
+                            .bindList("ids", runIds)
+                            .execute()),
+            executor);
+  }
+
+  private static <T> Map<String, List<T>> mapByRunId(
+      List<ExperimentRun> experimentRuns, Function<ExperimentRun, List<T>> getter) {
+    final Map<String, List<T>> result = new LinkedHashMap<>();
+    for (final var experimentRun : experimentRuns) {
+      result.put(experimentRun.getId(), getter.apply(experimentRun));
+    }
+    return result;
+  }
+
   private Boolean checkInsertedEntityAlreadyExists(Handle handle, ExperimentRun experimentRun) {
     String queryStr =
         "SELECT count(id) FROM experiment_run WHERE "
@@ -354,6 +497,57 @@ public class CreateExperimentRunHandler {
     }
   }
 
+  /** Fails if any of the runs has the name of another one of its experiment, new or existing. */
+  private void checkInsertedEntitiesAlreadyExist(
+      Handle handle, List<ExperimentRun> experimentRuns) {
+    final Set<List<String>> runKeys = new HashSet<>();
+    for (final var experimentRun : experimentRuns) {
+      final var runKey =
+          Arrays.asList(
+              experimentRun.getProjectId(),
+              experimentRun.getExperimentId(),
+              experimentRun.getName());
+      if (!runKeys.add(runKey)) {
+        throw new AlreadyExistsException(
+            "ExperimentRun '" + experimentRun.getName() + "' already exists in request");
+      }
+    }
+
+    String queryStr =
+        "SELECT name, project_id, experiment_id FROM experiment_run WHERE "
+            + " name IN (<experimentRunNames>) "
+            + " AND experiment_id IN (<experimentIds>) "
+            + " AND deleted = :deleted ";
+    handle.createQuery(queryStr)
+        .bindList(
+            "experimentRunNames",
+            experimentRuns.stream()
+                .map(ExperimentRun::getName)
+                .distinct()
+                .collect(Collectors.toList()))
+        .bindList(
+            "experimentIds",
+            experimentRuns.stream()
+                .map(ExperimentRun::getExperimentId)
+                .distinct()
+                .collect(Collectors.toList()))
+        .bind("deleted", false)
+        .map(
+            (rs, ctx) ->
+                Arrays.asList(
+                    rs.getString("project_id"),
+                    rs.getString("experiment_id"),
+                    rs.getString("name")))
+        .list().stream()
+        .filter(runKeys::contains)
+        .findFirst()
+        .ifPresent(
+            runKey -> {
+              throw new AlreadyExistsException(
+                  "ExperimentRun '" + runKey.get(2) + "' already exists in database");
+            });
+  }
+
   private String buildRoleBindingName(
       String roleName, String resourceId, String vertaId, String resourceTypeName) {
     return roleName + "_" + resourceTypeName + "_" + resourceId + "_" + "User_" + vertaId;
@@ -0,0 +1,30 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.modeldb.ExperimentRun;
+import ai.verta.modeldb.exceptions.InvalidArgumentException;
+import com.google.protobuf.FieldMask;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Top level fields of the experiment runs requested by a field mask, used to skip the subtype
+ * handlers whose fields aren't requested. An empty mask requests every field. Nested paths such as
+ * "metrics.key" request their top level field.
+ */
+public class ExperimentRunFieldProjection {
+  private final Set<String> fields = new HashSet<>();
+
+  public ExperimentRunFieldProjection(FieldMask fieldMask) {
+    for (final var path : fieldMask.getPathsList()) {
+      final var field = path.split("\\.", 2)[0];
+      if (ExperimentRun.getDescriptor().findFieldByName(field) == null) {
+        throw new InvalidArgumentException("Unknown ExperimentRun field in field mask: " + path);
+      }
+      fields.add(field);
+    }
+  }
+
+  public boolean includes(String field) {
+    return fields.isEmpty() || fields.contains(field);
+  }
+}
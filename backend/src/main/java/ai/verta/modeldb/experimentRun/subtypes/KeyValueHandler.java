@@ -1,6 +1,7 @@
 package ai.verta.modeldb.experimentRun.subtypes;
 
 import ai.verta.common.KeyValue;
+import ai.verta.modeldb.App;
 import ai.verta.modeldb.common.CommonUtils;
 import ai.verta.modeldb.common.exceptions.InternalErrorException;
 import ai.verta.modeldb.common.futures.FutureJdbi;
@@ -10,11 +11,16 @@ import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import ai.verta.modeldb.utils.ModelDBUtils;
 import com.google.protobuf.Value;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jdbi.v3.core.Handle;
@@ -27,29 +33,45 @@ public class KeyValueHandler {
   private static final String KEY_QUERY_PARAM = "key";
   private static final String VALUE_QUERY_PARAM = "value";
   private static final String TYPE_QUERY_PARAM = "type";
+  private static final String NUMBER_VALUE_QUERY_PARAM = "number_value";
+  // Largest IN list, SQL Server limiting the number of parameters of a statement
+  private static final int KEYS_CHUNK_SIZE = 1000;
 
   private final Executor executor;
   private final FutureJdbi jdbi;
   private final String fieldType;
   private final String entityName;
   private final String entityIdReferenceColumn;
+  private final String entityTableName;
+  private final boolean isMssql;
 
   protected String getTableName() {
     return "keyvalue";
   }
 
+  /**
+   * Whether the table has the kv_number_value column, which holds numeric values as numbers so that
+   * numeric predicates and sorts can use an index.
+   */
+  protected boolean hasNumberValueColumn() {
+    return true;
+  }
+
   public KeyValueHandler(Executor executor, FutureJdbi jdbi, String fieldType, String entityName) {
     this.executor = executor;
     this.jdbi = jdbi;
     this.fieldType = fieldType;
     this.entityName = entityName;
+    this.isMssql = App.getInstance().mdbConfig.getDatabase().getRdbConfiguration().isMssql();
 
     switch (entityName) {
       case "ProjectEntity":
         this.entityIdReferenceColumn = "project_id";
+        this.entityTableName = "project";
         break;
       case "ExperimentRunEntity":
         this.entityIdReferenceColumn = "experiment_run_id";
+        this.entityTableName = "experiment_run";
         break;
       default:
         throw new InternalErrorException("Invalid entity name: " + entityName);
@@ -91,103 +113,210 @@ public class KeyValueHandler {
   }
 
   public InternalFuture<MapSubtypes<KeyValue>> getKeyValuesMap(Set<String> entityIds) {
+    return getKeyValuesMap(entityIds, Collections.emptyList());
+  }
+
+  /**
+   * Key values of the entities, restricted to the given keys unless keys is empty. The keys are
+   * queried by chunks, like the entity ids of a page they can be numerous.
+   */
+  public InternalFuture<MapSubtypes<KeyValue>> getKeyValuesMap(
+      Set<String> entityIds, Collection<String> keys) {
+    final List<String> keyList = new ArrayList<>(keys);
     return jdbi.withHandle(
-            handle ->
-                handle
-                    .createQuery(
-                        String.format(
-                            "select kv_key as k, kv_value as v, value_type as t, %s as entity_id from %s where entity_name=:entity_name and field_type=:field_type and %s in (<entity_ids>)",
-                            entityIdReferenceColumn, getTableName(), entityIdReferenceColumn))
-                    .bindList("entity_ids", entityIds)
-                    .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                    .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                    .map(
-                        (rs, ctx) ->
-                            new AbstractMap.SimpleEntry<>(
-                                rs.getString(ENTITY_ID_PARAM_QUERY),
-                                KeyValue.newBuilder()
-                                    .setKey(rs.getString("k"))
-                                    .setValue(
-                                        (Value.Builder)
-                                            CommonUtils.getProtoObjectFromString(
-                                                rs.getString("v"), Value.newBuilder()))
-                                    .setValueTypeValue(rs.getInt("t"))
-                                    .build()))
-                    .list())
+            handle -> {
+              if (keyList.isEmpty()) {
+                return getKeyValueEntries(handle, entityIds, keyList);
+              }
+              final List<AbstractMap.SimpleEntry<String, KeyValue>> entries = new ArrayList<>();
+              for (var from = 0; from < keyList.size(); from += KEYS_CHUNK_SIZE) {
+                entries.addAll(
+                    getKeyValueEntries(
+                        handle,
+                        entityIds,
+                        keyList.subList(from, Math.min(from + KEYS_CHUNK_SIZE, keyList.size()))));
+              }
+              return entries;
+            })
         .thenApply(MapSubtypes::from, executor);
   }
 
+  private List<AbstractMap.SimpleEntry<String, KeyValue>> getKeyValueEntries(
+      Handle handle, Set<String> entityIds, List<String> keys) {
+    var queryString =
+        String.format(
+            "select kv_key as k, kv_value as v, value_type as t, %s as entity_id from %s where entity_name=:entity_name and field_type=:field_type and %s in (<entity_ids>)",
+            entityIdReferenceColumn, getTableName(), entityIdReferenceColumn);
+    if (!keys.isEmpty()) {
+      queryString += " AND kv_key IN (<keys>)";
+    }
+    var query = handle.createQuery(queryString);
+    if (!keys.isEmpty()) {
+      query.bindList("keys", keys);
+    }
+    return query
+        .bindList("entity_ids", entityIds)
+        .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+        .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+        .map(
+            (rs, ctx) ->
+                new AbstractMap.SimpleEntry<>(
+                    rs.getString(ENTITY_ID_PARAM_QUERY),
+                    KeyValue.newBuilder()
+                        .setKey(rs.getString("k"))
+                        .setValue(
+                            (Value.Builder)
+                                CommonUtils.getProtoObjectFromString(
+                                    rs.getString("v"), Value.newBuilder()))
+                        .setValueTypeValue(rs.getInt("t"))
+                        .build()))
+        .list();
+  }
+
   public InternalFuture<Void> logKeyValues(String entityId, List<KeyValue> kvs) {
+    return logKeyValues(entityId, kvs, false);
+  }
+
+  /**
+   * Logs the key values of the entity in a single transaction. The keys already logged fail the
+   * whole request with an {@link AlreadyExistsException}, unless overwrite is set, in which case
+   * their current values are replaced.
+   */
+  public InternalFuture<Void> logKeyValues(String entityId, List<KeyValue> kvs, boolean overwrite) {
     // Validate input
-    return InternalFuture.runAsync(
-            () -> {
-              Set<String> keySet = new HashSet<>();
-              for (final var kv : kvs) {
-                if (kv.getKey().isEmpty()) {
-                  throw new InvalidArgumentException("Empty key");
-                }
-                if (keySet.contains(kv.getKey())) {
-                  throw new InvalidArgumentException(
-                      "Multiple key " + kv.getKey() + " found in request");
-                }
-                keySet.add(kv.getKey());
-              }
-            },
-            executor)
-        .thenCompose(
-            unused ->
-                // Check for conflicts
-                jdbi.useHandle(
-                    handle -> {
-                      for (final var kv : kvs) {
-                        handle
-                            .createQuery(
-                                String.format(
-                                    "select id from %s where entity_name=:entity_name and field_type=:field_type and kv_key=:key and %s =:entity_id",
-                                    getTableName(), entityIdReferenceColumn))
-                            .bind(KEY_QUERY_PARAM, kv.getKey())
-                            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                            .bind(ENTITY_ID_PARAM_QUERY, entityId)
-                            .mapTo(Long.class)
-                            .findOne()
-                            .ifPresent(
-                                present -> {
-                                  throw new AlreadyExistsException(
-                                      "Key " + kv.getKey() + " already exists");
-                                });
-                      }
-                    }),
-            executor)
-        .thenCompose(
-            unused ->
-                // Log
-                jdbi.useHandle(
-                    handle -> {
-                      for (final var kv : kvs) {
-                        insertKeyValue(entityId, handle, kv);
-                      }
-                    }),
-            executor);
+    var currentFuture = InternalFuture.runAsync(() -> validateKeyValues(kvs), executor);
+
+    if (kvs.isEmpty()) {
+      return currentFuture;
+    }
+
+    // Check for conflicts and log in a single transaction. Without overwrite, the lock of the
+    // entity
+    // row is held so that a key can't be logged by another request between the check and the insert
+    final var keys = kvs.stream().map(KeyValue::getKey).collect(Collectors.toList());
+    return currentFuture.thenCompose(
+        unused ->
+            jdbi.useHandle(
+                handle ->
+                    handle.useTransaction(
+                        handle1 -> {
+                          if (overwrite) {
+                            deleteKeys(handle1, entityId, keys);
+                          } else {
+                            lockEntity(handle1, entityId);
+                            checkKeysConflict(handle1, entityId, keys);
+                          }
+                          insertKeyValues(handle1, Collections.singletonMap(entityId, kvs));
+                        })),
+        executor);
+  }
+
+  void validateKeyValues(List<KeyValue> kvs) {
+    Set<String> keySet = new HashSet<>();
+    for (final var kv : kvs) {
+      if (kv.getKey().isEmpty()) {
+        throw new InvalidArgumentException("Empty key");
+      }
+      if (keySet.contains(kv.getKey())) {
+        throw new InvalidArgumentException("Multiple key " + kv.getKey() + " found in request");
+      }
+      keySet.add(kv.getKey());
+    }
+  }
+
+  /**
+   * Locks the row of the entity until the end of the transaction, so that the requests logging new
+   * key values of the same entity run one after the other. The conflict check alone doesn't prevent
+   * two requests from inserting the same key under READ COMMITTED. SQL Server doesn't support
+   * SELECT ... FOR UPDATE, a no-op update of the row takes the lock there.
+   */
+  private void lockEntity(Handle handle, String entityId) {
+    if (isMssql) {
+      handle
+          .createUpdate(
+              String.format(
+                  "update %s set date_updated = date_updated where id = :entity_id",
+                  entityTableName))
+          .bind(ENTITY_ID_PARAM_QUERY, entityId)
+          .execute();
+    } else {
+      handle
+          .createQuery(
+              String.format("select id from %s where id = :entity_id for update", entityTableName))
+          .bind(ENTITY_ID_PARAM_QUERY, entityId)
+          .mapTo(String.class)
+          .findFirst();
+    }
+  }
+
+  private void checkKeysConflict(Handle handle, String entityId, List<String> keys) {
+    for (var from = 0; from < keys.size(); from += KEYS_CHUNK_SIZE) {
+      handle
+          .createQuery(
+              String.format(
+                  "select kv_key from %s where entity_name=:entity_name and field_type=:field_type and kv_key in (<keys>) and %s =:entity_id",
+                  getTableName(), entityIdReferenceColumn))
+          .bindList("keys", keys.subList(from, Math.min(from + KEYS_CHUNK_SIZE, keys.size())))
+          .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+          .bind(ENTITY_ID_PARAM_QUERY, entityId)
+          .mapTo(String.class)
+          .findFirst()
+          .ifPresent(
+              key -> {
+                throw new AlreadyExistsException("Key " + key + " already exists");
+              });
+    }
+  }
+
+  private void deleteKeys(Handle handle, String entityId, List<String> keys) {
+    for (var from = 0; from < keys.size(); from += KEYS_CHUNK_SIZE) {
+      handle
+          .createUpdate(
+              String.format(
+                  "delete from %s where entity_name=:entity_name and field_type=:field_type and kv_key in (<keys>) and %s =:entity_id",
+                  getTableName(), entityIdReferenceColumn))
+          .bindList("keys", keys.subList(from, Math.min(from + KEYS_CHUNK_SIZE, keys.size())))
+          .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+          .bind(ENTITY_ID_PARAM_QUERY, entityId)
+          .execute();
+    }
   }
 
-  private void insertKeyValue(String entityId, Handle handle, KeyValue kv) {
+  /** Inserts the key values of the entities, mapped by entity id, as a single batch. */
+  void insertKeyValues(Handle handle, Map<String, List<KeyValue>> kvsByEntityId) {
     var queryString =
         "insert into "
             + getTableName()
             + " (entity_name, field_type, kv_key, kv_value, value_type, "
+            + (hasNumberValueColumn() ? "kv_number_value, " : "")
             + entityIdReferenceColumn
             + ") "
-            + "values (:entity_name, :field_type, :key, :value, :type, :entity_id)";
-    try (var queryHandler = handle.createUpdate(queryString)) {
-      queryHandler
-          .bind(KEY_QUERY_PARAM, kv.getKey())
-          .bind(VALUE_QUERY_PARAM, ModelDBUtils.getStringFromProtoObject(kv.getValue()))
-          .bind(TYPE_QUERY_PARAM, kv.getValueTypeValue())
-          .bind(ENTITY_ID_PARAM_QUERY, entityId)
-          .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-          .execute();
+            + "values (:entity_name, :field_type, :key, :value, :type, "
+            + (hasNumberValueColumn() ? ":number_value, " : "")
+            + ":entity_id)";
+    final var batch = handle.prepareBatch(queryString);
+    for (final var entry : kvsByEntityId.entrySet()) {
+      for (final var kv : entry.getValue()) {
+        if (hasNumberValueColumn()) {
+          batch.bindByType(
+              NUMBER_VALUE_QUERY_PARAM,
+              ModelDBUtils.getNumberValueOrNull(kv.getValue()),
+              Double.class);
+        }
+        batch
+            .bind(KEY_QUERY_PARAM, kv.getKey())
+            .bind(VALUE_QUERY_PARAM, ModelDBUtils.getStringFromProtoObject(kv.getValue()))
+            .bind(TYPE_QUERY_PARAM, kv.getValueTypeValue())
+            .bind(ENTITY_ID_PARAM_QUERY, entry.getKey())
+            .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
+            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+            .add();
+      }
+    }
+    if (batch.size() > 0) {
+      batch.execute();
     }
   }
 
@@ -221,66 +350,6 @@ public class KeyValueHandler {
   // TODO: We might end up removing this update since ERs don't have them.
   // Comment: https://github.com/VertaAI/modeldb/pull/2118#discussion_r613762413
   public InternalFuture<Void> updateKeyValue(String entityId, KeyValue kv) {
-    var currentFuture =
-        InternalFuture.runAsync(
-            () -> {
-              if (kv.getKey().isEmpty()) {
-                throw new InvalidArgumentException("Empty key");
-              }
-            },
-            executor);
-
-    currentFuture =
-        currentFuture
-            .thenCompose(
-                unused ->
-                    // Check for conflicts
-                    keyValueExists(entityId, kv),
-                executor)
-            .thenCompose(
-                exists ->
-                    // Update into KV table
-                    jdbi.useHandle(
-                        handle -> {
-                          if (exists) {
-                            handle
-                                .createUpdate(
-                                    String.format(
-                                        "Update %s SET kv_key=:key, kv_value=:value, value_type=:type "
-                                            + " where entity_name=:entity_name and field_type=:field_type and kv_key=:key and %s =:entity_id",
-                                        getTableName(), entityIdReferenceColumn))
-                                .bind(KEY_QUERY_PARAM, kv.getKey())
-                                .bind(
-                                    VALUE_QUERY_PARAM,
-                                    ModelDBUtils.getStringFromProtoObject(kv.getValue()))
-                                .bind(TYPE_QUERY_PARAM, kv.getValueTypeValue())
-                                .bind(ENTITY_ID_PARAM_QUERY, entityId)
-                                .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                                .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                                .execute();
-                          } else {
-                            insertKeyValue(entityId, handle, kv);
-                          }
-                        }),
-                executor);
-    return currentFuture;
-  }
-
-  private InternalFuture<Boolean> keyValueExists(String entityId, KeyValue kv) {
-    // Check for conflicts
-    return jdbi.withHandle(
-            handle ->
-                handle
-                    .createQuery(
-                        String.format(
-                            "select id from %s where entity_name=:entity_name and field_type=:field_type and kv_key=:key and %s =:entity_id",
-                            getTableName(), entityIdReferenceColumn))
-                    .bind(KEY_QUERY_PARAM, kv.getKey())
-                    .bind(FIELD_TYPE_QUERY_PARAM, fieldType)
-                    .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                    .bind(ENTITY_ID_PARAM_QUERY, entityId)
-                    .mapTo(Long.class)
-                    .findOne())
-        .thenApply(count -> (count.isPresent() && count.get() > 0), executor);
+    return logKeyValues(entityId, Collections.singletonList(kv), true);
   }
 }
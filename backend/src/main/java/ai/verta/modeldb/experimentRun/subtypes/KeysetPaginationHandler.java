@@ -0,0 +1,207 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.modeldb.common.EnumerateList;
+import ai.verta.modeldb.common.query.QueryFilterContext;
+import ai.verta.modeldb.exceptions.InvalidArgumentException;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Value;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset pagination of the experiment runs. The sort items of a {@link QueryFilterContext} are
+ * flattened into sort columns, followed by the run id so that the order is total. A page token
+ * holds the values of these columns for the last row of a page, and the next page is selected with
+ * a seek predicate on them instead of an OFFSET, so its cost doesn't depend on how deep the page
+ * is.
+ *
+ * <p>Columns of the joined sort tables can be NULL for runs without the sorted key: they are always
+ * sorted last, whatever the direction, so that the seek predicate can be expressed portably.
+ */
+public class KeysetPaginationHandler {
+  private static final String RUN_ID_COLUMN = "experiment_run.id";
+  private static final String SORT_VALUE_ALIAS = "sort_value_";
+  private static final String BIND_PREFIX = "page_token_value_";
+
+  public static class SortColumn {
+    private final String expression;
+    private final boolean ascending;
+    private final boolean nullable;
+
+    SortColumn(String expression, boolean ascending, boolean nullable) {
+      this.expression = expression;
+      this.ascending = ascending;
+      this.nullable = nullable;
+    }
+  }
+
+  /** Sort columns of the query, the table items being joined as join_table_index. */
+  public List<SortColumn> getSortColumns(QueryFilterContext queryContext) {
+    final var sortColumns = new ArrayList<SortColumn>();
+    for (final var item : new EnumerateList<>(queryContext.getOrderItems()).getList()) {
+      if (item.getValue().getTable() != null) {
+        for (final var orderColumn : item.getValue().getColumns()) {
+          sortColumns.add(
+              new SortColumn(
+                  String.format("join_table_%d.%s", item.getIndex(), orderColumn.getColumn()),
+                  orderColumn.getAscending(),
+                  true));
+        }
+      } else if (item.getValue().getColumn() != null) {
+        sortColumns.add(
+            new SortColumn(item.getValue().getColumn(), item.getValue().getAscending(), false));
+      }
+    }
+    sortColumns.add(new SortColumn(RUN_ID_COLUMN, true, false));
+    return sortColumns;
+  }
+
+  /** Extra select expressions exposing the sort values, to build the token of the next page. */
+  public String getSelectColumns(List<SortColumn> sortColumns) {
+    final var selectColumns = new StringBuilder();
+    for (final var column : new EnumerateList<>(sortColumns).getList()) {
+      selectColumns.append(
+          String.format(
+              ", %s as %s%d", column.getValue().expression, SORT_VALUE_ALIAS, column.getIndex()));
+    }
+    return selectColumns.toString();
+  }
+
+  public String getOrderByClause(List<SortColumn> sortColumns) {
+    final var orderColumns = new ArrayList<String>();
+    for (final var column : sortColumns) {
+      if (column.nullable) {
+        orderColumns.add(
+            String.format("CASE WHEN %s IS NULL THEN 1 ELSE 0 END ASC", column.expression));
+      }
+      orderColumns.add(column.expression + (column.ascending ? " ASC" : " DESC"));
+    }
+    return " ORDER BY " + String.join(", ", orderColumns);
+  }
+
+  public List<Object> getSortValues(ResultSet rs, List<SortColumn> sortColumns)
+      throws SQLException {
+    final var values = new ArrayList<>(sortColumns.size());
+    for (var i = 0; i < sortColumns.size(); i++) {
+      values.add(rs.getObject(SORT_VALUE_ALIAS + i));
+    }
+    return values;
+  }
+
+  /**
+   * Adds to the query context the condition selecting the rows after the ones of the token. The
+   * token must have been produced for the same sort key and direction.
+   */
+  public void addSeekPredicate(
+      QueryFilterContext queryContext,
+      List<SortColumn> sortColumns,
+      String pageToken,
+      String sortKey,
+      boolean ascending) {
+    final var values = decodePageToken(pageToken, sortKey, ascending, sortColumns.size());
+
+    // (c0 after v0) OR (c0 = v0 AND c1 after v1) OR ... with NULLs sorted after any value
+    final var alternatives = new ArrayList<String>();
+    final var equalities = new ArrayList<String>();
+    for (var i = 0; i < sortColumns.size(); i++) {
+      final var column = sortColumns.get(i);
+      final var value = values.get(i);
+      final var bindName = BIND_PREFIX + i;
+      if (value != null) {
+        var after =
+            String.format("%s %s :%s", column.expression, column.ascending ? ">" : "<", bindName);
+        if (column.nullable) {
+          after = String.format("(%s IS NULL OR %s)", column.expression, after);
+        }
+        alternatives.add(joinConditions(equalities, after));
+        equalities.add(String.format("%s = :%s", column.expression, bindName));
+        queryContext.addBind(q -> q.bind(bindName, value));
+      } else {
+        // Nothing sorts after a NULL but other NULLs
+        equalities.add(column.expression + " IS NULL");
+      }
+    }
+    queryContext
+        .getConditions()
+        .add(alternatives.isEmpty() ? "1 = 0" : "(" + String.join(" OR ", alternatives) + ")");
+  }
+
+  private static String joinConditions(List<String> equalities, String last) {
+    final var conditions = new ArrayList<>(equalities);
+    conditions.add(last);
+    return "(" + String.join(" AND ", conditions) + ")";
+  }
+
+  public String encodePageToken(String sortKey, boolean ascending, List<Object> values) {
+    final var token = ListValue.newBuilder();
+    token.addValues(Value.newBuilder().setStringValue(sortKey));
+    token.addValues(Value.newBuilder().setBoolValue(ascending));
+    for (final var value : values) {
+      final String encodedValue;
+      if (value == null) {
+        encodedValue = "N";
+      } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+        encodedValue = "L" + ((Number) value).longValue();
+      } else if (value instanceof Double || value instanceof Float) {
+        encodedValue = "D" + ((Number) value).doubleValue();
+      } else if (value instanceof BigDecimal) {
+        encodedValue = "B" + ((BigDecimal) value).toPlainString();
+      } else {
+        encodedValue = "S" + value;
+      }
+      token.addValues(Value.newBuilder().setStringValue(encodedValue));
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token.build().toByteArray());
+  }
+
+  private List<Object> decodePageToken(
+      String pageToken, String sortKey, boolean ascending, int expectedSize) {
+    final ListValue token;
+    try {
+      token = ListValue.parseFrom(Base64.getUrlDecoder().decode(pageToken));
+    } catch (IllegalArgumentException | InvalidProtocolBufferException e) {
+      throw new InvalidArgumentException("Invalid page token");
+    }
+    if (token.getValuesCount() != expectedSize + 2
+        || !token.getValues(0).getStringValue().equals(sortKey)
+        || token.getValues(1).getBoolValue() != ascending) {
+      throw new InvalidArgumentException(
+          "Page token doesn't match the sort key and order of the request");
+    }
+
+    final var values = new ArrayList<>(expectedSize);
+    try {
+      for (final var encoded : token.getValuesList().subList(2, token.getValuesCount())) {
+        final var encodedValue = encoded.getStringValue();
+        final var payload = encodedValue.length() > 0 ? encodedValue.substring(1) : "";
+        switch (encodedValue.isEmpty() ? ' ' : encodedValue.charAt(0)) {
+          case 'N':
+            values.add(null);
+            break;
+          case 'L':
+            values.add(Long.parseLong(payload));
+            break;
+          case 'D':
+            values.add(Double.parseDouble(payload));
+            break;
+          case 'B':
+            values.add(new BigDecimal(payload));
+            break;
+          case 'S':
+            values.add(payload);
+            break;
+          default:
+            throw new InvalidArgumentException("Invalid page token");
+        }
+      }
+    } catch (NumberFormatException e) {
+      throw new InvalidArgumentException("Invalid page token");
+    }
+    return values;
+  }
+}
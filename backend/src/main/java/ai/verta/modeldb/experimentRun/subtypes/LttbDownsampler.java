@@ -0,0 +1,122 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Largest-triangle-three-buckets downsampling of a series whose size is known upfront, fed one
+ * point at a time in x order. Only the points of the current and the next bucket are buffered, so a
+ * series can be downsampled while it is read from the database without materializing it.
+ *
+ * <p>If more points than announced are added, the extra ones go to the last bucket; if the series
+ * has at most {@code threshold} points it is returned as is.
+ */
+public class LttbDownsampler<T> {
+  private final int threshold;
+  private final double bucketSize;
+  private final boolean passThrough;
+  private final ToDoubleFunction<T> x;
+  private final ToDoubleFunction<T> y;
+  private final List<T> output;
+
+  private T selected = null;
+  private T pending = null;
+  private long middleIndex = 0;
+  private long currentBucketIndex = 0;
+  private List<T> currentBucket = new ArrayList<>();
+  private List<T> nextBucket = new ArrayList<>();
+  private double nextBucketSumX = 0;
+  private double nextBucketSumY = 0;
+
+  public LttbDownsampler(long total, int threshold, ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+    if (threshold < 3) {
+      throw new IllegalArgumentException("LTTB threshold should be at least 3");
+    }
+    this.threshold = threshold;
+    this.passThrough = total <= threshold;
+    this.bucketSize = passThrough ? 1 : (double) (total - 2) / (threshold - 2);
+    this.x = x;
+    this.y = y;
+    this.output = new ArrayList<>((int) Math.min(total, threshold));
+  }
+
+  public void add(T point) {
+    if (passThrough) {
+      output.add(point);
+      return;
+    }
+    if (selected == null) {
+      // The first point is always kept
+      selected = point;
+      output.add(point);
+      return;
+    }
+    // The last point is always kept, so each point is held back until the next one arrives
+    if (pending != null) {
+      assign(pending);
+    }
+    pending = point;
+  }
+
+  public List<T> finish() {
+    if (passThrough || pending == null) {
+      return output;
+    }
+    if (!nextBucket.isEmpty()) {
+      selectFromCurrentBucket(
+          nextBucketSumX / nextBucket.size(), nextBucketSumY / nextBucket.size());
+      shiftBuckets();
+    }
+    selectFromCurrentBucket(x.applyAsDouble(pending), y.applyAsDouble(pending));
+    output.add(pending);
+    return output;
+  }
+
+  private void assign(T point) {
+    final var bucketIndex = Math.min((long) (middleIndex++ / bucketSize), (long) threshold - 3);
+    while (bucketIndex > currentBucketIndex + 1) {
+      selectFromCurrentBucket(
+          nextBucketSumX / nextBucket.size(), nextBucketSumY / nextBucket.size());
+      shiftBuckets();
+    }
+    if (bucketIndex == currentBucketIndex) {
+      currentBucket.add(point);
+    } else {
+      nextBucket.add(point);
+      nextBucketSumX += x.applyAsDouble(point);
+      nextBucketSumY += y.applyAsDouble(point);
+    }
+  }
+
+  private void shiftBuckets() {
+    currentBucket = nextBucket;
+    currentBucketIndex++;
+    nextBucket = new ArrayList<>();
+    nextBucketSumX = 0;
+    nextBucketSumY = 0;
+  }
+
+  /** Keeps the point of the current bucket forming the largest triangle with its neighbours. */
+  private void selectFromCurrentBucket(double nextX, double nextY) {
+    if (currentBucket.isEmpty()) {
+      return;
+    }
+    final var selectedX = x.applyAsDouble(selected);
+    final var selectedY = y.applyAsDouble(selected);
+    var best = currentBucket.get(0);
+    var bestArea = -1.0;
+    for (final var point : currentBucket) {
+      final var area =
+          Math.abs(
+              (selectedX - nextX) * (y.applyAsDouble(point) - selectedY)
+                  - (selectedX - x.applyAsDouble(point)) * (nextY - selectedY));
+      if (area > bestArea) {
+        best = point;
+        bestArea = area;
+      }
+    }
+    selected = best;
+    output.add(best);
+  }
+}
@@ -3,19 +3,32 @@ package ai.verta.modeldb.experimentRun.subtypes;
 import ai.verta.common.KeyValue;
 import ai.verta.modeldb.Observation;
 import ai.verta.modeldb.common.CommonUtils;
+import ai.verta.modeldb.common.config.Config;
+import ai.verta.modeldb.common.exceptions.InternalErrorException;
 import ai.verta.modeldb.common.futures.FutureJdbi;
 import ai.verta.modeldb.common.futures.InternalFuture;
+import ai.verta.modeldb.config.ObservationStoreConfig;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import ai.verta.modeldb.utils.ModelDBUtils;
 import com.google.protobuf.Value;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 
 public class ObservationHandler {
@@ -26,16 +39,35 @@ public class ObservationHandler {
   private static final String EXPERIMENT_RUN_ENTITY_QUERY_VALUE = "ExperimentRunEntity";
   private static final String EPOCH_QUERY_PARAM = "epoch";
   private static final String FIELD_TYPE_QUERY_PARAM = "field_type";
+  private static final String PACKED_QUERY_PARAM = "packed";
 
   private final Executor executor;
   private final FutureJdbi jdbi;
+  private final boolean isMssql;
+  private final ObservationSeriesStore seriesStore;
 
-  public ObservationHandler(Executor executor, FutureJdbi jdbi) {
+  public ObservationHandler(
+      Executor executor,
+      FutureJdbi jdbi,
+      Config config,
+      ObservationStoreConfig observationStoreConfig) {
     this.executor = executor;
     this.jdbi = jdbi;
+    this.isMssql = config.getDatabase().getRdbConfiguration().isMssql();
+    this.seriesStore = new ObservationSeriesStore(observationStoreConfig.maxBlockSize);
   }
 
   public InternalFuture<List<Observation>> getObservations(String runId, String key) {
+    return getObservations(runId, key, 0);
+  }
+
+  /**
+   * Returns the observations of the key. If maxPoints is not 0 and the series is longer, it is
+   * downsampled to maxPoints points over the epochs with {@link LttbDownsampler}, while the rows
+   * are read.
+   */
+  public InternalFuture<List<Observation>> getObservations(
+      String runId, String key, int maxPoints) {
     // TODO: support artifacts?
 
     // Validate input
@@ -45,77 +77,407 @@ public class ObservationHandler {
               if (key.isEmpty()) {
                 throw new InvalidArgumentException("Empty observation key");
               }
+              validateMaxPoints(maxPoints);
             },
             executor);
 
-    // Query
+    // Query both the keyvalue rows and the packed series, which hold the numeric observations
+    // packed by the ObservationSeriesMigration. The packed points also have a keyvalue row, for the
+    // predicates of FindExperimentRuns, which is skipped here
     return currentFuture.thenCompose(
         unused ->
             jdbi.withHandle(
-                handle ->
-                    handle
-                        .createQuery(
-                            "select k.kv_value _value, k.value_type _type, o.epoch_number epoch from "
-                                + "(select keyvaluemapping_id, epoch_number from observation "
-                                + "where experiment_run_id =:run_id and entity_name = :entity_name) o, "
-                                + "(select id, kv_value, value_type from keyvalue where kv_key =:name and entity_name IS NULL) k "
-                                + "where o.keyvaluemapping_id = k.id")
-                        .bind(RUN_ID_QUERY_PARAM, runId)
-                        .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
-                        .bind(NAME_QUERY_PARAM, key)
-                        .map(
-                            (rs, ctx) ->
-                                Observation.newBuilder()
-                                    .setEpochNumber(
-                                        Value.newBuilder()
-                                            .setNumberValue(rs.getLong(EPOCH_QUERY_PARAM)))
-                                    .setAttribute(
-                                        KeyValue.newBuilder()
-                                            .setKey(key)
-                                            .setValue(
-                                                (Value.Builder)
-                                                    CommonUtils.getProtoObjectFromString(
-                                                        rs.getString("_value"), Value.newBuilder()))
-                                            .setValueTypeValue(rs.getInt("_type")))
-                                    .build())
-                        .list()),
+                handle -> {
+                  if (maxPoints == 0) {
+                    final var observations = new ArrayList<Observation>();
+                    forEachObservation(handle, runId, key, false, observations::add);
+                    return observations;
+                  }
+
+                  final var total =
+                      countObservations(handle, Collections.singleton(runId), Optional.of(key))
+                          .values().stream()
+                          .flatMap(counts -> counts.values().stream())
+                          .mapToLong(Long::longValue)
+                          .sum();
+                  final var downsampler = newDownsampler(total, maxPoints);
+                  forEachObservation(handle, runId, key, true, downsampler::add);
+                  return downsampler.finish();
+                }),
         executor);
   }
 
+  /**
+   * Feeds the observations of the key to the consumer. If ordered, the keyvalue rows and the packed
+   * points are merged so that the consumer gets them in epoch order.
+   */
+  private void forEachObservation(
+      Handle handle, String runId, String key, boolean ordered, Consumer<Observation> consumer) {
+    if (!ordered) {
+      forEachKeyValueObservation(handle, runId, key, false, consumer);
+      seriesStore.forEachBlock(
+          handle,
+          runId,
+          key,
+          block -> {
+            for (var i = 0; i < block.series.size(); i++) {
+              consumer.accept(toObservation(block, i, false));
+            }
+          });
+      return;
+    }
+
+    final var packedPoints = new PackedPoints();
+    seriesStore.forEachBlock(handle, runId, key, packedPoints::add);
+    packedPoints.sort();
+    forEachKeyValueObservation(
+        handle,
+        runId,
+        key,
+        true,
+        observation -> {
+          packedPoints.drainUpTo(observation.getEpochNumber().getNumberValue(), false, consumer);
+          consumer.accept(observation);
+        });
+    packedPoints.drainUpTo(Double.POSITIVE_INFINITY, false, consumer);
+  }
+
+  private void forEachKeyValueObservation(
+      Handle handle, String runId, String key, boolean ordered, Consumer<Observation> consumer) {
+    handle
+        .createQuery(
+            "select k.kv_value _value, k.value_type _type, o.epoch_number epoch from "
+                + "(select keyvaluemapping_id, epoch_number from observation "
+                + "where experiment_run_id =:run_id and entity_name = :entity_name and packed = :packed) o, "
+                + "(select id, kv_value, value_type from keyvalue where kv_key =:name and entity_name IS NULL) k "
+                + "where o.keyvaluemapping_id = k.id"
+                + (ordered ? " order by o.epoch_number" : ""))
+        .bind(RUN_ID_QUERY_PARAM, runId)
+        .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
+        .bind(PACKED_QUERY_PARAM, false)
+        .bind(NAME_QUERY_PARAM, key)
+        .map(
+            (rs, ctx) ->
+                Observation.newBuilder()
+                    .setEpochNumber(
+                        Value.newBuilder().setNumberValue(rs.getLong(EPOCH_QUERY_PARAM)))
+                    .setAttribute(
+                        KeyValue.newBuilder()
+                            .setKey(key)
+                            .setValue(
+                                (Value.Builder)
+                                    CommonUtils.getProtoObjectFromString(
+                                        rs.getString("_value"), Value.newBuilder()))
+                            .setValueTypeValue(rs.getInt("_type")))
+                    .build())
+        .forEach(consumer);
+  }
+
   public InternalFuture<MapSubtypes<Observation>> getObservationsMap(Set<String> runIds) {
-    return jdbi.withHandle(
-            handle ->
-                handle
-                    .createQuery(
-                        "select k.kv_key _key, k.kv_value _value, k.value_type _type, o.epoch_number epoch, o.experiment_run_id run_id, o.timestamp "
-                            + " from observation as o"
-                            + " join keyvalue as k"
-                            + " on o.keyvaluemapping_id = k.id"
-                            + " where o.experiment_run_id in (<run_ids>) and o.entity_name = :entityName and k.entity_name IS NULL")
-                    .bindList("run_ids", runIds)
-                    .bind("entityName", EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
-                    .map(
-                        (rs, ctx) ->
-                            new AbstractMap.SimpleEntry<>(
-                                rs.getString(RUN_ID_QUERY_PARAM),
-                                Observation.newBuilder()
-                                    .setTimestamp(rs.getLong("timestamp"))
-                                    .setEpochNumber(
-                                        Value.newBuilder()
-                                            .setNumberValue(rs.getLong(EPOCH_QUERY_PARAM)))
-                                    .setAttribute(
-                                        KeyValue.newBuilder()
-                                            .setKey(rs.getString("_key"))
-                                            .setValue(
-                                                (Value.Builder)
-                                                    CommonUtils.getProtoObjectFromString(
-                                                        rs.getString("_value"), Value.newBuilder()))
-                                            .setValueTypeValue(rs.getInt("_type")))
-                                    .build()))
-                    .list())
+    return getObservationsMap(runIds, 0);
+  }
+
+  /**
+   * Returns the observations of the runs. If maxPoints is not 0, the series of each key is
+   * downsampled to maxPoints points the same way as {@link #getObservations(String, String, int)}.
+   */
+  public InternalFuture<MapSubtypes<Observation>> getObservationsMap(
+      Set<String> runIds, int maxPoints) {
+    return InternalFuture.runAsync(() -> validateMaxPoints(maxPoints), executor)
+        .thenCompose(
+            unused ->
+                jdbi.withHandle(
+                    handle -> {
+                      final var observations =
+                          new ArrayList<AbstractMap.SimpleEntry<String, Observation>>();
+                      if (maxPoints == 0) {
+                        forEachObservation(
+                            handle,
+                            runIds,
+                            false,
+                            (runId, observation) ->
+                                observations.add(
+                                    new AbstractMap.SimpleEntry<>(runId, observation)));
+                        return observations;
+                      }
+
+                      final var counts = countObservations(handle, runIds, Optional.empty());
+                      final Map<String, Map<String, LttbDownsampler<Observation>>> downsamplers =
+                          new LinkedHashMap<>();
+                      forEachObservation(
+                          handle,
+                          runIds,
+                          true,
+                          (runId, observation) ->
+                              downsamplers
+                                  .computeIfAbsent(runId, unused2 -> new LinkedHashMap<>())
+                                  .computeIfAbsent(
+                                      observation.getAttribute().getKey(),
+                                      key ->
+                                          newDownsampler(
+                                              counts
+                                                  .getOrDefault(runId, Collections.emptyMap())
+                                                  .getOrDefault(key, 0L),
+                                              maxPoints))
+                                  .add(observation));
+                      downsamplers.forEach(
+                          (runId, downsamplersByKey) ->
+                              downsamplersByKey
+                                  .values()
+                                  .forEach(
+                                      downsampler ->
+                                          downsampler
+                                              .finish()
+                                              .forEach(
+                                                  observation ->
+                                                      observations.add(
+                                                          new AbstractMap.SimpleEntry<>(
+                                                              runId, observation)))));
+                      return observations;
+                    }),
+            executor)
         .thenApply(MapSubtypes::from, executor);
   }
 
+  /**
+   * Feeds the observations of the runs to the consumer. If ordered, the keyvalue rows and the
+   * packed points are merged so that the consumer gets the observations of each run and key in
+   * epoch order.
+   */
+  private void forEachObservation(
+      Handle handle,
+      Set<String> runIds,
+      boolean ordered,
+      BiConsumer<String, Observation> consumer) {
+    if (!ordered) {
+      forEachKeyValueObservation(handle, runIds, false, consumer);
+      seriesStore.forEachBlock(
+          handle,
+          runIds,
+          block -> {
+            for (var i = 0; i < block.series.size(); i++) {
+              consumer.accept(block.runId, toObservation(block, i, true));
+            }
+          });
+      return;
+    }
+
+    final Map<Map.Entry<String, String>, PackedPoints> packedPointsByKey = new LinkedHashMap<>();
+    seriesStore.forEachBlock(
+        handle,
+        runIds,
+        block ->
+            packedPointsByKey
+                .computeIfAbsent(
+                    new AbstractMap.SimpleEntry<>(block.runId, block.key),
+                    unused -> new PackedPoints())
+                .add(block));
+    packedPointsByKey.values().forEach(PackedPoints::sort);
+    forEachKeyValueObservation(
+        handle,
+        runIds,
+        true,
+        (runId, observation) -> {
+          final var packedPoints =
+              packedPointsByKey.get(
+                  new AbstractMap.SimpleEntry<>(runId, observation.getAttribute().getKey()));
+          if (packedPoints != null) {
+            packedPoints.drainUpTo(
+                observation.getEpochNumber().getNumberValue(),
+                true,
+                packedObservation -> consumer.accept(runId, packedObservation));
+          }
+          consumer.accept(runId, observation);
+        });
+    packedPointsByKey.forEach(
+        (runAndKey, packedPoints) ->
+            packedPoints.drainUpTo(
+                Double.POSITIVE_INFINITY,
+                true,
+                packedObservation -> consumer.accept(runAndKey.getKey(), packedObservation)));
+  }
+
+  private void forEachKeyValueObservation(
+      Handle handle,
+      Set<String> runIds,
+      boolean ordered,
+      BiConsumer<String, Observation> consumer) {
+    handle
+        .createQuery(
+            "select k.kv_key _key, k.kv_value _value, k.value_type _type, o.epoch_number epoch, o.experiment_run_id run_id, o.timestamp "
+                + " from observation as o"
+                + " join keyvalue as k"
+                + " on o.keyvaluemapping_id = k.id"
+                + " where o.experiment_run_id in (<run_ids>) and o.entity_name = :entityName and k.entity_name IS NULL"
+                + " and o.packed = :packed"
+                + (ordered ? " order by o.epoch_number, o.id" : ""))
+        .bindList("run_ids", runIds)
+        .bind("entityName", EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
+        .bind(PACKED_QUERY_PARAM, false)
+        .map(
+            (rs, ctx) ->
+                new AbstractMap.SimpleEntry<>(
+                    rs.getString(RUN_ID_QUERY_PARAM),
+                    Observation.newBuilder()
+                        .setTimestamp(rs.getLong("timestamp"))
+                        .setEpochNumber(
+                            Value.newBuilder().setNumberValue(rs.getLong(EPOCH_QUERY_PARAM)))
+                        .setAttribute(
+                            KeyValue.newBuilder()
+                                .setKey(rs.getString("_key"))
+                                .setValue(
+                                    (Value.Builder)
+                                        CommonUtils.getProtoObjectFromString(
+                                            rs.getString("_value"), Value.newBuilder()))
+                                .setValueTypeValue(rs.getInt("_type")))
+                        .build()))
+        .forEach(entry -> consumer.accept(entry.getKey(), entry.getValue()));
+  }
+
+  /**
+   * Number of observations per run and key, in both the keyvalue rows and the packed series. The
+   * keyvalue rows of the packed points aren't counted twice.
+   */
+  private Map<String, Map<String, Long>> countObservations(
+      Handle handle, Set<String> runIds, Optional<String> maybeKey) {
+    final Map<String, Map<String, Long>> counts = new HashMap<>();
+    var query =
+        handle
+            .createQuery(
+                "select o.experiment_run_id run_id, k.kv_key _key, count(*) _count"
+                    + " from observation as o"
+                    + " join keyvalue as k"
+                    + " on o.keyvaluemapping_id = k.id"
+                    + " where o.experiment_run_id in (<run_ids>) and o.entity_name = :entityName and k.entity_name IS NULL"
+                    + " and o.packed = :packed"
+                    + (maybeKey.isPresent() ? " and k.kv_key = :name" : "")
+                    + " group by o.experiment_run_id, k.kv_key")
+            .bindList("run_ids", runIds)
+            .bind("entityName", EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
+            .bind(PACKED_QUERY_PARAM, false);
+    if (maybeKey.isPresent()) {
+      query = query.bind(NAME_QUERY_PARAM, maybeKey.get());
+    }
+    query
+        .map(
+            (rs, ctx) ->
+                new AbstractMap.SimpleEntry<>(
+                    rs.getString(RUN_ID_QUERY_PARAM),
+                    new AbstractMap.SimpleEntry<>(rs.getString("_key"), rs.getLong("_count"))))
+        .forEach(
+            entry ->
+                counts
+                    .computeIfAbsent(entry.getKey(), runId -> new HashMap<>())
+                    .merge(entry.getValue().getKey(), entry.getValue().getValue(), Long::sum));
+    seriesStore
+        .countPoints(handle, runIds, maybeKey)
+        .forEach(
+            (runId, countsByKey) ->
+                countsByKey.forEach(
+                    (key, count) ->
+                        counts
+                            .computeIfAbsent(runId, unused -> new HashMap<>())
+                            .merge(key, count, Long::sum)));
+    return counts;
+  }
+
+  private static void validateMaxPoints(int maxPoints) {
+    if (maxPoints < 0 || (maxPoints > 0 && maxPoints < 3)) {
+      throw new InvalidArgumentException("max_points should be 0 or at least 3");
+    }
+  }
+
+  private static LttbDownsampler<Observation> newDownsampler(long total, int maxPoints) {
+    // Non numeric values aren't ordered, they are downsampled uniformly
+    return new LttbDownsampler<>(
+        total,
+        maxPoints,
+        observation -> observation.getEpochNumber().getNumberValue(),
+        observation ->
+            observation.getAttribute().getValue().getKindCase() == Value.KindCase.NUMBER_VALUE
+                ? observation.getAttribute().getValue().getNumberValue()
+                : Double.NaN);
+  }
+
+  private static Observation toObservation(
+      ObservationSeriesStore.Block block, int index, boolean withTimestamp) {
+    final var observation =
+        Observation.newBuilder()
+            .setEpochNumber(Value.newBuilder().setNumberValue(block.series.getEpoch(index)))
+            .setAttribute(
+                KeyValue.newBuilder()
+                    .setKey(block.key)
+                    .setValue(Value.newBuilder().setNumberValue(block.series.getValue(index)))
+                    .setValueTypeValue(block.valueType));
+    if (withTimestamp) {
+      observation.setTimestamp(block.series.getTimestamp(index));
+    }
+    return observation.build();
+  }
+
+  /**
+   * Packed points of a run and key, sorted by epoch so that they can be merged with the keyvalue
+   * rows read in epoch order. Points of equal epochs keep the order they were logged in.
+   */
+  private static class PackedPoints {
+    private final List<ObservationSeriesStore.Block> blocks = new ArrayList<>();
+    private int[] blockIndexes;
+    private int[] pointIndexes;
+    private int position = 0;
+
+    private void add(ObservationSeriesStore.Block block) {
+      blocks.add(block);
+    }
+
+    private void sort() {
+      final var total = blocks.stream().mapToInt(block -> block.series.size()).sum();
+      blockIndexes = new int[total];
+      pointIndexes = new int[total];
+      var sorted = true;
+      var index = 0;
+      for (var blockIndex = 0; blockIndex < blocks.size(); blockIndex++) {
+        final var series = blocks.get(blockIndex).series;
+        for (var pointIndex = 0; pointIndex < series.size(); pointIndex++) {
+          blockIndexes[index] = blockIndex;
+          pointIndexes[index] = pointIndex;
+          sorted = sorted && (index == 0 || getEpoch(index - 1) <= getEpoch(index));
+          index++;
+        }
+      }
+      // Points are usually logged in epoch order, then there is nothing to do
+      if (sorted) {
+        return;
+      }
+      final var order = new Integer[total];
+      for (var i = 0; i < total; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingLong(this::getEpoch));
+      final var sortedBlockIndexes = new int[total];
+      final var sortedPointIndexes = new int[total];
+      for (var i = 0; i < total; i++) {
+        sortedBlockIndexes[i] = blockIndexes[order[i]];
+        sortedPointIndexes[i] = pointIndexes[order[i]];
+      }
+      blockIndexes = sortedBlockIndexes;
+      pointIndexes = sortedPointIndexes;
+    }
+
+    private long getEpoch(int index) {
+      return blocks.get(blockIndexes[index]).series.getEpoch(pointIndexes[index]);
+    }
+
+    /** Feeds the consumer the points not consumed yet up to the epoch, included. */
+    private void drainUpTo(double epoch, boolean withTimestamp, Consumer<Observation> consumer) {
+      while (position < blockIndexes.length && getEpoch(position) <= epoch) {
+        consumer.accept(
+            toObservation(
+                blocks.get(blockIndexes[position]), pointIndexes[position], withTimestamp));
+        position++;
+      }
+    }
+  }
+
   public InternalFuture<Void> logObservations(
       String runId, List<Observation> observations, long now) {
     // TODO: support artifacts?
@@ -128,98 +490,147 @@ public class ObservationHandler {
                 if (observation.getAttribute().getKey().isEmpty()) {
                   throw new InvalidArgumentException("Empty observation key");
                 }
+                if (observation.hasEpochNumber()
+                    && observation.getEpochNumber().getKindCase() != Value.KindCase.NUMBER_VALUE) {
+                  String invalidEpochMessage =
+                      "Observations can only have numeric epoch_number, condition not met in "
+                          + observation;
+                  throw new InvalidArgumentException(invalidEpochMessage);
+                }
               }
             },
             executor);
 
-    // Log observations
+    if (observations.isEmpty()) {
+      return currentFuture;
+    }
+
+    // Log all the observations of the request on a single handle, in a single transaction
+    return currentFuture.thenCompose(
+        unused ->
+            jdbi.useHandle(
+                handle ->
+                    handle.useTransaction(
+                        handle1 -> insertObservations(handle1, runId, observations, now))),
+        executor);
+  }
+
+  private void insertObservations(
+      Handle handle, String runId, List<Observation> observations, long now) {
+    // Infer the missing epochs from the current max epoch of each key. We can't do this in the same
+    // SQL command as the inserts as some SQL implementations don't support select together with
+    // updates, but a single query covers all the keys of the request. Packed points keep their
+    // observation rows, so the packed series don't need to be queried
+    final Map<String, Long> maxEpochs = new HashMap<>();
+    final var keysWithoutEpoch =
+        observations.stream()
+            .filter(observation -> !observation.hasEpochNumber())
+            .map(observation -> observation.getAttribute().getKey())
+            .collect(Collectors.toSet());
+    if (!keysWithoutEpoch.isEmpty()) {
+      handle
+          .createQuery(
+              "select k.kv_key _key, max(o.epoch_number) epoch from "
+                  + "(select keyvaluemapping_id, epoch_number from observation "
+                  + "where experiment_run_id =:run_id and entity_name = :entity_name) o, "
+                  + "(select id, kv_key from keyvalue where kv_key in (<names>) and entity_name IS NULL) k "
+                  + "where o.keyvaluemapping_id = k.id group by k.kv_key")
+          .bind(RUN_ID_QUERY_PARAM, runId)
+          .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
+          .bindList("names", keysWithoutEpoch)
+          .map(
+              (rs, ctx) -> {
+                final var epoch = rs.getLong(EPOCH_QUERY_PARAM);
+                return new AbstractMap.SimpleEntry<>(
+                    rs.getString("_key"), rs.wasNull() ? null : epoch);
+              })
+          .forEach(
+              entry -> {
+                if (entry.getValue() != null) {
+                  maxEpochs.put(entry.getKey(), entry.getValue());
+                }
+              });
+    }
+
+    // Observations of the same key are numbered in request order, as if they were logged one by one
+    final var epochs = new ArrayList<Long>(observations.size());
     for (final var observation : observations) {
-      final var attribute = observation.getAttribute();
-      currentFuture =
-          currentFuture
-              .thenCompose(
-                  unused -> {
-                    // If the epoch is specified, save it directly
-                    if (observation.hasEpochNumber()) {
-                      if (observation.getEpochNumber().getKindCase()
-                          != Value.KindCase.NUMBER_VALUE) {
-                        String invalidEpochMessage =
-                            "Observations can only have numeric epoch_number, condition not met in "
-                                + observation;
-                        throw new InvalidArgumentException(invalidEpochMessage);
-                      }
-                      return InternalFuture.completedInternalFuture(
-                          (long) observation.getEpochNumber().getNumberValue());
-                    } else {
-                      // Otherwise, infer at runtime. We can't do this in the same SQL command as
-                      // we'll be updating these tables and some SQL implementations don't support
-                      // select together with updates
-                      final var sql =
-                          "select max(o.epoch_number) from "
-                              + "(select keyvaluemapping_id, epoch_number from observation "
-                              + "where experiment_run_id =:run_id and entity_name = :entity_name) o, "
-                              + "(select id from keyvalue where kv_key =:name and entity_name IS NULL) k "
-                              + "where o.keyvaluemapping_id = k.id";
-                      return jdbi.withHandle(
-                          handle ->
-                              handle
-                                  .createQuery(sql)
-                                  .bind(RUN_ID_QUERY_PARAM, runId)
-                                  .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
-                                  .bind(NAME_QUERY_PARAM, attribute.getKey())
-                                  .mapTo(Long.class)
-                                  .findOne()
-                                  .map(x -> x + 1)
-                                  .orElse(0L));
-                    }
-                  },
-                  executor)
-              .thenCompose(
-                  epoch ->
-                      // Insert into KV table
-                      jdbi.useHandle(
-                          handle -> {
-                            final var kvId =
-                                handle
-                                    .createUpdate(
-                                        "insert into keyvalue (field_type, kv_key, kv_value, value_type) "
-                                            + "values (:field_type, :key, :value, :type)")
-                                    .bind(FIELD_TYPE_QUERY_PARAM, "attributes")
-                                    .bind("key", attribute.getKey())
-                                    .bind(
-                                        "value",
-                                        ModelDBUtils.getStringFromProtoObject(attribute.getValue()))
-                                    .bind("type", attribute.getValueTypeValue())
-                                    .executeAndReturnGeneratedKeys()
-                                    .mapTo(Long.class)
-                                    .one();
-
-                            // Insert to observation table
-                            // We don't need transaction here since it's fine to add to the kv table
-                            // and fail to insert into the observation table, as the value will be
-                            // just ignored
-                            handle
-                                .createUpdate(
-                                    "insert into observation (entity_name, field_type, timestamp, experiment_run_id, keyvaluemapping_id, epoch_number) "
-                                        + "values (:entity_name, :field_type, :timestamp, :run_id, :kvid, :epoch)")
-                                .bind(
-                                    "timestamp",
-                                    observation.getTimestamp() == 0
-                                        ? now
-                                        : observation.getTimestamp())
-                                .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
-                                .bind(FIELD_TYPE_QUERY_PARAM, "observations")
-                                .bind(RUN_ID_QUERY_PARAM, runId)
-                                .bind("kvid", kvId)
-                                .bind(EPOCH_QUERY_PARAM, epoch)
-                                .executeAndReturnGeneratedKeys()
-                                .mapTo(Long.class)
-                                .one();
-                          }),
-                  executor);
+      final var key = observation.getAttribute().getKey();
+      final long epoch;
+      if (observation.hasEpochNumber()) {
+        epoch = (long) observation.getEpochNumber().getNumberValue();
+      } else {
+        epoch = maxEpochs.containsKey(key) ? maxEpochs.get(key) + 1 : 0L;
+      }
+      maxEpochs.merge(key, epoch, Math::max);
+      epochs.add(epoch);
+    }
+
+    // Insert into KV table
+    final var kvIds = insertObservationKeyValues(handle, observations);
+
+    // Insert to observation table
+    final var observationBatch =
+        handle.prepareBatch(
+            "insert into observation (entity_name, field_type, timestamp, experiment_run_id, keyvaluemapping_id, epoch_number) "
+                + "values (:entity_name, :field_type, :timestamp, :run_id, :kvid, :epoch)");
+    for (var i = 0; i < observations.size(); i++) {
+      observationBatch
+          .bind("timestamp", getTimestamp(observations.get(i), now))
+          .bind(ENTITY_NAME_QUERY_PARAM, EXPERIMENT_RUN_ENTITY_QUERY_VALUE)
+          .bind(FIELD_TYPE_QUERY_PARAM, "observations")
+          .bind(RUN_ID_QUERY_PARAM, runId)
+          .bind("kvid", kvIds.get(i))
+          .bind(EPOCH_QUERY_PARAM, epochs.get(i))
+          .add();
     }
+    observationBatch.execute();
+  }
 
-    return currentFuture;
+  private static long getTimestamp(Observation observation, long now) {
+    return observation.getTimestamp() == 0 ? now : observation.getTimestamp();
+  }
+
+  private List<Long> insertObservationKeyValues(Handle handle, List<Observation> observations) {
+    final var sql =
+        "insert into keyvalue (field_type, kv_key, kv_value, value_type) "
+            + "values (:field_type, :key, :value, :type)";
+
+    // The SQL Server driver can't return the generated keys of a batch, so insert row by row there
+    if (isMssql) {
+      final var kvIds = new ArrayList<Long>(observations.size());
+      for (final var observation : observations) {
+        final var attribute = observation.getAttribute();
+        kvIds.add(
+            handle
+                .createUpdate(sql)
+                .bind(FIELD_TYPE_QUERY_PARAM, "attributes")
+                .bind("key", attribute.getKey())
+                .bind("value", ModelDBUtils.getStringFromProtoObject(attribute.getValue()))
+                .bind("type", attribute.getValueTypeValue())
+                .executeAndReturnGeneratedKeys()
+                .mapTo(Long.class)
+                .one());
+      }
+      return kvIds;
+    }
+
+    final var kvBatch = handle.prepareBatch(sql);
+    for (final var observation : observations) {
+      final var attribute = observation.getAttribute();
+      kvBatch
+          .bind(FIELD_TYPE_QUERY_PARAM, "attributes")
+          .bind("key", attribute.getKey())
+          .bind("value", ModelDBUtils.getStringFromProtoObject(attribute.getValue()))
+          .bind("type", attribute.getValueTypeValue())
+          .add();
+    }
+    final var kvIds = kvBatch.executeAndReturnGeneratedKeys("id").mapTo(Long.class).list();
+    if (kvIds.size() != observations.size()) {
+      throw new InternalErrorException(
+          "Expected " + observations.size() + " generated keys but got " + kvIds.size());
+    }
+    return kvIds;
   }
 
   public InternalFuture<Void> deleteObservations(String runId, Optional<List<String>> maybeKeys) {
@@ -256,6 +667,12 @@ public class ObservationHandler {
                                     rs.getLong("id"), rs.getLong("keyvaluemapping_id")))
                         .list();
 
+                // Delete the packed series
+                seriesStore.delete(handle, runId, maybeKeys);
+                if (observationKVMappingList.isEmpty()) {
+                  return;
+                }
+
                 // Remove foreignKey constraint first
                 handle
                     .createUpdate(
@@ -0,0 +1,152 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.modeldb.common.exceptions.InternalErrorException;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Binary encoding of a block of numeric observations stored in the observation_series table.
+ *
+ * <p>Layout: a version byte, the number of points as a varint, the epochs and the timestamps as
+ * zigzag varint deltas from the previous point, then the values as raw big-endian doubles. Decoding
+ * a block is a single pass over the bytes, without going through the JSON representation of the
+ * values.
+ */
+public final class ObservationSeriesCodec {
+  private static final byte VERSION = 1;
+
+  private ObservationSeriesCodec() {}
+
+  /** Columnar, append-only buffer of points, in the order they were logged. */
+  public static final class Series {
+    private long[] epochs;
+    private long[] timestamps;
+    private double[] values;
+    private int size = 0;
+
+    public Series() {
+      this(16);
+    }
+
+    public Series(int capacity) {
+      capacity = Math.max(capacity, 1);
+      epochs = new long[capacity];
+      timestamps = new long[capacity];
+      values = new double[capacity];
+    }
+
+    public void add(long epoch, long timestamp, double value) {
+      if (size == epochs.length) {
+        final var capacity = size * 2;
+        epochs = Arrays.copyOf(epochs, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        values = Arrays.copyOf(values, capacity);
+      }
+      epochs[size] = epoch;
+      timestamps[size] = timestamp;
+      values[size] = value;
+      size++;
+    }
+
+    public void addAll(Series other) {
+      for (var i = 0; i < other.size; i++) {
+        add(other.epochs[i], other.timestamps[i], other.values[i]);
+      }
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public long getEpoch(int index) {
+      return epochs[index];
+    }
+
+    public long getTimestamp(int index) {
+      return timestamps[index];
+    }
+
+    public double getValue(int index) {
+      return values[index];
+    }
+
+    public long maxEpoch() {
+      var max = Long.MIN_VALUE;
+      for (var i = 0; i < size; i++) {
+        max = Math.max(max, epochs[i]);
+      }
+      return max;
+    }
+  }
+
+  public static byte[] encode(Series series) {
+    final var size = series.size();
+    final var out = new ByteArrayOutputStream(10 + size * 12);
+    out.write(VERSION);
+    writeVarint(out, size);
+    writeDeltas(out, series.epochs, size);
+    writeDeltas(out, series.timestamps, size);
+    final var buffer = ByteBuffer.allocate(size * Double.BYTES);
+    for (var i = 0; i < size; i++) {
+      buffer.putDouble(series.values[i]);
+    }
+    out.write(buffer.array(), 0, buffer.position());
+    return out.toByteArray();
+  }
+
+  public static Series decode(byte[] data) {
+    final var buffer = ByteBuffer.wrap(data);
+    final var version = buffer.get();
+    if (version != VERSION) {
+      throw new InternalErrorException("Unknown observation series block version " + version);
+    }
+    final var size = (int) readVarint(buffer);
+    final var series = new Series(size);
+    readDeltas(buffer, series.epochs, size);
+    readDeltas(buffer, series.timestamps, size);
+    for (var i = 0; i < size; i++) {
+      series.values[i] = buffer.getDouble();
+    }
+    series.size = size;
+    return series;
+  }
+
+  private static void writeDeltas(ByteArrayOutputStream out, long[] values, int size) {
+    var previous = 0L;
+    for (var i = 0; i < size; i++) {
+      final var delta = values[i] - previous;
+      writeVarint(out, (delta << 1) ^ (delta >> 63));
+      previous = values[i];
+    }
+  }
+
+  private static void readDeltas(ByteBuffer buffer, long[] values, int size) {
+    var previous = 0L;
+    for (var i = 0; i < size; i++) {
+      final var zigzag = readVarint(buffer);
+      previous += (zigzag >>> 1) ^ -(zigzag & 1);
+      values[i] = previous;
+    }
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(ByteBuffer buffer) {
+    var result = 0L;
+    for (var shift = 0; shift < 64; shift += 7) {
+      final var b = buffer.get();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new InternalErrorException("Malformed varint in observation series block");
+  }
+}
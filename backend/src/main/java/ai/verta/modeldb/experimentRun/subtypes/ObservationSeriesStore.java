@@ -0,0 +1,205 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesCodec.Series;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.jdbi.v3.core.Handle;
+
+/**
+ * Access to the observation_series table, where numeric observations are stored as blocks of at
+ * most {@code maxBlockSize} points per (run, key, value type), encoded with {@link
+ * ObservationSeriesCodec}. All methods run on the caller's handle so that they take part in its
+ * transaction.
+ */
+public class ObservationSeriesStore {
+  private static final String RUN_ID_QUERY_PARAM = "run_id";
+  private static final String KEY_QUERY_PARAM = "key";
+
+  private final int maxBlockSize;
+
+  public ObservationSeriesStore(int maxBlockSize) {
+    this.maxBlockSize = maxBlockSize;
+  }
+
+  /** A decoded block, with the run and the key it belongs to. */
+  public static class Block {
+    public final String runId;
+    public final String key;
+    public final int valueType;
+    public final Series series;
+
+    Block(String runId, String key, int valueType, Series series) {
+      this.runId = runId;
+      this.key = key;
+      this.valueType = valueType;
+      this.series = series;
+    }
+  }
+
+  private static class TailBlock {
+    private final long id;
+    private final int valueType;
+    private final int pointCount;
+    private final byte[] data;
+
+    private TailBlock(long id, int valueType, int pointCount, byte[] data) {
+      this.id = id;
+      this.valueType = valueType;
+      this.pointCount = pointCount;
+      this.data = data;
+    }
+  }
+
+  /**
+   * Appends the points to the series of the given key. The last block of the key is topped up first
+   * so that frequent small appends don't fragment the series.
+   */
+  public void append(Handle handle, String runId, String key, int valueType, Series points) {
+    var offset = 0;
+
+    final var maybeTail =
+        handle
+            .createQuery(
+                "select id, value_type, point_count, data from observation_series "
+                    + "where id = (select max(id) from observation_series "
+                    + "where experiment_run_id = :run_id and kv_key = :key)")
+            .bind(RUN_ID_QUERY_PARAM, runId)
+            .bind(KEY_QUERY_PARAM, key)
+            .map(
+                (rs, ctx) ->
+                    new TailBlock(
+                        rs.getLong("id"),
+                        rs.getInt("value_type"),
+                        rs.getInt("point_count"),
+                        rs.getBytes("data")))
+            .findOne();
+    if (maybeTail.isPresent()) {
+      final var tail = maybeTail.get();
+      if (tail.valueType == valueType && tail.pointCount < maxBlockSize) {
+        final var merged = ObservationSeriesCodec.decode(tail.data);
+        while (offset < points.size() && merged.size() < maxBlockSize) {
+          merged.add(points.getEpoch(offset), points.getTimestamp(offset), points.getValue(offset));
+          offset++;
+        }
+        // Guard against a concurrent append to the same block: if it was rewritten in the meantime
+        // the points go to new blocks instead
+        final var updated =
+            handle
+                .createUpdate(
+                    "update observation_series set point_count = :count, max_epoch = :max_epoch, "
+                        + "data = :data where id = :id and point_count = :old_count")
+                .bind("count", merged.size())
+                .bind("max_epoch", merged.maxEpoch())
+                .bind("data", ObservationSeriesCodec.encode(merged))
+                .bind("id", tail.id)
+                .bind("old_count", tail.pointCount)
+                .execute();
+        if (updated == 0) {
+          offset = 0;
+        }
+      }
+    }
+
+    if (offset >= points.size()) {
+      return;
+    }
+    final var batch =
+        handle.prepareBatch(
+            "insert into observation_series (experiment_run_id, kv_key, value_type, point_count, max_epoch, data) "
+                + "values (:run_id, :key, :value_type, :count, :max_epoch, :data)");
+    while (offset < points.size()) {
+      final var block = new Series(Math.min(maxBlockSize, points.size() - offset));
+      while (offset < points.size() && block.size() < maxBlockSize) {
+        block.add(points.getEpoch(offset), points.getTimestamp(offset), points.getValue(offset));
+        offset++;
+      }
+      batch
+          .bind(RUN_ID_QUERY_PARAM, runId)
+          .bind(KEY_QUERY_PARAM, key)
+          .bind("value_type", valueType)
+          .bind("count", block.size())
+          .bind("max_epoch", block.maxEpoch())
+          .bind("data", ObservationSeriesCodec.encode(block))
+          .add();
+    }
+    batch.execute();
+  }
+
+  /** Feeds the blocks of the key to the consumer in the order they were written, one at a time. */
+  public void forEachBlock(Handle handle, String runId, String key, Consumer<Block> consumer) {
+    handle
+        .createQuery(
+            "select experiment_run_id, kv_key, value_type, data from observation_series "
+                + "where experiment_run_id = :run_id and kv_key = :key order by id")
+        .bind(RUN_ID_QUERY_PARAM, runId)
+        .bind(KEY_QUERY_PARAM, key)
+        .map((rs, ctx) -> toBlock(rs))
+        .forEach(consumer);
+  }
+
+  /** Feeds the blocks of the runs to the consumer in the order they were written, one at a time. */
+  public void forEachBlock(Handle handle, Collection<String> runIds, Consumer<Block> consumer) {
+    handle
+        .createQuery(
+            "select experiment_run_id, kv_key, value_type, data from observation_series "
+                + "where experiment_run_id in (<run_ids>) order by id")
+        .bindList("run_ids", runIds)
+        .map((rs, ctx) -> toBlock(rs))
+        .forEach(consumer);
+  }
+
+  public Map<String, Map<String, Long>> countPoints(
+      Handle handle, Collection<String> runIds, Optional<String> maybeKey) {
+    final Map<String, Map<String, Long>> counts = new HashMap<>();
+    var query =
+        handle
+            .createQuery(
+                "select experiment_run_id, kv_key, sum(point_count) _count from observation_series "
+                    + "where experiment_run_id in (<run_ids>)"
+                    + (maybeKey.isPresent() ? " and kv_key = :key" : "")
+                    + " group by experiment_run_id, kv_key")
+            .bindList("run_ids", runIds);
+    if (maybeKey.isPresent()) {
+      query = query.bind(KEY_QUERY_PARAM, maybeKey.get());
+    }
+    query
+        .map(
+            (rs, ctx) ->
+                new AbstractMap.SimpleEntry<>(
+                    rs.getString("experiment_run_id"),
+                    new AbstractMap.SimpleEntry<>(rs.getString("kv_key"), rs.getLong("_count"))))
+        .forEach(
+            entry ->
+                counts
+                    .computeIfAbsent(entry.getKey(), runId -> new HashMap<>())
+                    .put(entry.getValue().getKey(), entry.getValue().getValue()));
+    return counts;
+  }
+
+  public void delete(Handle handle, String runId, Optional<List<String>> maybeKeys) {
+    var sql = "delete from observation_series where experiment_run_id = :run_id";
+    if (maybeKeys.isPresent() && !maybeKeys.get().isEmpty()) {
+      sql += " and kv_key in (<keys>)";
+    }
+    var update = handle.createUpdate(sql).bind(RUN_ID_QUERY_PARAM, runId);
+    if (maybeKeys.isPresent() && !maybeKeys.get().isEmpty()) {
+      update = update.bindList("keys", maybeKeys.get());
+    }
+    update.execute();
+  }
+
+  private static Block toBlock(ResultSet rs) throws SQLException {
+    return new Block(
+        rs.getString("experiment_run_id"),
+        rs.getString("kv_key"),
+        rs.getInt("value_type"),
+        ObservationSeriesCodec.decode(rs.getBytes("data")));
+  }
+}
@@ -7,6 +7,8 @@ import java.util.regex.Pattern;
 
 public class PredicateHandlerUtils {
   private static final MDBConfig mdbConfig = App.getInstance().mdbConfig;
+  // Numeric copy of keyvalue.kv_value, indexed with the entity name, field type and key
+  protected static final String NUMBER_VALUE_COLUMN = "kv_number_value";
 
   protected String columnAsNumber(String colName, boolean isString) {
     if (mdbConfig.getDatabase().getRdbConfiguration().isPostgres()) {
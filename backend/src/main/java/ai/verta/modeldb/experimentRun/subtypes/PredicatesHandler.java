@@ -276,7 +276,12 @@ public class PredicatesHandler extends PredicateHandlerUtils {
 
     switch (value.getKindCase()) {
       case NUMBER_VALUE:
-        sql += applyOperator(operator, columnAsNumber(colValue, true), ":" + valueBindingName);
+        // Observation key values aren't stored with a number column, so they are still parsed
+        final var colNumberValue =
+            fieldType.equals("observations")
+                ? columnAsNumber(colValue, true)
+                : "kv." + NUMBER_VALUE_COLUMN;
+        sql += applyOperator(operator, colNumberValue, ":" + valueBindingName);
         queryContext = queryContext.addBind(q -> q.bind(valueBindingName, value.getNumberValue()));
         break;
       case STRING_VALUE:
@@ -0,0 +1,101 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import ai.verta.modeldb.common.futures.FutureJdbi;
+import ai.verta.modeldb.common.futures.InternalFuture;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.prometheus.client.Counter;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project of the live experiment runs, which never changes once a run is created. The index is
+ * filled when a run is created and on the lookups of runs missing from it, and is bounded by the
+ * number of runs kept. The runs deleted by {@code FutureExperimentRunDAO} are dropped from it right
+ * away, the others when {@code SoftDeleteExperimentRuns} removes them from the database.
+ */
+public class RunProjectIndex {
+  private static final String RESULT_LABEL = "result";
+  private static final Counter lookups =
+      Counter.build()
+          .labelNames(RESULT_LABEL)
+          .name("verta_backend_run_project_index_lookups_total")
+          .help("Project lookups of experiment runs, by result: hit or miss.")
+          .register();
+
+  private final Executor executor;
+  private final FutureJdbi jdbi;
+  private final Cache<String, String> projectIds;
+  // Incremented by invalidate, so that a lookup started before doesn't bring a deleted run back
+  private final AtomicLong generation = new AtomicLong();
+
+  public RunProjectIndex(Executor executor, FutureJdbi jdbi, long maxSize) {
+    this.executor = executor;
+    this.jdbi = jdbi;
+    this.projectIds = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Distinct ids of the projects of the runs, empty if none of them exists. Only the runs missing
+   * from the index are looked up in the database.
+   */
+  public InternalFuture<List<String>> getProjectIds(List<String> runIds) {
+    final Set<String> result = new LinkedHashSet<>();
+    final List<String> missingRunIds = new ArrayList<>();
+    for (final var runId : runIds) {
+      final var projectId = projectIds.getIfPresent(runId);
+      if (projectId != null) {
+        result.add(projectId);
+      } else {
+        missingRunIds.add(runId);
+      }
+    }
+    if (missingRunIds.isEmpty()) {
+      lookups.labels("hit").inc();
+      return InternalFuture.completedInternalFuture(new ArrayList<>(result));
+    }
+
+    lookups.labels("miss").inc();
+    final var loadGeneration = generation.get();
+    return jdbi.withHandle(
+            handle ->
+                handle
+                    .createQuery(
+                        "SELECT id, project_id FROM experiment_run WHERE id IN (<ids>) AND deleted=0")
+                    .bindList("ids", missingRunIds)
+                    .map(
+                        (rs, ctx) ->
+                            new AbstractMap.SimpleEntry<>(
+                                rs.getString("id"), rs.getString("project_id")))
+                    .list())
+        .thenApply(
+            loaded -> {
+              final var cacheable = generation.get() == loadGeneration;
+              for (final var entry : loaded) {
+                if (cacheable) {
+                  projectIds.put(entry.getKey(), entry.getValue());
+                }
+                result.add(entry.getValue());
+              }
+              return new ArrayList<>(result);
+            },
+            executor);
+  }
+
+  /** Records the project of a run just created. */
+  public void put(String runId, String projectId) {
+    projectIds.put(runId, projectId);
+  }
+
+  /** Drops the deleted runs from the index. */
+  public void invalidate(Collection<String> runIds) {
+    generation.incrementAndGet();
+    projectIds.invalidateAll(runIds);
+  }
+}
@@ -7,7 +7,7 @@ import ai.verta.modeldb.common.query.OrderTable;
 import ai.verta.modeldb.common.query.QueryFilterContext;
 import ai.verta.modeldb.exceptions.InvalidArgumentException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 public class SortingHandler {
@@ -54,8 +54,9 @@ public class SortingHandler {
   }
 
   private QueryFilterContext processKeyValueSort(String key, boolean ascending, String fieldType) {
+    // Numeric values are sorted as numbers first, then the other values by their JSON text
     var sql =
-        "select experiment_run_id as id, kv_value as value from keyvalue where entity_name=:entityName and field_type=:sort_field_type and kv_key=:sort_key";
+        "select experiment_run_id as id, kv_number_value as number_value, kv_value as value from keyvalue where entity_name=:entityName and field_type=:sort_field_type and kv_key=:sort_key";
     var queryContext =
         new QueryFilterContext()
             .addBind(q -> q.bind("sort_field_type", fieldType))
@@ -63,7 +64,10 @@ public class SortingHandler {
             .addBind(q -> q.bind("sort_key", key));
     queryContext.addOrderItem(
         new OrderTable(
-            sql, ascending, Collections.singletonList(new OrderColumn("value", ascending))));
+            sql,
+            ascending,
+            Arrays.asList(
+                new OrderColumn("number_value", ascending), new OrderColumn("value", ascending))));
     return queryContext;
   }
 
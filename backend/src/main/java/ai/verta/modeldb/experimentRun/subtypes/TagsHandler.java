@@ -9,6 +9,7 @@ import java.util.*;
 import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jdbi.v3.core.Handle;
 
 public class TagsHandler {
   private static Logger LOGGER = LogManager.getLogger(TagsHandler.class);
@@ -72,20 +73,7 @@ public class TagsHandler {
 
   public InternalFuture<Void> addTags(String entityId, List<String> tags) {
     // Validate input
-    var currentFuture =
-        InternalFuture.runAsync(
-            () -> {
-              if (tags.isEmpty()) {
-                throw new InvalidArgumentException("Tags not found");
-              } else {
-                for (String tag : tags) {
-                  if (tag.isEmpty()) {
-                    throw new InvalidArgumentException("Tag should not be empty");
-                  }
-                }
-              }
-            },
-            executor);
+    var currentFuture = InternalFuture.runAsync(() -> validateTags(tags), executor);
 
     // TODO: is there a way to push this to the db?
     return currentFuture
@@ -99,26 +87,45 @@ public class TagsHandler {
               }
 
               return jdbi.useHandle(
-                  handle -> {
-                    final var batch =
-                        handle.prepareBatch(
-                            String.format(
-                                "insert into tag_mapping (entity_name, tags, %s) VALUES(:entity_name, :tag, :entity_id)",
-                                entityIdReferenceColumn));
-                    for (final var tag : tagsSet) {
-                      batch
-                          .bind("tag", tag)
-                          .bind(ENTITY_ID_QUERY_PARAM, entityId)
-                          .bind(ENTITY_NAME_QUERY_PARAM, entityName)
-                          .add();
-                    }
-
-                    batch.execute();
-                  });
+                  handle -> insertTags(handle, Collections.singletonMap(entityId, tagsSet)));
             },
             executor);
   }
 
+  void validateTags(List<String> tags) {
+    if (tags.isEmpty()) {
+      throw new InvalidArgumentException("Tags not found");
+    } else {
+      for (String tag : tags) {
+        if (tag.isEmpty()) {
+          throw new InvalidArgumentException("Tag should not be empty");
+        }
+      }
+    }
+  }
+
+  /** Inserts the tags of the entities, mapped by entity id, as a single batch. */
+  void insertTags(Handle handle, Map<String, ? extends Collection<String>> tagsByEntityId) {
+    final var batch =
+        handle.prepareBatch(
+            String.format(
+                "insert into tag_mapping (entity_name, tags, %s) VALUES(:entity_name, :tag, :entity_id)",
+                entityIdReferenceColumn));
+    for (final var entry : tagsByEntityId.entrySet()) {
+      for (final var tag : entry.getValue()) {
+        batch
+            .bind("tag", tag)
+            .bind(ENTITY_ID_QUERY_PARAM, entry.getKey())
+            .bind(ENTITY_NAME_QUERY_PARAM, entityName)
+            .add();
+      }
+    }
+
+    if (batch.size() > 0) {
+      batch.execute();
+    }
+  }
+
   public InternalFuture<Void> deleteTags(String entityId, Optional<List<String>> maybeTags) {
     return jdbi.useHandle(
         handle -> {
@@ -1,5 +1,6 @@
 package ai.verta.modeldb.reconcilers;
 
+import ai.verta.modeldb.DAOSet;
 import ai.verta.modeldb.ServiceSet;
 import ai.verta.modeldb.common.config.Config;
 import ai.verta.modeldb.common.futures.FutureJdbi;
@@ -20,7 +21,7 @@ public class ReconcilerInitializer {
   public static UpdateProjectTimestampReconcile updateProjectTimestampReconcile;
 
   public static void initialize(
-      Config config, ServiceSet services, FutureJdbi futureJdbi, Executor executor) {
+      Config config, ServiceSet services, DAOSet daos, FutureJdbi futureJdbi, Executor executor) {
     LOGGER.info("Enter in ReconcilerUtils: initialize()");
     softDeleteProjects =
         new SoftDeleteProjects(
@@ -30,7 +31,11 @@ public class ReconcilerInitializer {
             new ReconcilerConfig(), services.mdbRoleService, futureJdbi, executor);
     softDeleteExperimentRuns =
         new SoftDeleteExperimentRuns(
-            new ReconcilerConfig(), services.mdbRoleService, futureJdbi, executor);
+            new ReconcilerConfig(),
+            services.mdbRoleService,
+            daos.runProjectIndex,
+            futureJdbi,
+            executor);
     softDeleteRepositories =
         new SoftDeleteRepositories(
             new ReconcilerConfig(), services.mdbRoleService, false, futureJdbi, executor);
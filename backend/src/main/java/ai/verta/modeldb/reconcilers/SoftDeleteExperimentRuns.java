@@ -9,6 +9,7 @@ import ai.verta.modeldb.common.reconcilers.Reconciler;
 import ai.verta.modeldb.common.reconcilers.ReconcilerConfig;
 import ai.verta.modeldb.entities.CommentEntity;
 import ai.verta.modeldb.entities.ExperimentRunEntity;
+import ai.verta.modeldb.experimentRun.subtypes.RunProjectIndex;
 import ai.verta.modeldb.utils.ModelDBHibernateUtil;
 import java.util.LinkedList;
 import java.util.List;
@@ -21,15 +22,18 @@ public class SoftDeleteExperimentRuns extends Reconciler<String> {
   private static final ModelDBHibernateUtil modelDBHibernateUtil =
       ModelDBHibernateUtil.getInstance();
   private final MDBRoleService mdbRoleService;
+  private final RunProjectIndex runProjectIndex;
 
   public SoftDeleteExperimentRuns(
       ReconcilerConfig config,
       MDBRoleService mdbRoleService,
+      RunProjectIndex runProjectIndex,
       FutureJdbi futureJdbi,
       Executor executor) {
     super(
         config, LogManager.getLogger(SoftDeleteExperimentRuns.class), futureJdbi, executor, false);
     this.mdbRoleService = mdbRoleService;
+    this.runProjectIndex = runProjectIndex;
   }
 
   @Override
@@ -78,6 +82,7 @@ public class SoftDeleteExperimentRuns extends Reconciler<String> {
         transaction.commit();
       }
     }
+    runProjectIndex.invalidate(ids);
 
     return new ReconcileResult();
   }
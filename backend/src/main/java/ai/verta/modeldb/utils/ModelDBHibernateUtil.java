@@ -2,7 +2,10 @@ package ai.verta.modeldb.utils;
 
 import ai.verta.modeldb.ModelDBConstants;
 import ai.verta.modeldb.batchProcess.CollaboratorResourceMigration;
+import ai.verta.modeldb.batchProcess.CommitGenerationMigration;
 import ai.verta.modeldb.batchProcess.DatasetToRepositoryMigration;
+import ai.verta.modeldb.batchProcess.KeyValueNumberValueMigration;
+import ai.verta.modeldb.batchProcess.ObservationSeriesMigration;
 import ai.verta.modeldb.batchProcess.OwnerRoleBindingRepositoryUtils;
 import ai.verta.modeldb.batchProcess.OwnerRoleBindingUtils;
 import ai.verta.modeldb.batchProcess.PopulateVersionMigration;
@@ -62,6 +65,7 @@ import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
 import ai.verta.modeldb.entities.versioning.RepositoryEntity;
 import ai.verta.modeldb.entities.versioning.TagsEntity;
 import ai.verta.modeldb.entities.versioning.VersioningModeldbEntityMapping;
+import ai.verta.modeldb.versioning.VersioningContentCache;
 import java.sql.SQLException;
 import java.util.List;
 import liquibase.exception.DatabaseException;
@@ -70,6 +74,7 @@ import org.apache.logging.log4j.Logger;
 
 public class ModelDBHibernateUtil extends CommonHibernateUtil {
   private static final Logger LOGGER = LogManager.getLogger(ModelDBHibernateUtil.class);
+  private static final int KEY_VALUE_NUMBER_VALUE_MIGRATION_LIMIT = 1000;
   private static ModelDBHibernateUtil modelDBHibernateUtil;
 
   private ModelDBHibernateUtil() {}
@@ -234,9 +239,13 @@ public class ModelDBHibernateUtil extends CommonHibernateUtil {
    * If you want to define new migration then add new if check for your migration in `if (migration)
    * {` condition.
    */
-  public void runMigration(DatabaseConfig databaseConfig, List<MigrationConfig> migrations)
+  public void runMigration(
+      DatabaseConfig databaseConfig,
+      List<MigrationConfig> migrations,
+      VersioningContentCache versioningContentCache)
       throws ModelDBException, DatabaseException, SQLException {
     RdbConfig rdb = databaseConfig.getRdbConfiguration();
+    var keyValueNumberValueMigrated = false;
     if (migrations != null) {
       LOGGER.debug("Running code migrations.");
       for (MigrationConfig migrationConfig : migrations) {
@@ -245,20 +254,31 @@ public class ModelDBHibernateUtil extends CommonHibernateUtil {
         }
         switch (migrationConfig.name) {
           case ModelDBConstants.SUB_ENTITIES_OWNERS_RBAC_MIGRATION:
-            OwnerRoleBindingUtils.execute();
+            OwnerRoleBindingUtils.execute(versioningContentCache);
             break;
           case ModelDBConstants.SUB_ENTITIES_REPOSITORY_OWNERS_RBAC_MIGRATION:
-            OwnerRoleBindingRepositoryUtils.execute();
+            OwnerRoleBindingRepositoryUtils.execute(versioningContentCache);
             break;
           case ModelDBConstants.POPULATE_VERSION_MIGRATION:
             PopulateVersionMigration.execute(migrationConfig.record_update_limit);
             break;
+          case ModelDBConstants.OBSERVATION_SERIES_MIGRATION:
+            ObservationSeriesMigration.execute(migrationConfig.record_update_limit);
+            break;
+          case ModelDBConstants.COMMIT_GENERATION_MIGRATION:
+            CommitGenerationMigration.execute(migrationConfig.record_update_limit);
+            break;
+          case ModelDBConstants.KEY_VALUE_NUMBER_VALUE_MIGRATION:
+            KeyValueNumberValueMigration.execute(migrationConfig.record_update_limit);
+            keyValueNumberValueMigrated = true;
+            break;
           case ModelDBConstants.DATASET_VERSIONING_MIGRATION:
             boolean isLocked = checkMigrationLockedStatus(migrationConfig.name, rdb);
             if (!isLocked) {
               LOGGER.debug("Obtaining migration lock");
               lockedMigration(migrationConfig.name, rdb);
-              DatasetToRepositoryMigration.execute(migrationConfig.record_update_limit);
+              DatasetToRepositoryMigration.execute(
+                  migrationConfig.record_update_limit, versioningContentCache);
             } else {
               LOGGER.debug("Migration already locked");
             }
@@ -269,9 +289,20 @@ public class ModelDBHibernateUtil extends CommonHibernateUtil {
         }
       }
     }
+    // Liquibase only fills kv_number_value for the existing rows on PostgreSQL and MySQL, the
+    // number
+    // predicates and sorts would skip them elsewhere, so the migration runs once there by default
+    if (!rdb.isPostgres()
+        && !rdb.isMysql()
+        && !checkMigrationLockedStatus(ModelDBConstants.KEY_VALUE_NUMBER_VALUE_MIGRATION, rdb)) {
+      if (!keyValueNumberValueMigrated) {
+        KeyValueNumberValueMigration.execute(KEY_VALUE_NUMBER_VALUE_MIGRATION_LIMIT);
+      }
+      lockedMigration(ModelDBConstants.KEY_VALUE_NUMBER_VALUE_MIGRATION, rdb);
+    }
     LOGGER.debug("Completed code migrations.");
     LOGGER.debug("Running collaborator resource migration.");
-    CollaboratorResourceMigration.execute();
+    CollaboratorResourceMigration.execute(versioningContentCache);
     LOGGER.debug("Completed collaborator resource migration.");
   }
 }
@@ -82,6 +82,18 @@ public class ModelDBUtils {
     }
   }
 
+  /**
+   * Numeric value stored in the kv_number_value column next to the JSON kv_value, null for non
+   * numeric and non finite values.
+   */
+  public static Double getNumberValueOrNull(Value value) {
+    if (value.getKindCase() == Value.KindCase.NUMBER_VALUE
+        && Double.isFinite(value.getNumberValue())) {
+      return value.getNumberValue();
+    }
+    return null;
+  }
+
   public static boolean isValidEmail(String email) {
     String emailRegex =
         "^[a-zA-Z0-9_+&*-]+(?:\\."
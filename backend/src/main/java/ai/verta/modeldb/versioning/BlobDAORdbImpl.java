@@ -36,6 +36,7 @@ import ai.verta.modeldb.versioning.blob.diff.TypeChecker;
 import ai.verta.modeldb.versioning.blob.factory.BlobFactory;
 import ai.verta.uac.Workspace;
 import com.amazonaws.services.s3.model.PartETag;
+import com.google.common.collect.Lists;
 import com.google.protobuf.ProtocolStringList;
 import io.grpc.Status;
 import java.security.NoSuchAlgorithmException;
@@ -74,15 +75,19 @@ public class BlobDAORdbImpl implements BlobDAO {
       ModelDBHibernateUtil.getInstance();
 
   public static final String TREE = "TREE";
-  private static final String FOLDER_HASH_QUERY_PARAM = "folderHash";
+  // Bound on the parameters of an IN clause, SQL Server accepting about 2000 per query
+  private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
   private static final String INTERNAL_PATH_QUERY_PARAM = "internalPath";
   private static final String COMPUTE_SHA_QUERY_PARAM = "computeSha";
   private final AuthService authService;
   private final MDBRoleService mdbRoleService;
+  private final VersioningContentCache contentCache;
 
-  public BlobDAORdbImpl(AuthService authService, MDBRoleService mdbRoleService) {
+  public BlobDAORdbImpl(
+      AuthService authService, MDBRoleService mdbRoleService, VersioningContentCache contentCache) {
     this.authService = authService;
     this.mdbRoleService = mdbRoleService;
+    this.contentCache = contentCache;
   }
 
   /**
@@ -385,15 +390,21 @@ public class BlobDAORdbImpl implements BlobDAO {
 
   private Blob getBlob(Session session, InternalFolderElementEntity folderElementEntity)
       throws ModelDBException {
-    return BlobFactory.create(folderElementEntity).getBlob(session);
+    var blob =
+        contentCache.getBlob(
+            folderElementEntity.getElement_type(), folderElementEntity.getElement_sha());
+    if (blob == null) {
+      blob = BlobFactory.create(folderElementEntity).getBlob(session);
+      contentCache.putBlob(
+          folderElementEntity.getElement_type(), folderElementEntity.getElement_sha(), blob);
+    }
+    return blob;
   }
 
   private Folder getFolder(Session session, String commitSha, String folderSha) {
-    var query =
-        session.createQuery("From InternalFolderElementEntity where folder_hash = :folder_hash");
-    query.setParameter("folder_hash", folderSha);
     Optional result =
-        query.list().stream()
+        getFolderElements(session, Collections.singleton(folderSha))
+            .getOrDefault(folderSha, Collections.emptyList()).stream()
             .map(
                 d -> {
                   InternalFolderElementEntity entity = (InternalFolderElementEntity) d;
@@ -457,12 +468,8 @@ public class BlobDAORdbImpl implements BlobDAO {
     }
     for (var index = 0; index < locationList.size(); index++) {
       String folderLocation = locationList.get(index);
-      var folderQueryHQL =
-          "From InternalFolderElementEntity parentIfe WHERE parentIfe.element_name = :location AND parentIfe.folder_hash = :folderHash";
-      Query<InternalFolderElementEntity> fetchTreeQuery = session.createQuery(folderQueryHQL);
-      fetchTreeQuery.setParameter("location", folderLocation);
-      fetchTreeQuery.setParameter(FOLDER_HASH_QUERY_PARAM, folderHash);
-      InternalFolderElementEntity elementEntity = fetchTreeQuery.uniqueResult();
+      InternalFolderElementEntity elementEntity =
+          getFolderElement(session, folderHash, folderLocation).stream().findFirst().orElse(null);
 
       if (elementEntity == null) {
         LOGGER.warn(
@@ -639,85 +646,141 @@ public class BlobDAORdbImpl implements BlobDAO {
    */
   private List<InternalFolderElementEntity> getFolderElement(
       Session session, String parentFolderHash, String elementName) {
-    StringBuilder folderQueryHQLBuilder =
-        new StringBuilder("From ")
-            .append(InternalFolderElementEntity.class.getSimpleName())
-            .append(" parentIfe WHERE parentIfe.folder_hash = :folderHash ");
-
-    if (elementName != null && !elementName.isEmpty()) {
-      folderQueryHQLBuilder.append("AND parentIfe.element_name = :elementName");
+    List<InternalFolderElementEntity> folderElements =
+        getFolderElements(session, Collections.singleton(parentFolderHash))
+            .getOrDefault(parentFolderHash, Collections.emptyList());
+    if (elementName == null || elementName.isEmpty()) {
+      return folderElements;
     }
-
-    Query<InternalFolderElementEntity> fetchTreeQuery =
-        session.createQuery(folderQueryHQLBuilder.toString());
-    fetchTreeQuery.setParameter(FOLDER_HASH_QUERY_PARAM, parentFolderHash);
-    if (elementName != null && !elementName.isEmpty()) {
-      fetchTreeQuery.setParameter("elementName", elementName);
-    }
-    return fetchTreeQuery.list();
+    return folderElements.stream()
+        .filter(folderElement -> folderElement.getElement_name().equals(elementName))
+        .collect(Collectors.toList());
   }
 
   boolean childContains(Set<?> list, Set<?> sublist) {
     return Collections.indexOfSubList(new LinkedList<>(list), new LinkedList<>(sublist)) != -1;
   }
 
-  private Map<String, Map.Entry<BlobExpanded, String>> getChildFolderBlobMap(
-      Session session,
-      List<String> requestedLocation,
-      Set<String> parentLocation,
-      String parentFolderHash,
-      List<BlobType> blobTypeList)
-      throws ModelDBException {
-    var folderQueryHQL =
-        "From InternalFolderElementEntity parentIfe WHERE parentIfe.folder_hash = :folderHash";
-    Query<InternalFolderElementEntity> fetchTreeQuery = session.createQuery(folderQueryHQL);
-    fetchTreeQuery.setParameter(FOLDER_HASH_QUERY_PARAM, parentFolderHash);
-    List<InternalFolderElementEntity> childElementFolders = fetchTreeQuery.list();
-
-    Map<String, Map.Entry<BlobExpanded, String>> childBlobExpandedMap = new LinkedHashMap<>();
-    for (InternalFolderElementEntity childElementFolder : childElementFolders) {
-      Set<String> childLocation = new LinkedHashSet<>(parentLocation);
-      childLocation.add(childElementFolder.getElement_name());
-      if (childContains(new LinkedHashSet<>(requestedLocation), childLocation)
-          || childLocation.containsAll(requestedLocation)) {
-        if (childElementFolder.getElement_type().equals(TREE)) {
-          childBlobExpandedMap.putAll(
-              getChildFolderBlobMap(
-                  session,
-                  requestedLocation,
-                  childLocation,
-                  childElementFolder.getElement_sha(),
-                  blobTypeList));
-        } else {
-          if (parentLocation.containsAll(requestedLocation)
+  /**
+   * Returns the blob elements under the folder along the requested location, with the location of
+   * their parent folder. The tree is walked level by level, with one query per level for all its
+   * folders.
+   */
+  private List<Map.Entry<Set<String>, InternalFolderElementEntity>> getChildFolderBlobElements(
+      Session session, List<String> requestedLocation, String rootFolderHash) {
+    List<Map.Entry<Set<String>, InternalFolderElementEntity>> blobElements = new ArrayList<>();
+    List<Map.Entry<Set<String>, String>> folders =
+        Collections.singletonList(new SimpleEntry<>(new LinkedHashSet<>(), rootFolderHash));
+    while (!folders.isEmpty()) {
+      Map<String, List<InternalFolderElementEntity>> childElementsByFolderHash =
+          getFolderElements(
+              session, folders.stream().map(Map.Entry::getValue).collect(Collectors.toSet()));
+
+      List<Map.Entry<Set<String>, String>> childFolders = new ArrayList<>();
+      for (Map.Entry<Set<String>, String> folder : folders) {
+        Set<String> parentLocation = folder.getKey();
+        for (InternalFolderElementEntity childElementFolder :
+            childElementsByFolderHash.getOrDefault(folder.getValue(), Collections.emptyList())) {
+          Set<String> childLocation = new LinkedHashSet<>(parentLocation);
+          childLocation.add(childElementFolder.getElement_name());
+          if (childContains(new LinkedHashSet<>(requestedLocation), childLocation)
               || childLocation.containsAll(requestedLocation)) {
-            var blob = getBlob(session, childElementFolder);
-            if (blobTypeList != null && !blobTypeList.isEmpty()) {
-              if (blobTypeExistsInList(blobTypeList, blob.getContentCase())) {
-                setBlobInBlobExpandMap(
-                    parentLocation, childBlobExpandedMap, childElementFolder, blob);
-              }
-            } else {
-              setBlobInBlobExpandMap(
-                  parentLocation, childBlobExpandedMap, childElementFolder, blob);
+            if (childElementFolder.getElement_type().equals(TREE)) {
+              childFolders.add(
+                  new SimpleEntry<>(childLocation, childElementFolder.getElement_sha()));
+            } else if (parentLocation.containsAll(requestedLocation)
+                || childLocation.containsAll(requestedLocation)) {
+              blobElements.add(new SimpleEntry<>(parentLocation, childElementFolder));
             }
           }
         }
+      }
+      folders = childFolders;
+    }
+    return blobElements;
+  }
+
+  /**
+   * Returns the elements of the folders, mapped by folder hash. Only the folders missing from the
+   * content cache are read from the database.
+   */
+  private Map<String, List<InternalFolderElementEntity>> getFolderElements(
+      Session session, Collection<String> folderHashes) {
+    Map<String, List<InternalFolderElementEntity>> elementsByFolderHash = new HashMap<>();
+    List<String> missingFolderHashes = new ArrayList<>();
+    for (String folderHash : folderHashes) {
+      List<InternalFolderElementEntity> elements = contentCache.getFolderElements(folderHash);
+      if (elements != null) {
+        elementsByFolderHash.put(folderHash, elements);
       } else {
-        if (parentLocation.containsAll(requestedLocation)) {
-          var blob = getBlob(session, childElementFolder);
-          if (blobTypeList != null && !blobTypeList.isEmpty()) {
-            if (blobTypeExistsInList(blobTypeList, blob.getContentCase())) {
-              setBlobInBlobExpandMap(
-                  parentLocation, childBlobExpandedMap, childElementFolder, blob);
+        missingFolderHashes.add(folderHash);
+      }
+    }
+    if (missingFolderHashes.isEmpty()) {
+      return elementsByFolderHash;
+    }
+
+    Map<String, List<InternalFolderElementEntity>> loadedElementsByFolderHash = new HashMap<>();
+    for (List<String> folderHashesChunk :
+        Lists.partition(missingFolderHashes, IN_CLAUSE_CHUNK_SIZE)) {
+      Query<InternalFolderElementEntity> fetchTreeQuery =
+          session.createQuery(
+              "From InternalFolderElementEntity parentIfe WHERE parentIfe.folder_hash IN (:folderHashes)");
+      fetchTreeQuery.setParameterList("folderHashes", folderHashesChunk);
+      for (InternalFolderElementEntity elementEntity : fetchTreeQuery.list()) {
+        loadedElementsByFolderHash
+            .computeIfAbsent(elementEntity.getFolder_hash(), unused -> new ArrayList<>())
+            .add(elementEntity);
+      }
+    }
+    loadedElementsByFolderHash.forEach(contentCache::putFolderElements);
+    elementsByFolderHash.putAll(loadedElementsByFolderHash);
+    return elementsByFolderHash;
+  }
+
+  /**
+   * Loads the blobs of the elements missing from the content cache in bulk, and adds the ones of
+   * the requested types to the map, all of them if there are none.
+   */
+  private void setBlobsInBlobExpandMap(
+      Session session,
+      List<Map.Entry<Set<String>, InternalFolderElementEntity>> blobElements,
+      List<BlobType> blobTypeList,
+      Map<String, Entry<BlobExpanded, String>> blobExpandedMap)
+      throws ModelDBException {
+    Map<InternalFolderElementEntity, Blob> blobs = new HashMap<>();
+    List<InternalFolderElementEntity> missingBlobElements = new ArrayList<>();
+    for (Map.Entry<Set<String>, InternalFolderElementEntity> blobElement : blobElements) {
+      var elementEntity = blobElement.getValue();
+      var blob =
+          contentCache.getBlob(elementEntity.getElement_type(), elementEntity.getElement_sha());
+      if (blob != null) {
+        blobs.put(elementEntity, blob);
+      } else {
+        missingBlobElements.add(elementEntity);
+      }
+    }
+    if (!missingBlobElements.isEmpty()) {
+      Map<InternalFolderElementEntity, Blob> loadedBlobs =
+          BlobFactory.getBlobs(session, missingBlobElements);
+      loadedBlobs.forEach(
+          (elementEntity, blob) -> {
+            if (blob != null) {
+              contentCache.putBlob(
+                  elementEntity.getElement_type(), elementEntity.getElement_sha(), blob);
             }
-          } else {
-            setBlobInBlobExpandMap(parentLocation, childBlobExpandedMap, childElementFolder, blob);
-          }
-        }
+          });
+      blobs.putAll(loadedBlobs);
+    }
+
+    for (Map.Entry<Set<String>, InternalFolderElementEntity> blobElement : blobElements) {
+      var blob = blobs.get(blobElement.getValue());
+      if (blobTypeList == null
+          || blobTypeList.isEmpty()
+          || blobTypeExistsInList(blobTypeList, blob.getContentCase())) {
+        setBlobInBlobExpandMap(blobElement.getKey(), blobExpandedMap, blobElement.getValue(), blob);
       }
     }
-    return childBlobExpandedMap;
   }
 
   private void setBlobInBlobExpandMap(
@@ -787,45 +850,128 @@ public class BlobDAORdbImpl implements BlobDAO {
       }
     }
 
-    Map<String, Map.Entry<BlobExpanded, String>> finalLocationBlobMap = new LinkedHashMap<>();
+    List<Map.Entry<Set<String>, InternalFolderElementEntity>> blobElements = new ArrayList<>();
+    var hasTree = false;
     for (InternalFolderElementEntity parentFolderElement : parentFolderElementList) {
       if (!parentFolderElement.getElement_type().equals(TREE)) {
-        var blob = getBlob(session, parentFolderElement);
-        if (blobTypeList != null && !blobTypeList.isEmpty()) {
-          if (blobTypeExistsInList(blobTypeList, blob.getContentCase())) {
-            setBlobInBlobExpandMap(
-                Collections.singleton(parentFolderElement.getElement_name()),
-                finalLocationBlobMap,
-                parentFolderElement,
-                blob);
-          }
-        } else {
-          setBlobInBlobExpandMap(
-              Collections.singleton(parentFolderElement.getElement_name()),
-              finalLocationBlobMap,
-              parentFolderElement,
-              blob);
-        }
+        blobElements.add(
+            new SimpleEntry<>(
+                Collections.singleton(parentFolderElement.getElement_name()), parentFolderElement));
       } else {
-        // if this is tree, search further
-        Set<String> location = new LinkedHashSet<>();
-        Map<String, Map.Entry<BlobExpanded, String>> locationBlobList =
-            getChildFolderBlobMap(session, locationList, location, folderHash, blobTypeList);
-        finalLocationBlobMap.putAll(locationBlobList);
+        hasTree = true;
       }
     }
+    if (hasTree) {
+      // if this is tree, search further, the walk from the base folder covering all its trees
+      blobElements.addAll(getChildFolderBlobElements(session, locationList, folderHash));
+    }
+    Map<String, Map.Entry<BlobExpanded, String>> finalLocationBlobMap = new LinkedHashMap<>();
+    setBlobsInBlobExpandMap(session, blobElements, blobTypeList, finalLocationBlobMap);
+    return sortByLocation(finalLocationBlobMap);
+  }
 
+  private Map<String, Map.Entry<BlobExpanded, String>> sortByLocation(
+      Map<String, Map.Entry<BlobExpanded, String>> locationBlobMap) {
     Comparator<Map.Entry<String, Map.Entry<BlobExpanded, String>>> locationComparator =
         Comparator.comparing(
             (Map.Entry<String, Map.Entry<BlobExpanded, String>> o) -> o.getKey().replace("#", ""));
 
-    finalLocationBlobMap =
-        finalLocationBlobMap.entrySet().stream()
-            .sorted(locationComparator)
-            .collect(
-                toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e2, LinkedHashMap::new));
+    return locationBlobMap.entrySet().stream()
+        .sorted(locationComparator)
+        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e2, LinkedHashMap::new));
+  }
+
+  /**
+   * Returns the blob elements of the two trees which differ between them, with the location of
+   * their parent folder, the ones of tree A as key and the ones of tree B as value. Both trees are
+   * walked together level by level from their roots, and an element with the same hash on both
+   * sides is skipped with all its subtree, so only the folders along the changes are read.
+   */
+  private Map.Entry<
+          List<Map.Entry<Set<String>, InternalFolderElementEntity>>,
+          List<Map.Entry<Set<String>, InternalFolderElementEntity>>>
+      getDifferingBlobElements(Session session, String rootFolderHashA, String rootFolderHashB) {
+    List<Map.Entry<Set<String>, InternalFolderElementEntity>> blobElementsA = new ArrayList<>();
+    List<Map.Entry<Set<String>, InternalFolderElementEntity>> blobElementsB = new ArrayList<>();
+    // Location of the folders to compare, with their hash in tree A and in tree B, null if absent
+    List<Map.Entry<Set<String>, Map.Entry<String, String>>> folders = new ArrayList<>();
+    if (!rootFolderHashA.equals(rootFolderHashB)) {
+      folders.add(
+          new SimpleEntry<>(
+              new LinkedHashSet<>(), new SimpleEntry<>(rootFolderHashA, rootFolderHashB)));
+    }
+    while (!folders.isEmpty()) {
+      Set<String> folderHashes = new HashSet<>();
+      for (Map.Entry<Set<String>, Map.Entry<String, String>> folder : folders) {
+        if (folder.getValue().getKey() != null) {
+          folderHashes.add(folder.getValue().getKey());
+        }
+        if (folder.getValue().getValue() != null) {
+          folderHashes.add(folder.getValue().getValue());
+        }
+      }
+      Map<String, List<InternalFolderElementEntity>> childElementsByFolderHash =
+          getFolderElements(session, folderHashes);
+
+      List<Map.Entry<Set<String>, Map.Entry<String, String>>> childFolders = new ArrayList<>();
+      for (Map.Entry<Set<String>, Map.Entry<String, String>> folder : folders) {
+        Set<String> parentLocation = folder.getKey();
+        Map<String, InternalFolderElementEntity> childElementsA =
+            getElementsByName(childElementsByFolderHash, folder.getValue().getKey());
+        Map<String, InternalFolderElementEntity> childElementsB =
+            getElementsByName(childElementsByFolderHash, folder.getValue().getValue());
+        Set<String> elementNames = new LinkedHashSet<>(childElementsA.keySet());
+        elementNames.addAll(childElementsB.keySet());
+        for (String elementName : elementNames) {
+          InternalFolderElementEntity childElementA = childElementsA.get(elementName);
+          InternalFolderElementEntity childElementB = childElementsB.get(elementName);
+          if (childElementA != null
+              && childElementB != null
+              && childElementA.getElement_type().equals(childElementB.getElement_type())
+              && childElementA.getElement_sha().equals(childElementB.getElement_sha())) {
+            continue;
+          }
+
+          String childFolderHashA = null;
+          String childFolderHashB = null;
+          if (childElementA != null) {
+            if (childElementA.getElement_type().equals(TREE)) {
+              childFolderHashA = childElementA.getElement_sha();
+            } else {
+              blobElementsA.add(new SimpleEntry<>(parentLocation, childElementA));
+            }
+          }
+          if (childElementB != null) {
+            if (childElementB.getElement_type().equals(TREE)) {
+              childFolderHashB = childElementB.getElement_sha();
+            } else {
+              blobElementsB.add(new SimpleEntry<>(parentLocation, childElementB));
+            }
+          }
+          if (childFolderHashA != null || childFolderHashB != null) {
+            Set<String> childLocation = new LinkedHashSet<>(parentLocation);
+            childLocation.add(elementName);
+            childFolders.add(
+                new SimpleEntry<>(
+                    childLocation, new SimpleEntry<>(childFolderHashA, childFolderHashB)));
+          }
+        }
+      }
+      folders = childFolders;
+    }
+    return new SimpleEntry<>(blobElementsA, blobElementsB);
+  }
 
-    return finalLocationBlobMap;
+  private Map<String, InternalFolderElementEntity> getElementsByName(
+      Map<String, List<InternalFolderElementEntity>> elementsByFolderHash, String folderHash) {
+    Map<String, InternalFolderElementEntity> elementsByName = new LinkedHashMap<>();
+    if (folderHash != null) {
+      for (InternalFolderElementEntity element :
+          elementsByFolderHash.getOrDefault(folderHash, Collections.emptyList())) {
+        elementsByName.put(element.getElement_name(), element);
+      }
+    }
+    return elementsByName;
   }
 
   @Override
@@ -942,20 +1088,29 @@ public class BlobDAORdbImpl implements BlobDAO {
       }
 
       if (request.getReplaceAWithCommonAncestor()) {
-        internalCommitA =
-            getCommonParent(
-                session, internalCommitA.getCommit_hash(), internalCommitB.getCommit_hash());
-      }
-      // get list of blob expanded in both commit and group them in a map based on location
-      Map<String, Map.Entry<BlobExpanded, String>> locationBlobsMapCommitA =
-          getCommitBlobMapWithHash(
-              session, internalCommitA.getRootSha(), new ArrayList<>(), Collections.emptyList());
-
-      Map<String, Map.Entry<BlobExpanded, String>> locationBlobsMapCommitB =
-          getCommitBlobMapWithHash(
-              session, internalCommitB.getRootSha(), new ArrayList<>(), Collections.emptyList());
-
-      return computeDiffFromCommitMaps(locationBlobsMapCommitA, locationBlobsMapCommitB);
+        internalCommitA = getCommonParent(session, internalCommitA, internalCommitB);
+      }
+      // get list of blob expanded differing between the commits, the subtrees with the same hash
+      // in both being skipped, and group them in a map based on location
+      var differingBlobElements =
+          getDifferingBlobElements(
+              session, internalCommitA.getRootSha(), internalCommitB.getRootSha());
+      Map<String, Map.Entry<BlobExpanded, String>> locationBlobsMapCommitA = new LinkedHashMap<>();
+      setBlobsInBlobExpandMap(
+          session,
+          differingBlobElements.getKey(),
+          Collections.emptyList(),
+          locationBlobsMapCommitA);
+
+      Map<String, Map.Entry<BlobExpanded, String>> locationBlobsMapCommitB = new LinkedHashMap<>();
+      setBlobsInBlobExpandMap(
+          session,
+          differingBlobElements.getValue(),
+          Collections.emptyList(),
+          locationBlobsMapCommitB);
+
+      return computeDiffFromCommitMaps(
+          sortByLocation(locationBlobsMapCommitA), sortByLocation(locationBlobsMapCommitB));
     } catch (Exception ex) {
       if (ModelDBUtils.needToRetry(ex)) {
         return computeRepositoryDiff(repositoryDAO, request);
@@ -1133,9 +1288,7 @@ public class BlobDAORdbImpl implements BlobDAO {
             Status.Code.NOT_FOUND);
       }
 
-      parentCommit =
-          getCommonParent(
-              readSession, internalCommitA.getCommit_hash(), internalCommitB.getCommit_hash());
+      parentCommit = getCommonParent(readSession, internalCommitA, internalCommitB);
       parentCommitProto = parentCommit.toCommitProto();
       locationBlobsMapCommitA =
           getCommitBlobMapWithHash(
@@ -1424,29 +1577,15 @@ public class BlobDAORdbImpl implements BlobDAO {
     return diffMap;
   }
 
-  private CommitEntity getCommonParent(Session session, String commitA, String commitB)
+  private CommitEntity getCommonParent(Session session, CommitEntity commitA, CommitEntity commitB)
       throws ModelDBException {
     LOGGER.debug("Branch B found in request");
-    List<CommitEntity> parentCommitA = VersioningUtils.getParentCommits(session, commitA);
-    List<CommitEntity> parentCommitB = VersioningUtils.getParentCommits(session, commitB);
-
-    CommitEntity commonParent = null;
-    var itrA = 0;
-    var itrB = 0;
-    // TODO : this algorithm does not require all the commits to be available before starting.
-    while (itrA < parentCommitA.size() && itrB < parentCommitB.size()) {
-      CommitEntity candidateA = parentCommitA.get(itrA);
-      CommitEntity candidateB = parentCommitB.get(itrB);
-      if (candidateA.getCommit_hash().equals(candidateB.getCommit_hash())) {
-        return candidateA;
-      } else if (candidateA.getDate_created() > candidateB.getDate_created()) {
-        itrA++;
-      } else {
-        itrB++;
-      }
+    CommitEntity commonParent = VersioningUtils.getMergeBase(session, commitA, commitB);
+    if (commonParent == null) {
+      // Should never happen, since we have the initial commit
+      throw new ModelDBException("Could not find base commit for merge", Status.Code.INTERNAL);
     }
-    // Should never happen, since we have the initial commit
-    throw new ModelDBException("Could not find base commit for merge", Status.Code.INTERNAL);
+    return commonParent;
   }
 
   private Map<String, Set<BlobExpanded>> getCollectToMap(
@@ -11,6 +11,7 @@ import ai.verta.modeldb.entities.versioning.RepositoryEntity;
 import ai.verta.modeldb.entities.versioning.RepositoryEnums;
 import ai.verta.modeldb.experimentRun.ExperimentRunDAO;
 import ai.verta.modeldb.metadata.MetadataDAO;
+import ai.verta.uac.GetResourcesResponseItem;
 import ai.verta.uac.ResourceVisibility;
 import ai.verta.uac.UserInfo;
 import java.security.NoSuchAlgorithmException;
@@ -123,6 +124,17 @@ public interface RepositoryDAO {
   DatasetPaginationDTO findDatasets(
       MetadataDAO metadataDAO, FindDatasets build, UserInfo userInfo, ResourceVisibility aPrivate);
 
+  /**
+   * {@link #findDatasets(MetadataDAO, FindDatasets, UserInfo, ResourceVisibility)} among the
+   * datasets of UAC the user can access in the workspace of the request, already fetched.
+   */
+  DatasetPaginationDTO findDatasets(
+      MetadataDAO metadataDAO,
+      FindDatasets build,
+      UserInfo userInfo,
+      ResourceVisibility aPrivate,
+      List<GetResourcesResponseItem> accessibleDatasetItems);
+
   GetDatasetById.Response getDatasetById(MetadataDAO metadataDAO, String id)
       throws ModelDBException;
 
@@ -1031,33 +1031,18 @@ public class RepositoryDAORdbImpl implements RepositoryDAO {
         }
         referenceCommit = commit.getCommit_hash();
       }
-      // list of commits to be used in the in clause in the final query
-      Set<String> commitSHAs = new HashSet<>();
-      // List of commits to be traversed
-      List<String> childCommitSHAs = new LinkedList<>();
-      childCommitSHAs.add(referenceCommit);
-      var getParentCommitsQuery = "SELECT parent_hash FROM commit_parent WHERE child_hash = \'";
-
-      while (!childCommitSHAs.isEmpty()) {
-        String childCommit = childCommitSHAs.remove(0);
-        commitSHAs.add(childCommit);
-        var childQuery = new StringBuilder(getParentCommitsQuery);
-        childQuery.append(childCommit + "\'");
-        Query sqlQuery = session.createSQLQuery(childQuery.toString());
-        List<String> parentCommitSHAs = sqlQuery.list();
-        childCommitSHAs.addAll(parentCommitSHAs);
-      }
-
-      var getChildCommits =
-          "FROM CommitEntity c WHERE c.commit_hash IN (:childCommitSHAs)  ORDER BY c.date_created DESC";
-      var query = session.createQuery(getChildCommits);
-      query.setParameterList("childCommitSHAs", commitSHAs);
-      List<CommitEntity> commits = query.list();
+      Set<String> commitSHAs = VersioningUtils.getAncestorCommitHashes(session, referenceCommit);
+      List<CommitEntity> commits =
+          VersioningUtils.getCommitsByDateDesc(
+              session,
+              commitSHAs,
+              request.getPagination().getPageNumber(),
+              request.getPagination().getPageLimit());
 
       return ListCommitsLogRequest.Response.newBuilder()
           .addAllCommits(
               commits.stream().map(CommitEntity::toCommitProto).collect(Collectors.toList()))
-          .setTotalRecords(commits.size())
+          .setTotalRecords(commitSHAs.size())
           .build();
     } catch (Exception ex) {
       if (ModelDBUtils.needToRetry(ex)) {
@@ -1272,6 +1257,49 @@ public class RepositoryDAORdbImpl implements RepositoryDAO {
       FindDatasets queryParameters,
       UserInfo currentLoginUserInfo,
       ResourceVisibility resourceVisibility) {
+    return findDatasets(
+        metadataDAO,
+        queryParameters,
+        currentLoginUserInfo,
+        resourceVisibility,
+        getWorkspaceDatasetItems(queryParameters, currentLoginUserInfo));
+  }
+
+  private List<GetResourcesResponseItem> getWorkspaceDatasetItems(
+      FindDatasets queryParameters, UserInfo currentLoginUserInfo) {
+    Set<String> requestedDatasetIds =
+        !queryParameters.getDatasetIdsList().isEmpty()
+            ? new HashSet<>(queryParameters.getDatasetIdsList())
+            : Collections.emptySet();
+    String workspaceName = queryParameters.getWorkspaceName();
+    if (!workspaceName.isEmpty()
+        && workspaceName.equals(authService.getUsernameFromUserInfo(currentLoginUserInfo))) {
+      List<String> orgWorkspaceIds =
+          mdbRoleService.listMyOrganizations().stream()
+              .map(Organization::getWorkspaceId)
+              .collect(Collectors.toList());
+      /*TODO: Remove organization resource filtering after UAC provide the endpoint which just
+      returns the accessible ids with collaborators entities not include the organization
+      entities*/
+      return mdbRoleService
+          .getResourceItems(null, requestedDatasetIds, ModelDBServiceResourceTypes.DATASET, false)
+          .stream()
+          .filter(item -> !orgWorkspaceIds.contains(String.valueOf(item.getWorkspaceId())))
+          .collect(Collectors.toList());
+    } else {
+      var workspace =
+          mdbRoleService.getWorkspaceByWorkspaceName(currentLoginUserInfo, workspaceName);
+      return mdbRoleService.getResourceItems(
+          workspace, requestedDatasetIds, ModelDBServiceResourceTypes.DATASET, false);
+    }
+  }
+
+  public DatasetPaginationDTO findDatasets(
+      MetadataDAO metadataDAO,
+      FindDatasets queryParameters,
+      UserInfo currentLoginUserInfo,
+      ResourceVisibility resourceVisibility,
+      List<GetResourcesResponseItem> accessibleDatasetItems) {
     try (var session = modelDBHibernateUtil.getSessionFactory().openSession()) {
       var builder = session.getCriteriaBuilder();
       // Using FROM and JOIN
@@ -1279,55 +1307,11 @@ public class RepositoryDAORdbImpl implements RepositoryDAO {
       Root<RepositoryEntity> repositoryRoot = criteriaQuery.from(RepositoryEntity.class);
       repositoryRoot.alias("ds");
 
-      Set<String> accessibleDatasetIds;
-      String workspaceName = queryParameters.getWorkspaceName();
       Map<String, GetResourcesResponseItem> getResourcesMap = new HashMap<>();
-      if (!workspaceName.isEmpty()
-          && workspaceName.equals(authService.getUsernameFromUserInfo(currentLoginUserInfo))) {
-        List<GetResourcesResponseItem> accessibleAllWorkspaceItems =
-            mdbRoleService.getResourceItems(
-                null,
-                !queryParameters.getDatasetIdsList().isEmpty()
-                    ? new HashSet<>(queryParameters.getDatasetIdsList())
-                    : Collections.emptySet(),
-                ModelDBServiceResourceTypes.DATASET,
-                false);
-        accessibleDatasetIds =
-            accessibleAllWorkspaceItems.stream()
-                .peek(
-                    responseItem -> getResourcesMap.put(responseItem.getResourceId(), responseItem))
-                .map(GetResourcesResponseItem::getResourceId)
-                .collect(Collectors.toSet());
-
-        List<String> orgWorkspaceIds =
-            mdbRoleService.listMyOrganizations().stream()
-                .map(Organization::getWorkspaceId)
-                .collect(Collectors.toList());
-        /*TODO: Remove organization resource filtering after UAC provide the endpoint which just
-        returns the accessible ids with collaborators entities not include the organization
-        entities*/
-        for (GetResourcesResponseItem item : accessibleAllWorkspaceItems) {
-          if (orgWorkspaceIds.contains(String.valueOf(item.getWorkspaceId()))) {
-            accessibleDatasetIds.remove(item.getResourceId());
-          }
-        }
-      } else {
-        var workspace =
-            mdbRoleService.getWorkspaceByWorkspaceName(currentLoginUserInfo, workspaceName);
-        List<GetResourcesResponseItem> accessibleAllWorkspaceItems =
-            mdbRoleService.getResourceItems(
-                workspace,
-                !queryParameters.getDatasetIdsList().isEmpty()
-                    ? new HashSet<>(queryParameters.getDatasetIdsList())
-                    : Collections.emptySet(),
-                ModelDBServiceResourceTypes.DATASET,
-                false);
-        accessibleDatasetIds =
-            accessibleAllWorkspaceItems.stream()
-                .peek(
-                    responseItem -> getResourcesMap.put(responseItem.getResourceId(), responseItem))
-                .map(GetResourcesResponseItem::getResourceId)
-                .collect(Collectors.toSet());
+      Set<String> accessibleDatasetIds = new HashSet<>();
+      for (GetResourcesResponseItem responseItem : accessibleDatasetItems) {
+        getResourcesMap.put(responseItem.getResourceId(), responseItem);
+        accessibleDatasetIds.add(responseItem.getResourceId());
       }
 
       if (accessibleDatasetIds.isEmpty() && mdbRoleService.IsImplemented()) {
@@ -1445,7 +1429,12 @@ public class RepositoryDAORdbImpl implements RepositoryDAO {
       return repositoryDatasetPaginationDTO;
     } catch (Exception ex) {
       if (ModelDBUtils.needToRetry(ex)) {
-        return findDatasets(metadataDAO, queryParameters, currentLoginUserInfo, resourceVisibility);
+        return findDatasets(
+            metadataDAO,
+            queryParameters,
+            currentLoginUserInfo,
+            resourceVisibility,
+            accessibleDatasetItems);
       } else {
         throw ex;
       }
@@ -0,0 +1,86 @@
+package ai.verta.modeldb.versioning;
+
+import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.prometheus.client.Counter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Folder listings and blobs of the versioning, keyed by their hash. The content of a hash never
+ * changes once written, so the entries never need to be invalidated, and the cache is only bounded
+ * by the approximate number of bytes kept.
+ */
+public class VersioningContentCache {
+  private static final String KIND_LABEL = "kind";
+  private static final String RESULT_LABEL = "result";
+  private static final Counter lookups =
+      Counter.build()
+          .labelNames(KIND_LABEL, RESULT_LABEL)
+          .name("verta_backend_versioning_content_cache_lookups_total")
+          .help("Lookups of the versioning content cache, by kind: folder or blob, and result.")
+          .register();
+  // Rough size of an entry besides its content
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final Cache<String, Object> contents;
+
+  public VersioningContentCache(long maxBytes) {
+    this.contents =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(VersioningContentCache::weigh)
+            .build();
+  }
+
+  /** Elements of the folder, null if they aren't cached. */
+  @SuppressWarnings("unchecked")
+  public List<InternalFolderElementEntity> getFolderElements(String folderHash) {
+    return (List<InternalFolderElementEntity>) get("folder", "folder:" + folderHash);
+  }
+
+  /**
+   * Records the elements of the folder. The empty folders aren't kept, the hash looked up possibly
+   * not being written yet.
+   */
+  public void putFolderElements(String folderHash, List<InternalFolderElementEntity> elements) {
+    if (!elements.isEmpty()) {
+      contents.put("folder:" + folderHash, Collections.unmodifiableList(elements));
+    }
+  }
+
+  /** Blob of the type with the hash, null if it isn't cached. */
+  public Blob getBlob(String elementType, String blobHash) {
+    return (Blob) get("blob", "blob:" + elementType + ":" + blobHash);
+  }
+
+  public void putBlob(String elementType, String blobHash, Blob blob) {
+    contents.put("blob:" + elementType + ":" + blobHash, blob);
+  }
+
+  private Object get(String kind, String key) {
+    final var content = contents.getIfPresent(key);
+    lookups.labels(kind, content != null ? "hit" : "miss").inc();
+    return content;
+  }
+
+  private static int weigh(String key, Object content) {
+    long weight = ENTRY_OVERHEAD + 2L * key.length();
+    if (content instanceof Blob) {
+      weight += ((Blob) content).getSerializedSize();
+    } else {
+      for (Object element : (List<?>) content) {
+        var elementEntity = (InternalFolderElementEntity) element;
+        weight +=
+            ENTRY_OVERHEAD
+                + 2L
+                    * (elementEntity.getFolder_hash().length()
+                        + elementEntity.getElement_sha().length()
+                        + elementEntity.getElement_type().length()
+                        + elementEntity.getElement_name().length());
+      }
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+}
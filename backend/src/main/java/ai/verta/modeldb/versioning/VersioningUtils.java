@@ -14,6 +14,7 @@ import ai.verta.modeldb.exceptions.UnimplementedException;
 import ai.verta.modeldb.utils.ModelDBUtils;
 import ai.verta.modeldb.utils.RdbmsUtils;
 import ai.verta.uac.ResourceVisibility;
+import com.google.common.collect.Lists;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,8 +28,28 @@ public class VersioningUtils {
 
   private static final String COMMIT_BELONGS_TO_REPO_QUERY =
       "SELECT count(*) FROM CommitEntity c Join c.repository r WHERE c.commit_hash =  :commitHash AND r.id = :repositoryId";
-  private static final String GET_PARENT_COMMIT_SHA_PREFIX =
-      "SELECT parent_hash FROM commit_parent WHERE child_hash = \'";
+  private static final String COMMIT_HASH_QUERY_PARAM = "commitHash";
+  private static final String COMMIT_HASHES_QUERY_PARAM = "commitHashes";
+  private static final String GET_PARENT_COMMIT_SHAS_QUERY =
+      "SELECT parent_hash FROM commit_parent WHERE child_hash IN (:childCommitSHAs)";
+  // UNION drops the ancestors already found, so each of them is only walked once
+  private static final String GET_ANCESTOR_COMMIT_SHAS_QUERY =
+      "WITH RECURSIVE ancestors (commit_hash) AS ("
+          + " SELECT parent_hash FROM commit_parent WHERE child_hash = :commitHash"
+          + " UNION"
+          + " SELECT cp.parent_hash FROM commit_parent cp"
+          + " INNER JOIN ancestors a ON cp.child_hash = a.commit_hash)"
+          + " SELECT commit_hash FROM ancestors";
+  private static final String GET_COMMIT_DATES_HQL =
+      "SELECT c.commit_hash, c.date_created FROM CommitEntity c WHERE c.commit_hash IN (:commitHashes)";
+  private static final String GET_COMMITS_HQL =
+      "FROM CommitEntity c WHERE c.commit_hash IN (:commitHashes)";
+  private static final String GET_PARENT_COMMIT_ORDERS_HQL =
+      "SELECT c.commit_hash, p.commit_hash, p.date_created, p.generation FROM CommitEntity c JOIN c.parent_commits p WHERE c.commit_hash IN (:commitHashes)";
+  // Bound on the parameters of an IN clause, SQL Server accepting about 2000 per query
+  private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+  private static volatile Boolean recursiveAncestorsQuerySupported;
 
   /**
    * Checks the database and returns if a commitHash belongs to a repository
@@ -56,26 +77,189 @@ public class VersioningUtils {
    */
   // TODO: RepoDAO.listBranchCommits should use this
   public static List<CommitEntity> getParentCommits(Session session, String commitSHA) {
-    List<String> childCommitSHAs = new LinkedList<String>();
-    childCommitSHAs.add(commitSHA);
-    List<String> commitSHAs = new LinkedList<>();
+    return getCommitsByDateDesc(session, getAncestorCommitHashes(session, commitSHA), 0, 0);
+  }
+
+  /**
+   * Returns the hashes of the commit and of all its ancestors, each of them once however many paths
+   * lead to it. On the databases supporting it the history is walked by a single recursive query,
+   * elsewhere by one query per generation of ancestors.
+   *
+   * @param session
+   * @param commitSHA
+   * @return
+   */
+  public static Set<String> getAncestorCommitHashes(Session session, String commitSHA) {
+    if (supportsRecursiveAncestorsQuery(session)) {
+      @SuppressWarnings("unchecked")
+      Query<String> sqlQuery = session.createSQLQuery(GET_ANCESTOR_COMMIT_SHAS_QUERY);
+      sqlQuery.setParameter(COMMIT_HASH_QUERY_PARAM, commitSHA);
+      Set<String> commitSHAs = new LinkedHashSet<>();
+      commitSHAs.add(commitSHA);
+      commitSHAs.addAll(sqlQuery.list());
+      return commitSHAs;
+    }
+
+    Set<String> commitSHAs = new LinkedHashSet<>();
+    commitSHAs.add(commitSHA);
+    List<String> childCommitSHAs = Collections.singletonList(commitSHA);
     while (!childCommitSHAs.isEmpty()) {
-      String childCommit = childCommitSHAs.remove(0);
-      commitSHAs.add(childCommit);
-      StringBuilder childQuery =
-          new StringBuilder(GET_PARENT_COMMIT_SHA_PREFIX).append(childCommit).append("\'");
+      List<String> parentCommitSHAs = new ArrayList<>();
+      for (List<String> childCommitSHAsChunk :
+          Lists.partition(childCommitSHAs, IN_CLAUSE_CHUNK_SIZE)) {
+        @SuppressWarnings("unchecked")
+        Query<String> sqlQuery = session.createSQLQuery(GET_PARENT_COMMIT_SHAS_QUERY);
+        sqlQuery.setParameterList("childCommitSHAs", childCommitSHAsChunk);
+        for (String parentCommitSHA : sqlQuery.list()) {
+          // Merges lead to the same ancestors by several paths, which are only walked once
+          if (commitSHAs.add(parentCommitSHA)) {
+            parentCommitSHAs.add(parentCommitSHA);
+          }
+        }
+      }
+      childCommitSHAs = parentCommitSHAs;
+    }
+    return commitSHAs;
+  }
+
+  private static boolean supportsRecursiveAncestorsQuery(Session session) {
+    var supported = recursiveAncestorsQuerySupported;
+    if (supported == null) {
+      supported =
+          session.doReturningWork(
+              connection -> {
+                var metaData = connection.getMetaData();
+                var productName = metaData.getDatabaseProductName().toLowerCase();
+                if (productName.contains("postgres")) {
+                  return true;
+                } else if (productName.contains("mysql")) {
+                  return metaData.getDatabaseMajorVersion() >= 8;
+                }
+                // SQL Server only allows UNION ALL in recursive queries, which would follow every
+                // path of a merge-heavy history
+                return false;
+              });
+      recursiveAncestorsQuerySupported = supported;
+    }
+    return supported;
+  }
+
+  /**
+   * Returns the commits sorted in descending order of time, restricted to a page if pageLimit is
+   * positive. Only the commits of the page are loaded.
+   *
+   * @param session
+   * @param commitSHAs
+   * @param pageNumber : starting at 1
+   * @param pageLimit
+   * @return
+   */
+  public static List<CommitEntity> getCommitsByDateDesc(
+      Session session, Collection<String> commitSHAs, int pageNumber, int pageLimit) {
+    List<Map.Entry<String, Long>> commitDates = new ArrayList<>(commitSHAs.size());
+    for (List<String> commitSHAsChunk :
+        Lists.partition(new ArrayList<>(commitSHAs), IN_CLAUSE_CHUNK_SIZE)) {
+      @SuppressWarnings("unchecked")
+      Query<Object[]> query = session.createQuery(GET_COMMIT_DATES_HQL);
+      query.setParameterList(COMMIT_HASHES_QUERY_PARAM, commitSHAsChunk);
+      for (Object[] row : query.list()) {
+        commitDates.add(new AbstractMap.SimpleEntry<>((String) row[0], (Long) row[1]));
+      }
+    }
+    commitDates.sort(
+        Map.Entry.<String, Long>comparingByValue(Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Map.Entry.comparingByKey()));
+    if (pageLimit > 0) {
+      final int startPosition = Math.max(pageNumber - 1, 0) * pageLimit;
+      commitDates =
+          commitDates.subList(
+              Math.min(startPosition, commitDates.size()),
+              Math.min(startPosition + pageLimit, commitDates.size()));
+    }
+
+    Map<String, CommitEntity> commitEntities = new HashMap<>();
+    for (List<Map.Entry<String, Long>> commitDatesChunk :
+        Lists.partition(commitDates, IN_CLAUSE_CHUNK_SIZE)) {
       @SuppressWarnings("unchecked")
-      Query<String> sqlQuery = session.createSQLQuery(childQuery.toString());
-      List<String> parentCommitSHAs = sqlQuery.list();
-      childCommitSHAs.addAll(parentCommitSHAs);
+      Query<CommitEntity> query = session.createQuery(GET_COMMITS_HQL);
+      query.setParameterList(
+          COMMIT_HASHES_QUERY_PARAM,
+          commitDatesChunk.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+      query.list().forEach(commit -> commitEntities.put(commit.getCommit_hash(), commit));
+    }
+    return commitDates.stream()
+        .map(commitDate -> commitEntities.get(commitDate.getKey()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the most recent common ancestor of two commits, or null if they have none. Both
+   * histories are walked together from the most recent commit down, so the walk stops at the first
+   * commit reached from both sides instead of loading the two histories. The commits are ordered by
+   * generation when both commits have one, all their ancestors then having one too, which unlike
+   * dates can't be skewed by the clocks of the clients. They are ordered by date otherwise. The
+   * parents of all the commits of the most recent generation, or date, are fetched with one query.
+   *
+   * @param session
+   * @param commitA
+   * @param commitB
+   * @return
+   */
+  public static CommitEntity getMergeBase(
+      Session session, CommitEntity commitA, CommitEntity commitB) {
+    if (commitA.getCommit_hash().equals(commitB.getCommit_hash())) {
+      return commitA;
+    }
+    final boolean byGeneration = commitA.getGeneration() != null && commitB.getGeneration() != null;
+    // Sides from which each commit has been reached, 1 for A, 2 for B
+    Map<String, Integer> reachedFrom = new HashMap<>();
+    PriorityQueue<Map.Entry<String, Long>> queue =
+        new PriorityQueue<>(
+            Map.Entry.<String, Long>comparingByValue(
+                Comparator.nullsLast(Comparator.reverseOrder())));
+    reachedFrom.put(commitA.getCommit_hash(), 1);
+    reachedFrom.put(commitB.getCommit_hash(), 2);
+    queue.add(
+        new AbstractMap.SimpleEntry<>(
+            commitA.getCommit_hash(),
+            byGeneration ? commitA.getGeneration() : commitA.getDate_created()));
+    queue.add(
+        new AbstractMap.SimpleEntry<>(
+            commitB.getCommit_hash(),
+            byGeneration ? commitB.getGeneration() : commitB.getDate_created()));
+
+    while (!queue.isEmpty()) {
+      final Long order = queue.peek().getValue();
+      final Set<String> levelCommitSHAs = new LinkedHashSet<>();
+      while (!queue.isEmpty() && Objects.equals(queue.peek().getValue(), order)) {
+        levelCommitSHAs.add(queue.poll().getKey());
+      }
+      for (String commitSHA : levelCommitSHAs) {
+        if (reachedFrom.get(commitSHA) == 3) {
+          return session.get(CommitEntity.class, commitSHA);
+        }
+      }
+      for (List<String> commitSHAsChunk :
+          Lists.partition(new ArrayList<>(levelCommitSHAs), IN_CLAUSE_CHUNK_SIZE)) {
+        @SuppressWarnings("unchecked")
+        Query<Object[]> query = session.createQuery(GET_PARENT_COMMIT_ORDERS_HQL);
+        query.setParameterList(COMMIT_HASHES_QUERY_PARAM, commitSHAsChunk);
+        for (Object[] row : query.list()) {
+          int sides = reachedFrom.get((String) row[0]);
+          String parentCommitSHA = (String) row[1];
+          int parentSides = reachedFrom.getOrDefault(parentCommitSHA, 0);
+          if ((parentSides | sides) != parentSides) {
+            reachedFrom.put(parentCommitSHA, parentSides | sides);
+            queue.add(
+                new AbstractMap.SimpleEntry<>(
+                    parentCommitSHA, (Long) (byGeneration ? row[3] : row[2])));
+          }
+        }
+      }
     }
-    var getChildCommits =
-        "FROM CommitEntity c WHERE c.commit_hash IN (:childCommitSHAs)  ORDER BY c.date_created DESC";
-    @SuppressWarnings("unchecked")
-    Query<CommitEntity> query = session.createQuery(getChildCommits);
-    query.setParameterList("childCommitSHAs", commitSHAs);
-    return query.list();
+    return null;
   }
+
   /**
    * Given commit components returns commitSHA
    *
@@ -6,20 +6,42 @@ import ai.verta.modeldb.ModelDBConstants;
 import ai.verta.modeldb.common.exceptions.AlreadyExistsException;
 import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.entities.AttributeEntity;
-import ai.verta.modeldb.entities.dataset.PathDatasetComponentBlobEntity;
 import ai.verta.modeldb.entities.dataset.QueryDatasetComponentBlobEntity;
-import ai.verta.modeldb.entities.dataset.S3DatasetComponentBlobEntity;
 import ai.verta.modeldb.utils.RdbmsUtils;
 import ai.verta.modeldb.versioning.*;
 import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.*;
+import ai.verta.modeldb.versioning.blob.diff.ProtoType;
 import io.grpc.Status.Code;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Function;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.hibernate.Session;
 
 public class DatasetContainer extends BlobContainer {
+  private static final Logger LOGGER = LogManager.getLogger(DatasetContainer.class);
 
   private static final String COMPONENT_COMMON_FIELD = ":component:";
+  // Component rows written per JDBC batch, and between two progress logs of a large dataset
+  private static final int COMPONENT_BATCH_SIZE = 1000;
+  private static final int COMPONENT_PROGRESS_INTERVAL = 100000;
+
+  @FunctionalInterface
+  private interface ComponentHasher<A> {
+    String computeSHA(A component) throws NoSuchAlgorithmException;
+  }
+
+  @FunctionalInterface
+  private interface ComponentBinder<T> {
+    void bind(PreparedStatement statement, T component) throws SQLException;
+  }
+
   private final DatasetBlob dataset;
 
   public DatasetContainer(BlobExpanded blobExpanded) {
@@ -37,33 +59,22 @@ public class DatasetContainer extends BlobContainer {
     String blobHash;
     switch (dataset.getContentCase()) {
       case S3:
-        final S3DatasetBlob s3 = dataset.getS3();
-
-        // sorted
-        Map<String, AutogenS3DatasetComponentBlob> componentHashes = new LinkedHashMap<>();
-        var autogenS3DatasetBlob = AutogenS3DatasetBlob.fromProto(s3);
-        if (autogenS3DatasetBlob != null && autogenS3DatasetBlob.getComponents() != null) {
-          for (AutogenS3DatasetComponentBlob componentBlob : autogenS3DatasetBlob.getComponents()) {
-            final String componentHash = computeSHA(componentBlob);
-            componentHashes.put(componentHash, componentBlob);
-          }
-          blobHash = computeSHAS3Dataset(componentHashes);
-          if (!blobHashes.contains(blobHash)) {
-            blobHashes.add(blobHash);
-            for (Map.Entry<String, AutogenS3DatasetComponentBlob> component :
-                componentHashes.entrySet()) {
-              if (!blobHashes.contains(component.getKey())) {
-                blobHashes.add(component.getKey());
-                var s3DatasetComponentBlobEntity =
-                    new S3DatasetComponentBlobEntity(
-                        component.getKey(), blobHash, component.getValue().toProto().build());
-                session.saveOrUpdate(s3DatasetComponentBlobEntity);
-              }
-            }
-          }
-        } else {
-          blobHash = null;
-        }
+        blobHash =
+            saveComponents(
+                session,
+                "s3",
+                dataset.getS3().getComponentsList(),
+                AutogenS3DatasetComponentBlob::fromProto,
+                DatasetContainer::computeSHA,
+                "insert into s3_dataset_component_blob (blob_hash, s3_dataset_blob_id, path, size,"
+                    + " last_modified_at_source, sha256, md5, internal_versioned_path, base_path,"
+                    + " s3_version_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "select blob_hash from s3_dataset_component_blob where s3_dataset_blob_id = :id",
+                (statement, component) -> {
+                  bindPathComponent(statement, component.getPath());
+                  statement.setString(10, component.getS3VersionId());
+                },
+                blobHashes);
         break;
       case PATH:
         blobHash = saveBlob(session, dataset.getPath(), blobHashes);
@@ -82,31 +93,186 @@ public class DatasetContainer extends BlobContainer {
 
   static String saveBlob(Session session, PathDatasetBlob path, Set<String> blobHashes)
       throws NoSuchAlgorithmException {
-    // sorted
-    Map<String, AutogenPathDatasetComponentBlob> componentHashes = new LinkedHashMap<>();
-    var autogenPathDatasetBlob = AutogenPathDatasetBlob.fromProto(path);
-    if (autogenPathDatasetBlob != null && autogenPathDatasetBlob.getComponents() != null) {
-      for (AutogenPathDatasetComponentBlob componentBlob : autogenPathDatasetBlob.getComponents()) {
-        final String componentHash = computeSHA(componentBlob);
-        componentHashes.put(componentHash, componentBlob);
+    return saveComponents(
+        session,
+        "path",
+        path.getComponentsList(),
+        AutogenPathDatasetComponentBlob::fromProto,
+        DatasetContainer::computeSHA,
+        "insert into path_dataset_component_blob (blob_hash, path_dataset_blob_id, path, size,"
+            + " last_modified_at_source, sha256, md5, internal_versioned_path, base_path)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        "select blob_hash from path_dataset_component_blob where path_dataset_blob_id = :id",
+        DatasetContainer::bindPathComponent,
+        blobHashes);
+  }
+
+  private static void bindPathComponent(
+      PreparedStatement statement, PathDatasetComponentBlob component) throws SQLException {
+    statement.setString(3, component.getPath());
+    statement.setLong(4, component.getSize());
+    statement.setLong(5, component.getLastModifiedAtSource());
+    statement.setString(6, component.getSha256());
+    statement.setString(7, component.getMd5());
+    statement.setString(8, component.getInternalVersionedPath());
+    statement.setString(9, component.getBasePath());
+  }
+
+  /** Hash of a path dataset, the same as {@link #computeSHAPathDataset(Map)} gives. */
+  static String computeSHAPathDataset(PathDatasetBlob path) throws NoSuchAlgorithmException {
+    return computeSHADataset(
+        "path",
+        path.getComponentsList(),
+        AutogenPathDatasetComponentBlob::fromProto,
+        DatasetContainer::computeSHA,
+        new HashSet<>());
+  }
+
+  /** Hash of an S3 dataset, the same as hashing its autogenerated copy gives. */
+  static String computeSHAS3Dataset(S3DatasetBlob s3) throws NoSuchAlgorithmException {
+    return computeSHADataset(
+        "s3",
+        s3.getComponentsList(),
+        AutogenS3DatasetComponentBlob::fromProto,
+        DatasetContainer::computeSHA,
+        new HashSet<>());
+  }
+
+  /**
+   * Hash of a path or S3 dataset, null if all its components are empty. The components are
+   * canonicalized as the autogenerated dataset does: the empty ones are dropped, the others ordered
+   * by the hash code of their autogenerated copy, the request order breaking ties, and the
+   * duplicated ones counted once. Only the distinct component hashes, added to componentHashes, are
+   * kept in memory.
+   */
+  private static <T, A extends ProtoType> String computeSHADataset(
+      String datasetType,
+      List<T> components,
+      Function<T, A> toAutogen,
+      ComponentHasher<A> hasher,
+      Set<String> componentHashes)
+      throws NoSuchAlgorithmException {
+    // Insertion order is the first occurrence, which the stable sort keeps between equal keys
+    final Map<String, Integer> orderKeys = new LinkedHashMap<>();
+    for (T component : components) {
+      final A autogenComponent = toAutogen.apply(component);
+      if (autogenComponent == null || autogenComponent.isEmpty()) {
+        continue;
       }
-      String blobHash = computeSHAPathDataset(componentHashes);
-      if (!blobHashes.contains(blobHash)) {
-        blobHashes.add(blobHash);
-        for (Map.Entry<String, AutogenPathDatasetComponentBlob> component :
-            componentHashes.entrySet()) {
-          if (!blobHashes.contains(component.getKey())) {
-            blobHashes.add(component.getKey());
-            var pathDatasetComponentBlobEntity =
-                new PathDatasetComponentBlobEntity(
-                    component.getKey(), blobHash, component.getValue().toProto().build());
-            session.saveOrUpdate(pathDatasetComponentBlobEntity);
-          }
-        }
+      final String componentHash = hasher.computeSHA(autogenComponent);
+      if (!orderKeys.containsKey(componentHash)) {
+        orderKeys.put(componentHash, autogenComponent.hashCode());
       }
+    }
+    if (orderKeys.isEmpty()) {
+      return null;
+    }
+    final List<Map.Entry<String, Integer>> sortedHashes = new ArrayList<>(orderKeys.entrySet());
+    sortedHashes.sort(Map.Entry.comparingByValue());
+
+    var digest = MessageDigest.getInstance("SHA-256");
+    digest.update(datasetType.getBytes(StandardCharsets.UTF_8));
+    for (Map.Entry<String, Integer> componentHash : sortedHashes) {
+      digest.update(
+          (COMPONENT_COMMON_FIELD + componentHash.getKey()).getBytes(StandardCharsets.UTF_8));
+      componentHashes.add(componentHash.getKey());
+    }
+    return new String(new Hex().encode(digest.digest()));
+  }
+
+  /**
+   * Saves the components of a path or S3 dataset and returns the hash of the dataset, null if it
+   * has no component. The hash is computed by {@link #computeSHADataset}, then the rows missing
+   * from the table are streamed from the request into JDBC batches, the existing components of the
+   * dataset being read with a single query.
+   */
+  private static <T, A extends ProtoType> String saveComponents(
+      Session session,
+      String datasetType,
+      List<T> components,
+      Function<T, A> toAutogen,
+      ComponentHasher<A> hasher,
+      String insertQuery,
+      String existingHashesQuery,
+      ComponentBinder<T> binder,
+      Set<String> blobHashes)
+      throws NoSuchAlgorithmException {
+    final Set<String> componentHashes = new HashSet<>();
+    final String blobHash =
+        computeSHADataset(datasetType, components, toAutogen, hasher, componentHashes);
+    if (blobHash == null || blobHashes.contains(blobHash)) {
       return blobHash;
     }
-    return null;
+    blobHashes.add(blobHash);
+
+    final Set<String> existingHashes =
+        new HashSet<String>(
+            session
+                .createSQLQuery(existingHashesQuery)
+                .setParameter("id", blobHash)
+                .getResultList());
+    if (existingHashes.containsAll(componentHashes)) {
+      // The dataset was already saved by an earlier commit
+      return blobHash;
+    }
+
+    final List<Map.Entry<String, T>> batch = new ArrayList<>(COMPONENT_BATCH_SIZE);
+    var savedCount = 0;
+    for (T component : components) {
+      final A autogenComponent = toAutogen.apply(component);
+      if (autogenComponent == null || autogenComponent.isEmpty()) {
+        continue;
+      }
+      final String componentHash = hasher.computeSHA(autogenComponent);
+      // Removed on the first occurrence of a component, so that its duplicates are skipped
+      if (!componentHashes.remove(componentHash) || blobHashes.contains(componentHash)) {
+        continue;
+      }
+      blobHashes.add(componentHash);
+      if (existingHashes.contains(componentHash)) {
+        continue;
+      }
+      batch.add(new AbstractMap.SimpleEntry<>(componentHash, component));
+      if (batch.size() == COMPONENT_BATCH_SIZE) {
+        savedCount += insertComponents(session, blobHash, insertQuery, binder, batch);
+        if (savedCount % COMPONENT_PROGRESS_INTERVAL == 0) {
+          LOGGER.info(
+              "Saved {} of {} components of {} dataset {}",
+              savedCount,
+              components.size(),
+              datasetType,
+              blobHash);
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      savedCount += insertComponents(session, blobHash, insertQuery, binder, batch);
+    }
+    LOGGER.debug("Saved {} components of {} dataset {}", savedCount, datasetType, blobHash);
+    return blobHash;
+  }
+
+  private static <T> int insertComponents(
+      Session session,
+      String blobHash,
+      String insertQuery,
+      ComponentBinder<T> binder,
+      List<Map.Entry<String, T>> batch) {
+    final var count = batch.size();
+    session.doWork(
+        connection -> {
+          try (var statement = connection.prepareStatement(insertQuery)) {
+            for (Map.Entry<String, T> component : batch) {
+              statement.setString(1, component.getKey());
+              statement.setString(2, blobHash);
+              binder.bind(statement, component.getValue());
+              statement.addBatch();
+            }
+            statement.executeBatch();
+          }
+        });
+    batch.clear();
+    return count;
   }
 
   static String saveQueryDatasetBlob(
@@ -182,16 +348,6 @@ public class DatasetContainer extends BlobContainer {
     return FileHasher.getSha(sb.toString());
   }
 
-  private String computeSHAS3Dataset(Map<String, AutogenS3DatasetComponentBlob> componentHashes)
-      throws NoSuchAlgorithmException {
-    var sb = new StringBuilder();
-    sb.append("s3");
-    for (Map.Entry<String, AutogenS3DatasetComponentBlob> component : componentHashes.entrySet()) {
-      sb.append(COMPONENT_COMMON_FIELD).append(component.getKey());
-    }
-    return FileHasher.getSha(sb.toString());
-  }
-
   static String computeSHAPathDataset(Map<String, AutogenPathDatasetComponentBlob> componentHashes)
       throws NoSuchAlgorithmException {
     var sb = new StringBuilder();
@@ -4,6 +4,12 @@ import ai.verta.modeldb.common.exceptions.ModelDBException;
 import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
 import ai.verta.modeldb.versioning.Blob;
 import io.grpc.Status.Code;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import org.hibernate.Session;
 
 /** constructs proto object from it's database implementation */
@@ -17,6 +23,8 @@ public abstract class BlobFactory {
   public static final String GIT_CODE_BLOB = "GitCodeBlob";
   public static final String NOTEBOOK_CODE_BLOB = "NotebookCodeBlob";
   public static final String CONFIG_BLOB = "ConfigBlob";
+  // Bound on the parameters of an IN clause, SQL Server accepting about 2000 per query
+  static final int IN_CLAUSE_CHUNK_SIZE = 1000;
   private final String elementType;
   private final String elementSha;
 
@@ -45,6 +53,58 @@ public abstract class BlobFactory {
     }
   }
 
+  /**
+   * Blobs of the folder elements, loaded by a few queries per blob type whatever the number of
+   * elements, instead of a few per element for {@link #getBlob}.
+   */
+  public static Map<InternalFolderElementEntity, Blob> getBlobs(
+      Session session, Collection<InternalFolderElementEntity> folderElementEntities)
+      throws ModelDBException {
+    Map<String, Set<String>> blobHashesByType = new LinkedHashMap<>();
+    for (InternalFolderElementEntity folderElementEntity : folderElementEntities) {
+      blobHashesByType
+          .computeIfAbsent(folderElementEntity.getElement_type(), unused -> new LinkedHashSet<>())
+          .add(folderElementEntity.getElement_sha());
+    }
+
+    Map<String, Map<String, Blob>> blobsByType = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : blobHashesByType.entrySet()) {
+      final String elementType = entry.getKey();
+      final Map<String, Blob> blobs;
+      switch (elementType) {
+        case S_3_DATASET_BLOB:
+        case PATH_DATASET_BLOB:
+        case QUERY_DATASET_BLOB:
+          blobs = DatasetBlobFactory.getBlobsByHash(session, elementType, entry.getValue());
+          break;
+        case PYTHON_ENVIRONMENT_BLOB:
+        case DOCKER_ENVIRONMENT_BLOB:
+          blobs = EnvironmentBlobFactory.getBlobsByHash(session, entry.getValue());
+          break;
+        case GIT_CODE_BLOB:
+        case NOTEBOOK_CODE_BLOB:
+          blobs = CodeBlobFactory.getBlobsByHash(session, elementType, entry.getValue());
+          break;
+        case CONFIG_BLOB:
+          blobs = ConfigBlobFactory.getBlobsByHash(session, entry.getValue());
+          break;
+        default:
+          throw new ModelDBException("Unknown blob type found " + elementType, Code.INTERNAL);
+      }
+      blobsByType.put(elementType, blobs);
+    }
+
+    Map<InternalFolderElementEntity, Blob> result = new HashMap<>();
+    for (InternalFolderElementEntity folderElementEntity : folderElementEntities) {
+      result.put(
+          folderElementEntity,
+          blobsByType
+              .get(folderElementEntity.getElement_type())
+              .get(folderElementEntity.getElement_sha()));
+    }
+    return result;
+  }
+
   public abstract Blob getBlob(Session session) throws ModelDBException;
 
   String getElementType() {
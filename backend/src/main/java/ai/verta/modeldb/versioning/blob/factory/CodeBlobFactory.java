@@ -9,6 +9,14 @@ import ai.verta.modeldb.versioning.CodeBlob;
 import ai.verta.modeldb.versioning.NotebookCodeBlob;
 import ai.verta.modeldb.versioning.PathDatasetBlob;
 import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.hibernate.Session;
 
 public class CodeBlobFactory extends BlobFactory {
@@ -21,30 +29,73 @@ public class CodeBlobFactory extends BlobFactory {
 
   @Override
   public Blob getBlob(Session session) throws ModelDBException {
-    var codeBlobBuilder = CodeBlob.newBuilder();
-    switch (getElementType()) {
+    return getBlobsByHash(session, getElementType(), Collections.singleton(getElementSha()))
+        .get(getElementSha());
+  }
+
+  static Map<String, Blob> getBlobsByHash(
+      Session session, String elementType, Collection<String> blobHashes) throws ModelDBException {
+    // Loaded in the order of the hashes
+    List<String> blobHashList = new ArrayList<>(blobHashes);
+    Map<String, Blob> blobs = new HashMap<>();
+    switch (elementType) {
       case GIT_CODE_BLOB:
-        codeBlobBuilder.setGit(session.get(GitCodeBlobEntity.class, getElementSha()).toProto());
+        List<GitCodeBlobEntity> gitCodeBlobEntities =
+            session
+                .byMultipleIds(GitCodeBlobEntity.class)
+                .withBatchSize(IN_CLAUSE_CHUNK_SIZE)
+                .multiLoad(blobHashList);
+        for (var i = 0; i < blobHashList.size(); i++) {
+          blobs.put(
+              blobHashList.get(i),
+              toBlob(CodeBlob.newBuilder().setGit(gitCodeBlobEntities.get(i).toProto())));
+        }
         break;
       case NOTEBOOK_CODE_BLOB:
-        var notebookCodeBlobEntity = session.get(NotebookCodeBlobEntity.class, getElementSha());
-        String datasetBlobHash = notebookCodeBlobEntity.getPath_dataset_blob_hash();
-        final var builder = NotebookCodeBlob.newBuilder();
-        PathDatasetBlob pathBlob = DatasetBlobFactory.getPathBlob(session, datasetBlobHash);
-        if (pathBlob != null) {
-          if (pathBlob.getComponentsCount() == 1) {
-            builder.setPath(pathBlob.getComponents(0));
-          } else {
-            throw new ModelDBException("Path should have only one component", Code.INTERNAL);
+        List<NotebookCodeBlobEntity> notebookCodeBlobEntities =
+            session
+                .byMultipleIds(NotebookCodeBlobEntity.class)
+                .withBatchSize(IN_CLAUSE_CHUNK_SIZE)
+                .multiLoad(blobHashList);
+        Map<String, PathDatasetBlob> pathBlobs =
+            DatasetBlobFactory.getPathBlobs(
+                session,
+                notebookCodeBlobEntities.stream()
+                    .map(NotebookCodeBlobEntity::getPath_dataset_blob_hash)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()));
+        for (var i = 0; i < blobHashList.size(); i++) {
+          var notebookCodeBlobEntity = notebookCodeBlobEntities.get(i);
+          final var builder = NotebookCodeBlob.newBuilder();
+          PathDatasetBlob pathBlob =
+              pathBlobs.get(notebookCodeBlobEntity.getPath_dataset_blob_hash());
+          if (pathBlob != null) {
+            if (pathBlob.getComponentsCount() == 1) {
+              builder.setPath(pathBlob.getComponents(0));
+            } else {
+              throw new ModelDBException("Path should have only one component", Code.INTERNAL);
+            }
           }
+          blobs.put(
+              blobHashList.get(i),
+              toBlob(
+                  CodeBlob.newBuilder()
+                      .setNotebook(
+                          builder
+                              .setGitRepo(notebookCodeBlobEntity.getGitCodeBlobEntity().toProto())
+                              .build())));
         }
-        codeBlobBuilder.setNotebook(
-            builder.setGitRepo(notebookCodeBlobEntity.getGitCodeBlobEntity().toProto()).build());
         break;
       default:
-        // Do nothing
+        for (String blobHash : blobHashes) {
+          blobs.put(blobHash, toBlob(CodeBlob.newBuilder()));
+        }
         break;
     }
+    return blobs;
+  }
+
+  private static Blob toBlob(CodeBlob.Builder codeBlobBuilder) {
     return Blob.newBuilder().setCode(codeBlobBuilder).build();
   }
 }
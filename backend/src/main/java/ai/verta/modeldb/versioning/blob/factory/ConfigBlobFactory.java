@@ -11,8 +11,14 @@ import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
 import ai.verta.modeldb.versioning.Blob;
 import ai.verta.modeldb.versioning.ConfigBlob;
 import ai.verta.modeldb.versioning.HyperparameterConfigBlob;
+import com.google.common.collect.Lists;
 import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 
@@ -30,10 +36,47 @@ public class ConfigBlobFactory extends BlobFactory {
         "From ConfigBlobEntity where blob_hash = :blobHash ORDER BY config_seq_number ASC";
     Query<ConfigBlobEntity> query = session.createQuery(configQuery);
     query.setParameter("blobHash", getElementSha());
-    List<ConfigBlobEntity> configBlobEntities = query.list();
+    return toBlob(session, getElementType(), query.list());
+  }
+
+  static Map<String, Blob> getBlobsByHash(Session session, Collection<String> blobHashes)
+      throws ModelDBException {
+    // The hyperparameters are fetched along, so the session already has them when converted
+    var configQuery =
+        "SELECT cb.blob_hash, cb From ConfigBlobEntity cb "
+            + "LEFT JOIN FETCH cb.hyperparameterSetConfigBlobEntity "
+            + "LEFT JOIN FETCH cb.hyperparameterElementConfigBlobEntity "
+            + "where cb.blob_hash IN (:blobHashes) ORDER BY cb.config_seq_number ASC";
+    Map<String, List<ConfigBlobEntity>> configBlobEntitiesByBlobHash = new HashMap<>();
+    for (List<String> blobHashesChunk :
+        Lists.partition(new ArrayList<>(blobHashes), IN_CLAUSE_CHUNK_SIZE)) {
+      Query<Object[]> query = session.createQuery(configQuery);
+      query.setParameterList("blobHashes", blobHashesChunk);
+      for (Object[] row : query.list()) {
+        configBlobEntitiesByBlobHash
+            .computeIfAbsent((String) row[0], unused -> new ArrayList<>())
+            .add((ConfigBlobEntity) row[1]);
+      }
+    }
+
+    Map<String, Blob> blobs = new HashMap<>();
+    for (String blobHash : blobHashes) {
+      blobs.put(
+          blobHash,
+          toBlob(
+              session,
+              CONFIG_BLOB,
+              configBlobEntitiesByBlobHash.getOrDefault(blobHash, Collections.emptyList())));
+    }
+    return blobs;
+  }
+
+  private static Blob toBlob(
+      Session session, String elementType, List<ConfigBlobEntity> configBlobEntities)
+      throws ModelDBException {
     var configBlobBuilder = ConfigBlob.newBuilder();
     for (ConfigBlobEntity configBlobEntity : configBlobEntities) {
-      switch (getElementType()) {
+      switch (elementType) {
         case CONFIG_BLOB:
           switch (configBlobEntity.getHyperparameter_type()) {
             case HYPERPARAMETER:
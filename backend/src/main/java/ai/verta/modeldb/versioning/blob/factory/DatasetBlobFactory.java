@@ -13,9 +13,15 @@ import ai.verta.modeldb.versioning.QueryDatasetBlob;
 import ai.verta.modeldb.versioning.QueryDatasetComponentBlob;
 import ai.verta.modeldb.versioning.S3DatasetBlob;
 import ai.verta.modeldb.versioning.S3DatasetComponentBlob;
+import com.google.common.collect.Lists;
 import io.grpc.Status;
 import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
@@ -32,90 +38,134 @@ public class DatasetBlobFactory extends BlobFactory {
 
   @Override
   public Blob getBlob(Session session) throws ModelDBException {
-    var datasetBlobBuilder = DatasetBlob.newBuilder();
-    switch (getElementType()) {
+    return getBlobsByHash(session, getElementType(), Collections.singleton(getElementSha()))
+        .get(getElementSha());
+  }
+
+  static Map<String, Blob> getBlobsByHash(
+      Session session, String elementType, Collection<String> blobHashes) throws ModelDBException {
+    Map<String, Blob> blobs = new HashMap<>();
+    switch (elementType) {
       case S_3_DATASET_BLOB:
-        datasetBlobBuilder.setS3(getS3Blob(session, getElementSha()));
+        Map<String, S3DatasetBlob> s3Blobs = getS3Blobs(session, blobHashes);
+        for (String blobHash : blobHashes) {
+          final S3DatasetBlob s3Blob = s3Blobs.get(blobHash);
+          if (s3Blob == null) {
+            throw new ModelDBException("S3 dataset Blob not found", Status.Code.NOT_FOUND);
+          }
+          blobs.put(blobHash, toBlob(DatasetBlob.newBuilder().setS3(s3Blob)));
+        }
         break;
       case PATH_DATASET_BLOB:
-        final PathDatasetBlob pathBlob = getPathBlob(session, getElementSha());
-        if (pathBlob == null) {
-          throw new ModelDBException("Path blob not found", Code.INTERNAL);
+        Map<String, PathDatasetBlob> pathBlobs = getPathBlobs(session, blobHashes);
+        for (String blobHash : blobHashes) {
+          final PathDatasetBlob pathBlob = pathBlobs.get(blobHash);
+          if (pathBlob == null) {
+            throw new ModelDBException("Path blob not found", Code.INTERNAL);
+          }
+          blobs.put(blobHash, toBlob(DatasetBlob.newBuilder().setPath(pathBlob)));
         }
-        datasetBlobBuilder.setPath(pathBlob);
         break;
       case QUERY_DATASET_BLOB:
-        final QueryDatasetBlob queryBlob = getQueryBlob(session, getElementSha());
-        if (queryBlob == null) {
-          throw new ModelDBException("Query blob not found", Code.INTERNAL);
+        Map<String, QueryDatasetBlob> queryBlobs = getQueryBlobs(session, blobHashes);
+        for (String blobHash : blobHashes) {
+          final QueryDatasetBlob queryBlob = queryBlobs.get(blobHash);
+          if (queryBlob == null) {
+            throw new ModelDBException("Query blob not found", Code.INTERNAL);
+          }
+          blobs.put(blobHash, toBlob(DatasetBlob.newBuilder().setQuery(queryBlob)));
         }
-        datasetBlobBuilder.setQuery(queryBlob);
         break;
       default:
-        // Do nothing
+        for (String blobHash : blobHashes) {
+          blobs.put(blobHash, toBlob(DatasetBlob.newBuilder()));
+        }
         break;
     }
-    return Blob.newBuilder().setDataset(datasetBlobBuilder).build();
+    return blobs;
   }
 
-  private static S3DatasetBlob getS3Blob(Session session, String blobHash) throws ModelDBException {
-    var s3ComponentQueryHQL =
-        "From S3DatasetComponentBlobEntity s3 WHERE s3.id.s3_dataset_blob_id = :blobShas";
-
-    Query<S3DatasetComponentBlobEntity> s3ComponentQuery = session.createQuery(s3ComponentQueryHQL);
-    s3ComponentQuery.setParameter(BLOB_SHAS_QUERY_PARAM, blobHash);
-    List<S3DatasetComponentBlobEntity> datasetComponentBlobEntities = s3ComponentQuery.list();
+  private static Blob toBlob(DatasetBlob.Builder datasetBlobBuilder) {
+    return Blob.newBuilder().setDataset(datasetBlobBuilder).build();
+  }
 
-    if (datasetComponentBlobEntities != null && datasetComponentBlobEntities.size() > 0) {
-      List<S3DatasetComponentBlob> componentBlobs =
-          datasetComponentBlobEntities.stream()
-              .map(S3DatasetComponentBlobEntity::toProto)
-              .collect(Collectors.toList());
-      return S3DatasetBlob.newBuilder().addAllComponents(componentBlobs).build();
-    } else {
-      throw new ModelDBException("S3 dataset Blob not found", Status.Code.NOT_FOUND);
+  /** Components of the dataset blobs, mapped by blob hash, the blobs without any being left out. */
+  @SuppressWarnings("unchecked")
+  private static <T> Map<String, List<T>> getComponents(
+      Session session, String componentQueryHQL, Collection<String> blobHashes) {
+    Map<String, List<T>> componentsByBlobHash = new HashMap<>();
+    for (List<String> blobHashesChunk :
+        Lists.partition(new ArrayList<>(blobHashes), IN_CLAUSE_CHUNK_SIZE)) {
+      Query<Object[]> componentQuery = session.createQuery(componentQueryHQL);
+      componentQuery.setParameterList(BLOB_SHAS_QUERY_PARAM, blobHashesChunk);
+      for (Object[] row : componentQuery.list()) {
+        componentsByBlobHash
+            .computeIfAbsent((String) row[0], unused -> new ArrayList<>())
+            .add((T) row[1]);
+      }
     }
+    return componentsByBlobHash;
   }
 
-  static PathDatasetBlob getPathBlob(Session session, String blobHash) {
-    var pathComponentQueryHQL =
-        "From PathDatasetComponentBlobEntity p WHERE p.id.path_dataset_blob_id = :blobShas";
-
-    Query<PathDatasetComponentBlobEntity> pathComponentQuery =
-        session.createQuery(pathComponentQueryHQL);
-    pathComponentQuery.setParameter(BLOB_SHAS_QUERY_PARAM, blobHash);
-    List<PathDatasetComponentBlobEntity> pathDatasetComponentBlobEntities =
-        pathComponentQuery.list();
+  private static Map<String, S3DatasetBlob> getS3Blobs(
+      Session session, Collection<String> blobHashes) {
+    var s3ComponentQueryHQL =
+        "SELECT s3.id.s3_dataset_blob_id, s3 From S3DatasetComponentBlobEntity s3 "
+            + "WHERE s3.id.s3_dataset_blob_id IN (:blobShas)";
+    Map<String, List<S3DatasetComponentBlobEntity>> componentsByBlobHash =
+        getComponents(session, s3ComponentQueryHQL, blobHashes);
 
-    if (pathDatasetComponentBlobEntities != null && pathDatasetComponentBlobEntities.size() > 0) {
-      List<PathDatasetComponentBlob> componentBlobs =
-          pathDatasetComponentBlobEntities.stream()
-              .map(PathDatasetComponentBlobEntity::toProto)
-              .collect(Collectors.toList());
-      return PathDatasetBlob.newBuilder().addAllComponents(componentBlobs).build();
-    } else {
-      return null;
-    }
+    Map<String, S3DatasetBlob> s3Blobs = new HashMap<>();
+    componentsByBlobHash.forEach(
+        (blobHash, datasetComponentBlobEntities) -> {
+          List<S3DatasetComponentBlob> componentBlobs =
+              datasetComponentBlobEntities.stream()
+                  .map(S3DatasetComponentBlobEntity::toProto)
+                  .collect(Collectors.toList());
+          s3Blobs.put(
+              blobHash, S3DatasetBlob.newBuilder().addAllComponents(componentBlobs).build());
+        });
+    return s3Blobs;
   }
 
-  static QueryDatasetBlob getQueryBlob(Session session, String blobHash) {
+  static Map<String, PathDatasetBlob> getPathBlobs(Session session, Collection<String> blobHashes) {
     var pathComponentQueryHQL =
-        "From QueryDatasetComponentBlobEntity q WHERE q.id.query_dataset_blob_id = :blobShas";
+        "SELECT p.id.path_dataset_blob_id, p From PathDatasetComponentBlobEntity p "
+            + "WHERE p.id.path_dataset_blob_id IN (:blobShas)";
+    Map<String, List<PathDatasetComponentBlobEntity>> componentsByBlobHash =
+        getComponents(session, pathComponentQueryHQL, blobHashes);
+
+    Map<String, PathDatasetBlob> pathBlobs = new HashMap<>();
+    componentsByBlobHash.forEach(
+        (blobHash, pathDatasetComponentBlobEntities) -> {
+          List<PathDatasetComponentBlob> componentBlobs =
+              pathDatasetComponentBlobEntities.stream()
+                  .map(PathDatasetComponentBlobEntity::toProto)
+                  .collect(Collectors.toList());
+          pathBlobs.put(
+              blobHash, PathDatasetBlob.newBuilder().addAllComponents(componentBlobs).build());
+        });
+    return pathBlobs;
+  }
 
-    Query<QueryDatasetComponentBlobEntity> queryComponentQuery =
-        session.createQuery(pathComponentQueryHQL);
-    queryComponentQuery.setParameter(BLOB_SHAS_QUERY_PARAM, blobHash);
-    List<QueryDatasetComponentBlobEntity> queryDatasetComponentBlobEntities =
-        queryComponentQuery.list();
+  private static Map<String, QueryDatasetBlob> getQueryBlobs(
+      Session session, Collection<String> blobHashes) {
+    var queryComponentQueryHQL =
+        "SELECT q.id.query_dataset_blob_id, q From QueryDatasetComponentBlobEntity q "
+            + "WHERE q.id.query_dataset_blob_id IN (:blobShas)";
+    Map<String, List<QueryDatasetComponentBlobEntity>> componentsByBlobHash =
+        getComponents(session, queryComponentQueryHQL, blobHashes);
 
-    if (queryDatasetComponentBlobEntities != null && queryDatasetComponentBlobEntities.size() > 0) {
-      List<QueryDatasetComponentBlob> componentBlobs =
-          queryDatasetComponentBlobEntities.stream()
-              .map(QueryDatasetComponentBlobEntity::toProto)
-              .collect(Collectors.toList());
-      return QueryDatasetBlob.newBuilder().addAllComponents(componentBlobs).build();
-    } else {
-      return null;
-    }
+    Map<String, QueryDatasetBlob> queryBlobs = new HashMap<>();
+    componentsByBlobHash.forEach(
+        (blobHash, queryDatasetComponentBlobEntities) -> {
+          List<QueryDatasetComponentBlob> componentBlobs =
+              queryDatasetComponentBlobEntities.stream()
+                  .map(QueryDatasetComponentBlobEntity::toProto)
+                  .collect(Collectors.toList());
+          queryBlobs.put(
+              blobHash, QueryDatasetBlob.newBuilder().addAllComponents(componentBlobs).build());
+        });
+    return queryBlobs;
   }
 }
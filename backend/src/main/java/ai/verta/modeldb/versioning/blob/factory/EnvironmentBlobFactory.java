@@ -11,6 +11,11 @@ import ai.verta.modeldb.entities.versioning.InternalFolderElementEntity;
 import ai.verta.modeldb.versioning.Blob;
 import ai.verta.modeldb.versioning.EnvironmentBlob;
 import ai.verta.modeldb.versioning.PythonEnvironmentBlob;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.hibernate.Session;
 
 public class EnvironmentBlobFactory extends BlobFactory {
@@ -22,8 +27,26 @@ public class EnvironmentBlobFactory extends BlobFactory {
 
   @Override
   public Blob getBlob(Session session) {
+    return toBlob(session.get(EnvironmentBlobEntity.class, getElementSha()));
+  }
+
+  static Map<String, Blob> getBlobsByHash(Session session, Collection<String> blobHashes) {
+    List<EnvironmentBlobEntity> environmentBlobEntities =
+        session
+            .byMultipleIds(EnvironmentBlobEntity.class)
+            .withBatchSize(IN_CLAUSE_CHUNK_SIZE)
+            .multiLoad(new ArrayList<>(blobHashes));
+    Map<String, Blob> blobs = new HashMap<>();
+    for (EnvironmentBlobEntity environmentBlobEntity : environmentBlobEntities) {
+      if (environmentBlobEntity != null) {
+        blobs.put(environmentBlobEntity.getBlob_hash(), toBlob(environmentBlobEntity));
+      }
+    }
+    return blobs;
+  }
+
+  private static Blob toBlob(EnvironmentBlobEntity environmentBlobEntity) {
     var environmentBlobBuilder = EnvironmentBlob.newBuilder();
-    var environmentBlobEntity = session.get(EnvironmentBlobEntity.class, getElementSha());
     switch (environmentBlobEntity.getEnvironment_type()) {
       case PYTHON_ENV_TYPE:
         var pythonEnvironmentBlobBuilder = PythonEnvironmentBlob.newBuilder();
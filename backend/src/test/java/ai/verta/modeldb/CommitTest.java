@@ -20,6 +20,7 @@ import ai.verta.modeldb.versioning.CodeBlob;
 import ai.verta.modeldb.versioning.Commit;
 import ai.verta.modeldb.versioning.CommitMultipartVersionedBlobArtifact;
 import ai.verta.modeldb.versioning.CommitVersionedBlobArtifactPart;
+import ai.verta.modeldb.versioning.ComputeRepositoryDiffRequest;
 import ai.verta.modeldb.versioning.ConfigBlob;
 import ai.verta.modeldb.versioning.ContinuousHyperparameterSetConfigBlob;
 import ai.verta.modeldb.versioning.CreateCommitRequest;
@@ -42,6 +43,7 @@ import ai.verta.modeldb.versioning.HyperparameterConfigBlob;
 import ai.verta.modeldb.versioning.HyperparameterSetConfigBlob;
 import ai.verta.modeldb.versioning.HyperparameterValuesConfigBlob;
 import ai.verta.modeldb.versioning.ListCommitBlobsRequest;
+import ai.verta.modeldb.versioning.ListCommitsLogRequest;
 import ai.verta.modeldb.versioning.ListCommitsRequest;
 import ai.verta.modeldb.versioning.MergeRepositoryCommitsRequest;
 import ai.verta.modeldb.versioning.NotebookCodeBlob;
@@ -77,6 +79,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -974,6 +977,111 @@ public class CommitTest extends TestsInit {
     LOGGER.info("List commit blob test end................................");
   }
 
+  @Test
+  public void getCommitBlobListMixedTypesAndDepthsTest() throws NoSuchAlgorithmException {
+    LOGGER.info(
+        "List commit blob of mixed types and depths test start................................");
+
+    // Blobs of every type, side by side with folders at several depths
+    BlobExpanded imagesBlob =
+        BlobExpanded.newBuilder()
+            .setBlob(getDatasetBlobFromPath("/data/train/images"))
+            .addAllLocation(Arrays.asList("data", "train", "images", "images.json"))
+            .build();
+    BlobExpanded s3Blob =
+        BlobExpanded.newBuilder()
+            .setBlob(getS3DatasetBlobFromPath("s3://bucket/train"))
+            .addAllLocation(Arrays.asList("data", "train", "s3.json"))
+            .build();
+    BlobExpanded testBlob =
+        BlobExpanded.newBuilder()
+            .setBlob(getDatasetBlobFromPath("/data/test.txt"))
+            .addAllLocation(Arrays.asList("data", "test.json"))
+            .build();
+    BlobExpanded environmentBlob =
+        BlobExpanded.newBuilder()
+            .setBlob(getEnvironmentBlobFromPath())
+            .addAllLocation(Arrays.asList("data", "env", "python.json"))
+            .build();
+    BlobExpanded codeBlob =
+        BlobExpanded.newBuilder()
+            .setBlob(getCodeBlobFromPath("abc"))
+            .addAllLocation(Arrays.asList("code", "notebook.json"))
+            .build();
+    BlobExpanded configBlob =
+        BlobExpanded.newBuilder()
+            .setBlob(getHyperparameterConfigBlob(0.12F, 0.9F))
+            .addLocation("config.json")
+            .build();
+    List<BlobExpanded> blobs =
+        Arrays.asList(imagesBlob, s3Blob, testBlob, environmentBlob, codeBlob, configBlob);
+
+    Commit.Builder commitBuilder =
+        Commit.newBuilder()
+            .setMessage("this is the test commit message")
+            .setDateCreated(Calendar.getInstance().getTimeInMillis())
+            .addParentShas(initialCommit.getCommitSha());
+    if (testConfig.hasAuth()) {
+      commitBuilder.setAuthor(authClientInterceptor.getClient1Email());
+    }
+    CreateCommitRequest createCommitRequest =
+        CreateCommitRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommit(commitBuilder.build())
+            .addAllBlobs(blobs)
+            .build();
+    CreateCommitRequest.Response commitResponse =
+        versioningServiceBlockingStub.createCommit(createCommitRequest);
+
+    try {
+      ListCommitBlobsRequest listCommitBlobsRequest =
+          ListCommitBlobsRequest.newBuilder()
+              .setCommitSha(commitResponse.getCommit().getCommitSha())
+              .setRepositoryId(
+                  RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+              .build();
+      ListCommitBlobsRequest.Response listCommitBlobsResponse =
+          versioningServiceBlockingStub.listCommitBlobs(listCommitBlobsRequest);
+      Assert.assertEquals(
+          "blob count not match with expected blob count",
+          blobs.size(),
+          listCommitBlobsResponse.getBlobsCount());
+      Assert.assertEquals(
+          "blob data not match with expected blob data",
+          new HashSet<>(blobs),
+          new HashSet<>(listCommitBlobsResponse.getBlobsList()));
+
+      listCommitBlobsRequest = listCommitBlobsRequest.toBuilder().addLocationPrefix("data").build();
+      listCommitBlobsResponse =
+          versioningServiceBlockingStub.listCommitBlobs(listCommitBlobsRequest);
+      Assert.assertEquals(
+          "blob data not match with expected blob data",
+          new HashSet<>(Arrays.asList(imagesBlob, s3Blob, testBlob, environmentBlob)),
+          new HashSet<>(listCommitBlobsResponse.getBlobsList()));
+
+      listCommitBlobsRequest =
+          listCommitBlobsRequest.toBuilder().addLocationPrefix("train").build();
+      listCommitBlobsResponse =
+          versioningServiceBlockingStub.listCommitBlobs(listCommitBlobsRequest);
+      Assert.assertEquals(
+          "blob data not match with expected blob data",
+          new HashSet<>(Arrays.asList(imagesBlob, s3Blob)),
+          new HashSet<>(listCommitBlobsResponse.getBlobsList()));
+    } finally {
+      DeleteCommitRequest deleteCommitRequest =
+          DeleteCommitRequest.newBuilder()
+              .setRepositoryId(
+                  RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+              .setCommitSha(commitResponse.getCommit().getCommitSha())
+              .build();
+      versioningServiceBlockingStub.deleteCommit(deleteCommitRequest);
+    }
+
+    LOGGER.info(
+        "List commit blob of mixed types and depths test end................................");
+  }
+
   @Test
   public void getCommitBlobListUsecase2Test() {
     LOGGER.info("List commit blob test start................................");
@@ -2760,4 +2868,201 @@ public class CommitTest extends TestsInit {
     LOGGER.info(
         "Create & Delete query dataset blob commit test end................................");
   }
+
+  private Commit createDatasetBlobCommit(
+      String path, List<String> location, long dateCreated, Commit... parentCommits) {
+    Commit.Builder commitBuilder =
+        Commit.newBuilder().setMessage("commit of " + path).setDateCreated(dateCreated);
+    for (Commit parentCommit : parentCommits) {
+      commitBuilder.addParentShas(parentCommit.getCommitSha());
+    }
+    if (testConfig.hasAuth()) {
+      commitBuilder.setAuthor(authClientInterceptor.getClient1Email());
+    }
+    CreateCommitRequest createCommitRequest =
+        CreateCommitRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommit(commitBuilder.build())
+            .addBlobs(
+                BlobExpanded.newBuilder()
+                    .setBlob(getDatasetBlobFromPath(path))
+                    .addAllLocation(location)
+                    .build())
+            .build();
+    return versioningServiceBlockingStub.createCommit(createCommitRequest).getCommit();
+  }
+
+  private MergeRepositoryCommitsRequest.Response mergeCommits(Commit commitA, Commit commitB) {
+    return versioningServiceBlockingStub.mergeRepositoryCommits(
+        MergeRepositoryCommitsRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommitShaA(commitA.getCommitSha())
+            .setCommitShaB(commitB.getCommitSha())
+            .build());
+  }
+
+  private Set<BlobDiff> computeDiff(
+      Commit commitA, Commit commitB, boolean replaceAWithCommonAncestor) {
+    return new HashSet<>(
+        versioningServiceBlockingStub
+            .computeRepositoryDiff(
+                ComputeRepositoryDiffRequest.newBuilder()
+                    .setRepositoryId(
+                        RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+                    .setCommitA(commitA.getCommitSha())
+                    .setCommitB(commitB.getCommitSha())
+                    .setReplaceAWithCommonAncestor(replaceAWithCommonAncestor)
+                    .build())
+            .getDiffsList());
+  }
+
+  private void deleteCommits(Commit... commits) {
+    for (Commit commit : commits) {
+      DeleteCommitRequest deleteCommitRequest =
+          DeleteCommitRequest.newBuilder()
+              .setRepositoryId(
+                  RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+              .setCommitSha(commit.getCommitSha())
+              .build();
+      versioningServiceBlockingStub.deleteCommit(deleteCommitRequest);
+    }
+  }
+
+  private ListCommitsLogRequest.Response listCommitsLog(Commit commit, Pagination pagination) {
+    ListCommitsLogRequest.Builder listCommitsLogRequest =
+        ListCommitsLogRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommitSha(commit.getCommitSha());
+    if (pagination != null) {
+      listCommitsLogRequest.setPagination(pagination);
+    }
+    return versioningServiceBlockingStub.listCommitsLog(listCommitsLogRequest.build());
+  }
+
+  @Test
+  public void listCommitsLogMergeTest() {
+    LOGGER.info("List commits log of a merge test start................................");
+
+    // initial <- A <- M <- C, initial <- B <- M
+    long commitTime = Calendar.getInstance().getTimeInMillis();
+    Commit commitA =
+        createDatasetBlobCommit(
+            "testdir/file-a", Collections.singletonList("a"), commitTime, initialCommit);
+    Commit commitB =
+        createDatasetBlobCommit(
+            "testdir/file-b", Collections.singletonList("b"), commitTime + 1, initialCommit);
+    Commit mergeCommit = mergeCommits(commitA, commitB).getCommit();
+    assertFalse("Merge commit not found in response", mergeCommit.getCommitSha().isEmpty());
+    Commit commitC =
+        createDatasetBlobCommit(
+            "testdir/file-c",
+            Collections.singletonList("c"),
+            mergeCommit.getDateCreated() + 1,
+            mergeCommit);
+
+    try {
+      ListCommitsLogRequest.Response logResponse = listCommitsLog(commitC, null);
+      List<String> logCommitShas = new ArrayList<>();
+      logResponse.getCommitsList().forEach(commit -> logCommitShas.add(commit.getCommitSha()));
+      assertEquals(
+          "Commits of the log not match with the ancestors, each listed once",
+          new HashSet<>(
+              Arrays.asList(
+                  commitC.getCommitSha(),
+                  mergeCommit.getCommitSha(),
+                  commitA.getCommitSha(),
+                  commitB.getCommitSha(),
+                  initialCommit.getCommitSha())),
+          new HashSet<>(logCommitShas));
+      assertEquals("Commit listed more than once in the log", 5, logCommitShas.size());
+      assertEquals("Total records not match with expected count", 5, logResponse.getTotalRecords());
+      assertEquals("Log not starting at the commit", commitC.getCommitSha(), logCommitShas.get(0));
+      assertEquals(
+          "Log not ending at the initial commit",
+          initialCommit.getCommitSha(),
+          logCommitShas.get(4));
+
+      // Pages of 2 commits: 2, 2 and 1 commits, then none
+      List<String> pagedCommitShas = new ArrayList<>();
+      int[] expectedPageSizes = {2, 2, 1, 0};
+      for (int pageNumber = 1; pageNumber <= expectedPageSizes.length; pageNumber++) {
+        ListCommitsLogRequest.Response pageResponse =
+            listCommitsLog(
+                commitC, Pagination.newBuilder().setPageNumber(pageNumber).setPageLimit(2).build());
+        assertEquals(
+            "Commit count of page " + pageNumber + " not match with expected count",
+            expectedPageSizes[pageNumber - 1],
+            pageResponse.getCommitsCount());
+        assertEquals(
+            "Total records of page " + pageNumber + " not match with expected count",
+            5,
+            pageResponse.getTotalRecords());
+        pageResponse.getCommitsList().forEach(commit -> pagedCommitShas.add(commit.getCommitSha()));
+      }
+      assertEquals("Pages not match with the full log", logCommitShas, pagedCommitShas);
+    } finally {
+      deleteCommits(commitC, mergeCommit, commitB, commitA);
+    }
+
+    LOGGER.info("List commits log of a merge test end................................");
+  }
+
+  @Test
+  public void mergeBaseTest() {
+    LOGGER.info("Merge base test start................................");
+
+    // initial <- A <- D, A <- E, initial <- B, then M merging A and B
+    List<String> location = Collections.singletonList("blob");
+    long commitTime = Calendar.getInstance().getTimeInMillis();
+    Commit commitA = createDatasetBlobCommit("testdir/file-a", location, commitTime, initialCommit);
+    Commit commitD = createDatasetBlobCommit("testdir/file-d", location, commitTime + 1, commitA);
+    Commit commitE = createDatasetBlobCommit("testdir/file-e", location, commitTime + 2, commitA);
+    Commit commitB =
+        createDatasetBlobCommit(
+            "testdir/file-b", Collections.singletonList("other"), commitTime + 3, initialCommit);
+    Commit mergeCommit = null;
+
+    try {
+      // Diverged branches: the conflicting merge reports the commit they diverged from
+      MergeRepositoryCommitsRequest.Response conflictResponse = mergeCommits(commitD, commitE);
+      assertFalse("Conflicts not found in response", conflictResponse.getConflictsList().isEmpty());
+      assertEquals(
+          "Common base not match with the commit the branches diverged from",
+          commitA.getCommitSha(),
+          conflictResponse.getCommonBase().getCommitSha());
+      assertEquals(
+          "Diff from the common ancestor not match with the diff from the merge base",
+          computeDiff(commitA, commitE, false),
+          computeDiff(commitD, commitE, true));
+
+      // One commit ancestor of the other: the merge base is the ancestor itself
+      assertFalse(
+          "Diff not found between the commits", computeDiff(commitD, commitA, false).isEmpty());
+      assertTrue(
+          "Diff from the common ancestor found though it is the ancestor",
+          computeDiff(commitD, commitA, true).isEmpty());
+      assertEquals(
+          "Diff from the common ancestor not match with the diff from the ancestor",
+          computeDiff(commitA, commitD, false),
+          computeDiff(commitA, commitD, true));
+
+      // Through a merge commit: M and E share A, not the initial commit
+      mergeCommit = mergeCommits(commitA, commitB).getCommit();
+      assertFalse("Merge commit not found in response", mergeCommit.getCommitSha().isEmpty());
+      assertEquals(
+          "Diff from the common ancestor not match with the diff from the merge base",
+          computeDiff(commitA, commitE, false),
+          computeDiff(mergeCommit, commitE, true));
+    } finally {
+      if (mergeCommit != null) {
+        deleteCommits(mergeCommit);
+      }
+      deleteCommits(commitE, commitD, commitB, commitA);
+    }
+
+    LOGGER.info("Merge base test end................................");
+  }
 }
@@ -1422,7 +1422,8 @@ public class DatasetTest extends TestsInit {
           experimentRun.getDateUpdated(),
           response.getExperimentRun().getDateUpdated());
 
-      ReconcilerInitializer.initialize(testConfig, services, testConfig.getJdbi(), handleExecutor);
+      ReconcilerInitializer.initialize(
+          testConfig, services, daos, testConfig.getJdbi(), handleExecutor);
 
       LastExperimentByDatasetId lastExperimentByDatasetId =
           LastExperimentByDatasetId.newBuilder().setDatasetId(dataset.getId()).build();
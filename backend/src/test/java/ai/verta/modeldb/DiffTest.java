@@ -46,9 +46,11 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -880,6 +882,110 @@ public class DiffTest extends TestsInit {
     LOGGER.info("Compute repository diff with one branch one commit test end....");
   }
 
+  @Test
+  public void computeRepositoryDiffStructureTest() {
+    LOGGER.info("Compute repository diff structure test start................................");
+
+    BlobExpanded[] blobExpandedArray = createBlobs(blobType);
+    Commit commitA =
+        createCommitWithBlobs(
+            parentCommit,
+            blobExpandedArray[0],
+            blobExpandedArray[1],
+            blobExpandedArray[2],
+            blobExpandedArray[3]);
+    // Same tree as A in a child commit
+    Commit commitSameTree =
+        createCommitWithBlobs(
+            commitA,
+            blobExpandedArray[0],
+            blobExpandedArray[1],
+            blobExpandedArray[2],
+            blobExpandedArray[3]);
+    // Blob changed three folders down
+    Commit commitNestedChange =
+        createCommitWithBlobs(
+            commitA,
+            blobExpandedArray[0],
+            blobExpandedArray[1],
+            modifiedBlobExpanded(blobType),
+            blobExpandedArray[3]);
+    // Folder modeldb/blob replaced by a blob
+    List<String> folderLocation = LOCATION3.subList(0, 2);
+    Commit commitFolderToBlob =
+        createCommitWithBlobs(
+            commitA,
+            blobExpandedArray[0],
+            blobExpandedArray[1],
+            blobExpandedArray[4].toBuilder().clearLocation().addAllLocation(folderLocation).build(),
+            blobExpandedArray[3]);
+    // Folder modeldb deleted with its three blobs
+    Commit commitDeletedSubtree = createCommitWithBlobs(commitA, blobExpandedArray[3]);
+
+    try {
+      assertEquals(
+          "diff of identical trees not empty",
+          Collections.emptyList(),
+          computeDiff(commitA, commitSameTree, false));
+      assertEquals(
+          "diff of a commit with itself not empty",
+          Collections.emptyList(),
+          computeDiff(commitA, commitA, false));
+
+      List<BlobDiff> nestedDiffs = computeDiff(commitA, commitNestedChange, false);
+      assertFalse("nested change not found in diff", nestedDiffs.isEmpty());
+      for (BlobDiff blobDiff : nestedDiffs) {
+        assertEquals(
+            "diff found outside of the changed folder", LOCATION3, blobDiff.getLocationList());
+      }
+
+      assertEquals(
+          "folder replaced by a blob not match with expected diff",
+          new HashSet<>(
+              Arrays.asList(
+                  diffKey(LOCATION3, DiffStatus.DELETED),
+                  diffKey(folderLocation, DiffStatus.ADDED))),
+          getDiffKeys(computeDiff(commitA, commitFolderToBlob, false)));
+      assertEquals(
+          "blob replaced by a folder not match with expected diff",
+          new HashSet<>(
+              Arrays.asList(
+                  diffKey(folderLocation, DiffStatus.DELETED),
+                  diffKey(LOCATION3, DiffStatus.ADDED))),
+          getDiffKeys(computeDiff(commitFolderToBlob, commitA, false)));
+
+      assertEquals(
+          "deleted subtree not match with expected diff",
+          new HashSet<>(
+              Arrays.asList(
+                  diffKey(LOCATION1, DiffStatus.DELETED),
+                  diffKey(LOCATION2, DiffStatus.DELETED),
+                  diffKey(LOCATION3, DiffStatus.DELETED))),
+          getDiffKeys(computeDiff(commitA, commitDeletedSubtree, false)));
+
+      // The nested change and the deleted subtree diverge from A
+      assertEquals(
+          "diff from the common ancestor not match with diff from A",
+          new HashSet<>(computeDiff(commitA, commitDeletedSubtree, false)),
+          new HashSet<>(computeDiff(commitNestedChange, commitDeletedSubtree, true)));
+    } finally {
+      for (Commit commit :
+          new Commit[] {
+            commitDeletedSubtree, commitFolderToBlob, commitNestedChange, commitSameTree, commitA
+          }) {
+        DeleteCommitRequest deleteCommitRequest =
+            DeleteCommitRequest.newBuilder()
+                .setRepositoryId(
+                    RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+                .setCommitSha(commit.getCommitSha())
+                .build();
+        versioningServiceBlockingStub.deleteCommit(deleteCommitRequest);
+      }
+    }
+
+    LOGGER.info("Compute repository diff structure test end................................");
+  }
+
   private void createBranch(Long repoId, String branch, String commitSHA) {
     SetBranchRequest setBranchRequest =
         SetBranchRequest.newBuilder()
@@ -898,6 +1004,42 @@ public class DiffTest extends TestsInit {
         .build();
   }
 
+  private Commit createCommitWithBlobs(Commit parent, BlobExpanded... blobs) {
+    CreateCommitRequest createCommitRequest =
+        CreateCommitRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommit(createCommit(parent.getCommitSha()))
+            .addAllBlobs(Arrays.asList(blobs))
+            .build();
+    return versioningServiceBlockingStub.createCommit(createCommitRequest).getCommit();
+  }
+
+  private List<BlobDiff> computeDiff(
+      Commit commitA, Commit commitB, boolean replaceAWithCommonAncestor) {
+    ComputeRepositoryDiffRequest repositoryDiffRequest =
+        ComputeRepositoryDiffRequest.newBuilder()
+            .setRepositoryId(
+                RepositoryIdentification.newBuilder().setRepoId(repository.getId()).build())
+            .setCommitA(commitA.getCommitSha())
+            .setCommitB(commitB.getCommitSha())
+            .setReplaceAWithCommonAncestor(replaceAWithCommonAncestor)
+            .build();
+    return versioningServiceBlockingStub
+        .computeRepositoryDiff(repositoryDiffRequest)
+        .getDiffsList();
+  }
+
+  private static String diffKey(List<String> location, DiffStatus status) {
+    return String.join("#", location) + status;
+  }
+
+  private static Set<String> getDiffKeys(List<BlobDiff> blobDiffs) {
+    return blobDiffs.stream()
+        .map(blobDiff -> diffKey(blobDiff.getLocationList(), blobDiff.getStatus()))
+        .collect(Collectors.toSet());
+  }
+
   private static List<String> LOCATION1 =
       Arrays.asList("modeldb", "march", "environment", FIRST_NAME);
   private static List<String> LOCATION2 = Arrays.asList("modeldb", "environment", SECOND_NAME);
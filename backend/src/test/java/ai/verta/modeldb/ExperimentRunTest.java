@@ -39,14 +39,19 @@ import com.google.protobuf.Value;
 import com.google.protobuf.Value.KindCase;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.After;
@@ -576,6 +581,144 @@ public class ExperimentRunTest extends TestsInit {
     LOGGER.info("Create ExperimentRun Negative test stop................................");
   }
 
+  @Test
+  public void a_experimentRunsCreateTest() {
+    LOGGER.info("Create ExperimentRuns test start................................");
+
+    List<CreateExperimentRun> createRequests = new ArrayList<>();
+    for (int index = 0; index < 3; index++) {
+      createRequests.add(
+          getCreateExperimentRunRequest(
+              project.getId(),
+              experiment.getId(),
+              "ExperimentRun-" + index + "-" + new Date().getTime()));
+    }
+    CreateExperimentRuns.Response createExperimentRunsResponse =
+        experimentRunServiceStub.createExperimentRuns(
+            CreateExperimentRuns.newBuilder().addAllExperimentRuns(createRequests).build());
+    List<ExperimentRun> createdRuns = createExperimentRunsResponse.getExperimentRunsList();
+    assertEquals(
+        "ExperimentRuns count not match with requested count",
+        createRequests.size(),
+        createdRuns.size());
+
+    try {
+      for (int index = 0; index < createRequests.size(); index++) {
+        CreateExperimentRun createRequest = createRequests.get(index);
+        ExperimentRun createdRun = createdRuns.get(index);
+        assertEquals(
+            "ExperimentRun name not match with the name at the same index of the request",
+            createRequest.getName(),
+            createdRun.getName());
+        assertEquals(experiment.getId(), createdRun.getExperimentId());
+        assertEquals(
+            "ExperimentRun tags not match with expected tags",
+            new HashSet<>(createRequest.getTagsList()),
+            new HashSet<>(createdRun.getTagsList()));
+        assertEquals(
+            "ExperimentRun hyperparameters not match with expected hyperparameters",
+            createRequest.getHyperparametersList().stream()
+                .map(KeyValue::getKey)
+                .collect(Collectors.toSet()),
+            createdRun.getHyperparametersList().stream()
+                .map(KeyValue::getKey)
+                .collect(Collectors.toSet()));
+        assertEquals(
+            "ExperimentRun artifacts not match with expected artifacts",
+            createRequest.getArtifactsList().stream()
+                .map(Artifact::getKey)
+                .collect(Collectors.toSet()),
+            createdRun.getArtifactsList().stream()
+                .map(Artifact::getKey)
+                .collect(Collectors.toSet()));
+
+        GetExperimentRunById.Response getExperimentRunByIdResponse =
+            experimentRunServiceStub.getExperimentRunById(
+                GetExperimentRunById.newBuilder().setId(createdRun.getId()).build());
+        assertEquals(
+            "ExperimentRun not match with the stored experimentRun",
+            createdRun,
+            getExperimentRunByIdResponse.getExperimentRun());
+      }
+
+      // Same name twice in the request
+      try {
+        experimentRunServiceStub.createExperimentRuns(
+            CreateExperimentRuns.newBuilder()
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(), experiment.getId(), "ExperimentRun-duplicate"))
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(), experiment.getId(), "ExperimentRun-duplicate"))
+                .build());
+        fail();
+      } catch (StatusRuntimeException e) {
+        Status status = Status.fromThrowable(e);
+        LOGGER.warn(
+            "Error Code : " + status.getCode() + " Description : " + status.getDescription());
+        assertEquals(Status.ALREADY_EXISTS.getCode(), status.getCode());
+      }
+
+      // Name of an existing run, the other run of the request not being created either
+      String notCreatedName = "ExperimentRun-not-created-" + new Date().getTime();
+      try {
+        experimentRunServiceStub.createExperimentRuns(
+            CreateExperimentRuns.newBuilder()
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(), experiment.getId(), notCreatedName))
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(), experiment.getId(), experimentRun.getName()))
+                .build());
+        fail();
+      } catch (StatusRuntimeException e) {
+        Status status = Status.fromThrowable(e);
+        LOGGER.warn(
+            "Error Code : " + status.getCode() + " Description : " + status.getDescription());
+        assertEquals(Status.ALREADY_EXISTS.getCode(), status.getCode());
+      }
+      GetExperimentRunsInProject.Response experimentRunsInProjectResponse =
+          experimentRunServiceStub.getExperimentRunsInProject(
+              GetExperimentRunsInProject.newBuilder().setProjectId(project.getId()).build());
+      assertTrue(
+          "ExperimentRun of a failed request found in database",
+          experimentRunsInProjectResponse.getExperimentRunsList().stream()
+              .noneMatch(run -> run.getName().equals(notCreatedName)));
+
+      // Missing experiment
+      try {
+        experimentRunServiceStub.createExperimentRuns(
+            CreateExperimentRuns.newBuilder()
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(),
+                        experiment.getId(),
+                        "ExperimentRun-" + new Date().getTime()))
+                .addExperimentRuns(
+                    getCreateExperimentRunRequest(
+                        project.getId(), "xyz", "ExperimentRun-" + new Date().getTime()))
+                .build());
+        fail();
+      } catch (StatusRuntimeException e) {
+        Status status = Status.fromThrowable(e);
+        LOGGER.warn(
+            "Error Code : " + status.getCode() + " Description : " + status.getDescription());
+        assertEquals(Status.NOT_FOUND.getCode(), status.getCode());
+      }
+    } finally {
+      for (ExperimentRun createdRun : createdRuns) {
+        DeleteExperimentRun.Response deleteExperimentRunResponse =
+            experimentRunServiceStub.deleteExperimentRun(
+                DeleteExperimentRun.newBuilder().setId(createdRun.getId()).build());
+        assertTrue(deleteExperimentRunResponse.getStatus());
+      }
+    }
+
+    LOGGER.info("Create ExperimentRuns test stop................................");
+  }
+
   @Test
   public void b_getExperimentRunFromProjectRunTest() {
     LOGGER.info("Get ExperimentRun from Project test start................................");
@@ -1638,6 +1781,88 @@ public class ExperimentRunTest extends TestsInit {
     LOGGER.info("Log Observations in ExperimentRun tags test stop................................");
   }
 
+  @Test
+  public void g_logExperimentRunDataStreamTest() throws InterruptedException {
+    LOGGER.info(" Log ExperimentRun data stream test start................................");
+
+    long now = Calendar.getInstance().getTimeInMillis();
+    List<Observation> observations = new ArrayList<>();
+    List<KeyValue> metrics = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      observations.add(
+          Observation.newBuilder()
+              .setAttribute(
+                  KeyValue.newBuilder()
+                      .setKey("stream_observation_" + now)
+                      .setValue(Value.newBuilder().setNumberValue(i).build())
+                      .setValueType(ValueType.NUMBER)
+                      .build())
+              .setTimestamp(now)
+              .setEpochNumber(Value.newBuilder().setNumberValue(i))
+              .build());
+      metrics.add(
+          KeyValue.newBuilder()
+              .setKey("stream_metric_" + i + "_" + now)
+              .setValue(Value.newBuilder().setNumberValue(i).build())
+              .setValueType(ValueType.NUMBER)
+              .build());
+    }
+
+    CountDownLatch finishLatch = new CountDownLatch(1);
+    List<LogExperimentRunData.Response> responses = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    StreamObserver<LogExperimentRunData> requestObserver =
+        experimentRunServiceAsyncStub.logExperimentRunDataStream(
+            new StreamObserver<>() {
+              @Override
+              public void onNext(LogExperimentRunData.Response value) {
+                responses.add(value);
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                errors.add(t);
+                finishLatch.countDown();
+              }
+
+              @Override
+              public void onCompleted() {
+                finishLatch.countDown();
+              }
+            });
+    for (int i = 0; i < observations.size(); i++) {
+      requestObserver.onNext(
+          LogExperimentRunData.newBuilder()
+              .setId(experimentRun.getId())
+              .addObservations(observations.get(i))
+              .addMetrics(metrics.get(i))
+              .build());
+    }
+    requestObserver.onCompleted();
+
+    assertTrue("Stream did not complete in time", finishLatch.await(30, TimeUnit.SECONDS));
+    assertTrue("Stream failed: " + errors, errors.isEmpty());
+    assertEquals("Expected a single response", 1, responses.size());
+    assertEquals(
+        "Logged observations count not match", 3, responses.get(0).getObservationsLogged());
+    assertEquals("Logged metrics count not match", 3, responses.get(0).getMetricsLogged());
+
+    GetExperimentRunById getExperimentRunById =
+        GetExperimentRunById.newBuilder().setId(experimentRun.getId()).build();
+    GetExperimentRunById.Response response =
+        experimentRunServiceStub.getExperimentRunById(getExperimentRunById);
+    assertTrue(
+        "ExperimentRun observations not match with expected ExperimentRun observation",
+        response.getExperimentRun().getObservationsList().containsAll(observations));
+    assertTrue(
+        "ExperimentRun metrics not match with expected ExperimentRun metrics",
+        response.getExperimentRun().getMetricsList().containsAll(metrics));
+    experimentRun = response.getExperimentRun();
+    experimentRunMap.put(experimentRun.getId(), experimentRun);
+
+    LOGGER.info(" Log ExperimentRun data stream test stop................................");
+  }
+
   @Test
   public void g_logObservationsNegativeTest() {
     LOGGER.info(
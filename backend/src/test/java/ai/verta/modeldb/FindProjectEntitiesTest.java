@@ -8,15 +8,19 @@ import ai.verta.common.OperatorEnum;
 import ai.verta.uac.GetUser;
 import ai.verta.uac.ResourceVisibility;
 import ai.verta.uac.UserInfo;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.After;
@@ -2123,6 +2127,265 @@ public class FindProjectEntitiesTest extends TestsInit {
         "FindExperimentRuns by metrics sort by Hyperparameters with pagination test stop.......");
   }
 
+  /** Find experimentRun by metrics and sort by metrics.loss with page tokens */
+  @Test
+  public void findExperimentRunsByMetricsWithPageTokenTest() {
+    LOGGER.info("FindExperimentRuns by metrics with page token test start..................");
+
+    Value numValue = Value.newBuilder().setNumberValue(0.6543210).build();
+    KeyValueQuery keyValueQuery2 =
+        KeyValueQuery.newBuilder()
+            .setKey("metrics.loss")
+            .setValue(numValue)
+            .setOperator(OperatorEnum.Operator.LTE)
+            .build();
+
+    FindExperimentRuns findExperimentRuns =
+        FindExperimentRuns.newBuilder()
+            .setProjectId(project1.getId())
+            .addPredicates(keyValueQuery2)
+            .setPageNumber(1)
+            .setPageLimit(2)
+            .setAscending(true)
+            .setSortKey("metrics.loss")
+            .build();
+
+    FindExperimentRuns.Response response =
+        experimentRunServiceStub.findExperimentRuns(findExperimentRuns);
+
+    assertEquals(
+        "Total records count not matched with expected records count",
+        3,
+        response.getTotalRecords());
+    List<String> firstPageRunIds = new ArrayList<>();
+    for (ExperimentRun experimentRun : response.getExperimentRunsList()) {
+      assertEquals(
+          "ExperimentRun not match with expected experimentRun",
+          experimentRunMap.get(experimentRun.getId()),
+          experimentRun);
+      firstPageRunIds.add(experimentRun.getId());
+    }
+    assertEquals(
+        "ExperimentRuns of the first page not match with expected experimentRuns",
+        Arrays.asList(experimentRun11.getId(), experimentRun12.getId()),
+        firstPageRunIds);
+    assertFalse("Next page token not found in response", response.getNextPageToken().isEmpty());
+
+    // The token takes precedence over the page number
+    response =
+        experimentRunServiceStub.findExperimentRuns(
+            findExperimentRuns.toBuilder().setPageToken(response.getNextPageToken()).build());
+
+    List<String> secondPageRunIds = new ArrayList<>();
+    for (ExperimentRun experimentRun : response.getExperimentRunsList()) {
+      assertEquals(
+          "ExperimentRun not match with expected experimentRun",
+          experimentRunMap.get(experimentRun.getId()),
+          experimentRun);
+      assertFalse(
+          "ExperimentRun of the first page found in the second page",
+          firstPageRunIds.contains(experimentRun.getId()));
+      secondPageRunIds.add(experimentRun.getId());
+    }
+    assertEquals(
+        "ExperimentRuns of the second page not match with expected experimentRuns",
+        Collections.singletonList(experimentRun21.getId()),
+        secondPageRunIds);
+    assertTrue("Next page token found after the last page", response.getNextPageToken().isEmpty());
+
+    try {
+      experimentRunServiceStub.findExperimentRuns(
+          FindExperimentRuns.newBuilder()
+              .setProjectId(project1.getId())
+              .setPageLimit(2)
+              .setPageToken("not-a-token")
+              .setSortKey("metrics.loss")
+              .build());
+      fail();
+    } catch (StatusRuntimeException e) {
+      assertEquals(Status.INVALID_ARGUMENT.getCode(), e.getStatus().getCode());
+    }
+
+    LOGGER.info("FindExperimentRuns by metrics with page token test stop..................");
+  }
+
+  /** Find experimentRun with a page limit only, which still returns all the runs */
+  @Test
+  public void findExperimentRunsWithPageLimitOnlyTest() {
+    LOGGER.info("FindExperimentRuns with page limit only test start..................");
+
+    Value numValue = Value.newBuilder().setNumberValue(0.6543210).build();
+    KeyValueQuery keyValueQuery2 =
+        KeyValueQuery.newBuilder()
+            .setKey("metrics.loss")
+            .setValue(numValue)
+            .setOperator(OperatorEnum.Operator.LTE)
+            .build();
+
+    FindExperimentRuns findExperimentRuns =
+        FindExperimentRuns.newBuilder()
+            .setProjectId(project1.getId())
+            .addPredicates(keyValueQuery2)
+            .setPageLimit(2)
+            .setAscending(true)
+            .setSortKey("metrics.loss")
+            .build();
+
+    FindExperimentRuns.Response response =
+        experimentRunServiceStub.findExperimentRuns(findExperimentRuns);
+
+    assertEquals(
+        "Total records count not matched with expected records count",
+        3,
+        response.getTotalRecords());
+    assertEquals(
+        "ExperimentRuns not match with expected experimentRuns",
+        Arrays.asList(experimentRun11.getId(), experimentRun12.getId(), experimentRun21.getId()),
+        response.getExperimentRunsList().stream()
+            .map(ExperimentRun::getId)
+            .collect(Collectors.toList()));
+    assertTrue("Next page token found in response", response.getNextPageToken().isEmpty());
+
+    LOGGER.info("FindExperimentRuns with page limit only test stop..................");
+  }
+
+  /** Find experimentRun by metrics and sort by metrics.loss as a stream of pages */
+  @Test
+  public void findExperimentRunsByMetricsStreamTest() {
+    LOGGER.info("FindExperimentRuns by metrics stream test start..................");
+
+    Value numValue = Value.newBuilder().setNumberValue(0.6543210).build();
+    KeyValueQuery keyValueQuery2 =
+        KeyValueQuery.newBuilder()
+            .setKey("metrics.loss")
+            .setValue(numValue)
+            .setOperator(OperatorEnum.Operator.LTE)
+            .build();
+
+    FindExperimentRuns findExperimentRuns =
+        FindExperimentRuns.newBuilder()
+            .setProjectId(project1.getId())
+            .addPredicates(keyValueQuery2)
+            .setPageLimit(2)
+            .setAscending(true)
+            .setSortKey("metrics.loss")
+            .build();
+
+    List<FindExperimentRuns.Response> pages = new ArrayList<>();
+    experimentRunServiceStub
+        .findExperimentRunsStream(findExperimentRuns)
+        .forEachRemaining(pages::add);
+
+    assertEquals("Pages count not match with expected pages count", 2, pages.size());
+    assertEquals(
+        "Total records count not matched with expected records count",
+        3,
+        pages.get(0).getTotalRecords());
+    List<String> actualRunIds = new ArrayList<>();
+    for (FindExperimentRuns.Response page : pages) {
+      for (ExperimentRun experimentRun : page.getExperimentRunsList()) {
+        assertEquals(
+            "ExperimentRun not match with expected experimentRun",
+            experimentRunMap.get(experimentRun.getId()),
+            experimentRun);
+        actualRunIds.add(experimentRun.getId());
+      }
+    }
+    assertEquals(
+        "ExperimentRuns order not match with expected order",
+        Arrays.asList(experimentRun11.getId(), experimentRun12.getId(), experimentRun21.getId()),
+        actualRunIds);
+
+    LOGGER.info("FindExperimentRuns by metrics stream test stop..................");
+  }
+
+  /** Find experimentRun with a field mask */
+  @Test
+  public void findExperimentRunsWithFieldMaskTest() {
+    LOGGER.info("FindExperimentRuns with field mask test start..................");
+
+    FindExperimentRuns findExperimentRuns =
+        FindExperimentRuns.newBuilder()
+            .addExperimentRunIds(experimentRun11.getId())
+            .setFieldMask(FieldMask.newBuilder().addPaths("metrics").addPaths("tags").build())
+            .build();
+
+    FindExperimentRuns.Response response =
+        experimentRunServiceStub.findExperimentRuns(findExperimentRuns);
+
+    assertEquals(
+        "ExperimentRun count not match with expected experimentRun count",
+        1,
+        response.getExperimentRunsCount());
+    ExperimentRun experimentRun = response.getExperimentRuns(0);
+    assertEquals(
+        "ExperimentRun name not match with expected experimentRun name",
+        experimentRun11.getName(),
+        experimentRun.getName());
+    assertEquals(
+        "ExperimentRun metrics not match with expected experimentRun metrics",
+        experimentRun11.getMetricsList(),
+        experimentRun.getMetricsList());
+    assertEquals(
+        "ExperimentRun tags not match with expected experimentRun tags",
+        experimentRun11.getTagsList(),
+        experimentRun.getTagsList());
+    assertTrue(
+        "ExperimentRun hyperparameters should not be loaded",
+        experimentRun.getHyperparametersList().isEmpty());
+    assertTrue(
+        "ExperimentRun attributes should not be loaded",
+        experimentRun.getAttributesList().isEmpty());
+
+    try {
+      experimentRunServiceStub.findExperimentRuns(
+          FindExperimentRuns.newBuilder()
+              .addExperimentRunIds(experimentRun11.getId())
+              .setFieldMask(FieldMask.newBuilder().addPaths("unknown_field").build())
+              .build());
+      fail();
+    } catch (StatusRuntimeException e) {
+      assertEquals(Status.INVALID_ARGUMENT.getCode(), e.getStatus().getCode());
+    }
+
+    LOGGER.info("FindExperimentRuns with field mask test stop..................");
+  }
+
+  /** Find experimentRun with a metric keys whitelist */
+  @Test
+  public void findExperimentRunsWithMetricKeysTest() {
+    LOGGER.info("FindExperimentRuns with metric keys test start..................");
+
+    FindExperimentRuns findExperimentRuns =
+        FindExperimentRuns.newBuilder()
+            .addExperimentRunIds(experimentRun11.getId())
+            .addMetricKeys("loss")
+            .build();
+
+    FindExperimentRuns.Response response =
+        experimentRunServiceStub.findExperimentRuns(findExperimentRuns);
+
+    assertEquals(
+        "ExperimentRun count not match with expected experimentRun count",
+        1,
+        response.getExperimentRunsCount());
+    ExperimentRun experimentRun = response.getExperimentRuns(0);
+    assertEquals(
+        "ExperimentRun metrics count not match with expected metrics count",
+        1,
+        experimentRun.getMetricsCount());
+    assertEquals(
+        "ExperimentRun metric key not match with expected metric key",
+        "loss",
+        experimentRun.getMetrics(0).getKey());
+    assertEquals(
+        "ExperimentRun hyperparameters not match with expected experimentRun hyperparameters",
+        experimentRun11.getHyperparametersList(),
+        experimentRun.getHyperparametersList());
+
+    LOGGER.info("FindExperimentRuns with metric keys test stop..................");
+  }
+
   /** Check observations.attributes not support */
   @Test
   public void findExperimentRunsNotSupportObservationsAttributesTest() {
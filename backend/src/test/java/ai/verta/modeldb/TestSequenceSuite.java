@@ -3,9 +3,12 @@ package ai.verta.modeldb;
 import ai.verta.modeldb.blobs.BlobEquality;
 import ai.verta.modeldb.blobs.BlobProtoEquality;
 import ai.verta.modeldb.blobs.DiffAndMerge;
+import ai.verta.modeldb.experimentRun.subtypes.LttbDownsamplerTest;
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesCodecTest;
 import ai.verta.modeldb.lineage.LineageServiceImplNegativeTest;
 import ai.verta.modeldb.metadata.MetadataTest;
 import ai.verta.modeldb.utils.ModelDBUtilsTest;
+import ai.verta.modeldb.versioning.blob.container.DatasetContainerTest;
 import ai.verta.modeldb.versioning.blob.visitors.ValidatorBlobDiffTest;
 import ai.verta.modeldb.versioning.blob.visitors.ValidatorBlobTest;
 import org.junit.runner.RunWith;
@@ -21,6 +24,8 @@ import org.junit.runners.Suite;
   DatasetTest.class,
   DatasetVersionTest.class,
   ModelDBUtilsTest.class,
+  ObservationSeriesCodecTest.class,
+  LttbDownsamplerTest.class,
   LineageTest.class,
   LineageServiceImplNegativeTest.class,
   FindProjectEntitiesTest.class,
@@ -34,6 +39,7 @@ import org.junit.runners.Suite;
   DiffAndMerge.class,
   ValidatorBlobTest.class,
   ValidatorBlobDiffTest.class,
+  DatasetContainerTest.class,
   GlobalSharingTest.class
   //  ArtifactStoreTest.class
 })
@@ -35,6 +35,7 @@ public class TestsInit {
   protected static AuthService authService;
   protected static Executor handleExecutor;
   protected static ServiceSet services;
+  protected static DAOSet daos;
 
   // all service stubs
   protected static UACServiceGrpc.UACServiceBlockingStub uacServiceStub;
@@ -49,6 +50,7 @@ public class TestsInit {
       experimentRunServiceStub;
   protected static ExperimentRunServiceGrpc.ExperimentRunServiceBlockingStub
       experimentRunServiceStubClient2;
+  protected static ExperimentRunServiceGrpc.ExperimentRunServiceStub experimentRunServiceAsyncStub;
   protected static CommentServiceGrpc.CommentServiceBlockingStub commentServiceBlockingStub;
   protected static OrganizationServiceGrpc.OrganizationServiceBlockingStub
       organizationServiceBlockingStub;
@@ -84,19 +86,25 @@ public class TestsInit {
     services = ServiceSet.fromConfig(testConfig, testConfig.artifactStoreConfig);
     authService = services.authService;
     // Initialize data access
-    DAOSet daos =
+    daos =
         DAOSet.fromServices(
             services, testConfig.getJdbi(), handleExecutor, testConfig, testConfig.trial);
-    App.migrate(testConfig.getDatabase(), testConfig.migrations);
-
-    App.initializeBackendServices(serverBuilder, services, daos, handleExecutor);
+    App.migrate(testConfig.getDatabase(), testConfig.migrations, services.versioningContentCache);
+
+    App.initializeBackendServices(
+        serverBuilder,
+        services,
+        daos,
+        handleExecutor,
+        FutureGrpc.initializeBlockingExecutor(testConfig.getGrpcServer().getThreadCount()));
     serverBuilder.intercept(new MetadataForwarder());
     serverBuilder.intercept(new ExceptionInterceptor());
     serverBuilder.intercept(new MonitoringInterceptor());
     serverBuilder.intercept(new AuthInterceptor());
     // Initialize cron jobs
     CronJobUtils.initializeCronJobs(testConfig, services);
-    ReconcilerInitializer.initialize(testConfig, services, testConfig.getJdbi(), handleExecutor);
+    ReconcilerInitializer.initialize(
+        testConfig, services, daos, testConfig.getJdbi(), handleExecutor);
 
     if (testConfig.testUsers != null && !testConfig.testUsers.isEmpty()) {
       authClientInterceptor = new AuthClientInterceptor(testConfig.testUsers);
@@ -141,6 +149,7 @@ public class TestsInit {
     experimentServiceStub = ExperimentServiceGrpc.newBlockingStub(channel);
     experimentRunServiceStub = ExperimentRunServiceGrpc.newBlockingStub(channel);
     experimentRunServiceStubClient2 = ExperimentRunServiceGrpc.newBlockingStub(client2Channel);
+    experimentRunServiceAsyncStub = ExperimentRunServiceGrpc.newStub(channel);
     commentServiceBlockingStub = CommentServiceGrpc.newBlockingStub(channel);
     versioningServiceBlockingStub = VersioningServiceGrpc.newBlockingStub(channel);
     versioningServiceBlockingStubClient2 = VersioningServiceGrpc.newBlockingStub(client2Channel);
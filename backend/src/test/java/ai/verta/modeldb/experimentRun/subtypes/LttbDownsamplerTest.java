@@ -0,0 +1,69 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class LttbDownsamplerTest {
+
+  private static List<double[]> downsample(double[][] points, long total, int threshold) {
+    final var downsampler = new LttbDownsampler<double[]>(total, threshold, p -> p[0], p -> p[1]);
+    for (final var point : points) {
+      downsampler.add(point);
+    }
+    return downsampler.finish();
+  }
+
+  private static double[][] sine(int size) {
+    final var points = new double[size][];
+    for (var i = 0; i < size; i++) {
+      points[i] = new double[] {i, Math.sin(i / 50.0)};
+    }
+    return points;
+  }
+
+  @Test
+  public void shortSeriesIsReturnedAsIs() {
+    final var points = sine(10);
+    final var result = downsample(points, points.length, 10);
+    assertEquals(10, result.size());
+    for (var i = 0; i < points.length; i++) {
+      assertEquals(points[i], result.get(i));
+    }
+  }
+
+  @Test
+  public void longSeriesIsReducedToThreshold() {
+    final var points = sine(100_000);
+    final var result = downsample(points, points.length, 500);
+    assertEquals(500, result.size());
+    assertEquals(points[0], result.get(0));
+    assertEquals(points[points.length - 1], result.get(result.size() - 1));
+    for (var i = 1; i < result.size(); i++) {
+      assertTrue("Points should stay in x order", result.get(i - 1)[0] < result.get(i)[0]);
+    }
+  }
+
+  @Test
+  public void spikesAreKept() {
+    final var points = new double[1000][];
+    for (var i = 0; i < points.length; i++) {
+      points[i] = new double[] {i, 0};
+    }
+    points[457] = new double[] {457, 100};
+    final var result = downsample(points, points.length, 20);
+    assertEquals(20, result.size());
+    assertTrue(result.contains(points[457]));
+  }
+
+  @Test
+  public void extraPointsGoToTheLastBucket() {
+    final var points = sine(1200);
+    // The announced size is smaller than the series, as when rows are logged while reading
+    final var result = downsample(points, 1000, 100);
+    assertEquals(100, result.size());
+    assertEquals(points[points.length - 1], result.get(result.size() - 1));
+  }
+}
@@ -0,0 +1,41 @@
+package ai.verta.modeldb.experimentRun.subtypes;
+
+import static org.junit.Assert.assertEquals;
+
+import ai.verta.modeldb.experimentRun.subtypes.ObservationSeriesCodec.Series;
+import java.util.Random;
+import org.junit.Test;
+
+public class ObservationSeriesCodecTest {
+
+  @Test
+  public void encodeDecodeRoundTrip() {
+    final var random = new Random(42);
+    final var series = new Series();
+    var timestamp = 1600000000000L;
+    for (var i = 0; i < 5000; i++) {
+      // Epochs are mostly increasing but can go backward, like the ones logged by clients
+      final long epoch = i % 100 == 0 ? i / 2 : i;
+      timestamp += random.nextInt(1000);
+      series.add(epoch, timestamp, random.nextGaussian());
+    }
+    series.add(Long.MIN_VALUE, Long.MAX_VALUE, Double.NaN);
+    series.add(Long.MAX_VALUE, Long.MIN_VALUE, Double.NEGATIVE_INFINITY);
+
+    final var decoded = ObservationSeriesCodec.decode(ObservationSeriesCodec.encode(series));
+
+    assertEquals(series.size(), decoded.size());
+    for (var i = 0; i < series.size(); i++) {
+      assertEquals(series.getEpoch(i), decoded.getEpoch(i));
+      assertEquals(series.getTimestamp(i), decoded.getTimestamp(i));
+      assertEquals(series.getValue(i), decoded.getValue(i), 0.0);
+    }
+    assertEquals(Long.MAX_VALUE, decoded.maxEpoch());
+  }
+
+  @Test
+  public void encodeDecodeEmpty() {
+    final var decoded = ObservationSeriesCodec.decode(ObservationSeriesCodec.encode(new Series()));
+    assertEquals(0, decoded.size());
+  }
+}
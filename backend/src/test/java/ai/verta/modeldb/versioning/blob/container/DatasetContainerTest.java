@@ -0,0 +1,137 @@
+package ai.verta.modeldb.versioning.blob.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import ai.verta.modeldb.versioning.FileHasher;
+import ai.verta.modeldb.versioning.PathDatasetBlob;
+import ai.verta.modeldb.versioning.PathDatasetComponentBlob;
+import ai.verta.modeldb.versioning.S3DatasetBlob;
+import ai.verta.modeldb.versioning.S3DatasetComponentBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenPathDatasetBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenPathDatasetComponentBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenS3DatasetBlob;
+import ai.verta.modeldb.versioning.autogenerated._public.modeldb.versioning.model.AutogenS3DatasetComponentBlob;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/** The dataset hashes must stay the ones computed from the autogenerated datasets. */
+public class DatasetContainerTest {
+
+  private static List<PathDatasetComponentBlob> getPathComponents(int count) {
+    final List<PathDatasetComponentBlob> components = new ArrayList<>();
+    for (var i = 0; i < count; i++) {
+      components.add(
+          PathDatasetComponentBlob.newBuilder()
+              .setPath("/data/file-" + i + ".csv")
+              .setSize(i)
+              .setLastModifiedAtSource(1600000000000L + i)
+              .setMd5("md5-" + i)
+              .build());
+    }
+    return components;
+  }
+
+  private static String computeAutogenPathSHA(PathDatasetBlob path)
+      throws NoSuchAlgorithmException {
+    final var autogenPathDatasetBlob = AutogenPathDatasetBlob.fromProto(path);
+    if (autogenPathDatasetBlob.getComponents() == null) {
+      return null;
+    }
+    Map<String, AutogenPathDatasetComponentBlob> componentHashes = new LinkedHashMap<>();
+    for (AutogenPathDatasetComponentBlob componentBlob : autogenPathDatasetBlob.getComponents()) {
+      componentHashes.put(DatasetContainer.computeSHA(componentBlob), componentBlob);
+    }
+    return DatasetContainer.computeSHAPathDataset(componentHashes);
+  }
+
+  private static String computeAutogenS3SHA(S3DatasetBlob s3) throws NoSuchAlgorithmException {
+    final var autogenS3DatasetBlob = AutogenS3DatasetBlob.fromProto(s3);
+    if (autogenS3DatasetBlob.getComponents() == null) {
+      return null;
+    }
+    Map<String, AutogenS3DatasetComponentBlob> componentHashes = new LinkedHashMap<>();
+    for (AutogenS3DatasetComponentBlob componentBlob : autogenS3DatasetBlob.getComponents()) {
+      componentHashes.put(DatasetContainer.computeSHA(componentBlob), componentBlob);
+    }
+    var sb = new StringBuilder("s3");
+    for (String componentHash : componentHashes.keySet()) {
+      sb.append(":component:").append(componentHash);
+    }
+    return FileHasher.getSha(sb.toString());
+  }
+
+  @Test
+  public void pathDatasetHashIgnoresComponentOrder() throws NoSuchAlgorithmException {
+    final var components = getPathComponents(500);
+    final var path = PathDatasetBlob.newBuilder().addAllComponents(components).build();
+    final List<PathDatasetComponentBlob> shuffledComponents = new ArrayList<>(components);
+    Collections.shuffle(shuffledComponents, new Random(42));
+    final var shuffledPath =
+        PathDatasetBlob.newBuilder().addAllComponents(shuffledComponents).build();
+
+    final var expectedHash = computeAutogenPathSHA(path);
+    assertNotNull(expectedHash);
+    assertEquals(expectedHash, computeAutogenPathSHA(shuffledPath));
+    assertEquals(expectedHash, DatasetContainer.computeSHAPathDataset(path));
+    assertEquals(expectedHash, DatasetContainer.computeSHAPathDataset(shuffledPath));
+  }
+
+  @Test
+  public void pathDatasetHashSkipsDuplicatedAndEmptyComponents() throws NoSuchAlgorithmException {
+    final var components = getPathComponents(50);
+    final List<PathDatasetComponentBlob> noisyComponents = new ArrayList<>(components);
+    noisyComponents.addAll(components.subList(10, 20));
+    for (var i = 0; i < 5; i++) {
+      noisyComponents.add(PathDatasetComponentBlob.getDefaultInstance());
+    }
+    Collections.shuffle(noisyComponents, new Random(7));
+    final var noisyPath = PathDatasetBlob.newBuilder().addAllComponents(noisyComponents).build();
+
+    final var expectedHash = computeAutogenPathSHA(noisyPath);
+    assertEquals(expectedHash, DatasetContainer.computeSHAPathDataset(noisyPath));
+    assertEquals(
+        expectedHash,
+        DatasetContainer.computeSHAPathDataset(
+            PathDatasetBlob.newBuilder().addAllComponents(components).build()));
+  }
+
+  @Test
+  public void pathDatasetWithoutComponentHasNoHash() throws NoSuchAlgorithmException {
+    final var emptyPath =
+        PathDatasetBlob.newBuilder()
+            .addComponents(PathDatasetComponentBlob.getDefaultInstance())
+            .addComponents(PathDatasetComponentBlob.getDefaultInstance())
+            .build();
+    assertNull(computeAutogenPathSHA(emptyPath));
+    assertNull(DatasetContainer.computeSHAPathDataset(emptyPath));
+    assertNull(DatasetContainer.computeSHAPathDataset(PathDatasetBlob.getDefaultInstance()));
+  }
+
+  @Test
+  public void s3DatasetHashMatchesAutogenHash() throws NoSuchAlgorithmException {
+    final List<S3DatasetComponentBlob> components = new ArrayList<>();
+    for (PathDatasetComponentBlob pathComponent : getPathComponents(200)) {
+      components.add(
+          S3DatasetComponentBlob.newBuilder()
+              .setPath(pathComponent)
+              .setS3VersionId("version-" + pathComponent.getSize())
+              .build());
+    }
+    components.addAll(components.subList(0, 30));
+    components.add(S3DatasetComponentBlob.getDefaultInstance());
+    Collections.shuffle(components, new Random(3));
+    final var s3 = S3DatasetBlob.newBuilder().addAllComponents(components).build();
+
+    final var expectedHash = computeAutogenS3SHA(s3);
+    assertNotNull(expectedHash);
+    assertEquals(expectedHash, DatasetContainer.computeSHAS3Dataset(s3));
+  }
+}